@@ -0,0 +1,58 @@
+package digital.asset.manager.application.chart.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 Map 기반 파싱(objectMapper.readValue(data.toString(), Map.class))과 TradeFrameDecoder 비교
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 메시지당 할당량을 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TradeFrameDecoderBenchmark {
+
+    private static final String FRAME = "{\"stream\":\"btcusdt@trade\",\"data\":{\"e\":\"trade\",\"E\":1737000000123,"
+            + "\"s\":\"BTCUSDT\",\"t\":4433221100,\"p\":\"97123.45000000\",\"q\":\"0.00120000\",\"T\":1737000000120,"
+            + "\"m\":true,\"M\":true}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TradeEvent event = new TradeEvent();
+    private TradeFrameDecoder decoder;
+    private CharBuffer frame;
+
+    @Setup
+    public void setUp() {
+        SymbolTable symbolTable = new SymbolTable();
+        symbolTable.register("BTCUSDT");
+        decoder = new TradeFrameDecoder(symbolTable);
+        // HttpClient 웹소켓이 넘겨주는 것과 같은 CharBuffer
+        frame = CharBuffer.wrap(FRAME);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String mapBased() throws Exception {
+        Map<String, Object> message = objectMapper.readValue(frame.toString(), Map.class);
+        Map<String, Object> data = (Map<String, Object>) message.get("data");
+        return (String) data.get("p");
+    }
+
+    @Benchmark
+    public long decoder() {
+        decoder.append(frame, true);
+        decoder.decode(event);
+        decoder.reset();
+        return event.getPrice();
+    }
+}
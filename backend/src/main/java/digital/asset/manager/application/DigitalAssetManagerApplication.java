@@ -2,6 +2,8 @@ package digital.asset.manager.application;
 
 import digital.asset.manager.application.common.config.properties.AppProperties;
 import digital.asset.manager.application.common.config.properties.CorsProperties;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.config.properties.NearCacheProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -10,7 +12,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @SpringBootApplication
 @EnableConfigurationProperties({
 		CorsProperties.class,
-		AppProperties.class
+		AppProperties.class,
+		MarketDataProperties.class,
+		NearCacheProperties.class
 })
 public class DigitalAssetManagerApplication {
 	public static void main(String[] args) {
@@ -33,9 +33,9 @@ public class DiscordNotifier {
 
             int responseCode = connection.getResponseCode();
             if (responseCode == HttpURLConnection.HTTP_NO_CONTENT) {
-                System.out.println("Discord 알림 전송 성공");
+                log.info("Discord 알림 전송 성공");
             } else {
-                System.err.println("Discord 알림 전송 실패. 응답 코드: " + responseCode);
+                log.error("Discord 알림 전송 실패. 응답 코드: {}", responseCode);
             }
         } catch (Exception e) {
             log.error("에러 발생: {}", e.getMessage(), e);
@@ -0,0 +1,17 @@
+package digital.asset.manager.application.chart.candle;
+
+/**
+ * OHLCV 봉 (가격/거래량은 고정소수점)
+ * @param openTime 봉 시작 시각(ms, 이벤트 시간 기준)
+ * @param trades 체결 건수 (0이면 체결 없이 이전 종가로 채운 봉)
+ */
+public record Candle(
+        long openTime,
+        long open,
+        long high,
+        long low,
+        long close,
+        long volume,
+        int trades
+) {
+}
@@ -0,0 +1,124 @@
+package digital.asset.manager.application.chart.candle;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 체결 -> OHLCV 봉 집계기
+ * 모든 체결을 받아 심볼별로 1s, 1m, 5m, 15m, 1h, 1d 봉을 동시에 갱신한다.
+ * 봉 데이터는 심볼/주기별 고정 크기 링버퍼에만 있으므로 조회 시 거래소 호출이나 재집계가 없다.
+ */
+@Slf4j
+@Component
+public class CandleAggregator implements TradeHandler {
+
+    private static final CandleInterval[] INTERVALS = CandleInterval.values();
+
+    private final SymbolTable symbolTable;
+    private final int capacity;
+    private final ObjectProvider<CandleCloseListener> listenerProvider;
+    private final AtomicReferenceArray<CandleRing[]> rings = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    private volatile CandleCloseListener[] listeners;
+
+    public CandleAggregator(SymbolTable symbolTable, MarketDataProperties properties,
+                            ObjectProvider<CandleCloseListener> listenerProvider) {
+        this.symbolTable = symbolTable;
+        this.capacity = properties.getCandle().getCapacity();
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        // 티커의 거래량은 24시간 누적값이므로 봉에 넣지 않는다
+        if (event.getType() == TradeEvent.Type.TICKER) {
+            return;
+        }
+        int symbolId = event.getSymbolId();
+        long time = event.getTradeTime() > 0 ? event.getTradeTime() : event.getEventTime();
+        CandleRing[] series = series(symbolId);
+        for (CandleRing ring : series) {
+            ring.onTrade(time, event.getPrice(), event.getQuantity());
+        }
+    }
+
+    /**
+     * 최근 봉 목록 (오래된 것부터, 마지막은 진행 중인 봉)
+     */
+    public Optional<List<Candle>> candles(String symbol, CandleInterval interval, int limit) {
+        int symbolId = symbolTable.lookup(symbol);
+        if (symbolId == SymbolTable.NOT_FOUND || rings.get(symbolId) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(rings.get(symbolId)[interval.ordinal()].latest(limit, true));
+    }
+
+    /**
+     * 최근 마감 봉 목록 (오래된 것부터, 진행 중인 봉 제외)
+     */
+    public Optional<List<Candle>> closedCandles(String symbol, CandleInterval interval, int limit) {
+        int symbolId = symbolTable.lookup(symbol);
+        if (symbolId == SymbolTable.NOT_FOUND || rings.get(symbolId) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(rings.get(symbolId)[interval.ordinal()].latest(limit, false));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 이미 마감된 봉에 속해서 버린 늦은 체결 수 (전체 심볼 합계)
+     */
+    public long getLateTrades(CandleInterval interval) {
+        long total = 0;
+        int size = symbolTable.size();
+        for (int symbolId = 0; symbolId < size; symbolId++) {
+            CandleRing[] series = rings.get(symbolId);
+            if (series != null) {
+                total += series[interval.ordinal()].lateTrades();
+            }
+        }
+        return total;
+    }
+
+    private CandleRing[] series(int symbolId) {
+        CandleRing[] series = rings.get(symbolId);
+        if (series == null) {
+            series = new CandleRing[INTERVALS.length];
+            for (CandleInterval interval : INTERVALS) {
+                series[interval.ordinal()] = new CandleRing(interval.getMillis(), capacity,
+                        candle -> notifyClosed(symbolId, interval, candle));
+            }
+            if (!rings.compareAndSet(symbolId, null, series)) {
+                series = rings.get(symbolId);
+            }
+        }
+        return series;
+    }
+
+    private void notifyClosed(int symbolId, CandleInterval interval, Candle candle) {
+        CandleCloseListener[] current = listeners;
+        if (current == null) {
+            // 리스너가 이 빈을 참조해도 순환 참조가 생기지 않도록 처음 마감될 때 찾는다
+            current = listenerProvider.orderedStream().toArray(CandleCloseListener[]::new);
+            listeners = current;
+        }
+        for (CandleCloseListener listener : current) {
+            try {
+                listener.onCandleClosed(symbolId, interval, candle);
+            } catch (Exception e) {
+                log.error("[{}] 봉 마감 처리 실패: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package digital.asset.manager.application.chart.candle;
+
+/**
+ * 봉 마감 이벤트를 받는 리스너 (수신 스레드에서 호출되므로 오래 걸리는 작업은 하지 않는다)
+ */
+public interface CandleCloseListener {
+
+    void onCandleClosed(int symbolId, CandleInterval interval, Candle candle);
+}
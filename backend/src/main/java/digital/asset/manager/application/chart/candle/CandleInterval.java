@@ -0,0 +1,33 @@
+package digital.asset.manager.application.chart.candle;
+
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+@AllArgsConstructor
+public enum CandleInterval {
+    SECOND_1("1s", 1_000L),
+    MINUTE_1("1m", 60_000L),
+    MINUTE_5("5m", 300_000L),
+    MINUTE_15("15m", 900_000L),
+    HOUR_1("1h", 3_600_000L),
+    DAY_1("1d", 86_400_000L);
+
+    private final String code;
+    private final long millis;
+
+    public long openTimeOf(long time) {
+        return time - Math.floorMod(time, millis);
+    }
+
+    public static CandleInterval of(String code) {
+        return Arrays.stream(values())
+                .filter(interval -> interval.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new ApplicationException(ErrorCode.INVALID_INTERVAL, code));
+    }
+}
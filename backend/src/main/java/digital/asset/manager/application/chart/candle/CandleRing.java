@@ -0,0 +1,171 @@
+package digital.asset.manager.application.chart.candle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 심볼 하나, 주기 하나의 봉 링버퍼
+ * 마감된 봉은 고정 크기 primitive 배열에 순환 저장하고, 진행 중인 봉은 필드로 따로 들고 있는다.
+ * 봉 마감은 체결의 이벤트 시간 기준이며, 체결이 없던 구간은 이전 종가로 채운다.
+ * 쓰기는 수신 스레드 하나, 읽기는 API 스레드들이므로 읽기는 StampedLock 낙관적 읽기로 처리한다.
+ */
+class CandleRing {
+
+    /**
+     * 마감된 봉을 받는 콜백 (쓰기 락 안에서 복사한 봉으로, 락 밖에서 호출된다)
+     */
+    interface ClosedCandleSink {
+        void onClosed(Candle candle);
+    }
+
+    private final long intervalMillis;
+    private final int capacity;
+    private final long[] openTime;
+    private final long[] open;
+    private final long[] high;
+    private final long[] low;
+    private final long[] close;
+    private final long[] volume;
+    private final int[] trades;
+    private final StampedLock lock = new StampedLock();
+    private final ClosedCandleSink sink;
+
+    private long written;           // 지금까지 마감된 봉 수 (다음 쓰기 위치 = written % capacity)
+    private long currentOpenTime = -1;
+    private long currentOpen, currentHigh, currentLow, currentClose, currentVolume;
+    private int currentTrades;
+    // 수신 스레드만 늘리고 지표 스레드가 읽는다
+    private volatile long lateTrades;
+
+    CandleRing(long intervalMillis, int capacity, ClosedCandleSink sink) {
+        this.intervalMillis = intervalMillis;
+        this.capacity = capacity;
+        this.sink = sink;
+        this.openTime = new long[capacity];
+        this.open = new long[capacity];
+        this.high = new long[capacity];
+        this.low = new long[capacity];
+        this.close = new long[capacity];
+        this.volume = new long[capacity];
+        this.trades = new int[capacity];
+    }
+
+    /**
+     * 체결 반영
+     * @return 이번 체결로 마감된 봉 수
+     */
+    int onTrade(long time, long price, long quantity) {
+        long bucket = time - Math.floorMod(time, intervalMillis);
+        long firstClosed;
+        int closed;
+        List<Candle> closedCandles = null;
+
+        long stamp = lock.writeLock();
+        try {
+            if (currentOpenTime < 0) {
+                startCandle(bucket, price);
+            } else if (bucket < currentOpenTime) {
+                // 이미 마감된 봉에 속하는 늦은 체결은 버린다
+                lateTrades++;
+                return 0;
+            }
+            firstClosed = written;
+            if (bucket > currentOpenTime) {
+                long previousClose = currentClose;
+                pushCurrent();
+                // 체결이 없던 구간은 이전 종가로 채운다 (링 크기 이상은 의미 없으므로 건너뜀)
+                long gap = (bucket - currentOpenTime) / intervalMillis - 1;
+                long fillFrom = currentOpenTime + intervalMillis;
+                if (gap >= capacity) {
+                    fillFrom = bucket - (capacity - 1) * intervalMillis;
+                }
+                for (long t = fillFrom; t < bucket; t += intervalMillis) {
+                    startCandle(t, previousClose);
+                    pushCurrent();
+                }
+                startCandle(bucket, price);
+            }
+            currentHigh = Math.max(currentHigh, price);
+            currentLow = Math.min(currentLow, price);
+            currentClose = price;
+            currentVolume += quantity;
+            currentTrades++;
+            closed = (int) (written - firstClosed);
+            if (closed > 0 && sink != null) {
+                closedCandles = new ArrayList<>(closed);
+                for (long i = firstClosed; i < written; i++) {
+                    closedCandles.add(read((int) (i % capacity)));
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        if (closedCandles != null) {
+            for (Candle candle : closedCandles) {
+                sink.onClosed(candle);
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * 최근 봉 목록 (오래된 것부터). includeCurrent면 진행 중인 봉을 마지막에 붙인다.
+     */
+    List<Candle> latest(int limit, boolean includeCurrent) {
+        long stamp = lock.tryOptimisticRead();
+        List<Candle> result = copyLatest(limit, includeCurrent);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = copyLatest(limit, includeCurrent);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    long lateTrades() {
+        return lateTrades;
+    }
+
+    private List<Candle> copyLatest(int limit, boolean includeCurrent) {
+        boolean withCurrent = includeCurrent && currentOpenTime >= 0;
+        int closedLimit = Math.max(0, withCurrent ? limit - 1 : limit);
+        long total = written;
+        long from = Math.max(Math.max(0, total - capacity), total - closedLimit);
+        List<Candle> result = new ArrayList<>((int) (total - from) + 1);
+        for (long i = from; i < total; i++) {
+            result.add(read((int) (i % capacity)));
+        }
+        if (withCurrent) {
+            result.add(new Candle(currentOpenTime, currentOpen, currentHigh, currentLow, currentClose, currentVolume, currentTrades));
+        }
+        return result;
+    }
+
+    private Candle read(int index) {
+        return new Candle(openTime[index], open[index], high[index], low[index], close[index], volume[index], trades[index]);
+    }
+
+    private void startCandle(long bucket, long price) {
+        currentOpenTime = bucket;
+        currentOpen = currentHigh = currentLow = currentClose = price;
+        currentVolume = 0;
+        currentTrades = 0;
+    }
+
+    private void pushCurrent() {
+        int index = (int) (written % capacity);
+        openTime[index] = currentOpenTime;
+        open[index] = currentOpen;
+        high[index] = currentHigh;
+        low[index] = currentLow;
+        close[index] = currentClose;
+        volume[index] = currentVolume;
+        trades[index] = currentTrades;
+        written++;
+    }
+}
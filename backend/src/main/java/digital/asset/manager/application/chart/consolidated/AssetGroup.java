@@ -0,0 +1,110 @@
+package digital.asset.manager.application.chart.consolidated;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 같은 기준 자산을 거래하는 거래소 마켓 묶음 (BTC: BTCUSDT, UPBIT:BTCKRW, BITHUMB:BTCKRW)
+ * 묶음 안의 마켓에 체결이 오면 이 묶음만 다시 계산해 스냅샷을 바꿔 끼운다. 읽기는 스냅샷만 보므로 락이 없다.
+ * 거래소마다 수신 스레드가 달라 쓰기는 묶음 단위로 동기화한다. (마켓 수가 적어 계산 비용은 작다)
+ */
+class AssetGroup {
+
+    private final String asset;
+    private final String referenceExchange;
+    private final long staleAfterMs;
+    private final double decayPerMs;
+    private final List<VenueQuote> venues = new ArrayList<>();
+    private volatile boolean hasLocal;
+    private volatile ConsolidatedQuote snapshot;
+    private long sequence;
+
+    AssetGroup(String asset, String referenceExchange, long staleAfterMs, double decayPerMs) {
+        this.asset = asset;
+        this.referenceExchange = referenceExchange;
+        this.staleAfterMs = staleAfterMs;
+        this.decayPerMs = decayPerMs;
+    }
+
+    synchronized void add(VenueQuote venue) {
+        venues.add(venue);
+        if (!venue.usd) {
+            hasLocal = true;
+        }
+    }
+
+    synchronized void onTrade(VenueQuote venue, long price, long quantity, boolean buyerMaker, long now, double fxRate) {
+        venue.onTrade(price, quantity, buyerMaker, now, decayPerMs);
+        recompute(now, fxRate);
+    }
+
+    synchronized void recompute(long now, double fxRate) {
+        int n = venues.size();
+        double[] usdPrices = new double[n];
+        double[] volumes = new double[n];
+        boolean[] stale = new boolean[n];
+        double reference = 0;
+        double bestBid = 0;
+        double bestAsk = Double.MAX_VALUE;
+        String bestBidExchange = null;
+        String bestAskExchange = null;
+        double weighted = 0;
+        double totalVolume = 0;
+
+        for (int i = 0; i < n; i++) {
+            VenueQuote venue = venues.get(i);
+            double rate = venue.usd ? 1 : fxRate;
+            stale[i] = venue.last == 0 || now - venue.updatedAt > staleAfterMs;
+            if (venue.last == 0 || rate <= 0) {
+                continue;
+            }
+            usdPrices[i] = FixedPoint.toDouble(venue.last) / rate;
+            if (stale[i]) {
+                continue;
+            }
+            if (venue.usd && venue.exchange.equals(referenceExchange) && reference == 0) {
+                reference = usdPrices[i];
+            }
+            double bid = FixedPoint.toDouble(venue.bidOrLast()) / rate;
+            double ask = FixedPoint.toDouble(venue.askOrLast()) / rate;
+            if (bid > bestBid) {
+                bestBid = bid;
+                bestBidExchange = venue.exchange;
+            }
+            if (ask < bestAsk) {
+                bestAsk = ask;
+                bestAskExchange = venue.exchange;
+            }
+            volumes[i] = venue.volumeAt(now, decayPerMs);
+            weighted += usdPrices[i] * volumes[i];
+            totalVolume += volumes[i];
+        }
+
+        List<ConsolidatedQuote.VenuePrice> prices = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            VenueQuote venue = venues.get(i);
+            double premium = reference > 0 && usdPrices[i] > 0 ? (usdPrices[i] / reference - 1) * 100 : Double.NaN;
+            prices.add(new ConsolidatedQuote.VenuePrice(venue.key, venue.exchange, venue.quoteAsset, venue.last,
+                    FixedPoint.fromDouble(usdPrices[i]), totalVolume > 0 ? volumes[i] / totalVolume : 0,
+                    premium, venue.updatedAt, stale[i]));
+        }
+        snapshot = new ConsolidatedQuote(asset,
+                FixedPoint.fromDouble(bestBid), bestBidExchange,
+                bestAskExchange == null ? 0 : FixedPoint.fromDouble(bestAsk), bestAskExchange,
+                totalVolume > 0 ? FixedPoint.fromDouble(weighted / totalVolume) : 0,
+                fxRate, List.copyOf(prices), now, ++sequence);
+    }
+
+    /**
+     * 원화 계열 마켓이 있는지 (환율이 바뀌면 다시 계산해야 하는 묶음)
+     */
+    boolean hasLocal() {
+        return hasLocal;
+    }
+
+    ConsolidatedQuote snapshot() {
+        return snapshot;
+    }
+}
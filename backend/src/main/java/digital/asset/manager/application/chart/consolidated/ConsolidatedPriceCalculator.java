@@ -0,0 +1,162 @@
+package digital.asset.manager.application.chart.consolidated;
+
+import digital.asset.manager.application.chart.exchange.ExchangeAdapter;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.exchange.Instrument;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * 거래소 통합 시세 계산기
+ * 거래소별 체결을 받아 기준 자산마다 최우선 매수/매도(추정), 기준 거래소 대비 프리미엄(김치 프리미엄),
+ * 거래량 가중 통합 가격을 계속 갱신한다. 체결이 온 마켓이 속한 자산만 다시 계산하고, 조회는 메모리의 스냅샷을 그대로 돌려준다.
+ *
+ * 원화 마켓은 환율 심볼(기본 UPBIT:USDTKRW)의 최신 체결가로 달러 환산한다. 환율이 바뀌면 원화 마켓이 있는 자산만 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class ConsolidatedPriceCalculator implements TradeHandler {
+
+    // 통합 대상이 아닌 심볼 (호가 자산이 달러/원화 계열이 아니거나 알 수 없는 거래소)
+    private static final VenueQuote IGNORED = new VenueQuote("", "", "", false);
+
+    private final SymbolTable symbolTable;
+    private final ExchangeRegistry exchanges;
+    private final boolean enabled;
+    private final String referenceExchange;
+    private final Set<String> usdQuotes;
+    private final String localCurrency;
+    private final String fxKey;
+    private final long staleAfterMs;
+    private final double decayPerMs;
+    // 심볼 id -> 마켓 상태/소속 묶음 (처음 체결이 올 때 채운다)
+    private final AtomicReferenceArray<VenueQuote> venues = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    private final AtomicReferenceArray<AssetGroup> groupBySymbol = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    private final Map<String, AssetGroup> groups = new ConcurrentHashMap<>();
+    private volatile int fxSymbolId = SymbolTable.NOT_FOUND;
+    private volatile double fxRate;
+
+    public ConsolidatedPriceCalculator(SymbolTable symbolTable, ExchangeRegistry exchanges, MarketDataProperties properties) {
+        MarketDataProperties.Consolidated config = properties.getConsolidated();
+        this.symbolTable = symbolTable;
+        this.exchanges = exchanges;
+        this.enabled = config.isEnabled();
+        this.referenceExchange = config.getReferenceExchange().toLowerCase(Locale.ROOT);
+        this.usdQuotes = config.getUsdQuotes().stream()
+                .map(quote -> quote.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.localCurrency = config.getLocalCurrency().toUpperCase(Locale.ROOT);
+        this.fxKey = config.getFxSymbol() == null || config.getFxSymbol().isBlank() ? null : exchanges.key(config.getFxSymbol());
+        this.staleAfterMs = config.getStaleAfterMs();
+        this.decayPerMs = Math.log(2) / Math.max(1, config.getVolumeHalfLifeMs());
+        this.fxRate = config.getFxRate();
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        // 티커는 거래량이 없으므로 넣지 않는다
+        if (!enabled || event.getType() == TradeEvent.Type.TICKER) {
+            return;
+        }
+        int symbolId = event.getSymbolId();
+        VenueQuote venue = venues.get(symbolId);
+        if (venue == null) {
+            venue = resolve(symbolId);
+        }
+        long now = System.currentTimeMillis();
+        if (symbolId == fxSymbolId) {
+            updateFxRate(FixedPoint.toDouble(event.getPrice()), now);
+            return;
+        }
+        if (venue == IGNORED) {
+            return;
+        }
+        groupBySymbol.get(symbolId).onTrade(venue, event.getPrice(), event.getQuantity(), event.isBuyerMaker(), now, fxRate);
+    }
+
+    /**
+     * @param asset 기준 자산 (BTC)
+     */
+    public Optional<ConsolidatedQuote> get(String asset) {
+        AssetGroup group = groups.get(asset.trim().toUpperCase(Locale.ROOT));
+        return group == null ? Optional.empty() : Optional.ofNullable(group.snapshot());
+    }
+
+    public List<ConsolidatedQuote> getAll() {
+        return groups.values().stream()
+                .map(AssetGroup::snapshot)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(ConsolidatedQuote::asset))
+                .toList();
+    }
+
+    public double getFxRate() {
+        return fxRate;
+    }
+
+    /**
+     * 환율은 호가 단위(1원)로만 움직여서 체결 대부분은 값이 같다. 값이 바뀐 경우에만 원화 마켓이 있는 묶음을 다시 계산한다.
+     */
+    private void updateFxRate(double rate, long now) {
+        if (rate <= 0 || rate == fxRate) {
+            return;
+        }
+        fxRate = rate;
+        for (AssetGroup group : groups.values()) {
+            if (group.hasLocal()) {
+                group.recompute(now, rate);
+            }
+        }
+    }
+
+    /**
+     * 심볼 id를 마켓 상태와 자산 묶음에 연결한다. 심볼마다 한 번만 불린다.
+     */
+    private synchronized VenueQuote resolve(int symbolId) {
+        VenueQuote existing = venues.get(symbolId);
+        if (existing != null) {
+            return existing;
+        }
+        String key = symbolTable.name(symbolId);
+        VenueQuote venue = IGNORED;
+        if (key.equals(fxKey)) {
+            fxSymbolId = symbolId;
+        } else {
+            try {
+                Instrument instrument = exchanges.resolve(key);
+                ExchangeAdapter adapter = instrument.exchange();
+                String base = adapter.baseAsset(instrument.symbol());
+                String quote = adapter.quoteAsset(instrument.symbol());
+                boolean usd = usdQuotes.contains(quote);
+                if (!usdQuotes.contains(base) && (usd || quote.equals(localCurrency))) {
+                    venue = new VenueQuote(key, adapter.getName(), quote, usd);
+                    AssetGroup group = groups.computeIfAbsent(base,
+                            asset -> new AssetGroup(asset, referenceExchange, staleAfterMs, decayPerMs));
+                    group.add(venue);
+                    groupBySymbol.set(symbolId, group);
+                }
+            } catch (ApplicationException e) {
+                log.debug("통합 시세 대상 아님 ({}): {}", key, e.getMessage());
+            }
+        }
+        venues.set(symbolId, venue);
+        return venue;
+    }
+}
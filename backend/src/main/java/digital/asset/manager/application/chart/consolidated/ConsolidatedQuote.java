@@ -0,0 +1,44 @@
+package digital.asset.manager.application.chart.consolidated;
+
+import java.util.List;
+
+/**
+ * 자산 하나(BTC 등)의 거래소 통합 시세. 가격은 달러 계열 호가 자산 기준 고정소수점이다.
+ * @param bestBid 최근 체결이 있는 거래소 중 가장 높은 매수 호가(추정). 없으면 0
+ * @param bestAsk 가장 낮은 매도 호가(추정). 없으면 0
+ * @param composite 거래량 가중 통합 가격. 없으면 0
+ * @param fxRate 원화 계열 가격 환산에 쓴 환율 (0이면 원화 마켓은 통합 값에서 빠진다)
+ * @param sequence 재계산할 때마다 1씩 증가
+ */
+public record ConsolidatedQuote(
+        String asset,
+        long bestBid,
+        String bestBidExchange,
+        long bestAsk,
+        String bestAskExchange,
+        long composite,
+        double fxRate,
+        List<VenuePrice> venues,
+        long updatedAt,
+        long sequence
+) {
+    /**
+     * @param price 거래소 호가 자산 기준 마지막 체결가
+     * @param usdPrice 달러 환산 가격. 환율이 없으면 0
+     * @param weight 통합 가격에서 차지하는 거래량 비중 (0 ~ 1)
+     * @param premium 기준 거래소 대비 괴리율(%). 원화 마켓이면 김치 프리미엄. 기준 가격이 없으면 NaN
+     * @param stale 최근 체결이 없어 통합 값 계산에서 빠졌는지 여부
+     */
+    public record VenuePrice(
+            String symbol,
+            String exchange,
+            String quoteAsset,
+            long price,
+            long usdPrice,
+            double weight,
+            double premium,
+            long updatedAt,
+            boolean stale
+    ) {
+    }
+}
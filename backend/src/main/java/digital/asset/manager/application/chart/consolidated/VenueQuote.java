@@ -0,0 +1,63 @@
+package digital.asset.manager.application.chart.consolidated;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+/**
+ * 통합 시세에 참여하는 거래소 마켓 하나(UPBIT:BTCKRW 등)의 최근 상태
+ * 체결 스트림만 있는 거래소가 많아서 호가는 체결 방향으로 추정한다.
+ * taker 매수 체결은 매도 호가를, taker 매도 체결은 매수 호가를 친 것이므로 각각 ask/bid로 본다.
+ * 값은 고정소수점(거래소 호가 자산 단위)이고, 소속 {@link AssetGroup}의 락 안에서만 읽고 쓴다.
+ */
+class VenueQuote {
+
+    final String key;
+    final String exchange;
+    final String quoteAsset;
+    // 달러 계열 호가 자산(USDT 등)이면 true, 원화 계열이면 false
+    final boolean usd;
+
+    long last;
+    long bid;
+    long ask;
+    long updatedAt;
+    // 반감기로 줄여 가며 누적한 거래량 (기준 자산 단위)
+    double volume;
+    long volumeAt;
+
+    VenueQuote(String key, String exchange, String quoteAsset, boolean usd) {
+        this.key = key;
+        this.exchange = exchange;
+        this.quoteAsset = quoteAsset;
+        this.usd = usd;
+    }
+
+    void onTrade(long price, long quantity, boolean buyerMaker, long now, double decayPerMs) {
+        last = price;
+        if (buyerMaker) {
+            bid = price;
+        } else {
+            ask = price;
+        }
+        volume = volumeAt(now, decayPerMs) + FixedPoint.toDouble(quantity);
+        volumeAt = now;
+        updatedAt = now;
+    }
+
+    /**
+     * now 시점까지 반감기를 적용한 거래량
+     */
+    double volumeAt(long now, double decayPerMs) {
+        if (volume == 0 || now <= volumeAt) {
+            return volume;
+        }
+        return volume * Math.exp(-decayPerMs * (now - volumeAt));
+    }
+
+    long bidOrLast() {
+        return bid > 0 ? bid : last;
+    }
+
+    long askOrLast() {
+        return ask > 0 ? ask : last;
+    }
+}
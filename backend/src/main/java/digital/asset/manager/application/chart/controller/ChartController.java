@@ -0,0 +1,79 @@
+package digital.asset.manager.application.chart.controller;
+
+import digital.asset.manager.application.chart.dto.CandleResponse;
+import digital.asset.manager.application.chart.dto.IndicatorResponse;
+import digital.asset.manager.application.chart.dto.OrderBookResponse;
+import digital.asset.manager.application.chart.service.ChartService;
+import digital.asset.manager.application.common.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Chart 컨트롤러", description = "차트 데이터 API")
+@RestController
+@RequestMapping("/chart")
+@RequiredArgsConstructor
+public class ChartController {
+
+    private final ChartService chartService;
+
+    @Operation(
+            summary = "봉(OHLCV) 조회",
+            description = "메모리에 집계된 최근 봉을 오래된 순으로 조회한다. 마지막 봉은 진행 중인 봉이다. interval: 1s, 1m, 5m, 15m, 1h, 1d"
+    )
+    @GetMapping("/candles")
+    public Response<List<CandleResponse>> candles(@RequestParam String symbol,
+                                                  @RequestParam(defaultValue = "1m") String interval,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        return Response.success(chartService.getCandles(symbol, interval, limit));
+    }
+
+    @Operation(
+            summary = "봉(OHLCV) 이력 조회",
+            description = "디스크에 저장된 마감 봉을 [from, to] (openTime, epoch ms) 구간에서 최근 limit개까지 오래된 순으로 조회한다. "
+                    + "maxPoints를 주면 limit 대신 구간 전체를 maxPoints개 이하로 줄인다. "
+                    + "method: minmax(구간별 OHLCV 재집계, 기본), lttb(종가 모양을 보존하는 실제 봉 선택)"
+    )
+    @GetMapping("/history")
+    public Response<List<CandleResponse>> history(@RequestParam String symbol,
+                                                  @RequestParam(defaultValue = "1m") String interval,
+                                                  @RequestParam(required = false) Long from,
+                                                  @RequestParam(required = false) Long to,
+                                                  @RequestParam(defaultValue = "500") int limit,
+                                                  @RequestParam(required = false) Integer maxPoints,
+                                                  @RequestParam(defaultValue = "minmax") String method) {
+        if (maxPoints != null) {
+            return Response.success(chartService.getDownsampledHistory(symbol, interval, from, to, maxPoints, method));
+        }
+        return Response.success(chartService.getHistory(symbol, interval, from, to, limit));
+    }
+
+    @Operation(
+            summary = "기술 지표 조회",
+            description = "마감 봉으로 서버에서 갱신하는 지표의 최근 limit개 값을 오래된 순으로 조회한다. "
+                    + "indicators: sma:20, ema:20, rsi:14, macd:12:26:9, bb:20:2 (쉼표로 여러 개, 파라미터 생략 시 기본값)"
+    )
+    @GetMapping("/indicators")
+    public Response<List<IndicatorResponse>> indicators(@RequestParam String symbol,
+                                                        @RequestParam(defaultValue = "1m") String interval,
+                                                        @RequestParam List<String> indicators,
+                                                        @RequestParam(defaultValue = "100") int limit) {
+        return Response.success(chartService.getIndicators(symbol, interval, indicators, limit));
+    }
+
+    @Operation(
+            summary = "호가창 조회",
+            description = "로컬 호가창의 최우선 매수/매도 호가, 스프레드와 상위 depth 단계를 조회한다. synced=false면 스냅샷 동기화 중이다."
+    )
+    @GetMapping("/orderbook")
+    public Response<OrderBookResponse> orderBook(@RequestParam String symbol,
+                                                 @RequestParam(defaultValue = "20") int depth) {
+        return Response.success(chartService.getOrderBook(symbol, depth));
+    }
+}
@@ -0,0 +1,102 @@
+package digital.asset.manager.application.chart.controller;
+
+import digital.asset.manager.application.chart.dto.ExchangeStatusResponse;
+import digital.asset.manager.application.chart.dto.ReplayRequest;
+import digital.asset.manager.application.chart.dto.SymbolRequest;
+import digital.asset.manager.application.chart.dto.SymbolStateResponse;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.ingest.MarketDataIngestEngine;
+import digital.asset.manager.application.chart.ingest.SymbolState;
+import digital.asset.manager.application.chart.orderbook.OrderBookEngine;
+import digital.asset.manager.application.chart.price.PriceWriteBehind;
+import digital.asset.manager.application.chart.price.WriteBehindStats;
+import digital.asset.manager.application.chart.replay.FeedReplayer;
+import digital.asset.manager.application.chart.replay.ReplayStatus;
+import digital.asset.manager.application.common.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Tag(name = "MarketData 컨트롤러", description = "시세 수집 심볼 관리 API")
+@RestController
+@RequestMapping("/api/v1/market-data")
+@RequiredArgsConstructor
+public class MarketDataController {
+
+    private final MarketDataIngestEngine ingestEngine;
+    private final PriceWriteBehind priceWriteBehind;
+    private final OrderBookEngine orderBookEngine;
+    private final FeedReplayer feedReplayer;
+    private final ExchangeRegistry exchangeRegistry;
+
+    @Operation(summary = "수집 중인 심볼 목록", description = "심볼별 연결(shard), 수신 건수, 마지막 가격을 조회한다.")
+    @GetMapping("/symbols")
+    public Response<List<SymbolStateResponse>> symbols() {
+        return Response.success(ingestEngine.getStates().stream()
+                .map(SymbolStateResponse::fromState)
+                .toList());
+    }
+
+    @Operation(summary = "심볼 추가", description = "다른 연결을 끊지 않고 심볼을 구독한다. 바이낸스 외 거래소는 접두어를 붙인다. (ex. UPBIT:BTCKRW)")
+    @PostMapping("/symbols")
+    public Response<Boolean> subscribe(@RequestBody SymbolRequest request) {
+        return Response.success(ingestEngine.subscribe(request.symbol()));
+    }
+
+    @Operation(summary = "심볼 제거", description = "해당 심볼이 속한 연결에서만 구독을 해지한다.")
+    @DeleteMapping("/symbols/{symbol}")
+    public Response<Boolean> unsubscribe(@PathVariable String symbol) {
+        return Response.success(ingestEngine.unsubscribe(symbol));
+    }
+
+    @Operation(summary = "거래소 연결 상태", description = "거래소별 상태(UP, DEGRADED, DOWN, IDLE), 연결 수, 구독 심볼 수를 조회한다.")
+    @GetMapping("/exchanges")
+    public Response<List<ExchangeStatusResponse>> exchanges() {
+        Map<String, Long> symbols = ingestEngine.getStates().stream()
+                .collect(Collectors.groupingBy(SymbolState::getExchange, Collectors.counting()));
+        return Response.success(exchangeRegistry.getAdapters().stream()
+                .map(adapter -> ExchangeStatusResponse.of(adapter, symbols.getOrDefault(adapter.getName(), 0L)))
+                .toList());
+    }
+
+    @Operation(summary = "호가창 추가", description = "호가 변경 스트림을 구독하고 REST 스냅샷으로 동기화한다.")
+    @PostMapping("/order-books")
+    public Response<Boolean> subscribeOrderBook(@RequestBody SymbolRequest request) {
+        return Response.success(orderBookEngine.subscribe(request.symbol()));
+    }
+
+    @Operation(summary = "호가창 제거")
+    @DeleteMapping("/order-books/{symbol}")
+    public Response<Boolean> unsubscribeOrderBook(@PathVariable String symbol) {
+        return Response.success(orderBookEngine.unsubscribe(symbol));
+    }
+
+    @Operation(summary = "Redis write-behind 지표", description = "MSET 크기/소요 시간, 합쳐진(conflated) 갱신 수 등을 조회한다.")
+    @GetMapping("/write-behind")
+    public Response<WriteBehindStats> writeBehindStats() {
+        return Response.success(priceWriteBehind.stats());
+    }
+
+    @Operation(summary = "녹화 재생", description = "녹화한 체결 스트림을 실시간 연결과 같은 경로로 수집 엔진에 다시 넣는다. 이미 재생 중이면 false.")
+    @PostMapping("/replay")
+    public Response<Boolean> replay(@RequestBody ReplayRequest request) {
+        return Response.success(feedReplayer.start(request.file(), request.speed()));
+    }
+
+    @Operation(summary = "녹화 재생 상태", description = "처리한 프레임 수와 초당 처리량을 조회한다.")
+    @GetMapping("/replay")
+    public Response<ReplayStatus> replayStatus() {
+        return Response.success(feedReplayer.status());
+    }
+}
@@ -1,20 +1,36 @@
 package digital.asset.manager.application.chart.controller;
 
+import digital.asset.manager.application.chart.dto.ConsolidatedPriceResponse;
+import digital.asset.manager.application.chart.dto.PriceResponse;
+import digital.asset.manager.application.chart.dto.RollingTickerResponse;
+import digital.asset.manager.application.chart.dto.TickResponse;
+import digital.asset.manager.application.chart.dto.TradeWindowResponse;
+import digital.asset.manager.application.chart.history.Tick;
 import digital.asset.manager.application.chart.service.ExternalPriceService;
 import digital.asset.manager.application.chart.service.PriceService;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import digital.asset.manager.application.common.response.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/price")
 @Slf4j
 public class PriceController {
+    private static final int MAX_TICK_LIMIT = 10_000;
+
     private final ExternalPriceService externalPriceService;
     private final PriceService priceService;
 
@@ -34,4 +50,73 @@ public class PriceController {
         return ResponseEntity.ok("현재 BTC 가격: " + price);
     }
 
+    /**
+     * 여러 심볼의 최신가 (GET /price?symbols=BTCUSDT,ETHUSDT,UPBIT:BTCKRW)
+     * 응답 ETag는 심볼별 갱신 버전으로 만들며, If-None-Match가 같으면 본문 없이 304를 돌려준다.
+     * 버전은 노드마다 따로 세므로, 다른 노드로 간 요청은 값이 같아도 200이 될 수 있다.
+     */
+    @GetMapping(params = "symbols")
+    public ResponseEntity<Response<List<PriceResponse>>> getPrices(@RequestParam List<String> symbols, WebRequest request) {
+        if (symbols.size() > PriceService.MAX_BATCH_SYMBOLS) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "심볼은 " + PriceService.MAX_BATCH_SYMBOLS + "개 이하");
+        }
+        List<PriceResponse> prices = priceService.getPrices(symbols);
+        String eTag = "W/\"" + PriceResponse.version(prices) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                // 캐시는 하되 매번 ETag로 확인
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(Response.success(prices));
+    }
+
+    /**
+     * 체결 이력 조회 (Redis Stream). from/to(ms)가 없으면 최근 limit건
+     */
+    @GetMapping("/ticks")
+    public Response<List<TickResponse>> getTicks(@RequestParam String symbol,
+                                                 @RequestParam(required = false) Long from,
+                                                 @RequestParam(required = false) Long to,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_TICK_LIMIT);
+        List<Tick> ticks = from == null && to == null
+                ? priceService.getRecentTicks(symbol, size)
+                : priceService.getTicks(symbol, from == null ? 0 : from, to == null ? System.currentTimeMillis() : to, size);
+        return Response.success(ticks.stream().map(TickResponse::fromTick).toList());
+    }
+
+    /**
+     * 체결 통계 (마지막 체결가, VWAP, 체결 수, 매수/매도 거래량, 고가/저가). current=true면 진행 중 구간
+     */
+    @GetMapping("/window")
+    public Response<TradeWindowResponse> getTradeWindow(@RequestParam String symbol,
+                                                        @RequestParam(defaultValue = "false") boolean current) {
+        return Response.success(priceService.getTradeWindow(symbol, current));
+    }
+
+    /**
+     * 24시간 이동 구간 통계 (시가/고가/저가/변동률/거래량/VWAP). symbols가 없으면 체결이 있었던 모든 심볼
+     */
+    @GetMapping("/ticker")
+    public Response<List<RollingTickerResponse>> getTickers(@RequestParam(required = false) List<String> symbols) {
+        if (symbols != null && symbols.size() > PriceService.MAX_BATCH_SYMBOLS) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "심볼은 " + PriceService.MAX_BATCH_SYMBOLS + "개 이하");
+        }
+        return Response.success(priceService.getTickers(symbols));
+    }
+
+    /**
+     * 거래소 통합 시세 (최우선 매수/매도, 기준 거래소 대비 프리미엄, 거래량 가중 가격). 가격은 달러 기준
+     */
+    @GetMapping("/consolidated")
+    public Response<ConsolidatedPriceResponse> getConsolidated(@RequestParam(defaultValue = "BTC") String asset) {
+        return Response.success(priceService.getConsolidated(asset));
+    }
+
+    @GetMapping("/consolidated/all")
+    public Response<List<ConsolidatedPriceResponse>> getAllConsolidated() {
+        return Response.success(priceService.getConsolidated());
+    }
 }
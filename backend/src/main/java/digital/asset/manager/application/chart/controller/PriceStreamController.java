@@ -0,0 +1,48 @@
+package digital.asset.manager.application.chart.controller;
+
+import digital.asset.manager.application.chart.service.PriceService;
+import digital.asset.manager.application.chart.stream.PriceStreamHub;
+import digital.asset.manager.application.chart.stream.SseStreamWriter;
+import digital.asset.manager.application.chart.stream.StreamBackpressure;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/price")
+public class PriceStreamController {
+
+    private final PriceStreamHub priceStreamHub;
+    private final SseStreamWriter sseStreamWriter;
+
+    /**
+     * 실시간 시세 SSE (event: price, data: {"symbol","price","sequence","eventTime"})
+     * 재연결하면 브라우저가 보내는 Last-Event-ID 이후 이벤트를 최근 기록에서 이어 보낸다.
+     * backpressure: latest(기본, 밀리면 마지막 값만), drop(밀린 동안 버림), buffer(쌓다가 넘치면 끊음)
+     * 전송은 {@link SseStreamWriter}의 전용 스레드에서 하고, 연결 시간 제한은 market-data.stream.timeout-ms를 따른다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam(defaultValue = PriceService.DEFAULT_SYMBOL) List<String> symbols,
+            @RequestParam(defaultValue = "latest") String backpressure,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Flux<ServerSentEvent<String>> events = priceStreamHub.stream(symbols, StreamBackpressure.of(backpressure), lastEventId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                // nginx 등 프록시가 이벤트를 모아 두지 않도록
+                .header("X-Accel-Buffering", "no")
+                .body(sseStreamWriter.open(events));
+    }
+}
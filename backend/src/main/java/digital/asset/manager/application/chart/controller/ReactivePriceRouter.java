@@ -0,0 +1,74 @@
+package digital.asset.manager.application.chart.controller;
+
+import digital.asset.manager.application.chart.dto.PriceResponse;
+import digital.asset.manager.application.chart.service.PriceService;
+import digital.asset.manager.application.chart.service.ReactivePriceService;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import digital.asset.manager.application.common.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 최신가 조회(GET /price)의 논블로킹 경로 (market-data.reactive-read: true일 때만 등록)
+ * 함수형 라우터는 애노테이션 컨트롤러보다 먼저 매칭되므로 켜면 {@link PriceController}의 같은 경로를 대신한다.
+ * 응답을 Mono로 돌려주면 서블릿 비동기 처리로 넘어가, Redis/거래소 응답을 기다리는 동안 요청 스레드를 반납한다.
+ * 응답 형식, ETag/304 처리는 {@link PriceController}와 같다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "market-data", name = "reactive-read", havingValue = "true")
+public class ReactivePriceRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactivePriceRoutes(ReactivePriceService reactivePriceService) {
+        return RouterFunctions.route()
+                .GET("/price", RequestPredicates.param("symbols", symbols -> true),
+                        request -> getPrices(reactivePriceService, request))
+                .GET("/price", request -> getCurrentPrice(reactivePriceService))
+                .onError(ApplicationException.class, (e, request) -> {
+                    log.error("Error occur {}", e.toString());
+                    ErrorCode errorCode = ((ApplicationException) e).getErrorCode();
+                    return ServerResponse.status(errorCode.getStatus()).body(Response.error(errorCode.name()));
+                })
+                .build();
+    }
+
+    private ServerResponse getCurrentPrice(ReactivePriceService reactivePriceService) {
+        return ServerResponse.async(reactivePriceService.getPrice(PriceService.DEFAULT_SYMBOL)
+                .map(price -> ServerResponse.ok().body("현재 BTC 가격: " + price))
+                .defaultIfEmpty(ServerResponse.status(HttpStatus.NOT_FOUND)
+                        .body("현재 가격 데이터를 가져올 수 없습니다. 잠시 후 다시 시도하세요.")));
+    }
+
+    private ServerResponse getPrices(ReactivePriceService reactivePriceService, ServerRequest request) {
+        List<String> symbols = new ArrayList<>();
+        request.params().getOrDefault("symbols", List.of())
+                .forEach(value -> symbols.addAll(Arrays.asList(value.split(","))));
+        if (symbols.size() > PriceService.MAX_BATCH_SYMBOLS) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "심볼은 " + PriceService.MAX_BATCH_SYMBOLS + "개 이하");
+        }
+        return ServerResponse.async(reactivePriceService.getPrices(symbols)
+                .map(prices -> {
+                    String eTag = "W/\"" + PriceResponse.version(prices) + "\"";
+                    return request.checkNotModified(eTag).orElseGet(() -> ServerResponse.ok()
+                            // 캐시는 하되 매번 ETag로 확인
+                            .cacheControl(CacheControl.noCache())
+                            .eTag(eTag)
+                            .body(Response.success(prices)));
+                }));
+    }
+}
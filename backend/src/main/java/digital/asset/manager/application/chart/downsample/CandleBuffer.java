@@ -0,0 +1,91 @@
+package digital.asset.manager.application.chart.downsample;
+
+import digital.asset.manager.application.chart.candle.Candle;
+
+import java.util.Arrays;
+
+/**
+ * LTTB 구간 하나의 봉을 담는 primitive 버퍼 (구간이 바뀌어도 배열을 재사용한다)
+ */
+class CandleBuffer {
+
+    private long[] openTime = new long[16];
+    private long[] open = new long[16];
+    private long[] high = new long[16];
+    private long[] low = new long[16];
+    private long[] close = new long[16];
+    private long[] volume = new long[16];
+    private int[] trades = new int[16];
+    private int size;
+    private double closeSum, timeSum;
+
+    void add(long openTime, long open, long high, long low, long close, long volume, int trades) {
+        if (size == this.openTime.length) {
+            grow();
+        }
+        this.openTime[size] = openTime;
+        this.open[size] = open;
+        this.high[size] = high;
+        this.low[size] = low;
+        this.close[size] = close;
+        this.volume[size] = volume;
+        this.trades[size] = trades;
+        size++;
+        timeSum += openTime;
+        closeSum += close;
+    }
+
+    /**
+     * 마지막에 넣은 봉을 빼서 돌려준다.
+     */
+    Candle removeLast() {
+        size--;
+        timeSum -= openTime[size];
+        closeSum -= close[size];
+        return get(size);
+    }
+
+    Candle get(int index) {
+        return new Candle(openTime[index], open[index], high[index], low[index], close[index], volume[index], trades[index]);
+    }
+
+    long openTime(int index) {
+        return openTime[index];
+    }
+
+    long close(int index) {
+        return close[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    double averageTime() {
+        return timeSum / size;
+    }
+
+    double averageClose() {
+        return closeSum / size;
+    }
+
+    void clear() {
+        size = 0;
+        timeSum = closeSum = 0;
+    }
+
+    private void grow() {
+        int capacity = openTime.length * 2;
+        openTime = Arrays.copyOf(openTime, capacity);
+        open = Arrays.copyOf(open, capacity);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        close = Arrays.copyOf(close, capacity);
+        volume = Arrays.copyOf(volume, capacity);
+        trades = Arrays.copyOf(trades, capacity);
+    }
+}
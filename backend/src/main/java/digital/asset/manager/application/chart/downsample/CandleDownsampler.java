@@ -0,0 +1,69 @@
+package digital.asset.manager.application.chart.downsample;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.store.CandleStore;
+import digital.asset.manager.application.chart.store.StoredRange;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 봉 이력 다운샘플링
+ * 긴 구간(1분봉 1년 = 약 52만 개)도 저장소를 한 번 순회하며 maxPoints개 이하로 줄이므로, 응답 크기와 직렬화 비용이 구간 길이와 상관없다.
+ * 결과는 실제로 담긴 구간(첫/마지막 봉 시각, 개수)과 maxPoints, 방식으로 캐시한다.
+ * 요청의 to가 매번 달라도 새 봉이 저장되기 전까지는 같은 키가 되고, 새 봉이 저장되면 키가 바뀌어 다시 계산한다.
+ */
+@Component
+public class CandleDownsampler {
+
+    public static final int MIN_POINTS = 3;
+
+    private final CandleStore candleStore;
+    private final int maxPoints;
+    private final Cache<Key, List<Candle>> cache;
+
+    public CandleDownsampler(CandleStore candleStore, MarketDataProperties properties, MeterRegistry meterRegistry) {
+        MarketDataProperties.Store store = properties.getStore();
+        this.candleStore = candleStore;
+        this.maxPoints = store.getDownsampleMaxPoints();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(store.getDownsampleCacheCandles())
+                .<Key, List<Candle>>weigher((key, candles) -> candles.size())
+                .expireAfterWrite(Duration.ofMillis(store.getDownsampleCacheTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "candle.downsample");
+    }
+
+    /**
+     * [from, to] 구간 봉을 points개 이하로 줄인다. (오래된 순, points는 [{@value MIN_POINTS}, 설정 상한]으로 맞춘다)
+     * 구간 봉이 points개 이하면 그대로 돌려준다.
+     */
+    public List<Candle> downsample(String symbol, CandleInterval interval, long from, long to, int points,
+                                   DownsampleMethod method) {
+        int size = Math.min(Math.max(points, MIN_POINTS), maxPoints);
+        StoredRange range = candleStore.describe(symbol, interval, from, to);
+        if (range.count() == 0) {
+            return List.of();
+        }
+        // 순회 중 새로 저장되는 봉이 섞이지 않도록 끝을 마지막 봉 시각으로 고정한다
+        if (range.count() <= size) {
+            return candleStore.range(symbol, interval, range.firstOpenTime(), range.lastOpenTime(), size);
+        }
+        return cache.get(new Key(symbol, interval, method, size, range), key -> {
+            CandleSampler sampler = CandleSampler.of(method, range.count(), size);
+            candleStore.scan(symbol, interval, range.firstOpenTime(), range.lastOpenTime(), Integer.MAX_VALUE, sampler);
+            return List.copyOf(sampler.result());
+        });
+    }
+
+    private record Key(String symbol, CandleInterval interval, DownsampleMethod method, int points, StoredRange range) {
+    }
+}
@@ -0,0 +1,21 @@
+package digital.asset.manager.application.chart.downsample;
+
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.store.CandleVisitor;
+
+import java.util.List;
+
+/**
+ * 저장소를 한 번 순회하며 봉을 줄이는 방문자. 순회가 끝난 뒤 {@link #result()}로 결과를 꺼낸다.
+ */
+interface CandleSampler extends CandleVisitor {
+
+    List<Candle> result();
+
+    static CandleSampler of(DownsampleMethod method, long total, int maxPoints) {
+        return switch (method) {
+            case MINMAX -> new MinMaxSampler(total, maxPoints);
+            case LTTB -> new LttbSampler(total, maxPoints);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package digital.asset.manager.application.chart.downsample;
+
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+@AllArgsConstructor
+public enum DownsampleMethod {
+    // 연속한 봉을 묶어 더 긴 봉으로 다시 집계 (시가/고가/저가/종가/거래량 보존)
+    MINMAX("minmax"),
+    // Largest-Triangle-Three-Buckets. 종가 기준으로 구간마다 모양을 가장 잘 남기는 실제 봉 하나를 고른다
+    LTTB("lttb");
+
+    private final String code;
+
+    public static DownsampleMethod of(String code) {
+        return Arrays.stream(values())
+                .filter(method -> method.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new ApplicationException(ErrorCode.INVALID_REQUEST, "지원하지 않는 다운샘플링 방식: " + code));
+    }
+}
@@ -0,0 +1,94 @@
+package digital.asset.manager.application.chart.downsample;
+
+import digital.asset.manager.application.chart.candle.Candle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets (종가 기준)
+ * 첫 봉과 마지막 봉은 그대로 두고, 나머지 total - 2개를 maxPoints - 2개 구간으로 나눠 구간마다 봉 하나를 고른다.
+ * 고르는 기준은 (직전에 고른 봉, 후보, 다음 구간 평균)이 만드는 삼각형 넓이가 가장 큰 봉이다.
+ * 다음 구간 평균이 필요하므로 현재 구간과 다음 구간 두 개만 버퍼에 들고 순회한다.
+ */
+class LttbSampler implements CandleSampler {
+
+    private final int maxPoints;
+    private final double every;
+    private final List<Candle> result;
+
+    private CandleBuffer current = new CandleBuffer();
+    private CandleBuffer next = new CandleBuffer();
+    private long index;
+    private int bucket;
+    private long selectedTime, selectedClose;
+
+    LttbSampler(long total, int maxPoints) {
+        this.maxPoints = maxPoints;
+        this.every = (double) (total - 2) / (maxPoints - 2);
+        this.result = new ArrayList<>(maxPoints);
+    }
+
+    @Override
+    public boolean visit(long openTime, long open, long high, long low, long close, long volume, int trades) {
+        long i = index++;
+        if (i == 0) {
+            select(new Candle(openTime, open, high, low, close, volume, trades));
+            return true;
+        }
+        // 구간 k는 (k * every, (k + 1) * every] 번째 봉
+        int target = (int) Math.min(maxPoints - 3, (long) Math.ceil(i / every) - 1);
+        if (target > bucket + 1) {
+            // 다음 구간이 다 찼으므로 현재 구간에서 고른다
+            selectFrom(current, next.averageTime(), next.averageClose());
+            CandleBuffer done = current;
+            current = next;
+            next = done;
+            next.clear();
+            bucket++;
+        }
+        // 마지막 봉도 일단 구간에 넣고, 순회가 끝나면 빼낸다
+        (target == bucket ? current : next).add(openTime, open, high, low, close, volume, trades);
+        return true;
+    }
+
+    @Override
+    public List<Candle> result() {
+        if (index <= 1) {
+            return result;
+        }
+        Candle last = (next.isEmpty() ? current : next).removeLast();
+        if (!next.isEmpty()) {
+            selectFrom(current, next.averageTime(), next.averageClose());
+            selectFrom(next, last.openTime(), last.close());
+        } else if (!current.isEmpty()) {
+            selectFrom(current, last.openTime(), last.close());
+        }
+        result.add(last);
+        return result;
+    }
+
+    private void selectFrom(CandleBuffer buffer, double nextTime, double nextClose) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        int best = 0;
+        double bestArea = -1;
+        for (int j = 0; j < buffer.size(); j++) {
+            // 넓이의 2배 (비교만 하므로 절반은 생략)
+            double area = Math.abs((selectedTime - nextTime) * ((double) buffer.close(j) - selectedClose)
+                    - ((double) selectedTime - buffer.openTime(j)) * (nextClose - selectedClose));
+            if (area > bestArea) {
+                bestArea = area;
+                best = j;
+            }
+        }
+        select(buffer.get(best));
+    }
+
+    private void select(Candle candle) {
+        result.add(candle);
+        selectedTime = candle.openTime();
+        selectedClose = candle.close();
+    }
+}
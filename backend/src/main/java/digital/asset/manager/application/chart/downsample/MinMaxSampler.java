@@ -0,0 +1,62 @@
+package digital.asset.manager.application.chart.downsample;
+
+import digital.asset.manager.application.chart.candle.Candle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 연속한 봉 total개를 maxPoints개 구간으로 나눠 구간마다 봉 하나로 다시 집계한다.
+ * (시가 = 첫 봉 시가, 고가/저가 = 최고/최저, 종가 = 마지막 봉 종가, 거래량/체결 수 = 합) 구간 하나만큼의 상태만 들고 있다.
+ */
+class MinMaxSampler implements CandleSampler {
+
+    private final long total;
+    private final int maxPoints;
+    private final List<Candle> result;
+
+    private long index;
+    private int bucket = -1;
+    private long openTime, open, high, low, close, volume;
+    private int trades;
+
+    MinMaxSampler(long total, int maxPoints) {
+        this.total = total;
+        this.maxPoints = maxPoints;
+        this.result = new ArrayList<>(maxPoints);
+    }
+
+    @Override
+    public boolean visit(long openTime, long open, long high, long low, long close, long volume, int trades) {
+        int current = (int) Math.min(maxPoints - 1, index++ * maxPoints / total);
+        if (current != bucket) {
+            flush();
+            bucket = current;
+            this.openTime = openTime;
+            this.open = open;
+            this.high = high;
+            this.low = low;
+            this.volume = 0;
+            this.trades = 0;
+        }
+        this.high = Math.max(this.high, high);
+        this.low = Math.min(this.low, low);
+        this.close = close;
+        this.volume += volume;
+        this.trades += trades;
+        return true;
+    }
+
+    @Override
+    public List<Candle> result() {
+        flush();
+        return result;
+    }
+
+    private void flush() {
+        if (bucket >= 0) {
+            result.add(new Candle(openTime, open, high, low, close, volume, trades));
+            bucket = -1;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+public record CandleResponse(
+        long openTime,
+        String open,
+        String high,
+        String low,
+        String close,
+        String volume,
+        int trades
+) {
+    public static CandleResponse fromCandle(Candle candle) {
+        return new CandleResponse(
+                candle.openTime(),
+                FixedPoint.toPlainString(candle.open()),
+                FixedPoint.toPlainString(candle.high()),
+                FixedPoint.toPlainString(candle.low()),
+                FixedPoint.toPlainString(candle.close()),
+                FixedPoint.toPlainString(candle.volume()),
+                candle.trades()
+        );
+    }
+}
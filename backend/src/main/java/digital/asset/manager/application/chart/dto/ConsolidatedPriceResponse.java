@@ -0,0 +1,60 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.consolidated.ConsolidatedQuote;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.util.List;
+
+public record ConsolidatedPriceResponse(
+        String asset,
+        String bestBid,
+        String bestBidExchange,
+        String bestAsk,
+        String bestAskExchange,
+        String composite,
+        double fxRate,
+        List<VenuePriceResponse> venues,
+        long updatedAt,
+        long sequence
+) {
+    public record VenuePriceResponse(
+            String symbol,
+            String exchange,
+            String quoteAsset,
+            String price,
+            String usdPrice,
+            double weight,
+            Double premium,
+            long updatedAt,
+            boolean stale
+    ) {
+        static VenuePriceResponse fromVenuePrice(ConsolidatedQuote.VenuePrice venue) {
+            return new VenuePriceResponse(
+                    venue.symbol(),
+                    venue.exchange(),
+                    venue.quoteAsset(),
+                    FixedPoint.toPlainString(venue.price()),
+                    venue.usdPrice() == 0 ? null : FixedPoint.toPlainString(venue.usdPrice()),
+                    venue.weight(),
+                    Double.isNaN(venue.premium()) ? null : venue.premium(),
+                    venue.updatedAt(),
+                    venue.stale()
+            );
+        }
+    }
+
+    public static ConsolidatedPriceResponse fromQuote(ConsolidatedQuote quote) {
+        return new ConsolidatedPriceResponse(
+                quote.asset(),
+                quote.bestBidExchange() == null ? null : FixedPoint.toPlainString(quote.bestBid()),
+                quote.bestBidExchange(),
+                quote.bestAskExchange() == null ? null : FixedPoint.toPlainString(quote.bestAsk()),
+                quote.bestAskExchange(),
+                quote.composite() == 0 ? null : FixedPoint.toPlainString(quote.composite()),
+                quote.fxRate(),
+                quote.venues().stream().map(VenuePriceResponse::fromVenuePrice).toList(),
+                quote.updatedAt(),
+                quote.sequence()
+        );
+    }
+}
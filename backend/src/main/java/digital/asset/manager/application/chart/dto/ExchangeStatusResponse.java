@@ -0,0 +1,22 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.exchange.ExchangeAdapter;
+import digital.asset.manager.application.chart.exchange.ExchangeHealth;
+
+public record ExchangeStatusResponse(
+        String exchange,
+        ExchangeHealth health,
+        int connections,
+        int openConnections,
+        long symbols
+) {
+    public static ExchangeStatusResponse of(ExchangeAdapter adapter, long symbols) {
+        return new ExchangeStatusResponse(
+                adapter.getName(),
+                adapter.getHealth(),
+                adapter.getActiveConnections(),
+                adapter.getOpenConnections(),
+                symbols
+        );
+    }
+}
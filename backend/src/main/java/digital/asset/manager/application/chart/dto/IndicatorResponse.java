@@ -0,0 +1,23 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.indicator.IndicatorPoint;
+import digital.asset.manager.application.chart.indicator.IndicatorSpec;
+
+import java.util.List;
+
+/**
+ * @param indicator 정규화한 지표 표기 ("macd:12:26:9")
+ * @param fields values 안 값의 이름과 순서
+ */
+public record IndicatorResponse(
+        String symbol,
+        String interval,
+        String indicator,
+        List<String> fields,
+        List<IndicatorPoint> values
+) {
+    public static IndicatorResponse of(String symbol, CandleInterval interval, IndicatorSpec spec, List<IndicatorPoint> values) {
+        return new IndicatorResponse(symbol, interval.getCode(), spec.key(), spec.type().getFields(), values);
+    }
+}
@@ -0,0 +1,39 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.orderbook.OrderBookView;
+import digital.asset.manager.application.chart.orderbook.PriceLevel;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.util.List;
+
+public record OrderBookResponse(
+        String symbol,
+        boolean synced,
+        long lastUpdateId,
+        long eventTime,
+        String bestBid,
+        String bestAsk,
+        String spread,
+        List<Level> bids,
+        List<Level> asks
+) {
+    public record Level(String price, String quantity) {
+        static Level fromPriceLevel(PriceLevel level) {
+            return new Level(FixedPoint.toPlainString(level.price()), FixedPoint.toPlainString(level.quantity()));
+        }
+    }
+
+    public static OrderBookResponse fromView(OrderBookView view) {
+        return new OrderBookResponse(
+                view.symbol(),
+                view.synced(),
+                view.lastUpdateId(),
+                view.eventTime(),
+                FixedPoint.toPlainString(view.bestBid()),
+                FixedPoint.toPlainString(view.bestAsk()),
+                FixedPoint.toPlainString(view.spread()),
+                view.bids().stream().map(Level::fromPriceLevel).toList(),
+                view.asks().stream().map(Level::fromPriceLevel).toList()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.price.PriceSnapshot;
+
+import java.util.List;
+
+/**
+ * 최신가
+ * @param sequence 노드 최신가 저장소의 갱신 횟수. Redis에서 읽은 값이면 0
+ * @param eventTime 거래소 이벤트 시각(ms). Redis에서 읽은 값이면 0
+ */
+public record PriceResponse(
+        String symbol,
+        String price,
+        long sequence,
+        long eventTime
+) {
+    public static PriceResponse fromSnapshot(PriceSnapshot snapshot) {
+        return new PriceResponse(snapshot.symbol(), snapshot.plainPrice(), snapshot.sequence(), snapshot.eventTime());
+    }
+
+    public static PriceResponse fromStored(String symbol, String price) {
+        return new PriceResponse(symbol, price, 0, 0);
+    }
+
+    /**
+     * 응답 버전 (ETag용). 심볼, sequence, 가격이 모두 같으면 같은 값이라 본문을 만들지 않고 비교할 수 있다.
+     */
+    public static String version(List<PriceResponse> prices) {
+        long hash = 1125899906842597L;
+        for (PriceResponse price : prices) {
+            hash = 31 * hash + price.symbol().hashCode();
+            hash = 31 * hash + price.sequence();
+            hash = 31 * hash + price.price().hashCode();
+        }
+        return Long.toHexString(hash);
+    }
+}
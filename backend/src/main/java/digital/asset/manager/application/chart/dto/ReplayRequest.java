@@ -0,0 +1,11 @@
+package digital.asset.manager.application.chart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ReplayRequest(
+        @Schema(description = "녹화 디렉터리 안의 파일 이름", example = "feed-20250101-090000.mdr")
+        String file,
+        @Schema(description = "재생 배속 (1: 녹화 간격 그대로, N: N배속, 0: 최대 속도)", example = "1")
+        double speed
+) {
+}
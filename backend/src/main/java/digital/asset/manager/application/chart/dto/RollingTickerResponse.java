@@ -0,0 +1,45 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.chart.window.RollingTickerSummary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record RollingTickerResponse(
+        String symbol,
+        String last,
+        String open,
+        String high,
+        String low,
+        String change,
+        String changePercent,
+        String vwap,
+        String volume,
+        String quoteVolume,
+        long count,
+        long openTime,
+        long closeTime
+) {
+    public static RollingTickerResponse fromSummary(RollingTickerSummary summary) {
+        return new RollingTickerResponse(
+                summary.symbol(),
+                FixedPoint.toPlainString(summary.last()),
+                FixedPoint.toPlainString(summary.open()),
+                FixedPoint.toPlainString(summary.high()),
+                FixedPoint.toPlainString(summary.low()),
+                FixedPoint.toPlainString(summary.change()),
+                decimal(summary.changePercent(), 2),
+                FixedPoint.toPlainString(summary.vwap()),
+                decimal(summary.volume(), FixedPoint.SCALE),
+                decimal(summary.quoteVolume(), FixedPoint.SCALE),
+                summary.count(),
+                summary.openTime(),
+                summary.closeTime()
+        );
+    }
+
+    private static String decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+}
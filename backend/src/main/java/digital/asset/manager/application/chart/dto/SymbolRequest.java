@@ -0,0 +1,9 @@
+package digital.asset.manager.application.chart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SymbolRequest(
+        @Schema(description = "바이낸스 심볼", example = "ETHUSDT")
+        String symbol
+) {
+}
@@ -0,0 +1,36 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.ingest.SymbolState;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+public record SymbolStateResponse(
+        String symbol,
+        String exchange,
+        int shardId,
+        long receivedCount,
+        long lastEventTime,
+        String lastPrice,
+        long lastTradeId,
+        long gapCount,
+        long backfilledCount,
+        String intakePolicy,
+        long shedCount,
+        long backpressureCount
+) {
+    public static SymbolStateResponse fromState(SymbolState state) {
+        return new SymbolStateResponse(
+                state.getSymbol(),
+                state.getExchange(),
+                state.getShardId(),
+                state.getReceivedCount().get(),
+                state.getLastEventTime(),
+                FixedPoint.toPlainString(state.getLastPrice()),
+                state.getLastTradeId(),
+                state.getGapCount().get(),
+                state.getBackfilledCount().get(),
+                state.getPolicy().getCode(),
+                state.getShedCount().get(),
+                state.getBackpressureCount().get()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.history.Tick;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+public record TickResponse(
+        String id,
+        String price,
+        String quantity,
+        long tradeId,
+        long tradeTime
+) {
+    public static TickResponse fromTick(Tick tick) {
+        return new TickResponse(
+                tick.id(),
+                FixedPoint.toPlainString(tick.price()),
+                FixedPoint.toPlainString(tick.quantity()),
+                tick.tradeId(),
+                tick.tradeTime()
+        );
+    }
+}
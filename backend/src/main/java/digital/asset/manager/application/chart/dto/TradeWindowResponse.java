@@ -0,0 +1,32 @@
+package digital.asset.manager.application.chart.dto;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.chart.window.TradeWindowSummary;
+
+public record TradeWindowResponse(
+        String symbol,
+        long windowStart,
+        long windowMs,
+        String last,
+        String vwap,
+        long count,
+        String buyVolume,
+        String sellVolume,
+        String high,
+        String low
+) {
+    public static TradeWindowResponse fromSummary(TradeWindowSummary summary) {
+        return new TradeWindowResponse(
+                summary.symbol(),
+                summary.windowStart(),
+                summary.windowMs(),
+                FixedPoint.toPlainString(summary.last()),
+                FixedPoint.toPlainString(summary.vwap()),
+                summary.count(),
+                FixedPoint.toPlainString(summary.buyVolume()),
+                FixedPoint.toPlainString(summary.sellVolume()),
+                FixedPoint.toPlainString(summary.high()),
+                FixedPoint.toPlainString(summary.low())
+        );
+    }
+}
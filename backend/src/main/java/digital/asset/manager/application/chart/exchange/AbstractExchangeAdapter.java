@@ -0,0 +1,226 @@
+package digital.asset.manager.application.chart.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.asset.manager.application.chart.ingest.StreamProtocol;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 거래소 어댑터 공통 부분
+ * 키 접두어, 공통 표기 분해(기준/호가 자산), REST 호출과 연결 상태 집계를 맡고,
+ * 하위 클래스는 거래소별 구독 방식, 체결 디코더, 현재가 응답 해석만 구현한다.
+ */
+public abstract class AbstractExchangeAdapter implements ExchangeAdapter {
+
+    private static final Duration REST_TIMEOUT = Duration.ofSeconds(3);
+    // 이 시간 안에 REST 호출이 실패했으면 DEGRADED로 본다
+    private static final long REST_FAILURE_WINDOW_MS = 60_000;
+
+    @Getter
+    private final String name;
+    private final String keyPrefix;
+    // 공통 표기에서 호가 자산을 찾을 때 쓰는 목록 (긴 것부터 맞춰 본다)
+    private final List<String> quoteAssets;
+    @Getter
+    private final int connections;
+    @Getter
+    private final int maxStreamsPerConnection;
+    protected final String streamUrl;
+    protected final String restUrl;
+    protected final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(REST_TIMEOUT).build();
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private volatile long lastRestFailureAt;
+
+    /**
+     * @param keyPrefix 저장소 키 접두어 (바이낸스는 빈 문자열)
+     */
+    protected AbstractExchangeAdapter(String name, String keyPrefix, List<String> quoteAssets, String streamUrl,
+                                      String restUrl, int connections, int maxStreamsPerConnection) {
+        this.name = name;
+        this.keyPrefix = keyPrefix;
+        this.quoteAssets = quoteAssets;
+        this.streamUrl = streamUrl;
+        this.restUrl = restUrl;
+        this.connections = Math.max(1, connections);
+        this.maxStreamsPerConnection = Math.max(1, maxStreamsPerConnection);
+    }
+
+    @Override
+    public String key(String symbol) {
+        return keyPrefix + symbol;
+    }
+
+    /**
+     * 구분자가 있으면 base/quote(BTC/KRW, BTC_KRW) 순서로 보고, 없으면 이미 공통 표기라고 본다.
+     * 업비트처럼 quote가 앞에 오는 거래소는 재정의한다.
+     */
+    @Override
+    public String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT).replaceAll("[-_/]", "");
+    }
+
+    @Override
+    public String baseAsset(String symbol) {
+        return split(symbol)[0];
+    }
+
+    @Override
+    public String quoteAsset(String symbol) {
+        return split(symbol)[1];
+    }
+
+    @Override
+    public StreamProtocol newProtocol() {
+        activeConnections.incrementAndGet();
+        return new TrackedProtocol(createProtocol());
+    }
+
+    protected abstract StreamProtocol createProtocol();
+
+    @Override
+    public long fetchPrice(String symbol) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(tickerUri(toExchangeSymbol(symbol)))
+                .timeout(REST_TIMEOUT)
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("현재가 조회 실패 (" + name + " " + symbol + "): HTTP " + response.statusCode());
+            }
+            return decodeTicker(objectMapper.readTree(response.body()));
+        } catch (IOException | RuntimeException e) {
+            lastRestFailureAt = System.currentTimeMillis();
+            throw e;
+        }
+    }
+
+    @Override
+    public Mono<Long> fetchPrice(String symbol, WebClient webClient) {
+        return Mono.defer(() -> webClient.get()
+                        .uri(tickerUri(toExchangeSymbol(symbol)))
+                        .retrieve()
+                        .bodyToMono(String.class))
+                .timeout(REST_TIMEOUT)
+                .<Long>handle((body, sink) -> {
+                    try {
+                        sink.next(decodeTicker(objectMapper.readTree(body)));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                })
+                .doOnError(e -> lastRestFailureAt = System.currentTimeMillis());
+    }
+
+    /**
+     * 현재가 REST 주소
+     */
+    protected abstract URI tickerUri(String exchangeSymbol);
+
+    /**
+     * 현재가 응답에서 가격을 꺼낸다. (고정소수점)
+     */
+    protected abstract long decodeTicker(JsonNode body) throws IOException;
+
+    @Override
+    public ExchangeHealth getHealth() {
+        int active = activeConnections.get();
+        int open = openConnections.get();
+        if (active == 0) {
+            return ExchangeHealth.IDLE;
+        }
+        if (open == 0) {
+            return ExchangeHealth.DOWN;
+        }
+        if (open < active || System.currentTimeMillis() - lastRestFailureAt < REST_FAILURE_WINDOW_MS) {
+            return ExchangeHealth.DEGRADED;
+        }
+        return ExchangeHealth.UP;
+    }
+
+    @Override
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /**
+     * 공통 표기를 기준/호가 자산으로 나눈다. (BTCKRW -> [BTC, KRW])
+     */
+    protected String[] split(String symbol) {
+        for (String quote : quoteAssets) {
+            if (symbol.length() > quote.length() && symbol.endsWith(quote)) {
+                return new String[]{symbol.substring(0, symbol.length() - quote.length()), quote};
+            }
+        }
+        throw new ApplicationException(ErrorCode.INVALID_REQUEST, name + "에서 지원하지 않는 마켓: " + symbol);
+    }
+
+    protected static String orDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    /**
+     * 연결 열림/닫힘을 세는 래퍼
+     */
+    private class TrackedProtocol implements StreamProtocol {
+
+        private final StreamProtocol delegate;
+
+        TrackedProtocol(StreamProtocol delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String connectUrl(Set<String> symbols) {
+            return delegate.connectUrl(symbols);
+        }
+
+        @Override
+        public List<String> onOpen(Set<String> symbols, Set<String> connected) {
+            return delegate.onOpen(symbols, connected);
+        }
+
+        @Override
+        public List<String> subscribe(Set<String> symbols, String symbol) {
+            return delegate.subscribe(symbols, symbol);
+        }
+
+        @Override
+        public List<String> unsubscribe(Set<String> symbols, String symbol) {
+            return delegate.unsubscribe(symbols, symbol);
+        }
+
+        @Override
+        public void onConnected() {
+            openConnections.incrementAndGet();
+        }
+
+        @Override
+        public void onDisconnected() {
+            openConnections.decrementAndGet();
+        }
+    }
+}
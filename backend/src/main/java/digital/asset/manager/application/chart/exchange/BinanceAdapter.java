@@ -0,0 +1,69 @@
+package digital.asset.manager.application.chart.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import digital.asset.manager.application.chart.ingest.StreamProtocol;
+import digital.asset.manager.application.chart.ingest.SymbolState;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeDecoder;
+import digital.asset.manager.application.chart.ingest.TradeFrameDecoder;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 바이낸스 어댑터
+ * combined stream(?streams=btcusdt@trade/...)으로 구독하고, 체결 id가 심볼별로 연속이라 끊김 보충(aggTrades) 대상이다.
+ * 연결 설정은 기존 market-data.stream-url, rest-url, connections, max-streams-per-connection 을 그대로 쓴다.
+ */
+@Component
+public class BinanceAdapter extends AbstractExchangeAdapter {
+
+    public static final String NAME = "binance";
+
+    public BinanceAdapter(MarketDataProperties properties) {
+        super(NAME, "", List.of("USDT", "USDC", "FDUSD", "BTC", "ETH", "BNB", "TRY", "EUR"),
+                properties.getStreamUrl(), properties.getRestUrl(),
+                properties.getConnections(), properties.getMaxStreamsPerConnection());
+    }
+
+    @Override
+    public String toExchangeSymbol(String symbol) {
+        return symbol;
+    }
+
+    @Override
+    public boolean isSequential() {
+        return true;
+    }
+
+    @Override
+    protected StreamProtocol createProtocol() {
+        return StreamProtocol.combined(streamUrl, SymbolState::streamName);
+    }
+
+    @Override
+    public TradeDecoder newDecoder(SymbolTable symbolTable) {
+        return new TradeFrameDecoder(symbolTable);
+    }
+
+    @Override
+    protected URI tickerUri(String exchangeSymbol) {
+        return URI.create(restUrl + "/api/v3/ticker/price?symbol=" + exchangeSymbol);
+    }
+
+    /**
+     * {"symbol":"BTCUSDT","price":"97000.01000000"}
+     */
+    @Override
+    protected long decodeTicker(JsonNode body) throws IOException {
+        JsonNode price = body.get("price");
+        if (price == null) {
+            throw new IOException("바이낸스 현재가 응답에 price가 없습니다: " + body);
+        }
+        return FixedPoint.parse(price.asText());
+    }
+}
@@ -0,0 +1,89 @@
+package digital.asset.manager.application.chart.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import digital.asset.manager.application.chart.ingest.StreamProtocol;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeDecoder;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 빗썸 어댑터
+ * 고정 URL에 연결한 뒤 {"type":"transaction","symbols":["BTC_KRW",..]}로 구독한다.
+ * 구독 해지 메시지가 없어서 해지한 심볼은 엔진이 버리고, 다음 재연결 때 목록에서 빠진다.
+ * 체결 id가 없으므로 끊김 보충은 하지 않는다.
+ */
+@Component
+public class BithumbAdapter extends AbstractExchangeAdapter {
+
+    public static final String NAME = "bithumb";
+    private static final String DEFAULT_STREAM_URL = "wss://pubwss.bithumb.com/pub/ws";
+    private static final String DEFAULT_REST_URL = "https://api.bithumb.com";
+
+    public BithumbAdapter(MarketDataProperties properties) {
+        this(properties.exchange(NAME));
+    }
+
+    private BithumbAdapter(MarketDataProperties.Venue venue) {
+        super(NAME, NAME.toUpperCase(Locale.ROOT) + ":", List.of("USDT", "KRW", "BTC"),
+                orDefault(venue.getStreamUrl(), DEFAULT_STREAM_URL), orDefault(venue.getRestUrl(), DEFAULT_REST_URL),
+                venue.getConnections(), venue.getMaxStreamsPerConnection());
+    }
+
+    /**
+     * BTCKRW -> BTC_KRW
+     */
+    @Override
+    public String toExchangeSymbol(String symbol) {
+        String[] assets = split(symbol);
+        return assets[0] + "_" + assets[1];
+    }
+
+    @Override
+    public boolean isSequential() {
+        return false;
+    }
+
+    @Override
+    protected StreamProtocol createProtocol() {
+        return new ListSubscriptionProtocol(streamUrl, this::subscribeMessage, false);
+    }
+
+    @Override
+    public TradeDecoder newDecoder(SymbolTable symbolTable) {
+        return new BithumbTradeDecoder(symbolTable, key(""));
+    }
+
+    @Override
+    protected URI tickerUri(String exchangeSymbol) {
+        return URI.create(restUrl + "/public/ticker/" + exchangeSymbol);
+    }
+
+    /**
+     * {"status":"0000","data":{"closing_price":"97000000",...}}
+     */
+    @Override
+    protected long decodeTicker(JsonNode body) throws IOException {
+        JsonNode price = body.path("data").get("closing_price");
+        if (!"0000".equals(body.path("status").asText()) || price == null) {
+            throw new IOException("빗썸 현재가 응답 오류: " + body);
+        }
+        return FixedPoint.parse(price.asText());
+    }
+
+    private String subscribeMessage(Set<String> symbols) {
+        ObjectNode request = objectMapper.createObjectNode().put("type", "transaction");
+        ArrayNode list = request.putArray("symbols");
+        symbols.stream().sorted().map(this::toExchangeSymbol).forEach(list::add);
+        return request.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package digital.asset.manager.application.chart.exchange;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+
+/**
+ * 빗썸 체결(transaction) 디코더
+ * {"type":"transaction","content":{"list":[{"symbol":"BTC_KRW","buySellGb":"1","contPrice":"97000000",
+ *  "contQty":"0.0123","contAmt":"1193100.00","contDtm":"2025-01-01 12:00:00.123456","updn":"dn"}, ...]}}
+ * 프레임 하나에 체결이 여러 건 오며, 체결 id가 없고 체결 시각은 KST 문자열이다.
+ * content.list 원소만 읽으므로 연결/구독 응답({"status":"0000",...})과 다른 타입 메시지는 자연히 걸러진다.
+ * buySellGb는 taker 방향(1 = 매도 체결, 2 = 매수 체결)이다.
+ */
+class BithumbTradeDecoder extends VenueTradeDecoder {
+
+    private static final long KST_OFFSET_MS = 9 * 3_600_000L;
+    // 객체 깊이: 최상위(0) > content(1) > list 원소(2)
+    private static final int TRADE_DEPTH = 2;
+
+    private int symbolOffset, symbolLength;
+    private int priceOffset, priceLength;
+    private int quantityOffset, quantityLength;
+    private int timeOffset, timeLength;
+    private boolean sell;
+
+    BithumbTradeDecoder(SymbolTable symbolTable, String keyPrefix) {
+        super(symbolTable, keyPrefix);
+    }
+
+    @Override
+    protected void beginFrame() {
+        clearTrade();
+    }
+
+    @Override
+    protected boolean descend(int depth, int keyOffset, int keyLength) {
+        return (depth == 0 && regionEquals(keyOffset, keyLength, "content"))
+                || (depth == 1 && regionEquals(keyOffset, keyLength, "list"));
+    }
+
+    @Override
+    protected void onValue(int depth, int keyOffset, int keyLength, int valueOffset, int valueLength) {
+        if (depth != TRADE_DEPTH) {
+            return;
+        }
+        if (regionEquals(keyOffset, keyLength, "symbol")) {
+            symbolOffset = valueOffset;
+            symbolLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "contPrice")) {
+            priceOffset = valueOffset;
+            priceLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "contQty")) {
+            quantityOffset = valueOffset;
+            quantityLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "contDtm")) {
+            timeOffset = valueOffset;
+            timeLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "buySellGb")) {
+            sell = valueLength == 1 && buf[valueOffset] == '1';
+        }
+    }
+
+    @Override
+    protected void onObjectEnd(int depth) {
+        if (depth != TRADE_DEPTH) {
+            return;
+        }
+        try {
+            if (symbolLength == 0 || priceLength == 0) {
+                return;
+            }
+            // BTC_KRW: 기준 자산이 앞에 온다
+            int underscore = indexOf(symbolOffset, symbolLength, '_');
+            if (underscore < 0) {
+                return;
+            }
+            int symbolId = lookup(symbolOffset, underscore - symbolOffset,
+                    underscore + 1, symbolOffset + symbolLength - underscore - 1);
+            if (symbolId == SymbolTable.NOT_FOUND) {
+                return;
+            }
+            long time = timeLength >= 19 ? epochMillis(timeOffset, timeLength) : System.currentTimeMillis();
+            emit(symbolId, fixed(priceOffset, priceLength), fixed(quantityOffset, quantityLength), 0, time, time, sell);
+        } finally {
+            clearTrade();
+        }
+    }
+
+    private void clearTrade() {
+        symbolLength = priceLength = quantityLength = timeLength = 0;
+        sell = false;
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss[.SSSSSS]" (KST) -> epoch ms
+     */
+    private long epochMillis(int offset, int len) {
+        int year = (int) parseLong(offset, 4);
+        int month = (int) parseLong(offset + 5, 2);
+        int day = (int) parseLong(offset + 8, 2);
+        long seconds = parseLong(offset + 11, 2) * 3600 + parseLong(offset + 14, 2) * 60 + parseLong(offset + 17, 2);
+        long millis = 0;
+        int digits = 0;
+        for (int i = offset + 20; i < offset + len && digits < 3; i++, digits++) {
+            millis = millis * 10 + (buf[i] - '0');
+        }
+        while (digits++ < 3) {
+            millis *= 10;
+        }
+        return (daysFromCivil(year, month, day) * 86_400 + seconds) * 1000 + millis - KST_OFFSET_MS;
+    }
+
+    /**
+     * 1970-01-01부터의 일 수 (그레고리력)
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        long era = Math.floorDiv(year, 400);
+        long yearOfEra = year - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,87 @@
+package digital.asset.manager.application.chart.exchange;
+
+import digital.asset.manager.application.chart.ingest.StreamProtocol;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * 거래소 어댑터
+ * 거래소마다 다른 웹소켓 구독 방식/체결 메시지, REST 시세 응답, 심볼 표기를 감싸서
+ * 수집 엔진({@link digital.asset.manager.application.chart.ingest.MarketDataIngestEngine})이 하나의 경로로 처리하게 한다.
+ *
+ * 심볼은 기준 자산 + 호가 자산의 공통 표기(BTCKRW, BTCUSDT)로 다루고, 최신가 저장소 등 수집 이후 단계에서는
+ * 거래소 접두어를 붙인 키(UPBIT:BTCKRW)를 쓴다. 바이낸스는 기존 키와 맞추기 위해 접두어 없이 BTCUSDT 그대로다.
+ */
+public interface ExchangeAdapter {
+
+    /**
+     * 설정/접두어에 쓰는 이름 (binance, upbit, bithumb)
+     */
+    String getName();
+
+    /**
+     * 공통 표기 심볼 -> 저장소 키 (ex. BTCKRW -> UPBIT:BTCKRW)
+     */
+    String key(String symbol);
+
+    /**
+     * 거래소 표기(KRW-BTC, BTC_KRW, btc/krw 등)나 공통 표기를 공통 표기(BTCKRW)로 바꾼다.
+     */
+    String normalize(String symbol);
+
+    /**
+     * 공통 표기 -> 거래소 표기 (구독 메시지, REST 요청용)
+     */
+    String toExchangeSymbol(String symbol);
+
+    /**
+     * 공통 표기의 기준 자산 (BTCKRW -> BTC)
+     */
+    String baseAsset(String symbol);
+
+    /**
+     * 공통 표기의 호가 자산 (BTCKRW -> KRW)
+     */
+    String quoteAsset(String symbol);
+
+    /**
+     * 체결 id가 심볼별로 1씩 증가하는지 여부. true인 거래소만 끊김 감지와 REST 보충을 한다.
+     */
+    boolean isSequential();
+
+    int getConnections();
+
+    int getMaxStreamsPerConnection();
+
+    /**
+     * 웹소켓 연결(shard)마다 하나씩 만든다.
+     */
+    StreamProtocol newProtocol();
+
+    /**
+     * 웹소켓 연결(shard)마다 하나씩 만든다. 등록된 키({@link #key})의 심볼만 디코딩한다.
+     */
+    TradeDecoder newDecoder(SymbolTable symbolTable);
+
+    /**
+     * REST 현재가 조회
+     * @return 고정소수점 가격
+     */
+    long fetchPrice(String symbol) throws IOException, InterruptedException;
+
+    /**
+     * REST 현재가 비동기 조회 (응답을 기다리는 동안 스레드를 잡지 않는다)
+     * @return 고정소수점 가격
+     */
+    Mono<Long> fetchPrice(String symbol, WebClient webClient);
+
+    ExchangeHealth getHealth();
+
+    int getOpenConnections();
+
+    int getActiveConnections();
+}
@@ -0,0 +1,12 @@
+package digital.asset.manager.application.chart.exchange;
+
+/**
+ * 거래소 연결 상태
+ * - UP: 모든 연결이 열려 있고 최근 REST 호출도 성공
+ * - DEGRADED: 일부 연결만 열려 있거나 최근 REST 호출이 실패
+ * - DOWN: 구독 중인데 열린 연결이 없음
+ * - IDLE: 구독 중인 심볼이 없어 연결하지 않음
+ */
+public enum ExchangeHealth {
+    UP, DEGRADED, DOWN, IDLE
+}
@@ -0,0 +1,56 @@
+package digital.asset.manager.application.chart.exchange;
+
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 등록된 거래소 어댑터 목록
+ * 사용자가 넘긴 심볼(BTCUSDT, UPBIT:BTCKRW, upbit:KRW-BTC 등)을 어댑터와 저장소 키로 풀어 준다.
+ * 접두어가 없으면 바이낸스로 본다. 새 거래소는 {@link ExchangeAdapter} 빈을 추가하면 된다.
+ */
+@Component
+public class ExchangeRegistry {
+
+    private final Map<String, ExchangeAdapter> adapters = new LinkedHashMap<>();
+
+    public ExchangeRegistry(List<ExchangeAdapter> adapters) {
+        adapters.forEach(adapter -> this.adapters.put(adapter.getName(), adapter));
+    }
+
+    public Instrument resolve(String symbol) {
+        String trimmed = symbol.trim();
+        int colon = trimmed.indexOf(':');
+        ExchangeAdapter adapter = colon < 0 ? getDefault() : get(trimmed.substring(0, colon));
+        String normalized = adapter.normalize(colon < 0 ? trimmed : trimmed.substring(colon + 1));
+        return new Instrument(adapter, normalized, adapter.key(normalized));
+    }
+
+    /**
+     * 키만 필요한 경우 (ex. upbit:KRW-BTC -> UPBIT:BTCKRW)
+     */
+    public String key(String symbol) {
+        return resolve(symbol).key();
+    }
+
+    public ExchangeAdapter get(String name) {
+        ExchangeAdapter adapter = adapters.get(name.trim().toLowerCase(Locale.ROOT));
+        if (adapter == null) {
+            throw new ApplicationException(ErrorCode.EXCHANGE_NOT_SUPPORTED, name);
+        }
+        return adapter;
+    }
+
+    public ExchangeAdapter getDefault() {
+        return get(BinanceAdapter.NAME);
+    }
+
+    public List<ExchangeAdapter> getAdapters() {
+        return List.copyOf(adapters.values());
+    }
+}
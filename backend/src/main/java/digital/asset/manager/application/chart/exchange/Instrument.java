@@ -0,0 +1,13 @@
+package digital.asset.manager.application.chart.exchange;
+
+/**
+ * 거래소 + 심볼
+ * @param symbol 공통 표기 (BTCKRW)
+ * @param key 최신가 저장소/Redis/봉 등에서 쓰는 키 (UPBIT:BTCKRW, 바이낸스는 BTCUSDT)
+ */
+public record Instrument(
+        ExchangeAdapter exchange,
+        String symbol,
+        String key
+) {
+}
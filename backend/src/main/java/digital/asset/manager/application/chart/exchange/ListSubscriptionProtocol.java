@@ -0,0 +1,52 @@
+package digital.asset.manager.application.chart.exchange;
+
+import digital.asset.manager.application.chart.ingest.StreamProtocol;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 연결 후 구독 메시지에 심볼 목록 전체를 담아 보내는 방식 (업비트, 빗썸)
+ * 연결 URL은 고정이고, 구독이 바뀔 때마다 바뀐 뒤의 전체 목록으로 다시 요청한다.
+ */
+class ListSubscriptionProtocol implements StreamProtocol {
+
+    private final String streamUrl;
+    private final Function<Set<String>, String> message;
+    private final boolean resendOnUnsubscribe;
+
+    /**
+     * @param message 심볼 목록(공통 표기) -> 구독 메시지
+     * @param resendOnUnsubscribe 목록을 다시 보내면 이전 구독을 대체하는 거래소인지 (아니면 해지 시 보내지 않는다)
+     */
+    ListSubscriptionProtocol(String streamUrl, Function<Set<String>, String> message, boolean resendOnUnsubscribe) {
+        this.streamUrl = streamUrl;
+        this.message = message;
+        this.resendOnUnsubscribe = resendOnUnsubscribe;
+    }
+
+    @Override
+    public String connectUrl(Set<String> symbols) {
+        return streamUrl;
+    }
+
+    @Override
+    public List<String> onOpen(Set<String> symbols, Set<String> connected) {
+        return request(symbols);
+    }
+
+    @Override
+    public List<String> subscribe(Set<String> symbols, String symbol) {
+        return request(symbols);
+    }
+
+    @Override
+    public List<String> unsubscribe(Set<String> symbols, String symbol) {
+        return resendOnUnsubscribe ? request(symbols) : List.of();
+    }
+
+    private List<String> request(Set<String> symbols) {
+        return symbols.isEmpty() ? List.of() : List.of(message.apply(symbols));
+    }
+}
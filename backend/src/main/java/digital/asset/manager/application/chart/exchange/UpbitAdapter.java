@@ -0,0 +1,106 @@
+package digital.asset.manager.application.chart.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import digital.asset.manager.application.chart.ingest.StreamProtocol;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeDecoder;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 업비트 어댑터
+ * 고정 URL에 연결한 뒤 [{"ticket":..},{"type":"trade","codes":["KRW-BTC",..]},{"format":"DEFAULT"}]로 구독한다.
+ * 요청마다 이전 구독을 대체하므로 변경 시 전체 목록을 다시 보낸다. 메시지는 바이너리 프레임(UTF-8 JSON)으로 온다.
+ * 마켓 코드는 호가 자산이 앞(KRW-BTC)이고, sequential_id는 유일하지만 연속이 아니라 끊김 보충은 하지 않는다.
+ */
+@Component
+public class UpbitAdapter extends AbstractExchangeAdapter {
+
+    public static final String NAME = "upbit";
+    private static final String DEFAULT_STREAM_URL = "wss://api.upbit.com/websocket/v1";
+    private static final String DEFAULT_REST_URL = "https://api.upbit.com";
+
+    private final String ticket = "digital-asset-manager-" + UUID.randomUUID();
+
+    public UpbitAdapter(MarketDataProperties properties) {
+        this(properties.exchange(NAME));
+    }
+
+    private UpbitAdapter(MarketDataProperties.Venue venue) {
+        super(NAME, NAME.toUpperCase(Locale.ROOT) + ":", List.of("USDT", "KRW", "BTC"),
+                orDefault(venue.getStreamUrl(), DEFAULT_STREAM_URL), orDefault(venue.getRestUrl(), DEFAULT_REST_URL),
+                venue.getConnections(), venue.getMaxStreamsPerConnection());
+    }
+
+    /**
+     * KRW-BTC -> BTCKRW
+     */
+    @Override
+    public String normalize(String symbol) {
+        String upper = symbol.trim().toUpperCase(Locale.ROOT);
+        int dash = upper.indexOf('-');
+        if (dash > 0) {
+            return upper.substring(dash + 1) + upper.substring(0, dash);
+        }
+        return super.normalize(upper);
+    }
+
+    /**
+     * BTCKRW -> KRW-BTC
+     */
+    @Override
+    public String toExchangeSymbol(String symbol) {
+        String[] assets = split(symbol);
+        return assets[1] + "-" + assets[0];
+    }
+
+    @Override
+    public boolean isSequential() {
+        return false;
+    }
+
+    @Override
+    protected StreamProtocol createProtocol() {
+        return new ListSubscriptionProtocol(streamUrl, this::subscribeMessage, true);
+    }
+
+    @Override
+    public TradeDecoder newDecoder(SymbolTable symbolTable) {
+        return new UpbitTradeDecoder(symbolTable, key(""));
+    }
+
+    @Override
+    protected URI tickerUri(String exchangeSymbol) {
+        return URI.create(restUrl + "/v1/ticker?markets=" + exchangeSymbol);
+    }
+
+    /**
+     * [{"market":"KRW-BTC","trade_price":97000000.0,...}]
+     */
+    @Override
+    protected long decodeTicker(JsonNode body) throws IOException {
+        JsonNode price = body.path(0).get("trade_price");
+        if (price == null) {
+            throw new IOException("업비트 현재가 응답에 trade_price가 없습니다: " + body);
+        }
+        return FixedPoint.fromDouble(price.asDouble());
+    }
+
+    private String subscribeMessage(Set<String> symbols) {
+        ArrayNode request = objectMapper.createArrayNode();
+        request.addObject().put("ticket", ticket);
+        ArrayNode codes = request.addObject().put("type", "trade").putArray("codes");
+        symbols.stream().sorted().map(this::toExchangeSymbol).forEach(codes::add);
+        request.addObject().put("format", "DEFAULT");
+        return request.toString();
+    }
+}
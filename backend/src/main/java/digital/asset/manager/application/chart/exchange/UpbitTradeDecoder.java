@@ -0,0 +1,77 @@
+package digital.asset.manager.application.chart.exchange;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+
+/**
+ * 업비트 체결(trade) 디코더 (DEFAULT 형식)
+ * {"type":"trade","code":"KRW-BTC","timestamp":1730000000123,"trade_price":97000000,"trade_volume":0.0123,
+ *  "ask_bid":"BID","trade_timestamp":1730000000100,"sequential_id":17300000001000000,...}
+ * 가격/수량이 문자열이 아닌 숫자로 온다. ask_bid는 taker 방향(ASK = 매도 체결)이다.
+ */
+class UpbitTradeDecoder extends VenueTradeDecoder {
+
+    private int typeOffset, typeLength;
+    private int codeOffset, codeLength;
+    private int priceOffset, priceLength;
+    private int volumeOffset, volumeLength;
+    private boolean ask;
+    private long timestamp, tradeTimestamp, sequentialId;
+
+    UpbitTradeDecoder(SymbolTable symbolTable, String keyPrefix) {
+        super(symbolTable, keyPrefix);
+    }
+
+    @Override
+    protected void beginFrame() {
+        typeLength = codeLength = priceLength = volumeLength = 0;
+        ask = false;
+        timestamp = tradeTimestamp = sequentialId = 0;
+    }
+
+    @Override
+    protected void onValue(int depth, int keyOffset, int keyLength, int valueOffset, int valueLength) {
+        if (depth != 0) {
+            return;
+        }
+        if (regionEquals(keyOffset, keyLength, "type")) {
+            typeOffset = valueOffset;
+            typeLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "code")) {
+            codeOffset = valueOffset;
+            codeLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "trade_price")) {
+            priceOffset = valueOffset;
+            priceLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "trade_volume")) {
+            volumeOffset = valueOffset;
+            volumeLength = valueLength;
+        } else if (regionEquals(keyOffset, keyLength, "ask_bid")) {
+            ask = regionEquals(valueOffset, valueLength, "ASK");
+        } else if (regionEquals(keyOffset, keyLength, "timestamp")) {
+            timestamp = parseLong(valueOffset, valueLength);
+        } else if (regionEquals(keyOffset, keyLength, "trade_timestamp")) {
+            tradeTimestamp = parseLong(valueOffset, valueLength);
+        } else if (regionEquals(keyOffset, keyLength, "sequential_id")) {
+            sequentialId = parseLong(valueOffset, valueLength);
+        }
+    }
+
+    @Override
+    protected void onObjectEnd(int depth) {
+        if (depth != 0 || !regionEquals(typeOffset, typeLength, "trade") || codeLength == 0 || priceLength == 0) {
+            return;
+        }
+        // KRW-BTC: 호가 자산이 앞에 온다
+        int dash = indexOf(codeOffset, codeLength, '-');
+        if (dash < 0) {
+            return;
+        }
+        int symbolId = lookup(dash + 1, codeOffset + codeLength - dash - 1, codeOffset, dash - codeOffset);
+        if (symbolId == SymbolTable.NOT_FOUND) {
+            return;
+        }
+        long tradeTime = tradeTimestamp > 0 ? tradeTimestamp : timestamp;
+        emit(symbolId, number(priceOffset, priceLength), number(volumeOffset, volumeLength), sequentialId,
+                timestamp > 0 ? timestamp : tradeTime, tradeTime, ask);
+    }
+}
@@ -0,0 +1,86 @@
+package digital.asset.manager.application.chart.exchange;
+
+import digital.asset.manager.application.chart.ingest.JsonFrameDecoder;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+
+/**
+ * 바이낸스 외 거래소 체결 디코더 공통 부분
+ * 거래소 표기(KRW-BTC, BTC_KRW)의 기준/호가 자산 구간을 재사용 버퍼에 접두어 + 공통 표기(UPBIT:BTCKRW)로 옮겨 적고
+ * 심볼 id를 찾으므로, 키 문자열을 만들지 않는다.
+ * 하위 클래스는 {@link #walkObject} 훅에서 필드 위치를 모았다가 체결 하나가 끝나면 {@link #emit}을 부른다.
+ */
+abstract class VenueTradeDecoder extends JsonFrameDecoder {
+
+    private final SymbolTable symbolTable;
+    private final char[] prefix;
+    private char[] key = new char[32];
+
+    // decode 중에만 채워진다
+    private TradeEvent event;
+    private TradeHandler sink;
+    private int emitted;
+
+    VenueTradeDecoder(SymbolTable symbolTable, String keyPrefix) {
+        this.symbolTable = symbolTable;
+        this.prefix = keyPrefix.toCharArray();
+    }
+
+    @Override
+    public int decode(TradeEvent event, TradeHandler sink) {
+        int pos = skipWhitespace(0);
+        if (pos >= length || buf[pos] != '{') {
+            return 0;
+        }
+        this.event = event;
+        this.sink = sink;
+        this.emitted = 0;
+        try {
+            beginFrame();
+            walkObject(pos, 0);
+            return emitted;
+        } finally {
+            this.event = null;
+            this.sink = null;
+        }
+    }
+
+    /**
+     * 프레임마다 필드 위치 초기화
+     */
+    protected abstract void beginFrame();
+
+    protected void emit(int symbolId, long price, long quantity, long tradeId, long eventTime, long tradeTime,
+                        boolean buyerMaker) {
+        event.set(TradeEvent.Type.TRADE, symbolId, price, quantity, tradeId, eventTime, tradeTime, buyerMaker);
+        sink.onTrade(event);
+        emitted++;
+    }
+
+    /**
+     * 버퍼의 기준 자산/호가 자산 구간으로 키를 만들어 심볼 id를 찾는다.
+     */
+    protected int lookup(int baseOffset, int baseLength, int quoteOffset, int quoteLength) {
+        int keyLength = prefix.length + baseLength + quoteLength;
+        if (keyLength > key.length) {
+            key = new char[keyLength * 2];
+        }
+        System.arraycopy(prefix, 0, key, 0, prefix.length);
+        System.arraycopy(buf, baseOffset, key, prefix.length, baseLength);
+        System.arraycopy(buf, quoteOffset, key, prefix.length + baseLength, quoteLength);
+        return symbolTable.lookup(key, 0, keyLength);
+    }
+
+    /**
+     * 구간 안에서 구분자 위치 (없으면 -1)
+     */
+    protected int indexOf(int offset, int len, char separator) {
+        for (int i = offset; i < offset + len; i++) {
+            if (buf[i] == separator) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,57 @@
+package digital.asset.manager.application.chart.history;
+
+import org.springframework.data.redis.connection.stream.ByteRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis Stream에 남긴 체결 한 건 (가격/수량은 고정소수점)
+ * id는 Redis가 부여한 스트림 ID ("{수신 시각 ms}-{순번}")
+ *
+ * 스트림 필드: p(가격) q(수량) i(체결 id) t(체결 시각)
+ */
+public record Tick(
+        String id,
+        long price,
+        long quantity,
+        long tradeId,
+        long tradeTime
+) {
+    private static final byte[] PRICE = {'p'};
+    private static final byte[] QUANTITY = {'q'};
+    private static final byte[] TRADE_ID = {'i'};
+    private static final byte[] TRADE_TIME = {'t'};
+
+    static Map<byte[], byte[]> encode(long price, long quantity, long tradeId, long tradeTime) {
+        Map<byte[], byte[]> fields = new HashMap<>(8);
+        fields.put(PRICE, bytes(price));
+        fields.put(QUANTITY, bytes(quantity));
+        fields.put(TRADE_ID, bytes(tradeId));
+        fields.put(TRADE_TIME, bytes(tradeTime));
+        return fields;
+    }
+
+    public static Tick decode(ByteRecord record) {
+        long price = 0, quantity = 0, tradeId = 0, tradeTime = 0;
+        for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+            if (field.getKey().length != 1) {
+                continue;
+            }
+            long value = Long.parseLong(new String(field.getValue(), StandardCharsets.US_ASCII));
+            switch (field.getKey()[0]) {
+                case 'p' -> price = value;
+                case 'q' -> quantity = value;
+                case 'i' -> tradeId = value;
+                case 't' -> tradeTime = value;
+                default -> { }
+            }
+        }
+        return new Tick(record.getId().getValue(), price, quantity, tradeId, tradeTime);
+    }
+
+    private static byte[] bytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,302 @@
+package digital.asset.manager.application.chart.history;
+
+import digital.asset.manager.application.chart.candle.CandleAggregator;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.chart.ingest.TradeRestorer;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.service.PriceService;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 체결 이력 Redis Stream 기록기
+ * 수신 스레드는 체결을 primitive 버퍼에 쌓기만 하고, 별도 스레드가 주기마다 버퍼를 바꿔 끼운 뒤
+ * 심볼별 스트림({SYMBOL}_TICKS)에 XADD MAXLEN ~ 를 파이프라인으로 한 번에 보낸다.
+ *
+ * 시작 시에는 최근 replay-minutes 구간을 심볼별로 스트림 끝에서부터 나눠 읽어(XREVRANGE) 봉 집계기와 최신가 저장소를 복구한다.
+ * 길이 상한에 걸려도 가장 최근 체결이 남고, 복구는 저장 스레드에서 하므로 애플리케이션 시작을 막지 않는다.
+ * 수집 엔진은 {@link TradeRestorer}로 복구가 끝나기를 기다린 뒤 연결하고, 복구한 마지막 체결 id부터 끊김 확인/보충을 이어 간다.
+ */
+@Slf4j
+@Component
+public class TickHistoryWriter implements TradeHandler, TradeRestorer {
+
+    private static final String CONFLATED = "conflated";
+    // 복구 시 한 번에 읽는 체결 수
+    private static final int REPLAY_PAGE = 10_000;
+    private static final long STOP_TIMEOUT_MS = 5_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PriceService priceService;
+    private final SymbolTable symbolTable;
+    private final CandleAggregator candleAggregator;
+    private final PriceRegistry priceRegistry;
+    private final ExchangeRegistry exchanges;
+    private final MarketDataProperties properties;
+    private final MarketDataProperties.TickHistory config;
+    private final boolean conflated;
+    private final RedisStreamCommands.XAddOptions addOptions;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private volatile CompletableFuture<Map<String, LastTrade>> restored = CompletableFuture.completedFuture(Map.of());
+
+    // 수신 스레드가 채우는 버퍼와 저장 스레드가 비우는 버퍼를 번갈아 쓴다
+    private TickBuffer filling;
+    private TickBuffer draining;
+    private final boolean[] seen = new boolean[SymbolTable.MAX_SYMBOLS];
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    public TickHistoryWriter(StringRedisTemplate stringRedisTemplate, PriceService priceService, SymbolTable symbolTable,
+                             CandleAggregator candleAggregator, PriceRegistry priceRegistry, ExchangeRegistry exchanges,
+                             MarketDataProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.priceService = priceService;
+        this.symbolTable = symbolTable;
+        this.candleAggregator = candleAggregator;
+        this.priceRegistry = priceRegistry;
+        this.exchanges = exchanges;
+        this.properties = properties;
+        this.config = properties.getTickHistory();
+        this.conflated = CONFLATED.equalsIgnoreCase(config.getMode());
+        this.addOptions = RedisStreamCommands.XAddOptions.maxlen(config.getMaxLength()).approximateTrimming(true);
+        this.filling = new TickBuffer(config.getBufferSize());
+        this.draining = new TickBuffer(config.getBufferSize());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        // 저장 주기는 같은 스레드에서 복구가 끝난 뒤부터 돈다
+        restored = CompletableFuture.supplyAsync(this::replay, executor);
+        long interval = config.getFlushIntervalMs();
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            // 진행 중인 주기 저장(또는 복구)이 끝난 뒤에 마지막 저장을 해야 버퍼 교체가 두 스레드에서 겹치지 않는다
+            if (!executor.awaitTermination(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                log.warn("체결 이력 저장 스레드가 {}ms 안에 끝나지 않아 마지막 저장을 건너뜁니다.", STOP_TIMEOUT_MS);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flush();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, LastTrade>> restored() {
+        return restored;
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        if (!config.isEnabled() || event.getType() == TradeEvent.Type.TICKER) {
+            return;
+        }
+        synchronized (this) {
+            if (!filling.add(event)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    void flush() {
+        TickBuffer batch;
+        synchronized (this) {
+            if (filling.size == 0) {
+                return;
+            }
+            batch = filling;
+            filling = draining;
+            draining = batch;
+        }
+
+        int count = conflated ? batch.conflate(seen) : batch.size;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < batch.size; i++) {
+                    if (batch.symbolIds[i] < 0) {
+                        continue;
+                    }
+                    byte[] key = PriceService.tickStreamKey(symbolTable.name(batch.symbolIds[i])).getBytes(StandardCharsets.UTF_8);
+                    Map<byte[], byte[]> fields = Tick.encode(batch.prices[i], batch.quantities[i], batch.tradeIds[i], batch.tradeTimes[i]);
+                    connection.streamCommands().xAdd(MapRecord.create(key, fields), addOptions);
+                }
+                return null;
+            });
+            appended.add(count);
+        } catch (Exception e) {
+            // 이력은 최신가와 달리 재시도하지 않는다 (다음 주기의 체결이 밀리지 않도록)
+            failedFlushes.increment();
+            log.error("체결 이력 Redis 저장 실패 ({}건): {}", count, e.getMessage());
+        } finally {
+            batch.size = 0;
+        }
+    }
+
+    /**
+     * Redis에 남은 최근 체결로 봉과 최신가를 다시 만든다. (Redis 장애 시에는 건너뛰고 실시간 수신만 한다)
+     * @return 심볼별 복구한 마지막 체결
+     */
+    Map<String, LastTrade> replay() {
+        Map<String, LastTrade> lastTrades = new HashMap<>();
+        if (config.getReplayMinutes() <= 0) {
+            return lastTrades;
+        }
+        long from = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(config.getReplayMinutes());
+        TradeEvent event = new TradeEvent();
+        int replayed = 0;
+        for (String symbol : properties.getSymbols()) {
+            try {
+                // 기록기가 쓰는 스트림과 엔진의 심볼 상태는 모두 저장소 키(UPBIT:BTCKRW) 기준이다
+                String key = exchanges.key(symbol);
+                List<Tick> ticks = readRecent(key, from);
+                if (ticks.isEmpty()) {
+                    continue;
+                }
+                int symbolId = symbolTable.register(key);
+                for (Tick tick : ticks) {
+                    event.set(TradeEvent.Type.TRADE, symbolId, tick.price(), tick.quantity(), tick.tradeId(),
+                            tick.tradeTime(), tick.tradeTime(), false);
+                    candleAggregator.onTrade(event);
+                    priceRegistry.onTrade(event);
+                }
+                Tick last = ticks.get(ticks.size() - 1);
+                lastTrades.put(key, new LastTrade(last.tradeId(), last.tradeTime()));
+                replayed += ticks.size();
+            } catch (Exception e) {
+                log.warn("[{}] Redis 체결 이력 복구 실패: {}", symbol, e.getMessage());
+            }
+        }
+        log.info("Redis 체결 이력으로 봉/최신가 복구: {}개 심볼, {}건", lastTrades.size(), replayed);
+        return lastTrades;
+    }
+
+    /**
+     * from 이후 체결을 스트림 끝에서부터 REPLAY_PAGE건씩 거꾸로 읽어 최대 max-length건을 오래된 순으로 돌려준다.
+     */
+    private List<Tick> readRecent(String symbol, long from) {
+        Deque<List<Tick>> pages = new ArrayDeque<>();
+        long remaining = config.getMaxLength();
+        String before = null;
+        while (remaining > 0) {
+            int count = (int) Math.min(REPLAY_PAGE, remaining);
+            List<Tick> page = priceService.getTicksBefore(symbol, from, before, count);
+            if (page.isEmpty()) {
+                break;
+            }
+            pages.addFirst(page);
+            remaining -= page.size();
+            if (page.size() < count) {
+                break;
+            }
+            before = page.get(0).id();
+        }
+        List<Tick> ticks = new ArrayList<>();
+        pages.forEach(ticks::addAll);
+        return ticks;
+    }
+
+    public long getAppended() {
+        return appended.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    /**
+     * 체결을 열 단위 primitive 배열에 쌓는 버퍼
+     */
+    private static final class TickBuffer {
+        private final int[] symbolIds;
+        private final long[] prices;
+        private final long[] quantities;
+        private final long[] tradeIds;
+        private final long[] tradeTimes;
+        private int size;
+
+        private TickBuffer(int capacity) {
+            symbolIds = new int[capacity];
+            prices = new long[capacity];
+            quantities = new long[capacity];
+            tradeIds = new long[capacity];
+            tradeTimes = new long[capacity];
+        }
+
+        private boolean add(TradeEvent event) {
+            if (size == symbolIds.length) {
+                return false;
+            }
+            symbolIds[size] = event.getSymbolId();
+            prices[size] = event.getPrice();
+            quantities[size] = event.getQuantity();
+            tradeIds[size] = event.getTradeId();
+            tradeTimes[size] = event.getTradeTime() > 0 ? event.getTradeTime() : event.getEventTime();
+            size++;
+            return true;
+        }
+
+        /**
+         * 심볼별 마지막 체결만 남긴다. 뒤에서부터 훑어 이미 본 심볼은 -1로 지운다.
+         * @return 남은 체결 수
+         */
+        private int conflate(boolean[] seen) {
+            int kept = 0;
+            for (int i = size - 1; i >= 0; i--) {
+                int id = symbolIds[i];
+                if (seen[id]) {
+                    symbolIds[i] = -1;
+                } else {
+                    seen[id] = true;
+                    kept++;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (symbolIds[i] >= 0) {
+                    seen[symbolIds[i]] = false;
+                }
+            }
+            return kept;
+        }
+    }
+}
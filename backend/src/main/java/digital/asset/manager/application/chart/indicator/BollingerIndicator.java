@@ -0,0 +1,30 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 볼린저 밴드 (중심선 = 단순 이동평균, 상/하단 = 중심선 ± multiplier x 표준편차)
+ */
+class BollingerIndicator implements Indicator {
+
+    private final RollingWindow window;
+    private final double multiplier;
+
+    BollingerIndicator(int period, double multiplier) {
+        this.window = new RollingWindow(period);
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    public boolean update(double close) {
+        window.add(close);
+        return window.isFull();
+    }
+
+    @Override
+    public void values(double[] out) {
+        double middle = window.mean();
+        double band = multiplier * Math.sqrt(window.variance());
+        out[0] = middle;
+        out[1] = middle + band;
+        out[2] = middle - band;
+    }
+}
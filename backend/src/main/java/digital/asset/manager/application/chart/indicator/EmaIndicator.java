@@ -0,0 +1,37 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 지수 이동평균 (계수 2 / (period + 1), 처음 period개의 단순 평균에서 시작)
+ */
+class EmaIndicator implements Indicator {
+
+    private final int period;
+    private final double alpha;
+    private int count;
+    private double value;
+
+    EmaIndicator(int period) {
+        this.period = period;
+        this.alpha = 2.0 / (period + 1);
+    }
+
+    @Override
+    public boolean update(double close) {
+        if (count < period) {
+            count++;
+            value += (close - value) / count;
+            return count == period;
+        }
+        value += alpha * (close - value);
+        return true;
+    }
+
+    @Override
+    public void values(double[] out) {
+        out[0] = value;
+    }
+
+    double value() {
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 마감 종가를 하나씩 받아 상태를 O(1)로 갱신하는 지표
+ */
+interface Indicator {
+
+    /**
+     * @return 값이 나오기 시작했으면(워밍업이 끝났으면) true
+     */
+    boolean update(double close);
+
+    /**
+     * 현재 값을 out에 쓴다. 순서는 {@link IndicatorType#getFields()}와 같다.
+     */
+    void values(double[] out);
+}
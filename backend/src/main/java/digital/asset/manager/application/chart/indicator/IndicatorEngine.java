@@ -0,0 +1,118 @@
+package digital.asset.manager.application.chart.indicator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.candle.CandleAggregator;
+import digital.asset.manager.application.chart.candle.CandleCloseListener;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 봉 마감에 붙는 기술 지표 엔진
+ * (심볼, 주기, 지표, 파라미터)마다 상태를 하나만 두고 봉이 마감될 때 O(1)로 갱신해, 클라이언트마다 봉 전체로 다시 계산하지 않게 한다.
+ * 상태는 처음 조회될 때 만들고 메모리의 마감 봉으로 시드하며, 이후에는 마감마다 갱신된다. 최근 값은 봉 링버퍼 크기만큼 보관한다.
+ * 상태는 max-series개까지 두고, expire-after-access-ms 동안 조회되지 않았거나 개수를 넘으면 버린다. (다시 조회하면 새로 시드한다)
+ */
+@Component
+public class IndicatorEngine implements CandleCloseListener {
+
+    private final SymbolTable symbolTable;
+    private final CandleAggregator candleAggregator;
+    private final int capacity;
+    private final int maxPeriod;
+    private final Cache<SeriesKey, IndicatorSeries> series;
+    private final AtomicReferenceArray<List<IndicatorSeries>> bySymbol = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+
+    public IndicatorEngine(SymbolTable symbolTable, CandleAggregator candleAggregator, MarketDataProperties properties,
+                           MeterRegistry meterRegistry) {
+        MarketDataProperties.Indicator config = properties.getIndicator();
+        this.symbolTable = symbolTable;
+        this.candleAggregator = candleAggregator;
+        this.capacity = candleAggregator.getCapacity();
+        this.maxPeriod = config.getMaxPeriod();
+        this.series = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSeries())
+                .expireAfterAccess(Duration.ofMillis(config.getExpireAfterAccessMs()))
+                // 버린 상태는 마감 갱신 대상에서도 뺀다 (항목 잠금 안에서 호출되므로 같은 키의 생성과 겹치지 않는다)
+                .<SeriesKey, IndicatorSeries>evictionListener((key, evicted, cause) -> {
+                    List<IndicatorSeries> list = key == null ? null : bySymbol.get(key.symbolId());
+                    if (list != null) {
+                        list.remove(evicted);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, series, "indicator.series");
+    }
+
+    @Override
+    public void onCandleClosed(int symbolId, CandleInterval interval, Candle candle) {
+        List<IndicatorSeries> list = bySymbol.get(symbolId);
+        if (list == null) {
+            return;
+        }
+        for (IndicatorSeries indicatorSeries : list) {
+            if (indicatorSeries.interval() == interval) {
+                indicatorSeries.onClosed(candle);
+            }
+        }
+    }
+
+    /**
+     * 최근 limit개 지표 값 (오래된 것부터, 마감 봉 기준). 체결을 받은 적 없는 심볼이면 빈 값
+     */
+    public Optional<List<IndicatorPoint>> latest(String symbol, CandleInterval interval, IndicatorSpec spec, int limit) {
+        int symbolId = symbolTable.lookup(symbol);
+        if (symbolId == SymbolTable.NOT_FOUND) {
+            return Optional.empty();
+        }
+        SeriesKey seriesKey = new SeriesKey(symbolId, interval, spec);
+        IndicatorSeries indicatorSeries = series.getIfPresent(seriesKey);
+        if (indicatorSeries == null) {
+            if (candleAggregator.closedCandles(symbol, interval, 0).isEmpty()) {
+                return Optional.empty();
+            }
+            indicatorSeries = series.get(seriesKey, key -> {
+                IndicatorSeries created = new IndicatorSeries(interval, spec, capacity);
+                symbolSeries(symbolId).add(created);
+                return created;
+            });
+        }
+        if (!indicatorSeries.isSeeded()) {
+            // 마감 리스너에 등록한 뒤에 읽어야 그 사이 마감된 봉을 놓치지 않는다
+            indicatorSeries.seed(candleAggregator.closedCandles(symbol, interval, capacity).orElse(List.of()));
+        }
+        return Optional.of(indicatorSeries.latest(Math.min(Math.max(limit, 1), capacity)));
+    }
+
+    public IndicatorSpec parse(String value) {
+        return IndicatorSpec.parse(value, maxPeriod);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private List<IndicatorSeries> symbolSeries(int symbolId) {
+        List<IndicatorSeries> list = bySymbol.get(symbolId);
+        if (list == null) {
+            bySymbol.compareAndSet(symbolId, null, new CopyOnWriteArrayList<>());
+            list = bySymbol.get(symbolId);
+        }
+        return list;
+    }
+
+    private record SeriesKey(int symbolId, CandleInterval interval, IndicatorSpec spec) {
+    }
+}
@@ -0,0 +1,9 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 마감 봉 하나에 대한 지표 값
+ * @param openTime 봉 시작 시각(ms)
+ * @param values 필드별 값 (순서는 {@link IndicatorType#getFields()})
+ */
+public record IndicatorPoint(long openTime, double[] values) {
+}
@@ -0,0 +1,91 @@
+package digital.asset.manager.application.chart.indicator;
+
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 심볼 하나, 주기 하나, 지표(파라미터 포함) 하나의 상태와 최근 값 링버퍼
+ * 봉 마감은 수신 스레드, 시드와 조회는 API 스레드에서 오므로 synchronized로 처리한다. (심볼당 마감은 주기마다 한 번뿐)
+ *
+ * 처음 만들 때 메모리의 마감 봉으로 시드한다. 시드 전에 온 마감은 이미 봉 링버퍼에 들어 있으므로 버리고,
+ * 시드 후에는 이미 반영한 봉(openTime이 같거나 이른 봉)을 건너뛴다.
+ */
+class IndicatorSeries {
+
+    private final CandleInterval interval;
+    private final Indicator indicator;
+    private final int width;
+    private final int capacity;
+    private final long[] openTimes;
+    private final double[] values;
+    private final double[] scratch;
+
+    private long written;
+    private long lastOpenTime = Long.MIN_VALUE;
+    private volatile boolean seeded;
+
+    IndicatorSeries(CandleInterval interval, IndicatorSpec spec, int capacity) {
+        this.interval = interval;
+        this.indicator = spec.create();
+        this.width = spec.type().getFields().size();
+        this.capacity = capacity;
+        this.openTimes = new long[capacity];
+        this.values = new double[capacity * width];
+        this.scratch = new double[width];
+    }
+
+    CandleInterval interval() {
+        return interval;
+    }
+
+    boolean isSeeded() {
+        return seeded;
+    }
+
+    synchronized void seed(List<Candle> closed) {
+        if (seeded) {
+            return;
+        }
+        closed.forEach(this::apply);
+        seeded = true;
+    }
+
+    synchronized void onClosed(Candle candle) {
+        if (seeded) {
+            apply(candle);
+        }
+    }
+
+    /**
+     * 최근 limit개 (오래된 것부터)
+     */
+    synchronized List<IndicatorPoint> latest(int limit) {
+        long from = Math.max(Math.max(0, written - capacity), written - limit);
+        List<IndicatorPoint> result = new ArrayList<>((int) (written - from));
+        for (long i = from; i < written; i++) {
+            int index = (int) (i % capacity);
+            result.add(new IndicatorPoint(openTimes[index], Arrays.copyOfRange(values, index * width, (index + 1) * width)));
+        }
+        return result;
+    }
+
+    private void apply(Candle candle) {
+        if (candle.openTime() <= lastOpenTime) {
+            return;
+        }
+        lastOpenTime = candle.openTime();
+        if (!indicator.update(FixedPoint.toDouble(candle.close()))) {
+            return;
+        }
+        int index = (int) (written % capacity);
+        openTimes[index] = candle.openTime();
+        indicator.values(scratch);
+        System.arraycopy(scratch, 0, values, index * width, width);
+        written++;
+    }
+}
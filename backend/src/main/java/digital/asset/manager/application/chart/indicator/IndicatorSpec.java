@@ -0,0 +1,65 @@
+package digital.asset.manager.application.chart.indicator;
+
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 지표 종류와 파라미터 ("sma:20", "rsi:14", "macd:12:26:9", "bb:20:2"). 파라미터를 생략하면 기본값
+ * 볼린저 밴드의 두 번째 값(표준편차 배수)을 빼면 모두 봉 개수다.
+ */
+public record IndicatorSpec(IndicatorType type, List<Double> params) {
+
+    private static final double MAX_MULTIPLIER = 10;
+
+    public static IndicatorSpec parse(String value, int maxPeriod) {
+        String[] parts = value.trim().toLowerCase(Locale.ROOT).split(":");
+        IndicatorType type = IndicatorType.of(parts[0]);
+        if (parts.length == 1) {
+            return new IndicatorSpec(type, type.getDefaults());
+        }
+        if (parts.length - 1 != type.getDefaults().size()) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST,
+                    type.getCode() + " 파라미터는 " + type.getDefaults().size() + "개: " + value);
+        }
+        List<Double> params = new ArrayList<>();
+        for (int i = 1; i < parts.length; i++) {
+            try {
+                params.add(Double.parseDouble(parts[i]));
+            } catch (NumberFormatException e) {
+                throw new ApplicationException(ErrorCode.INVALID_REQUEST, "지표 파라미터가 숫자가 아님: " + value);
+            }
+        }
+        for (int i = 0; i < params.size(); i++) {
+            double param = params.get(i);
+            boolean multiplier = type == IndicatorType.BOLLINGER && i == 1;
+            boolean valid = multiplier
+                    ? param > 0 && param <= MAX_MULTIPLIER
+                    : param == Math.rint(param) && param >= 1 && param <= maxPeriod;
+            if (!valid) {
+                throw new ApplicationException(ErrorCode.INVALID_REQUEST, "지표 파라미터 범위 초과: " + value);
+            }
+        }
+        if (type == IndicatorType.MACD && params.get(0) >= params.get(1)) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "MACD 단기 기간은 장기 기간보다 짧아야 함: " + value);
+        }
+        return new IndicatorSpec(type, List.copyOf(params));
+    }
+
+    /**
+     * 정규화한 표기 ("macd:12:26:9")
+     */
+    public String key() {
+        return type.getCode() + params.stream()
+                .map(param -> param == Math.rint(param) ? String.valueOf(param.longValue()) : String.valueOf(param))
+                .collect(Collectors.joining(":", ":", ""));
+    }
+
+    Indicator create() {
+        return type.create(params);
+    }
+}
@@ -0,0 +1,42 @@
+package digital.asset.manager.application.chart.indicator;
+
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public enum IndicatorType {
+    SMA("sma", List.of(20.0), List.of("sma")),
+    EMA("ema", List.of(20.0), List.of("ema")),
+    RSI("rsi", List.of(14.0), List.of("rsi")),
+    MACD("macd", List.of(12.0, 26.0, 9.0), List.of("macd", "signal", "histogram")),
+    BOLLINGER("bb", List.of(20.0, 2.0), List.of("middle", "upper", "lower"));
+
+    private final String code;
+    // 파라미터 기본값 (개수가 곧 파라미터 개수)
+    private final List<Double> defaults;
+    // 값 하나에 담기는 필드 이름
+    private final List<String> fields;
+
+    Indicator create(List<Double> params) {
+        return switch (this) {
+            case SMA -> new SmaIndicator(params.get(0).intValue());
+            case EMA -> new EmaIndicator(params.get(0).intValue());
+            case RSI -> new RsiIndicator(params.get(0).intValue());
+            case MACD -> new MacdIndicator(params.get(0).intValue(), params.get(1).intValue(), params.get(2).intValue());
+            case BOLLINGER -> new BollingerIndicator(params.get(0).intValue(), params.get(1));
+        };
+    }
+
+    public static IndicatorType of(String code) {
+        return Arrays.stream(values())
+                .filter(type -> type.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new ApplicationException(ErrorCode.INVALID_REQUEST, "지원하지 않는 지표: " + code));
+    }
+}
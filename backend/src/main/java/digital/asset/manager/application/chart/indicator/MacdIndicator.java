@@ -0,0 +1,35 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * MACD (단기 EMA - 장기 EMA), 시그널(MACD의 EMA), 히스토그램(MACD - 시그널)
+ */
+class MacdIndicator implements Indicator {
+
+    private final EmaIndicator fast;
+    private final EmaIndicator slow;
+    private final EmaIndicator signal;
+
+    MacdIndicator(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.fast = new EmaIndicator(fastPeriod);
+        this.slow = new EmaIndicator(slowPeriod);
+        this.signal = new EmaIndicator(signalPeriod);
+    }
+
+    @Override
+    public boolean update(double close) {
+        boolean fastReady = fast.update(close);
+        boolean slowReady = slow.update(close);
+        if (!fastReady || !slowReady) {
+            return false;
+        }
+        return signal.update(fast.value() - slow.value());
+    }
+
+    @Override
+    public void values(double[] out) {
+        double macd = fast.value() - slow.value();
+        out[0] = macd;
+        out[1] = signal.value();
+        out[2] = macd - signal.value();
+    }
+}
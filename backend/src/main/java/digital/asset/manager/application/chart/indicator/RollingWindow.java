@@ -0,0 +1,63 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 최근 n개 값의 평균/분산 (Welford)
+ * 값이 찰 때까지는 하나씩 더하고, 찬 뒤에는 가장 오래된 값을 빼고 새 값을 넣는 식으로 O(1) 갱신한다.
+ * 빼고 더하며 쌓이는 부동소수점 오차는 n번 갱신마다 한 번 다시 계산해 없앤다. (분할 상환 O(1))
+ */
+class RollingWindow {
+
+    private final double[] values;
+    private int size, next;
+    private double mean, m2;
+
+    RollingWindow(int period) {
+        this.values = new double[period];
+    }
+
+    void add(double value) {
+        if (size < values.length) {
+            size++;
+            double delta = value - mean;
+            mean += delta / size;
+            m2 += delta * (value - mean);
+        } else {
+            double removed = values[next];
+            double nextMean = mean + (value - removed) / size;
+            m2 += (value - removed) * (value - nextMean + removed - mean);
+            mean = nextMean;
+        }
+        values[next] = value;
+        next = (next + 1) % values.length;
+        if (next == 0 && isFull()) {
+            recompute();
+        }
+    }
+
+    boolean isFull() {
+        return size == values.length;
+    }
+
+    double mean() {
+        return mean;
+    }
+
+    /**
+     * 모분산
+     */
+    double variance() {
+        return size == 0 ? 0 : Math.max(0, m2 / size);
+    }
+
+    private void recompute() {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        mean = sum / size;
+        m2 = 0;
+        for (double value : values) {
+            m2 += (value - mean) * (value - mean);
+        }
+    }
+}
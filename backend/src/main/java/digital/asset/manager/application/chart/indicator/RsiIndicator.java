@@ -0,0 +1,49 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 상대강도지수 (Wilder 평활)
+ * 처음 period개 변화량은 단순 평균, 이후는 avg = (avg * (period - 1) + 변화량) / period
+ */
+class RsiIndicator implements Indicator {
+
+    private final int period;
+    private boolean started;
+    private double previous;
+    private int count;
+    private double averageGain, averageLoss;
+
+    RsiIndicator(int period) {
+        this.period = period;
+    }
+
+    @Override
+    public boolean update(double close) {
+        if (!started) {
+            started = true;
+            previous = close;
+            return false;
+        }
+        double change = close - previous;
+        previous = close;
+        double gain = Math.max(change, 0);
+        double loss = Math.max(-change, 0);
+        if (count < period) {
+            count++;
+            averageGain += (gain - averageGain) / count;
+            averageLoss += (loss - averageLoss) / count;
+            return count == period;
+        }
+        averageGain = (averageGain * (period - 1) + gain) / period;
+        averageLoss = (averageLoss * (period - 1) + loss) / period;
+        return true;
+    }
+
+    @Override
+    public void values(double[] out) {
+        if (averageLoss == 0) {
+            out[0] = averageGain == 0 ? 50 : 100;
+        } else {
+            out[0] = 100 - 100 / (1 + averageGain / averageLoss);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package digital.asset.manager.application.chart.indicator;
+
+/**
+ * 단순 이동평균
+ */
+class SmaIndicator implements Indicator {
+
+    private final RollingWindow window;
+
+    SmaIndicator(int period) {
+        this.window = new RollingWindow(period);
+    }
+
+    @Override
+    public boolean update(double close) {
+        window.add(close);
+        return window.isFull();
+    }
+
+    @Override
+    public void values(double[] out) {
+        out[0] = window.mean();
+    }
+}
@@ -0,0 +1,107 @@
+package digital.asset.manager.application.chart.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 끊긴 구간 체결 보충
+ * 체결 id가 건너뛰었을 때 바이낸스 REST aggTrades로 빠진 구간을 받아 AGG_TRADE 이벤트로 넘긴다.
+ * aggTrade 하나는 같은 가격/같은 taker의 연속 체결(f ~ l)을 합친 것이라 봉의 OHLCV는 그대로 맞는다.
+ */
+@Slf4j
+class AggTradeBackfiller {
+
+    private static final int PAGE_LIMIT = 1000;
+
+    private final String restUrl;
+    private final HttpClient client;
+    private final Duration timeout;
+    private final int maxTrades;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    AggTradeBackfiller(String restUrl, HttpClient client, Duration timeout, int maxTrades) {
+        this.restUrl = restUrl;
+        this.client = client;
+        this.timeout = timeout;
+        this.maxTrades = maxTrades;
+    }
+
+    /**
+     * 체결 id (afterTradeId, beforeTradeId) 사이의 체결을 보충한다.
+     * 경계에 걸친 aggTrade(f <= afterTradeId 또는 l >= beforeTradeId)는 일부 체결이 이미 실시간으로 반영됐고
+     * 합쳐진 체결별 수량을 나눌 수 없으므로 통째로 건너뛴다. (중복 집계보다 경계 몇 건 누락을 택한다)
+     * @param startTime afterTradeId 체결 시각 (조회 시작점)
+     * @return 넘긴 aggTrade 수
+     */
+    int backfill(int symbolId, String symbol, long afterTradeId, long beforeTradeId, long startTime, TradeHandler handler)
+            throws IOException, InterruptedException {
+        TradeEvent event = new TradeEvent();
+        String query = "startTime=" + startTime;
+        int emitted = 0;
+        int skipped = 0;
+        boolean done = false;
+        while (!done && emitted < maxTrades) {
+            JsonNode page = fetch(symbol, query);
+            if (!page.isArray() || page.isEmpty()) {
+                break;
+            }
+            long lastAggId = -1;
+            for (JsonNode trade : page) {
+                lastAggId = trade.get("a").asLong();
+                long firstId = trade.get("f").asLong();
+                long lastId = trade.get("l").asLong();
+                if (lastId <= afterTradeId) {
+                    continue;
+                }
+                if (firstId >= beforeTradeId || emitted >= maxTrades) {
+                    done = true;
+                    break;
+                }
+                if (firstId <= afterTradeId || lastId >= beforeTradeId) {
+                    skipped++;
+                    continue;
+                }
+                long time = trade.get("T").asLong();
+                event.set(TradeEvent.Type.AGG_TRADE, symbolId,
+                        FixedPoint.parse(trade.get("p").asText()),
+                        FixedPoint.parse(trade.get("q").asText()),
+                        lastId, time, time, trade.get("m").asBoolean());
+                handler.onTrade(event);
+                emitted++;
+            }
+            if (page.size() < PAGE_LIMIT) {
+                break;
+            }
+            query = "fromId=" + (lastAggId + 1);
+        }
+        if (skipped > 0) {
+            log.info("[{}] 경계에 걸친 aggTrade {}건 제외", symbol, skipped);
+        }
+        if (emitted >= maxTrades) {
+            log.warn("[{}] 보충 한도({}) 도달, 나머지 구간은 건너뜀", symbol, maxTrades);
+        }
+        return emitted;
+    }
+
+    private JsonNode fetch(String symbol, String query) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(restUrl + "/api/v3/aggTrades?symbol=" + symbol + "&limit=" + PAGE_LIMIT + "&" + query))
+                .timeout(timeout)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("aggTrades 응답 " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
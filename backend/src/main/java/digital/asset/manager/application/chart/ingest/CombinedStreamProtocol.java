@@ -0,0 +1,64 @@
+package digital.asset.manager.application.chart.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 바이낸스 combined stream 구독 방식 ({@link StreamProtocol#combined})
+ */
+class CombinedStreamProtocol implements StreamProtocol {
+
+    private final String streamUrl;
+    private final Function<String, String> streamName;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong requestId = new AtomicLong();
+
+    CombinedStreamProtocol(String streamUrl, Function<String, String> streamName) {
+        this.streamUrl = streamUrl;
+        this.streamName = streamName;
+    }
+
+    @Override
+    public String connectUrl(Set<String> symbols) {
+        if (symbols.isEmpty()) {
+            return streamUrl;
+        }
+        return streamUrl + "?streams=" + symbols.stream()
+                .map(streamName)
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * 연결하는 동안 추가된 심볼만 SUBSCRIBE 한다.
+     */
+    @Override
+    public List<String> onOpen(Set<String> symbols, Set<String> connected) {
+        return symbols.stream()
+                .filter(symbol -> !connected.contains(symbol))
+                .map(symbol -> message("SUBSCRIBE", symbol))
+                .toList();
+    }
+
+    @Override
+    public List<String> subscribe(Set<String> symbols, String symbol) {
+        return List.of(message("SUBSCRIBE", symbol));
+    }
+
+    @Override
+    public List<String> unsubscribe(Set<String> symbols, String symbol) {
+        return List.of(message("UNSUBSCRIBE", symbol));
+    }
+
+    private String message(String method, String symbol) {
+        return objectMapper.createObjectNode()
+                .put("method", method)
+                .put("id", requestId.incrementAndGet())
+                .set("params", objectMapper.valueToTree(List.of(streamName.apply(symbol))))
+                .toString();
+    }
+}
@@ -0,0 +1,109 @@
+package digital.asset.manager.application.chart.ingest;
+
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹소켓 연결(shard) 생명주기 관리
+ * - 연결 실패/종료/에러 시 지수 백오프(+jitter)로 다시 연결한다.
+ * - 일정 시간 수신이 없으면 ping을 보내고, stale-timeout 동안 pong조차 없으면 연결을 끊고 다시 연결한다.
+ * 다시 연결할 때는 그 시점의 심볼 목록으로 URL을 만들기 때문에 구독은 자동으로 복구된다.
+ */
+@Slf4j
+public class FeedSupervisor {
+
+    private final MarketDataProperties.Supervisor config;
+    private final HttpClient client;
+    private final Duration connectTimeout;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private volatile boolean stopped;
+
+    public FeedSupervisor(MarketDataProperties.Supervisor config, HttpClient client) {
+        this.config = config;
+        this.client = client;
+        this.connectTimeout = Duration.ofMillis(config.getStaleTimeoutMs());
+    }
+
+    public void start(List<StreamShard> shards) {
+        long interval = Math.max(1_000, config.getHeartbeatIntervalMs() / 2);
+        scheduler.scheduleWithFixedDelay(() -> checkLiveness(shards), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        stopped = true;
+        scheduler.shutdownNow();
+    }
+
+    public void connect(StreamShard shard) {
+        if (stopped) {
+            return;
+        }
+        shard.connect(client, connectTimeout).whenComplete((ws, e) -> {
+            if (e != null) {
+                reconnectLater(shard, "연결 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    void onConnected(StreamShard shard) {
+        if (shard.resetReconnectAttempts() > 0) {
+            log.info("[shard-{}] 재연결 완료", shard.getId());
+        }
+    }
+
+    void onDisconnected(StreamShard shard, String reason) {
+        reconnectLater(shard, reason);
+    }
+
+    private void checkLiveness(List<StreamShard> shards) {
+        long now = System.nanoTime();
+        for (StreamShard shard : shards) {
+            if (!shard.isOpen()) {
+                continue;
+            }
+            long idleMillis = TimeUnit.NANOSECONDS.toMillis(now - shard.getLastReceivedAt());
+            if (idleMillis > config.getStaleTimeoutMs()) {
+                // abort는 리스너 콜백을 부르지 않으므로 여기서 직접 재연결을 건다
+                shard.abort();
+                reconnectLater(shard, idleMillis + "ms 동안 수신 없음");
+            } else if (idleMillis > config.getHeartbeatIntervalMs()) {
+                shard.ping();
+            }
+        }
+    }
+
+    private void reconnectLater(StreamShard shard, String reason) {
+        if (stopped || !shard.markReconnecting()) {
+            return;
+        }
+        int attempt = shard.nextReconnectAttempt();
+        long delay = backoff(attempt);
+        log.warn("[shard-{}] {} -> {}ms 후 재연결 ({}회째)", shard.getId(), reason, delay, attempt);
+        try {
+            scheduler.schedule(() -> {
+                shard.clearReconnecting();
+                connect(shard);
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {    // 종료 중
+            shard.clearReconnecting();
+        }
+    }
+
+    /**
+     * initial * 2^(attempt-1) 를 최대값으로 자르고, 그 절반 ~ 전체 사이에서 무작위로 고른다.
+     * (여러 연결이 동시에 끊겼을 때 한꺼번에 다시 붙지 않도록)
+     */
+    long backoff(int attempt) {
+        long base = config.getReconnectInitialDelayMs() << Math.min(attempt - 1, 20);
+        long capped = Math.min(Math.max(base, 1), config.getReconnectMaxDelayMs());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+}
@@ -0,0 +1,146 @@
+package digital.asset.manager.application.chart.ingest;
+
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 앞단의 수신 정책 적용기 (링 하나당 하나, 생산자 스레드에서만 호출)
+ * 링 점유율이 high watermark를 넘으면 과부하로 보고 심볼별 {@link IntakePolicy}를 적용하고, low 아래로 내려오면 푼다.
+ * 메모리는 링 크기와 심볼당 대기 체결 하나로 고정된다.
+ *
+ * conflate로 남겨 둔 체결은 과부하가 풀린 뒤 이 연결에 다음 체결이 들어올 때 넘긴다.
+ *
+ * 링에 넣을 때는 항상 {@link TradeRingBuffer#tryPublish}를 쓴다. 가장 느린 소비자가 한 바퀴 뒤처질 만큼 링이 차면
+ * (watermark 사이에서 sample 정책이 계속 넣은 경우 등) 정책과 상관없이 conflate로 남겨 두고 shed로 센다.
+ * 그래서 소비자가 덮어써진 구간을 건너뛰며 봉/통계가 모르게 틀어지는 일은 없고, 버린 체결은 심볼별 shed 건수로 드러난다.
+ */
+class IntakeGate {
+
+    private static final long BLOCK_PARK_NANOS = 50_000;
+
+    private final TradeRingBuffer ring;
+    private final long highWatermark;
+    private final long lowWatermark;
+    private final int sampleEvery;
+    private boolean overloaded;
+
+    // conflate 대기 체결 (심볼 id 기준, 처음 쓸 때 만든다)
+    private TradeEvent[] pending = new TradeEvent[0];
+    private int[] pendingIds = new int[16];
+    private int pendingCount;
+    // sample 정책 카운터 (심볼 id 기준)
+    private long[] sampleCounters = new long[0];
+
+    IntakeGate(TradeRingBuffer ring, MarketDataProperties.FlowControl config) {
+        this.ring = ring;
+        this.highWatermark = Math.max(1, (long) (ring.getCapacity() * config.getHighWatermark()));
+        this.lowWatermark = Math.min(highWatermark - 1, (long) (ring.getCapacity() * config.getLowWatermark()));
+        this.sampleEvery = Math.max(1, config.getSampleEvery());
+    }
+
+    void offer(SymbolState state, TradeEvent event) {
+        if (!updateOverloaded()) {
+            if (pendingCount > 0) {
+                // 링이 차서 못 넘긴 체결이 남아 있으면 순서를 지키도록 먼저 넘긴다
+                flushPending();
+            }
+            publish(state, event);
+            return;
+        }
+        switch (state.getPolicy()) {
+            case CONFLATE -> conflate(state, event);
+            case SAMPLE -> sample(state, event);
+            case BLOCK -> block(state, event);
+        }
+    }
+
+    private boolean updateOverloaded() {
+        long occupancy = ring.occupancy();
+        if (!overloaded && occupancy >= highWatermark) {
+            overloaded = true;
+        } else if (overloaded && occupancy <= lowWatermark) {
+            overloaded = false;
+            flushPending();
+        }
+        return overloaded;
+    }
+
+    private void conflate(SymbolState state, TradeEvent event) {
+        int id = state.getId();
+        if (id >= pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(id + 1, pending.length * 2));
+        }
+        TradeEvent slot = pending[id];
+        if (slot == null) {
+            slot = pending[id] = new TradeEvent();
+        }
+        if (slot.getType() != null) {
+            state.getShedCount().incrementAndGet();     // 앞서 남겨 둔 체결을 덮어쓴다
+        } else {
+            if (pendingCount == pendingIds.length) {
+                pendingIds = Arrays.copyOf(pendingIds, pendingCount * 2);
+            }
+            pendingIds[pendingCount++] = id;
+        }
+        slot.copyFrom(event);
+    }
+
+    private void sample(SymbolState state, TradeEvent event) {
+        int id = state.getId();
+        if (id >= sampleCounters.length) {
+            sampleCounters = Arrays.copyOf(sampleCounters, Math.max(id + 1, sampleCounters.length * 2));
+        }
+        if (sampleCounters[id]++ % sampleEvery == 0) {
+            publish(state, event);
+        } else {
+            state.getShedCount().incrementAndGet();
+        }
+    }
+
+    /**
+     * 가장 느린 소비자가 low watermark까지 따라올 때까지 기다린다.
+     * 그동안 onText가 반환되지 않으므로 이 연결의 다른 심볼도 함께 멈추고, 소켓 수신 요청도 나가지 않는다.
+     */
+    private void block(SymbolState state, TradeEvent event) {
+        long start = System.nanoTime();
+        while (ring.occupancy() > lowWatermark) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        state.getBackpressureCount().incrementAndGet();
+        state.getBackpressureNanos().addAndGet(System.nanoTime() - start);
+        overloaded = false;
+        flushPending();
+        publish(state, event);
+    }
+
+    /**
+     * 링이 가득 찼으면 conflate로 남겨 둔다.
+     */
+    private void publish(SymbolState state, TradeEvent event) {
+        if (!ring.tryPublish(event)) {
+            conflate(state, event);
+        }
+    }
+
+    /**
+     * 남겨 둔 체결을 링에 넣는다. 링이 가득 차면 나머지는 다음 flush까지 그대로 둔다.
+     */
+    private void flushPending() {
+        int flushed = 0;
+        while (flushed < pendingCount) {
+            TradeEvent slot = pending[pendingIds[flushed]];
+            if (!ring.tryPublish(slot)) {
+                break;
+            }
+            slot.clear();
+            flushed++;
+        }
+        System.arraycopy(pendingIds, flushed, pendingIds, 0, pendingCount - flushed);
+        pendingCount -= flushed;
+    }
+}
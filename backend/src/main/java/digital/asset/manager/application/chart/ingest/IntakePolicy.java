@@ -0,0 +1,29 @@
+package digital.asset.manager.application.chart.ingest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소비자가 밀려 링이 차오를 때 심볼별로 무엇을 버릴지 정하는 정책
+ */
+@Getter
+@RequiredArgsConstructor
+public enum IntakePolicy {
+    // 심볼별 마지막 체결 하나만 남겨 두었다가 링이 비워지면 넘긴다 (가격은 최신, 중간 체결은 버림)
+    CONFLATE("conflate"),
+    // N건 중 1건만 넘긴다
+    SAMPLE("sample"),
+    // 링이 비워질 때까지 수신 스레드를 멈춘다 (버리는 체결은 없고, 그동안 소켓을 읽지 않아 거래소 쪽으로 밀린다)
+    BLOCK("block");
+
+    private final String code;
+
+    public static IntakePolicy of(String code) {
+        for (IntakePolicy policy : values()) {
+            if (policy.code.equalsIgnoreCase(code.trim())) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 수신 정책: " + code);
+    }
+}
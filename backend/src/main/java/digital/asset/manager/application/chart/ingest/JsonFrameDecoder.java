@@ -0,0 +1,247 @@
+package digital.asset.manager.application.chart.ingest;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.nio.CharBuffer;
+
+/**
+ * 거래소 JSON 프레임 디코더 공통 부분
+ * 분할(last=false)되어 들어오는 프레임을 재사용 버퍼에 이어 붙이고, 버퍼 위치(offset, length)만으로 값을 읽는 도구를 제공한다.
+ * 연결(웹소켓) 하나에 하나씩 두고 한 스레드에서만 사용한다.
+ *
+ * 거래소마다 필드 이름과 중첩 구조가 달라서, 하위 클래스는 {@link #walkObject}가 부르는 훅
+ * (descend, onValue, onObjectEnd)만 구현하면 String/Map 등 중간 객체 없이 디코딩할 수 있다.
+ */
+public abstract class JsonFrameDecoder implements TradeDecoder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    protected char[] buf = new char[INITIAL_CAPACITY];
+    protected int length;
+
+    /**
+     * 프레임 조각을 버퍼에 이어 붙인다.
+     * @return 프레임이 완성되었으면(last=true) true
+     */
+    @Override
+    public boolean append(CharSequence data, boolean last) {
+        int n = data.length();
+        ensureCapacity(length + n);
+        if (data instanceof CharBuffer charBuffer) {
+            charBuffer.get(charBuffer.position(), buf, length, n);
+        } else if (data instanceof String string) {
+            string.getChars(0, n, buf, length);
+        } else {
+            for (int i = 0; i < n; i++) {
+                buf[length + i] = data.charAt(i);
+            }
+        }
+        length += n;
+        return last;
+    }
+
+    /**
+     * 다음 프레임을 받기 위해 버퍼를 비운다. (버퍼 자체는 재사용)
+     */
+    @Override
+    public void reset() {
+        length = 0;
+    }
+
+    public char[] buffer() {
+        return buf;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * '{' 위치에서 시작하는 객체를 읽으면서 값(문자열은 따옴표 안쪽, 그 외는 리터럴 그대로)마다 onValue를 부르고,
+     * 객체가 끝나면 onObjectEnd를 부른다. 중첩 객체/배열은 descend가 true인 경우에만 들어간다.
+     * @return 객체가 끝난 다음 위치
+     */
+    protected int walkObject(int pos, int depth) {
+        pos++;  // '{'
+        while (true) {
+            pos = skipWhitespace(pos);
+            if (pos >= length || buf[pos] == '}') {
+                onObjectEnd(depth);
+                return pos + 1;
+            }
+            if (buf[pos] == ',') {
+                pos++;
+                continue;
+            }
+            int keyOffset = pos + 1;
+            pos = skipString(pos);
+            int keyLength = pos - keyOffset - 1;
+            pos = skipWhitespace(pos);
+            pos = skipWhitespace(pos + 1);  // ':'
+            if (pos >= length) {
+                return pos;
+            }
+            char c = buf[pos];
+            if (c == '{' || c == '[') {
+                if (!descend(depth, keyOffset, keyLength)) {
+                    pos = skipNested(pos);
+                } else if (c == '{') {
+                    pos = walkObject(pos, depth + 1);
+                } else {
+                    pos = walkArray(pos, depth + 1);
+                }
+            } else if (c == '"') {
+                int valueOffset = pos + 1;
+                pos = skipString(pos);
+                onValue(depth, keyOffset, keyLength, valueOffset, pos - valueOffset - 1);
+            } else {
+                int valueOffset = pos;
+                pos = skipLiteral(pos);
+                onValue(depth, keyOffset, keyLength, valueOffset, pos - valueOffset);
+            }
+        }
+    }
+
+    /**
+     * '[' 위치에서 시작하는 배열의 객체 원소를 차례로 walkObject 한다. 객체가 아닌 원소는 건너뛴다.
+     */
+    protected int walkArray(int pos, int depth) {
+        pos++;  // '['
+        while (true) {
+            pos = skipWhitespace(pos);
+            if (pos >= length || buf[pos] == ']') {
+                return pos + 1;
+            }
+            char c = buf[pos];
+            if (c == ',') {
+                pos++;
+            } else if (c == '{') {
+                pos = walkObject(pos, depth);
+            } else if (c == '[') {
+                pos = skipNested(pos);
+            } else if (c == '"') {
+                pos = skipString(pos);
+            } else {
+                pos = skipLiteral(pos);
+            }
+        }
+    }
+
+    /**
+     * 중첩 객체/배열에 들어갈지 여부
+     */
+    protected boolean descend(int depth, int keyOffset, int keyLength) {
+        return false;
+    }
+
+    protected void onValue(int depth, int keyOffset, int keyLength, int valueOffset, int valueLength) {
+    }
+
+    protected void onObjectEnd(int depth) {
+    }
+
+    protected long fixed(int offset, int len) {
+        return len == 0 ? 0 : FixedPoint.parse(buf, offset, len);
+    }
+
+    /**
+     * 숫자 리터럴을 고정소수점으로. 지수 표기(1.0E-4)는 드물어서 그때만 문자열을 만든다.
+     */
+    protected long number(int offset, int len) {
+        for (int i = offset; i < offset + len; i++) {
+            if (buf[i] == 'E' || buf[i] == 'e') {
+                return FixedPoint.fromDouble(Double.parseDouble(new String(buf, offset, len)));
+            }
+        }
+        return fixed(offset, len);
+    }
+
+    protected long parseLong(int offset, int len) {
+        long value = 0;
+        for (int i = offset; i < offset + len; i++) {
+            char c = buf[i];
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * '"' 위치에서 시작하는 문자열을 건너뛰고 닫는 따옴표 다음 위치를 돌려준다.
+     */
+    protected int skipString(int pos) {
+        pos++;
+        while (pos < length) {
+            char c = buf[pos++];
+            if (c == '\\') {
+                pos++;
+            } else if (c == '"') {
+                return pos;
+            }
+        }
+        return pos;
+    }
+
+    protected int skipNested(int pos) {
+        int depth = 0;
+        while (pos < length) {
+            char c = buf[pos];
+            if (c == '"') {
+                pos = skipString(pos);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth == 0) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * 숫자 또는 true/false/null
+     */
+    protected int skipLiteral(int pos) {
+        while (pos < length && buf[pos] != ',' && buf[pos] != '}' && buf[pos] != ']' && !isWhitespace(buf[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    protected int skipWhitespace(int pos) {
+        while (pos < length && isWhitespace(buf[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    protected static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    protected boolean regionEquals(int offset, int len, String expected) {
+        if (len != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (buf[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buf.length) {
+            char[] grown = new char[Math.max(required, buf.length * 2)];
+            System.arraycopy(buf, 0, grown, 0, length);
+            buf = grown;
+        }
+    }
+}
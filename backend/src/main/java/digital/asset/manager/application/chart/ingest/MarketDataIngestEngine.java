@@ -0,0 +1,440 @@
+package digital.asset.manager.application.chart.ingest;
+
+import digital.asset.manager.application.chart.exchange.ExchangeAdapter;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.exchange.Instrument;
+import digital.asset.manager.application.chart.metrics.IngestMetrics;
+import digital.asset.manager.application.chart.replay.FeedRecorder;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 시세 수집 엔진
+ * 설정된 심볼들을 거래소별로 몇 개의 웹소켓 연결(shard)에 나눠 담고, 심볼별 상태를 관리한다.
+ * 심볼 수가 늘어도 연결 수와 스레드 수는 설정값 근처로 유지된다.
+ * 거래소별 구독 방식과 메시지 형식은 {@link ExchangeAdapter}가 감싸므로, 디코딩 이후(링 버퍼, TradeHandler)는
+ * 모든 거래소가 같은 경로를 타고 최신가 저장소 등은 거래소 접두어가 붙은 키(UPBIT:BTCKRW)로 구분된다.
+ * 디코딩된 체결은 등록된 TradeHandler(최신가 저장소, Redis 저장 등)에 차례로 전달한다.
+ * TradeHandler 중 {@link TradeRestorer}(체결 이력 복구)가 있으면 복구가 끝난 뒤 연결하고, 복구한 마지막 체결 id를 심볼 상태에 넣는다.
+ * 연결 유지/재연결은 {@link FeedSupervisor}가, 끊긴 동안 빠진 체결은 {@link AggTradeBackfiller}(바이낸스)가 맡는다.
+ * 보충은 REST를 여러 번 기다리므로 보충 전용 스레드에서 받고, 그동안 그 심볼의 실시간 체결은 연결별로 모아 둔다.
+ * 보충이 끝나면 수신 스레드가 다음 프레임을 처리할 때 보충분 -> 모아 둔 실시간분 순서로 넘긴다.
+ * (링은 생산자가 하나라는 전제이므로 보충 스레드가 직접 링에 넣지 않는다)
+ *
+ * 링 버퍼를 켜면(기본) 수신 스레드는 디코딩과 체결 id 확인까지만 하고 연결별 {@link TradeRingBuffer}에 넣는다.
+ * TradeHandler마다 전용 소비자 스레드가 따라오므로 느린 핸들러(Redis 등)가 소켓 수신을 늦추지 않는다.
+ * 한 심볼은 한 연결에만 속하므로 심볼별 순서는 그대로 유지된다.
+ * 소비자가 밀려 링이 차오르면 {@link IntakeGate}가 심볼별 {@link IntakePolicy}(conflate, sample, block)를 적용한다.
+ */
+@Service
+@Slf4j
+public class MarketDataIngestEngine {
+
+    private static final String METRICS_CONSUMER = "ingest-metrics";
+
+    private final MarketDataProperties properties;
+    private final SymbolTable symbolTable;
+    private final TradeHandler[] handlers;
+    private final IngestMetrics metrics;
+    private final FeedRecorder recorder;
+    private final ExchangeRegistry exchanges;
+
+    private final Map<String, SymbolState> states = new ConcurrentHashMap<>();
+    // 수신 경로에서 심볼 id로 바로 찾기 위한 배열 (구독 변경 시에만 교체)
+    private volatile SymbolState[] statesById = new SymbolState[0];
+    private final List<StreamShard> shards = new CopyOnWriteArrayList<>();
+    // 거래소별 연결 (shard id는 전체 목록 기준)
+    private final Map<String, List<StreamShard>> shardsByExchange = new ConcurrentHashMap<>();
+    private final List<TradeRingBuffer> rings = new CopyOnWriteArrayList<>();
+    private Intake replayIntake;
+    private final ExecutorService executor;
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor();
+    private final FeedSupervisor supervisor;
+    private final AggTradeBackfiller backfiller;
+    private volatile boolean started;
+    private boolean stopped;
+
+    public MarketDataIngestEngine(MarketDataProperties properties, SymbolTable symbolTable, List<TradeHandler> handlers,
+                                  IngestMetrics metrics, FeedRecorder recorder, ExchangeRegistry exchanges) {
+        this.properties = properties;
+        this.symbolTable = symbolTable;
+        this.handlers = handlers.toArray(TradeHandler[]::new);
+        this.metrics = metrics;
+        this.recorder = recorder;
+        this.exchanges = exchanges;
+        // 웹소켓 콜백 스레드는 거래소별 연결 수의 합만큼만 둔다
+        int threads = exchanges.getAdapters().stream().mapToInt(ExchangeAdapter::getConnections).sum();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        HttpClient client = HttpClient.newBuilder().executor(executor).build();
+        MarketDataProperties.Supervisor supervisorConfig = properties.getSupervisor();
+        this.supervisor = new FeedSupervisor(supervisorConfig, client);
+        // 보충 요청은 보충 스레드에서 동기로 기다리므로 웹소켓 스레드 풀과 다른 클라이언트를 쓴다
+        this.backfiller = new AggTradeBackfiller(properties.getRestUrl(), HttpClient.newHttpClient(),
+                Duration.ofMillis(supervisorConfig.getBackfillTimeoutMs()), supervisorConfig.getBackfillMaxTrades());
+    }
+
+    @PostConstruct
+    public void start() {
+        exchanges.getAdapters().forEach(metrics::registerExchange);
+        properties.getSymbols().forEach(this::subscribe);
+        List<CompletableFuture<Map<String, TradeRestorer.LastTrade>>> restores = Arrays.stream(handlers)
+                .filter(TradeRestorer.class::isInstance)
+                .map(handler -> ((TradeRestorer) handler).restored()
+                        .exceptionally(e -> Map.of()))
+                .toList();
+        // 복구한 봉 뒤로 실시간 체결이 이어지도록 복구가 끝난 뒤 연결한다 (복구가 없으면 바로 연결)
+        CompletableFuture.allOf(restores.toArray(CompletableFuture[]::new))
+                .thenRun(() -> openConnections(restores.stream().map(CompletableFuture::join).toList()));
+    }
+
+    private synchronized void openConnections(List<Map<String, TradeRestorer.LastTrade>> restored) {
+        if (stopped) {
+            return;
+        }
+        for (Map<String, TradeRestorer.LastTrade> lastTrades : restored) {
+            lastTrades.forEach((symbol, last) -> {
+                SymbolState state = states.get(symbol);
+                if (state != null && state.isSequential() && last.tradeId() > state.getLastTradeId()) {
+                    state.onTradeId(last.tradeId(), last.tradeTime());
+                }
+            });
+        }
+        shards.forEach(supervisor::connect);
+        supervisor.start(shards);
+        started = true;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        supervisor.stop();
+        shards.forEach(StreamShard::close);
+        executor.shutdown();
+        backfillExecutor.shutdownNow();
+        rings.forEach(TradeRingBuffer::halt);
+    }
+
+    /**
+     * 심볼 추가 (BTCUSDT, UPBIT:BTCKRW 등). 해당 거래소에서 가장 여유 있는 연결에 구독하며 다른 연결은 건드리지 않는다.
+     */
+    public synchronized boolean subscribe(String symbol) {
+        Instrument instrument = exchanges.resolve(symbol);
+        String key = instrument.key();
+        if (states.containsKey(key)) {
+            return false;
+        }
+        ExchangeAdapter adapter = instrument.exchange();
+        List<StreamShard> exchangeShards = shardsByExchange.computeIfAbsent(adapter.getName(), name -> new ArrayList<>());
+        StreamShard shard = exchangeShards.stream()
+                .filter(s -> s.size() < adapter.getMaxStreamsPerConnection())
+                .min(Comparator.comparingInt(StreamShard::size))
+                .orElse(null);
+        // 설정한 연결 수까지는 빈 연결을 먼저 채우고, 그 뒤로는 모든 연결이 가득 찬 경우에만 연결을 하나 늘린다
+        boolean belowTarget = exchangeShards.size() < adapter.getConnections();
+        boolean newShard = shard == null || (belowTarget && shard.size() > 0);
+        if (newShard) {
+            shard = newShard(adapter, shards.size());
+            if (!belowTarget) {
+                log.warn("[{}] 모든 연결이 가득 차서 연결을 추가합니다. (shard-{})", adapter.getName(), shard.getId());
+            }
+            shards.add(shard);
+            exchangeShards.add(shard);
+        }
+        SymbolState state = new SymbolState(symbolTable.register(key), key, adapter.getName(), instrument.symbol(),
+                shard.getId(), policy(key), adapter.isSequential());
+        states.put(key, state);
+        setStateById(state.getId(), state);
+        metrics.registerSymbol(state);
+        shard.subscribe(instrument.symbol());
+        if (newShard && started) {
+            supervisor.connect(shard);
+        }
+        return true;
+    }
+
+    /**
+     * 실행 중 심볼 제거. 해당 심볼이 속한 연결에만 구독 해지를 알린다.
+     */
+    public synchronized boolean unsubscribe(String symbol) {
+        SymbolState state = states.remove(exchanges.key(symbol));
+        if (state == null) {
+            return false;
+        }
+        setStateById(state.getId(), null);
+        metrics.removeSymbol(state);
+        shards.get(state.getShardId()).unsubscribe(state.getPair());
+        return true;
+    }
+
+    public List<SymbolState> getStates() {
+        return states.values().stream()
+                .sorted(Comparator.comparing(SymbolState::getSymbol))
+                .toList();
+    }
+
+    public Optional<SymbolState> getState(String symbol) {
+        return Optional.ofNullable(states.get(exchanges.key(symbol)));
+    }
+
+    /**
+     * 실시간 연결과 같은 경로(디코딩 -> 체결 id 확인 -> TradeHandler)로 프레임을 처리하는 처리기 (녹화 재생용)
+     * 녹화는 바이낸스 연결만 하므로 바이낸스 형식으로 디코딩하며, 구독 중인 심볼의 프레임만 반영된다.
+     * 체결 id 확인과 보충은 하지 않는다. (실시간 연결의 마지막 체결 id는 수신 스레드만 갱신하고, 재생 중 끊김으로 실제 거래소에 보충을 요청하지 않도록)
+     */
+    public synchronized StreamFrameHandler newFrameHandler() {
+        // 재생 스레드가 실시간 연결의 링에 같이 쓰면 생산자가 둘이 되므로 재생용 링을 따로 둔다
+        if (replayIntake == null) {
+            replayIntake = new Intake(newGate("replay"), false);
+        }
+        Intake intake = replayIntake;
+        return new TradeFrameHandler(exchanges.getDefault().newDecoder(symbolTable), event -> dispatch(intake, event));
+    }
+
+    public List<TradeRingBuffer> getRings() {
+        return List.copyOf(rings);
+    }
+
+    private StreamShard newShard(ExchangeAdapter adapter, int id) {
+        Intake intake = new Intake(newGate("shard-" + id), true);
+        StreamFrameHandler frames = new TradeFrameHandler(adapter.newDecoder(symbolTable), event -> dispatch(intake, event));
+        // 재생은 바이낸스 형식으로만 하므로 녹화도 바이낸스 연결만 한다
+        if (adapter == exchanges.getDefault()) {
+            frames = recorder.wrap(id, frames);
+        }
+        return new StreamShard(id, adapter.newProtocol(), frames, supervisor, properties.getFlowControl().getRequestBatch());
+    }
+
+    /**
+     * 핸들러마다 소비자 하나, 마지막에 지연 측정 소비자를 둔 링과 그 앞단의 수신 정책.
+     * 링을 끄면 null (수신 스레드에서 바로 호출)
+     */
+    private IntakeGate newGate(String name) {
+        MarketDataProperties.Ring config = properties.getRing();
+        if (!config.isEnabled()) {
+            return null;
+        }
+        TradeRingBuffer ring = new TradeRingBuffer(name, config.getBufferSize());
+        for (TradeHandler handler : handlers) {
+            String consumerName = consumerName(handler);
+            ring.addConsumer(consumerName, handler, waitStrategy(config, consumerName));
+        }
+        // 모든 핸들러가 처리한 뒤에 읽으므로 parse_to_store가 "모든 저장 완료"까지의 시간이 된다
+        ring.addFinalConsumer(METRICS_CONSUMER, event -> metrics.recordIngest(event, System.nanoTime()),
+                waitStrategy(config, METRICS_CONSUMER));
+        ring.start();
+        rings.add(ring);
+        metrics.registerRing(ring);
+        return new IntakeGate(ring, properties.getFlowControl());
+    }
+
+    private void dispatch(Intake intake, TradeEvent event) {
+        if (!intake.completed.isEmpty()) {
+            completeBackfills(intake);
+        }
+        SymbolState[] byId = statesById;
+        int id = event.getSymbolId();
+        SymbolState state = id < byId.length ? byId[id] : null;
+        if (state == null) {    // UNSUBSCRIBE 직후 도착한 메시지
+            return;
+        }
+        if (intake.sequenced && event.getType() == TradeEvent.Type.TRADE && state.isSequential()
+                && !checkSequence(intake, state, event)) {
+            return;
+        }
+        state.onReceived(event.getReceivedAt());
+        Backfill backfill = intake.pending.isEmpty() ? null : intake.pending.get(id);
+        if (backfill != null) {     // 보충 중인 심볼은 보충분 뒤에 넘기도록 모아 둔다
+            backfill.buffered.add(event);
+            return;
+        }
+        deliver(intake.gate, state, event);
+        if (intake.gate == null) {
+            metrics.recordIngest(event, System.nanoTime());
+        }
+    }
+
+    /**
+     * 체결 id 연속성 확인. 바이낸스 체결 id는 심볼별로 1씩 증가한다.
+     * 건너뛴 경우(재연결 등) 빠진 구간의 보충을 걸고, 보충이 끝날 때까지 이 심볼의 체결은 모아 둔다.
+     * 보충 중에 또 끊기면 끊김만 세고 다시 보충하지 않는다.
+     * @return false면 이미 받은 체결(재연결 직후 중복)이므로 버린다
+     */
+    private boolean checkSequence(Intake intake, SymbolState state, TradeEvent event) {
+        long lastTradeId = state.getLastTradeId();
+        long tradeId = event.getTradeId();
+        if (lastTradeId > 0 && tradeId <= lastTradeId) {
+            return false;
+        }
+        if (lastTradeId > 0 && tradeId > lastTradeId + 1) {
+            state.getGapCount().incrementAndGet();
+            log.warn("[{}] 체결 id 끊김: {} -> {} ({}건 누락)", state.getSymbol(), lastTradeId, tradeId, tradeId - lastTradeId - 1);
+            if (properties.getSupervisor().isBackfillEnabled() && !intake.pending.containsKey(state.getId())) {
+                startBackfill(intake, state, lastTradeId, tradeId);
+            }
+        }
+        state.onTradeId(tradeId, event.getTradeTime());
+        return true;
+    }
+
+    private void startBackfill(Intake intake, SymbolState state, long afterTradeId, long beforeTradeId) {
+        Backfill backfill = new Backfill(state);
+        long startTime = state.getLastTradeTime();
+        intake.pending.put(state.getId(), backfill);
+        try {
+            backfillExecutor.execute(() -> {
+                try {
+                    int count = backfiller.backfill(state.getId(), state.getSymbol(), afterTradeId, beforeTradeId,
+                            startTime, backfill.trades::add);
+                    state.getBackfilledCount().addAndGet(count);
+                    log.info("[{}] aggTrades {}건으로 보충 완료", state.getSymbol(), count);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.error("[{}] 체결 보충 실패: {}", state.getSymbol(), e.getMessage());
+                } finally {
+                    intake.completed.add(backfill);
+                }
+            });
+        } catch (RejectedExecutionException e) {    // 종료 중
+            intake.pending.remove(state.getId());
+        }
+    }
+
+    /**
+     * 끝난 보충분과 그동안 모아 둔 실시간 체결을 순서대로 넘긴다. (수신 스레드에서만 호출)
+     */
+    private void completeBackfills(Intake intake) {
+        Backfill backfill;
+        while ((backfill = intake.completed.poll()) != null) {
+            SymbolState state = backfill.state;
+            intake.pending.remove(state.getId());
+            int id = state.getId();
+            SymbolState[] byId = statesById;
+            if (id >= byId.length || byId[id] != state) {   // 보충 중에 구독 해지
+                continue;
+            }
+            for (TradeEvent event : backfill.trades.events) {
+                deliver(intake.gate, state, event);
+            }
+            for (TradeEvent event : backfill.buffered.events) {
+                deliver(intake.gate, state, event);
+                if (intake.gate == null) {
+                    metrics.recordIngest(event, System.nanoTime());
+                }
+            }
+        }
+    }
+
+    private void deliver(IntakeGate gate, SymbolState state, TradeEvent event) {
+        state.onTrade(event.getPrice(), event.getEventTime());
+        if (gate != null) {
+            gate.offer(state, event);
+            return;
+        }
+        for (TradeHandler handler : handlers) {
+            try {
+                handler.onTrade(event);
+            } catch (Exception e) {   // 한 핸들러의 실패가 다른 핸들러를 막지 않도록
+                log.error("[{}] 체결 처리 실패: {}", handler.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 연결(또는 재생) 하나의 수신 경로: 링 앞단의 수신 정책과 진행 중인 보충
+     */
+    private static final class Intake {
+
+        private final IntakeGate gate;
+        // 체결 id 확인/보충 대상인지 (실시간 연결만)
+        private final boolean sequenced;
+        // 보충 중인 심볼 id -> 보충 (수신 스레드에서만 쓴다)
+        private final Map<Integer, Backfill> pending = new HashMap<>();
+        // 보충 스레드가 끝낸 보충 (수신 스레드가 꺼내서 넘긴다)
+        private final Queue<Backfill> completed = new ConcurrentLinkedQueue<>();
+
+        private Intake(IntakeGate gate, boolean sequenced) {
+            this.gate = gate;
+            this.sequenced = sequenced;
+        }
+    }
+
+    /**
+     * 심볼 하나의 보충. 보충분은 보충 스레드가, 모아 두는 실시간 체결은 수신 스레드가 채운다.
+     * 수신 스레드는 completed 큐를 거쳐 받은 뒤에만 trades를 읽는다.
+     */
+    private static final class Backfill {
+
+        private final SymbolState state;
+        private final EventList trades = new EventList();
+        private final EventList buffered = new EventList();
+
+        private Backfill(SymbolState state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * 재사용되는 TradeEvent를 복사해서 쌓는 목록
+     */
+    private static final class EventList {
+
+        private final List<TradeEvent> events = new ArrayList<>();
+
+        private void add(TradeEvent event) {
+            TradeEvent copy = new TradeEvent();
+            copy.copyFrom(event);
+            events.add(copy);
+        }
+    }
+
+    private void setStateById(int id, SymbolState state) {
+        SymbolState[] byId = statesById;
+        if (id >= byId.length) {
+            byId = Arrays.copyOf(byId, Math.max(id + 1, byId.length * 2));
+        } else {
+            byId = byId.clone();
+        }
+        byId[id] = state;
+        statesById = byId;
+    }
+
+    private IntakePolicy policy(String symbol) {
+        MarketDataProperties.FlowControl config = properties.getFlowControl();
+        return IntakePolicy.of(config.getPolicies().getOrDefault(symbol, config.getDefaultPolicy()));
+    }
+
+    private static WaitStrategy waitStrategy(MarketDataProperties.Ring config, String consumerName) {
+        return WaitStrategy.of(config.getWaitStrategies().getOrDefault(consumerName, config.getWaitStrategy()));
+    }
+
+    /**
+     * PriceRegistry -> price-registry
+     */
+    private static String consumerName(TradeHandler handler) {
+        String simpleName = ClassUtils.getUserClass(handler).getSimpleName();
+        return simpleName.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+    }
+}
@@ -0,0 +1,122 @@
+package digital.asset.manager.application.chart.ingest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 링 버퍼 소비자 하나 (전용 스레드)
+ * 읽을 수 있는 구간을 한 번에 처리하고 sequence는 구간 끝에서 한 번만 갱신한다.
+ * 이벤트는 소비자별 TradeEvent에 복사해서 넘기므로 handler는 지금처럼 재사용 객체를 받는다.
+ */
+@Slf4j
+public class RingConsumer {
+
+    private static final long OVERRUN_LOG_INTERVAL_MS = 1_000;
+
+    private final TradeRingBuffer ring;
+    @Getter
+    private final String name;
+    private final TradeHandler handler;
+    @Getter
+    private final WaitStrategy waitStrategy;
+    private final LongSupplier barrier;
+    private final AtomicLong sequence = new AtomicLong(-1);
+    private final AtomicLong overruns = new AtomicLong();
+    private final TradeEvent event = new TradeEvent();
+    private long lastOverrunLogAt;
+    private volatile boolean running = true;
+    private final BooleanSupplier isRunning = () -> running;
+    private Thread thread;
+
+    RingConsumer(TradeRingBuffer ring, String name, TradeHandler handler, WaitStrategy waitStrategy, LongSupplier barrier) {
+        this.ring = ring;
+        this.name = name;
+        this.handler = handler;
+        this.waitStrategy = waitStrategy;
+        this.barrier = barrier;
+    }
+
+    /**
+     * 마지막으로 처리한 sequence
+     */
+    public long getSequence() {
+        return sequence.getAcquire();
+    }
+
+    /**
+     * 생산자보다 뒤처진 이벤트 수
+     */
+    public long lag() {
+        return Math.max(0, ring.cursor() - getSequence());
+    }
+
+    /**
+     * 뒤처져서 덮어써진 탓에 건너뛴 이벤트 수
+     */
+    public long getOverruns() {
+        return overruns.get();
+    }
+
+    void start() {
+        thread = Thread.ofPlatform()
+                .name("ring-" + ring.getName() + "-" + name)
+                .daemon(true)
+                .start(this::run);
+    }
+
+    void halt() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        long next = sequence.get() + 1;
+        while (running) {
+            long available = waitStrategy.waitFor(next, barrier, isRunning);
+            if (available < next) {
+                continue;
+            }
+            long current = next;
+            while (current <= available) {
+                if (ring.read(current, event)) {
+                    handle();
+                    current++;
+                } else {
+                    current = skip(current);
+                }
+            }
+            sequence.setRelease(current - 1);
+            next = current;
+        }
+    }
+
+    private void handle() {
+        try {
+            handler.onTrade(event);
+        } catch (Exception e) {   // 한 이벤트의 실패가 소비자 스레드를 멈추지 않도록
+            log.error("[{}] 체결 처리 실패: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 한 바퀴 뒤처진 경우. 바로 다시 따라잡히지 않도록 버퍼 절반 위치로 건너뛴다.
+     */
+    private long skip(long current) {
+        long resume = Math.max(current + 1, ring.cursor() - ring.getCapacity() / 2);
+        long skipped = resume - current;
+        overruns.addAndGet(skipped);
+        // 로그가 다시 소비자를 늦추지 않도록 1초에 한 번만 남긴다
+        long now = System.currentTimeMillis();
+        if (now - lastOverrunLogAt >= OVERRUN_LOG_INTERVAL_MS) {
+            lastOverrunLogAt = now;
+            log.warn("[ring-{}-{}] 소비자가 뒤처져 이벤트를 건너뜁니다. (누적 {}건)", ring.getName(), name, overruns.get());
+        }
+        return resume;
+    }
+}
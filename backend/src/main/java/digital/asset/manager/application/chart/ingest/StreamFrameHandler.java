@@ -0,0 +1,24 @@
+package digital.asset.manager.application.chart.ingest;
+
+/**
+ * 웹소켓 텍스트 프레임 처리기
+ * 연결 하나에 하나씩 두며, 해당 연결의 수신 스레드에서만 호출된다.
+ */
+public interface StreamFrameHandler {
+
+    /**
+     * 프레임 조각을 모은다.
+     * @return 프레임이 완성되었으면 true
+     */
+    boolean append(CharSequence data, boolean last);
+
+    /**
+     * 모인 프레임 하나를 처리한다.
+     */
+    void handleFrame();
+
+    /**
+     * 다음 프레임을 위해 버퍼를 비운다.
+     */
+    void reset();
+}
@@ -0,0 +1,54 @@
+package digital.asset.manager.application.chart.ingest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 거래소별 웹소켓 구독 방식
+ * 연결 URL에 심볼을 담는지, 연결 후 구독 메시지를 보내는지, 실행 중 구독 변경을 어떻게 알리는지가 거래소마다 다르다.
+ * {@link StreamShard} 하나에 하나씩 두며, 메시지 생성은 shard가 순서대로 호출한다.
+ */
+public interface StreamProtocol {
+
+    /**
+     * @param symbols 연결 시점의 심볼 (URL로 구독하지 않는 거래소는 무시한다)
+     */
+    String connectUrl(Set<String> symbols);
+
+    /**
+     * 연결 직후 보낼 메시지
+     * @param symbols 현재 심볼 전체
+     * @param connected 연결 URL에 담겼던 심볼
+     */
+    List<String> onOpen(Set<String> symbols, Set<String> connected);
+
+    /**
+     * 연결 중 심볼 추가 시 보낼 메시지
+     * @param symbols 추가 후 심볼 전체
+     */
+    List<String> subscribe(Set<String> symbols, String symbol);
+
+    /**
+     * 연결 중 심볼 제거 시 보낼 메시지. 해지를 지원하지 않는 거래소는 빈 목록 (엔진이 해당 심볼 메시지를 버린다)
+     * @param symbols 제거 후 심볼 전체
+     */
+    List<String> unsubscribe(Set<String> symbols, String symbol);
+
+    /**
+     * 연결 상태 변경 알림 (거래소 상태 집계용)
+     */
+    default void onConnected() {
+    }
+
+    default void onDisconnected() {
+    }
+
+    /**
+     * 바이낸스 combined stream: 연결 URL(?streams=a/b/c)로 구독하고, 실행 중에는 SUBSCRIBE/UNSUBSCRIBE를 스트림 단위로 보낸다.
+     * @param streamName 심볼 -> 스트림 이름 (ex. btcusdt@trade, btcusdt@depth@100ms)
+     */
+    static StreamProtocol combined(String streamUrl, Function<String, String> streamName) {
+        return new CombinedStreamProtocol(streamUrl, streamName);
+    }
+}
@@ -0,0 +1,283 @@
+package digital.asset.manager.application.chart.ingest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 거래소 웹소켓 연결 하나
+ * 여러 심볼의 스트림을 한 연결에 묶어서 받고, 실행 중 심볼 추가/제거는 거래소별 {@link StreamProtocol}이 만든 메시지로 알린다.
+ * (바이낸스는 combined stream URL + SUBSCRIBE/UNSUBSCRIBE, 업비트/빗썸은 연결 후 구독 메시지)
+ * 연결이 끊기거나 조용해지면 {@link FeedSupervisor}에 알리고, 재연결은 supervisor가 건다.
+ * 받은 프레임의 해석은 {@link StreamFrameHandler}(체결, 호가 등)에 맡긴다. 바이너리 프레임(업비트)은 UTF-8 텍스트로 바꿔서 넘긴다.
+ *
+ * 수신 요청(request)은 메시지마다 하지 않고 requestBatch 단위로 미리 걸어 두며, 절반을 받으면 다시 채운다.
+ * 처리기가 onText에서 멈추면(block 정책) 새 요청이 나가지 않으므로 HttpClient가 소켓 읽기를 멈춘다.
+ */
+@Slf4j
+public class StreamShard implements WebSocket.Listener {
+
+    @Getter
+    private final int id;
+    private final StreamProtocol protocol;
+    private final FeedSupervisor supervisor;
+    private final StreamFrameHandler frames;
+    private final int requestBatch;
+    private final Set<String> symbols = ConcurrentHashMap.newKeySet();
+
+    private volatile WebSocket webSocket;
+    // 마지막으로 무엇이든(메시지, ping, pong) 받은 시각 (System.nanoTime)
+    @Getter
+    private volatile long lastReceivedAt = System.nanoTime();
+    // 연결 URL에 포함된 심볼 (연결 중에 추가된 심볼은 연결 후 SUBSCRIBE 한다)
+    private volatile Set<String> connectedSymbols = Set.of();
+    private final AtomicBoolean reconnecting = new AtomicBoolean();
+    private final AtomicInteger reconnectAttempts = new AtomicInteger();
+    // 이번 연결에서 남아 있는 수신 요청 수 (리스너 콜백은 순서대로 오므로 수신 스레드에서만 쓴다)
+    private long demand;
+    // 웹소켓은 동시에 하나의 send만 허용하므로 전송을 순서대로 이어 붙인다
+    private CompletableFuture<WebSocket> sendChain = CompletableFuture.completedFuture(null);
+    // 바이너리 프레임 조각 모음과 UTF-8 디코더 (수신 스레드에서만 쓴다)
+    private ByteBuffer binary = ByteBuffer.allocate(0);
+    private final CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder();
+
+    /**
+     * 바이낸스 combined stream 연결
+     * @param streamName 심볼 -> 스트림 이름 (ex. btcusdt@trade, btcusdt@depth@100ms)
+     */
+    public StreamShard(int id, String streamUrl, Function<String, String> streamName, StreamFrameHandler frames,
+                       FeedSupervisor supervisor, int requestBatch) {
+        this(id, StreamProtocol.combined(streamUrl, streamName), frames, supervisor, requestBatch);
+    }
+
+    public StreamShard(int id, StreamProtocol protocol, StreamFrameHandler frames, FeedSupervisor supervisor,
+                       int requestBatch) {
+        this.id = id;
+        this.protocol = protocol;
+        this.frames = frames;
+        this.supervisor = supervisor;
+        this.requestBatch = Math.max(1, requestBatch);
+    }
+
+    CompletableFuture<WebSocket> connect(HttpClient client, Duration connectTimeout) {
+        connectedSymbols = Set.copyOf(symbols);
+        return client.newWebSocketBuilder()
+                .connectTimeout(connectTimeout)
+                .buildAsync(URI.create(protocol.connectUrl(connectedSymbols)), this)
+                .whenComplete((ws, e) -> {
+                    if (e != null) {
+                        log.error("[shard-{}] 웹소켓 연결 실패: {}", id, e.getMessage());
+                    } else {
+                        log.info("[shard-{}] 웹소켓 연결 완료 (심볼 {}개)", id, symbols.size());
+                    }
+                });
+    }
+
+    public void close() {
+        WebSocket ws = webSocket;
+        if (ws != null) {
+            ws.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+        }
+    }
+
+    /**
+     * 응답 없는 연결을 바로 끊는다. (리스너 콜백은 더 이상 오지 않는다)
+     */
+    void abort() {
+        WebSocket ws = webSocket;
+        webSocket = null;
+        if (ws != null) {
+            ws.abort();
+            clearConnection();
+        }
+    }
+
+    void ping() {
+        WebSocket ws = webSocket;
+        if (ws != null) {
+            ws.sendPing(ByteBuffer.allocate(0));
+        }
+    }
+
+    boolean isOpen() {
+        return webSocket != null;
+    }
+
+    boolean markReconnecting() {
+        return reconnecting.compareAndSet(false, true);
+    }
+
+    void clearReconnecting() {
+        reconnecting.set(false);
+    }
+
+    int nextReconnectAttempt() {
+        return reconnectAttempts.incrementAndGet();
+    }
+
+    int resetReconnectAttempts() {
+        return reconnectAttempts.getAndSet(0);
+    }
+
+    /**
+     * 심볼 추가. 이미 연결된 상태면 구독 메시지를 보내고, 연결 전이면 연결 시 함께 구독한다.
+     */
+    public void subscribe(String symbol) {
+        if (symbols.add(symbol) && webSocket != null) {
+            send(protocol.subscribe(Set.copyOf(symbols), symbol));
+        }
+    }
+
+    public void unsubscribe(String symbol) {
+        if (symbols.remove(symbol) && webSocket != null) {
+            send(protocol.unsubscribe(Set.copyOf(symbols), symbol));
+        }
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+
+    public Set<String> symbols() {
+        return Set.copyOf(symbols);
+    }
+
+    private synchronized void send(List<String> messages) {
+        for (String message : messages) {
+            sendChain = sendChain
+                    .thenCompose(ignored -> webSocket.sendText(message, true))
+                    .exceptionally(e -> {
+                        log.error("[shard-{}] 구독 메시지 전송 실패 ({}): {}", id, message, e.getMessage());
+                        return webSocket;
+                    });
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        this.webSocket = webSocket;
+        lastReceivedAt = System.nanoTime();
+        supervisor.onConnected(this);
+        protocol.onConnected();
+        send(protocol.onOpen(Set.copyOf(symbols), connectedSymbols));
+        demand = requestBatch;
+        webSocket.request(requestBatch);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        lastReceivedAt = System.nanoTime();
+        // 분할된 프레임은 마지막 조각이 올 때까지 버퍼에 모은다
+        if (frames.append(data, last)) {
+            try {
+                frames.handleFrame();
+            } catch (Exception e) {
+                log.error("에러 발생: {}", e.getMessage(), e);
+            } finally {
+                frames.reset();
+            }
+        }
+        request(webSocket);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        lastReceivedAt = System.nanoTime();
+        // 멀티바이트 문자가 조각 경계에서 잘릴 수 있으므로 바이트로 모았다가 마지막 조각에서 한 번에 디코딩한다
+        if (binary.remaining() < data.remaining()) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(binary.capacity() * 2, binary.position() + data.remaining()));
+            binary.flip();
+            binary = grown.put(binary);
+        }
+        binary.put(data);
+        if (last) {
+            binary.flip();
+            try {
+                CharBuffer text = utf8.decode(binary);
+                onText(webSocket, text, true);
+                return null;
+            } catch (CharacterCodingException e) {
+                log.error("[shard-{}] 바이너리 프레임 디코딩 실패: {}", id, e.getMessage());
+            } finally {
+                binary.clear();
+            }
+        }
+        request(webSocket);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onPing(WebSocket webSocket, ByteBuffer message) {
+        // pong 응답은 HttpClient가 자동으로 보낸다
+        lastReceivedAt = System.nanoTime();
+        request(webSocket);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onPong(WebSocket webSocket, ByteBuffer message) {
+        lastReceivedAt = System.nanoTime();
+        request(webSocket);
+        return null;
+    }
+
+    /**
+     * 콜백 한 번에 요청 하나가 소모된다. 절반 아래로 내려가면 requestBatch까지 다시 채운다.
+     */
+    private void request(WebSocket webSocket) {
+        if (--demand <= requestBatch / 2) {
+            webSocket.request(requestBatch - demand);
+            demand = requestBatch;
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        log.warn("[shard-{}] 웹소켓 종료: {} {}", id, statusCode, reason);
+        disconnected(webSocket, "종료 " + statusCode);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        log.error("[shard-{}] 웹소켓 에러: {}", id, error.getMessage());
+        webSocket.abort();
+        disconnected(webSocket, "에러 " + error.getMessage());
+    }
+
+    private void disconnected(WebSocket webSocket, String reason) {
+        // 이미 supervisor가 끊고 새로 연결한 경우 이전 연결의 콜백은 무시한다
+        if (this.webSocket == webSocket) {
+            this.webSocket = null;
+            clearConnection();
+            supervisor.onDisconnected(this, reason);
+        }
+    }
+
+    /**
+     * 끊긴 연결에서 모으던 프레임 조각과 거래소별 연결 상태를 비운다. (다음 연결이 이전 조각을 이어 붙이지 않도록)
+     */
+    private void clearConnection() {
+        frames.reset();
+        binary.clear();
+        protocol.onDisconnected();
+    }
+}
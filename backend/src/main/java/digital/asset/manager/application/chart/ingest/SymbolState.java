@@ -0,0 +1,77 @@
+package digital.asset.manager.application.chart.ingest;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 심볼 하나의 수집 상태
+ * 어느 거래소/연결(shard)에 속해 있는지, 수신 건수와 마지막 체결 시각/가격, 체결 id 연속성,
+ * 링이 밀릴 때 적용할 수신 정책과 버린/대기한 건수를 보관한다.
+ */
+@Getter
+public class SymbolState {
+
+    private final int id;
+    // 저장소 키 (BTCUSDT, UPBIT:BTCKRW)
+    private final String symbol;
+    private final String exchange;
+    // 거래소 안의 공통 표기 (BTCKRW)
+    private final String pair;
+    private final int shardId;
+    private final IntakePolicy policy;
+    // 체결 id가 1씩 증가하는 거래소인지 (끊김 감지/보충 대상)
+    private final boolean sequential;
+    private final AtomicLong receivedCount = new AtomicLong();
+    private volatile long lastPrice;
+    private volatile long lastEventTime;
+    // 마지막 실시간 수신 시각 (epoch ms, 데이터 신선도 측정용)
+    private volatile long lastReceivedAt;
+    // 체결 스트림의 마지막 체결 id/시각 (끊김 감지용, 같은 shard 스레드에서만 갱신)
+    private volatile long lastTradeId;
+    private volatile long lastTradeTime;
+    private final AtomicLong gapCount = new AtomicLong();
+    private final AtomicLong backfilledCount = new AtomicLong();
+    // 정책에 따라 버린 체결 수 (conflate로 덮어써졌거나 sample에서 빠진 체결)
+    private final AtomicLong shedCount = new AtomicLong();
+    // block 정책으로 수신을 멈춘 횟수와 누적 시간
+    private final AtomicLong backpressureCount = new AtomicLong();
+    private final AtomicLong backpressureNanos = new AtomicLong();
+
+    public SymbolState(int id, String symbol, String exchange, String pair, int shardId, IntakePolicy policy,
+                       boolean sequential) {
+        this.id = id;
+        this.symbol = symbol;
+        this.exchange = exchange;
+        this.pair = pair;
+        this.shardId = shardId;
+        this.policy = policy;
+        this.sequential = sequential;
+    }
+
+    public void onTrade(long price, long eventTime) {
+        receivedCount.incrementAndGet();
+        this.lastPrice = price;
+        this.lastEventTime = eventTime;
+    }
+
+    public void onReceived(long receivedAt) {
+        this.lastReceivedAt = receivedAt;
+    }
+
+    public void onTradeId(long tradeId, long tradeTime) {
+        this.lastTradeId = tradeId;
+        this.lastTradeTime = tradeTime;
+    }
+
+    /**
+     * 바이낸스 스트림 이름 (ex. btcusdt@trade)
+     */
+    public String streamName() {
+        return streamName(pair);
+    }
+
+    public static String streamName(String symbol) {
+        return symbol.toLowerCase() + "@trade";
+    }
+}
@@ -0,0 +1,125 @@
+package digital.asset.manager.application.chart.ingest;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 심볼 문자열 <-> 정수 id 테이블
+ * 수신 버퍼(char[])의 심볼 구간을 String을 만들지 않고 id로 바꾸기 위해 사용한다.
+ * 등록은 드물게 일어나므로 복사 후 교체하고, 조회는 락 없이 volatile 읽기만 한다.
+ */
+@Component
+public class SymbolTable {
+
+    public static final int NOT_FOUND = -1;
+    public static final int MAX_SYMBOLS = 1 << 16;
+
+    private volatile Table table = new Table(64, new String[0]);
+
+    /**
+     * 심볼 등록. 이미 있으면 기존 id를 돌려준다. id는 제거 없이 계속 유지된다.
+     */
+    public synchronized int register(String symbol) {
+        int id = lookup(symbol);
+        if (id != NOT_FOUND) {
+            return id;
+        }
+        Table current = table;
+        if (current.names.length >= MAX_SYMBOLS) {
+            throw new IllegalStateException("등록 가능한 심볼 수 초과: " + symbol);
+        }
+        String[] names = Arrays.copyOf(current.names, current.names.length + 1);
+        id = names.length - 1;
+        names[id] = symbol;
+        int capacity = current.slots.length;
+        if (names.length * 2 > capacity) {
+            capacity *= 2;
+        }
+        table = new Table(capacity, names);
+        return id;
+    }
+
+    public int lookup(CharSequence symbol) {
+        Table t = table;
+        int mask = t.slots.length - 1;
+        for (int i = hash(symbol) & mask; ; i = (i + 1) & mask) {
+            int id = t.slots[i];
+            if (id == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            if (t.names[id].contentEquals(symbol)) {
+                return id;
+            }
+        }
+    }
+
+    public int lookup(char[] buf, int offset, int length) {
+        Table t = table;
+        int mask = t.slots.length - 1;
+        for (int i = hash(buf, offset, length) & mask; ; i = (i + 1) & mask) {
+            int id = t.slots[i];
+            if (id == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            if (matches(t.names[id], buf, offset, length)) {
+                return id;
+            }
+        }
+    }
+
+    public String name(int id) {
+        return table.names[id];
+    }
+
+    public int size() {
+        return table.names.length;
+    }
+
+    private static boolean matches(String name, char[] buf, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence s) {
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(char[] buf, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + buf[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Table {
+        private final int[] slots;
+        private final String[] names;
+
+        private Table(int capacity, String[] names) {
+            this.slots = new int[capacity];
+            this.names = names;
+            Arrays.fill(slots, NOT_FOUND);
+            int mask = capacity - 1;
+            for (int id = 0; id < names.length; id++) {
+                int i = hash(names[id]) & mask;
+                while (slots[i] != NOT_FOUND) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = id;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package digital.asset.manager.application.chart.ingest;
+
+/**
+ * 거래소 체결 프레임 디코더
+ * 연결 하나에 하나씩 두며, 해당 연결의 수신 스레드에서만 호출된다.
+ */
+public interface TradeDecoder {
+
+    /**
+     * 프레임 조각을 버퍼에 이어 붙인다.
+     * @return 프레임이 완성되었으면 true
+     */
+    boolean append(CharSequence data, boolean last);
+
+    /**
+     * 다음 프레임을 받기 위해 버퍼를 비운다.
+     */
+    void reset();
+
+    /**
+     * 모인 프레임에서 등록된 심볼의 체결/티커를 꺼내 event에 채우고 하나씩 sink로 넘긴다.
+     * 프레임 하나에 체결이 여러 건 담겨 오는 거래소도 있으므로 event는 sink 호출 사이에 재사용된다.
+     * @return 넘긴 건수 (구독 응답 등 그 외 메시지는 0)
+     */
+    int decode(TradeEvent event, TradeHandler sink);
+}
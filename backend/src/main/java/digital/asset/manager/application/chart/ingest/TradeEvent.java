@@ -0,0 +1,60 @@
+package digital.asset.manager.application.chart.ingest;
+
+import lombok.Getter;
+
+/**
+ * 디코딩된 체결/티커 메시지
+ * 메시지마다 새로 만들지 않고 연결별로 하나를 재사용한다. (핸들러는 onTrade 안에서만 값을 읽어야 한다)
+ * 가격/수량은 {@link digital.asset.manager.application.chart.util.FixedPoint} 고정소수점 값이다.
+ */
+@Getter
+public class TradeEvent {
+
+    public enum Type {
+        TRADE, AGG_TRADE, TICKER
+    }
+
+    private Type type;
+    private int symbolId;
+    private long price;
+    private long quantity;
+    private long tradeId;
+    private long eventTime;
+    private long tradeTime;
+    private boolean buyerMaker;
+    // 지연 측정용 수신/디코딩 시각 (실시간 수신분만 채워지고 보충분은 0)
+    private long receivedAt;        // epoch ms
+    private long receivedNanos;     // System.nanoTime
+    private long decodedNanos;
+
+    public void set(Type type, int symbolId, long price, long quantity, long tradeId,
+                    long eventTime, long tradeTime, boolean buyerMaker) {
+        this.type = type;
+        this.symbolId = symbolId;
+        this.price = price;
+        this.quantity = quantity;
+        this.tradeId = tradeId;
+        this.eventTime = eventTime;
+        this.tradeTime = tradeTime;
+        this.buyerMaker = buyerMaker;
+    }
+
+    public void markReceived(long receivedAt, long receivedNanos, long decodedNanos) {
+        this.receivedAt = receivedAt;
+        this.receivedNanos = receivedNanos;
+        this.decodedNanos = decodedNanos;
+    }
+
+    /**
+     * 비어 있는 상태(type == null)로 되돌린다.
+     */
+    public void clear() {
+        this.type = null;
+    }
+
+    public void copyFrom(TradeEvent other) {
+        set(other.type, other.symbolId, other.price, other.quantity, other.tradeId,
+                other.eventTime, other.tradeTime, other.buyerMaker);
+        markReceived(other.receivedAt, other.receivedNanos, other.decodedNanos);
+    }
+}
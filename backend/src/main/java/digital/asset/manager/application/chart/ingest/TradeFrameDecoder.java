@@ -0,0 +1,165 @@
+package digital.asset.manager.application.chart.ingest;
+
+/**
+ * 바이낸스 체결/티커 프레임 디코더
+ * 완성된 프레임에서 심볼, 가격, 수량, 체결 id, 이벤트 시각을 String/Map 등 중간 객체 없이 바로 읽어낸다.
+ * 바이낸스 필드 이름은 모두 한 글자라서 범용 훅 대신 키 첫 글자로 바로 분기한다.
+ *
+ * 지원 이벤트: trade, aggTrade, 24hrTicker, 24hrMiniTicker
+ * 지원 형식: combined stream({"stream":..,"data":{..}}) 과 단일 스트림({..}) 둘 다
+ */
+public class TradeFrameDecoder extends JsonFrameDecoder {
+
+    private final SymbolTable symbolTable;
+
+    // 디코딩 중 찾은 필드 위치 (decode 호출마다 초기화)
+    private int typeOffset, typeLength;
+    private int symbolOffset, symbolLength;
+    private int priceOffset, priceLength;
+    private int quantityOffset, quantityLength;
+    private int closeOffset, closeLength;
+    private int volumeOffset, volumeLength;
+    private long tradeId, aggTradeId, eventTime, tradeTime;
+    private boolean buyerMaker;
+
+    public TradeFrameDecoder(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * 바이낸스는 프레임 하나에 이벤트 하나
+     */
+    @Override
+    public int decode(TradeEvent event, TradeHandler sink) {
+        if (!decode(event)) {
+            return 0;
+        }
+        sink.onTrade(event);
+        return 1;
+    }
+
+    /**
+     * 버퍼에 모인 프레임을 디코딩해서 event에 채운다.
+     * @return 체결/티커 메시지이고 등록된 심볼이면 true. 구독 응답 등 그 외 메시지는 false
+     */
+    public boolean decode(TradeEvent event) {
+        typeLength = symbolLength = priceLength = quantityLength = closeLength = volumeLength = 0;
+        tradeId = aggTradeId = eventTime = tradeTime = 0;
+        buyerMaker = false;
+
+        int pos = skipWhitespace(0);
+        if (pos >= length || buf[pos] != '{') {
+            return false;
+        }
+        parseObject(pos);
+
+        TradeEvent.Type type = eventType();
+        if (type == null || symbolLength == 0) {
+            return false;
+        }
+        int symbolId = symbolTable.lookup(buf, symbolOffset, symbolLength);
+        if (symbolId == SymbolTable.NOT_FOUND) {
+            return false;
+        }
+        switch (type) {
+            case TRADE -> event.set(type, symbolId, fixed(priceOffset, priceLength), fixed(quantityOffset, quantityLength),
+                    tradeId, eventTime, tradeTime, buyerMaker);
+            case AGG_TRADE -> event.set(type, symbolId, fixed(priceOffset, priceLength), fixed(quantityOffset, quantityLength),
+                    aggTradeId, eventTime, tradeTime, buyerMaker);
+            case TICKER -> event.set(type, symbolId, fixed(closeOffset, closeLength), fixed(volumeOffset, volumeLength),
+                    0, eventTime, eventTime, false);
+        }
+        return true;
+    }
+
+    /**
+     * '{' 위치에서 시작하는 객체를 읽고, 객체가 끝난 다음 위치를 돌려준다.
+     */
+    private int parseObject(int pos) {
+        pos++;  // '{'
+        while (true) {
+            pos = skipWhitespace(pos);
+            if (pos >= length || buf[pos] == '}') {
+                return pos + 1;
+            }
+            if (buf[pos] == ',') {
+                pos++;
+                continue;
+            }
+            // key
+            int keyOffset = pos + 1;
+            pos = skipString(pos);
+            int keyLength = pos - keyOffset - 1;
+            pos = skipWhitespace(pos);
+            pos = skipWhitespace(pos + 1);  // ':'
+            if (pos >= length) {
+                return pos;
+            }
+            pos = parseValue(keyOffset, keyLength, pos);
+        }
+    }
+
+    private int parseValue(int keyOffset, int keyLength, int pos) {
+        char c = buf[pos];
+        if (c == '{') {
+            if (keyLength == 4 && regionEquals(keyOffset, keyLength, "data")) {
+                return parseObject(pos);
+            }
+            return skipNested(pos);
+        }
+        if (c == '[') {
+            return skipNested(pos);
+        }
+        if (c == '"') {
+            int valueOffset = pos + 1;
+            int end = skipString(pos);
+            if (keyLength == 1) {
+                onString(buf[keyOffset], valueOffset, end - valueOffset - 1);
+            }
+            return end;
+        }
+        // 숫자 또는 true/false/null
+        int valueOffset = pos;
+        pos = skipLiteral(pos);
+        if (keyLength == 1) {
+            onLiteral(buf[keyOffset], valueOffset, pos - valueOffset);
+        }
+        return pos;
+    }
+
+    private void onString(char key, int offset, int len) {
+        switch (key) {
+            case 'e' -> { typeOffset = offset; typeLength = len; }
+            case 's' -> { symbolOffset = offset; symbolLength = len; }
+            case 'p' -> { priceOffset = offset; priceLength = len; }
+            case 'q' -> { quantityOffset = offset; quantityLength = len; }
+            case 'c' -> { closeOffset = offset; closeLength = len; }
+            case 'v' -> { volumeOffset = offset; volumeLength = len; }
+            default -> { }
+        }
+    }
+
+    private void onLiteral(char key, int offset, int len) {
+        switch (key) {
+            case 'E' -> eventTime = parseLong(offset, len);
+            case 'T' -> tradeTime = parseLong(offset, len);
+            case 't' -> tradeId = parseLong(offset, len);
+            case 'a' -> aggTradeId = parseLong(offset, len);
+            case 'm' -> buyerMaker = buf[offset] == 't';
+            default -> { }
+        }
+    }
+
+    private TradeEvent.Type eventType() {
+        if (regionEquals(typeOffset, typeLength, "trade")) {
+            return TradeEvent.Type.TRADE;
+        }
+        if (regionEquals(typeOffset, typeLength, "aggTrade")) {
+            return TradeEvent.Type.AGG_TRADE;
+        }
+        if (regionEquals(typeOffset, typeLength, "24hrTicker") || regionEquals(typeOffset, typeLength, "24hrMiniTicker")) {
+            return TradeEvent.Type.TICKER;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package digital.asset.manager.application.chart.ingest;
+
+/**
+ * 체결/티커 스트림 프레임 처리기
+ * 거래소별 {@link TradeDecoder}로 디코딩한 결과를 연결별로 재사용하는 TradeEvent에 담아 handler에 넘긴다.
+ */
+class TradeFrameHandler implements StreamFrameHandler {
+
+    private final TradeDecoder decoder;
+    private final TradeHandler handler;
+    private final TradeEvent event = new TradeEvent();
+    private final TradeHandler sink = this::onDecoded;
+    // 처리 중인 프레임의 수신 시각 (한 프레임에 여러 체결이 오면 같은 값을 쓴다)
+    private long receivedAt;
+    private long receivedNanos;
+
+    TradeFrameHandler(TradeDecoder decoder, TradeHandler handler) {
+        this.decoder = decoder;
+        this.handler = handler;
+    }
+
+    @Override
+    public boolean append(CharSequence data, boolean last) {
+        return decoder.append(data, last);
+    }
+
+    @Override
+    public void handleFrame() {
+        receivedAt = System.currentTimeMillis();
+        receivedNanos = System.nanoTime();
+        decoder.decode(event, sink);
+    }
+
+    @Override
+    public void reset() {
+        decoder.reset();
+    }
+
+    private void onDecoded(TradeEvent decoded) {
+        decoded.markReceived(receivedAt, receivedNanos, System.nanoTime());
+        handler.onTrade(decoded);
+    }
+}
@@ -0,0 +1,11 @@
+package digital.asset.manager.application.chart.ingest;
+
+/**
+ * 웹소켓 연결에서 디코딩한 체결 데이터를 받아 처리하는 콜백
+ * event는 재사용 객체이므로 콜백 밖으로 참조를 넘기지 않는다.
+ */
+@FunctionalInterface
+public interface TradeHandler {
+
+    void onTrade(TradeEvent event);
+}
@@ -0,0 +1,20 @@
+package digital.asset.manager.application.chart.ingest;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 수집 엔진이 연결을 열기 전에 끝나기를 기다리는 복구 작업 (Redis 체결 이력 등)
+ * TradeHandler가 이 인터페이스도 구현하면 엔진이 복구가 끝난 뒤 연결하고, 돌려받은 심볼별 마지막 체결부터
+ * 체결 id 연속성 확인을 이어 가므로 복구 시점과 첫 실시간 체결 사이 구간은 보충으로 채워진다.
+ */
+public interface TradeRestorer {
+
+    /**
+     * @return 저장소 키(BTCUSDT, UPBIT:BTCKRW) -> 복구한 마지막 체결
+     */
+    CompletableFuture<Map<String, LastTrade>> restored();
+
+    record LastTrade(long tradeId, long tradeTime) {
+    }
+}
@@ -0,0 +1,188 @@
+package digital.asset.manager.application.chart.ingest;
+
+import lombok.Getter;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 수신 스레드(생산자 하나)와 TradeHandler 소비자들 사이의 링 버퍼 (Disruptor 방식)
+ * 슬롯은 시작할 때 한 번에 잡아 두고 체결마다 값만 덮어쓰므로 수신 경로에서 객체를 만들지 않는다.
+ * 소비자는 각자 sequence와 대기 방식을 가지고 자기 속도대로 따라오며, 마지막 단계 소비자는 앞 소비자들이 모두 처리한 뒤에 읽는다.
+ *
+ * 생산자는 소비자를 기다리지 않는다. 수신 경로({@link IntakeGate})는 {@link #tryPublish}로 가장 느린 소비자를
+ * 한 바퀴 따라잡기 전에 멈추고 심볼별 수신 정책으로 넘기므로, 소비자가 모르게 체결을 잃지 않는다.
+ * {@link #publish}는 검사 없이 덮어쓰며, 이때 한 바퀴 이상 뒤처진 소비자는 덮어써진 구간을 건너뛰고 건수를 overruns로 센다.
+ * 덮어쓰는 중인 슬롯을 읽지 않도록 슬롯마다 seqlock처럼 sequence를 쓰기 전후로 기록한다.
+ */
+public class TradeRingBuffer {
+
+    private static final int SLOT_SIZE = 16;    // 128 byte
+    private static final int SEQUENCE = 0, HEADER = 1, PRICE = 2, QUANTITY = 3, TRADE_ID = 4, EVENT_TIME = 5,
+            TRADE_TIME = 6, RECEIVED_AT = 7, RECEIVED_NANOS = 8, DECODED_NANOS = 9;
+    private static final long WRITING = -1;
+    private static final TradeEvent.Type[] TYPES = TradeEvent.Type.values();
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray slots;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private RingConsumer[] consumers = new RingConsumer[0];
+    private WaitStrategy[] strategies = new WaitStrategy[0];
+
+    public TradeRingBuffer(String name, int capacity) {
+        if (Integer.bitCount(capacity) != 1 || capacity > (1 << 26)) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicLongArray(capacity * SLOT_SIZE);
+    }
+
+    /**
+     * 생산자를 따라가는 소비자 추가 (start 전에만)
+     */
+    public void addConsumer(String consumerName, TradeHandler handler, WaitStrategy waitStrategy) {
+        add(new RingConsumer(this, consumerName, handler, waitStrategy, cursor::get));
+    }
+
+    /**
+     * 앞서 추가한 소비자들이 모두 처리한 이벤트만 읽는 마지막 단계 소비자 추가 (start 전에만)
+     */
+    public void addFinalConsumer(String consumerName, TradeHandler handler, WaitStrategy waitStrategy) {
+        RingConsumer[] upstream = consumers;
+        add(new RingConsumer(this, consumerName, handler, waitStrategy, () -> minimumSequence(upstream)));
+    }
+
+    public void start() {
+        for (RingConsumer consumer : consumers) {
+            consumer.start();
+        }
+    }
+
+    public void halt() {
+        for (RingConsumer consumer : consumers) {
+            consumer.halt();
+        }
+        signalAll();
+    }
+
+    /**
+     * 가장 느린 소비자가 아직 읽지 않은 슬롯을 덮어쓰게 되면 쓰지 않고 false를 돌려준다. (생산자 스레드 하나에서만 호출)
+     */
+    public boolean tryPublish(TradeEvent event) {
+        if (consumers.length > 0 && cursor.getPlain() - minimumSequence(consumers) >= capacity) {
+            return false;
+        }
+        publish(event);
+        return true;
+    }
+
+    /**
+     * 이벤트를 다음 슬롯에 복사한다. 소비자 위치는 보지 않는다. (생산자 스레드 하나에서만 호출)
+     */
+    public void publish(TradeEvent event) {
+        long sequence = cursor.getPlain() + 1;
+        int base = (int) (sequence & mask) * SLOT_SIZE;
+        slots.setOpaque(base + SEQUENCE, WRITING);
+        VarHandle.storeStoreFence();
+        slots.setOpaque(base + HEADER, header(event));
+        slots.setOpaque(base + PRICE, event.getPrice());
+        slots.setOpaque(base + QUANTITY, event.getQuantity());
+        slots.setOpaque(base + TRADE_ID, event.getTradeId());
+        slots.setOpaque(base + EVENT_TIME, event.getEventTime());
+        slots.setOpaque(base + TRADE_TIME, event.getTradeTime());
+        slots.setOpaque(base + RECEIVED_AT, event.getReceivedAt());
+        slots.setOpaque(base + RECEIVED_NANOS, event.getReceivedNanos());
+        slots.setOpaque(base + DECODED_NANOS, event.getDecodedNanos());
+        slots.setRelease(base + SEQUENCE, sequence);
+        cursor.setRelease(sequence);
+        for (WaitStrategy strategy : strategies) {
+            strategy.signalAll();
+        }
+    }
+
+    /**
+     * 마지막으로 쓴 sequence (아직 없으면 -1)
+     */
+    public long cursor() {
+        return cursor.getAcquire();
+    }
+
+    /**
+     * 가장 느린 소비자 기준 아직 처리되지 않은 이벤트 수
+     */
+    public long occupancy() {
+        if (consumers.length == 0) {
+            return 0;
+        }
+        long occupied = cursor() - minimumSequence(consumers);
+        return Math.min(Math.max(occupied, 0), capacity);
+    }
+
+    public List<RingConsumer> getConsumers() {
+        return List.of(consumers);
+    }
+
+    /**
+     * sequence 슬롯을 event에 복사한다.
+     * @return 이미 덮어써졌거나 덮어쓰는 중이면 false
+     */
+    boolean read(long sequence, TradeEvent event) {
+        int base = (int) (sequence & mask) * SLOT_SIZE;
+        if (slots.getAcquire(base + SEQUENCE) != sequence) {
+            return false;
+        }
+        long header = slots.getOpaque(base + HEADER);
+        long price = slots.getOpaque(base + PRICE);
+        long quantity = slots.getOpaque(base + QUANTITY);
+        long tradeId = slots.getOpaque(base + TRADE_ID);
+        long eventTime = slots.getOpaque(base + EVENT_TIME);
+        long tradeTime = slots.getOpaque(base + TRADE_TIME);
+        long receivedAt = slots.getOpaque(base + RECEIVED_AT);
+        long receivedNanos = slots.getOpaque(base + RECEIVED_NANOS);
+        long decodedNanos = slots.getOpaque(base + DECODED_NANOS);
+        VarHandle.loadLoadFence();
+        if (slots.getAcquire(base + SEQUENCE) != sequence) {
+            return false;
+        }
+        event.set(TYPES[(int) (header & 0xFF)], (int) (header >>> 32), price, quantity, tradeId,
+                eventTime, tradeTime, (header & 0x100) != 0);
+        event.markReceived(receivedAt, receivedNanos, decodedNanos);
+        return true;
+    }
+
+    private void add(RingConsumer consumer) {
+        consumers = Arrays.copyOf(consumers, consumers.length + 1);
+        consumers[consumers.length - 1] = consumer;
+        strategies = Arrays.stream(consumers)
+                .map(RingConsumer::getWaitStrategy)
+                .distinct()
+                .toArray(WaitStrategy[]::new);
+    }
+
+    private void signalAll() {
+        for (WaitStrategy strategy : strategies) {
+            strategy.signalAll();
+        }
+    }
+
+    private static long header(TradeEvent event) {
+        return ((long) event.getSymbolId() << 32) | (event.isBuyerMaker() ? 0x100 : 0) | event.getType().ordinal();
+    }
+
+    private static long minimumSequence(RingConsumer[] consumers) {
+        long minimum = Long.MAX_VALUE;
+        for (RingConsumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.getSequence());
+        }
+        return minimum;
+    }
+}
@@ -0,0 +1,144 @@
+package digital.asset.manager.application.chart.ingest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 링 버퍼 소비자가 다음 이벤트를 기다리는 방식
+ * - busy-spin: 코어 하나를 계속 쓰는 대신 지연이 가장 낮다
+ * - yielding: 잠깐 돌다가 Thread.yield (지연 낮음, CPU 많이 씀)
+ * - sleeping: 돌기 -> yield -> 짧게 park (기본값, 지연과 CPU의 절충)
+ * - blocking: 락/조건 변수로 잠든다 (CPU 가장 적음, 깨우는 비용만큼 지연)
+ */
+public interface WaitStrategy {
+
+    /**
+     * sequence까지 쓰일 때까지 기다린다.
+     * @param available 지금 읽을 수 있는 마지막 sequence
+     * @return 읽을 수 있는 마지막 sequence (running이 false가 되면 sequence보다 작을 수 있다)
+     */
+    long waitFor(long sequence, LongSupplier available, BooleanSupplier running);
+
+    /**
+     * 생산자가 이벤트를 쓴 뒤 부른다. 잠든 소비자가 있는 방식만 깨운다.
+     */
+    default void signalAll() {
+    }
+
+    static WaitStrategy of(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "busy-spin" -> new BusySpin();
+            case "yielding" -> new Yielding();
+            case "sleeping" -> new Sleeping();
+            case "blocking" -> new Blocking();
+            default -> throw new IllegalArgumentException("알 수 없는 대기 방식: " + name);
+        };
+    }
+
+    final class BusySpin implements WaitStrategy {
+
+        @Override
+        public long waitFor(long sequence, LongSupplier available, BooleanSupplier running) {
+            long value;
+            while ((value = available.getAsLong()) < sequence && running.getAsBoolean()) {
+                Thread.onSpinWait();
+            }
+            return value;
+        }
+    }
+
+    final class Yielding implements WaitStrategy {
+
+        private static final int SPIN_TRIES = 100;
+
+        @Override
+        public long waitFor(long sequence, LongSupplier available, BooleanSupplier running) {
+            long value;
+            int counter = SPIN_TRIES;
+            while ((value = available.getAsLong()) < sequence && running.getAsBoolean()) {
+                if (counter > 0) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            return value;
+        }
+    }
+
+    final class Sleeping implements WaitStrategy {
+
+        private static final int RETRIES = 200;
+        private static final long SLEEP_NANOS = 50_000;
+
+        @Override
+        public long waitFor(long sequence, LongSupplier available, BooleanSupplier running) {
+            long value;
+            int counter = RETRIES;
+            while ((value = available.getAsLong()) < sequence && running.getAsBoolean()) {
+                if (counter > RETRIES / 2) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else if (counter > 0) {
+                    counter--;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 앞 단계 소비자를 기다리는 경우(생산자가 깨워 주지 않음)에도 진행되도록 최대 1ms만 잠든다.
+     */
+    final class Blocking implements WaitStrategy {
+
+        private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition written = lock.newCondition();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        @Override
+        public long waitFor(long sequence, LongSupplier available, BooleanSupplier running) {
+            long value;
+            while ((value = available.getAsLong()) < sequence && running.getAsBoolean()) {
+                lock.lock();
+                try {
+                    waiters.incrementAndGet();
+                    if (available.getAsLong() < sequence) {
+                        written.awaitNanos(MAX_WAIT_NANOS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return available.getAsLong();
+                } finally {
+                    waiters.decrementAndGet();
+                    lock.unlock();
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public void signalAll() {
+            // 잠든 소비자가 없으면 락을 잡지 않는다 (수신 스레드 비용)
+            if (waiters.get() > 0) {
+                lock.lock();
+                try {
+                    written.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package digital.asset.manager.application.chart.metrics;
+
+import digital.asset.manager.application.chart.exchange.ExchangeAdapter;
+import digital.asset.manager.application.chart.ingest.RingConsumer;
+import digital.asset.manager.application.chart.ingest.SymbolState;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeRingBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 수집 경로 단계별 지연 측정
+ * - exchange_to_receive: 거래소 이벤트 시각(E) -> 프레임 수신 (서버 간 시계 차이가 섞이며, 음수는 기록되지 않는다)
+ * - receive_to_parse: 프레임 수신 -> 디코딩 완료
+ * - parse_to_store: 디코딩 완료 -> 모든 TradeHandler(최신가 저장소, 봉, Redis 버퍼 등) 반영 완료
+ * - store_to_read: 최신가 저장 -> API 조회 (조회 시점에 사용자가 보는 데이터 나이)
+ *
+ * 타이머는 Micrometer(HdrHistogram 기반) p50/p99/p999를 내보내며, 수신 경로에서는 태그 조회 없이 심볼 id 배열로 찾는다.
+ * 심볼별로 마지막 수신 이후 경과 시간(staleness)과 수신/끊김/보충 건수도 함께 등록한다.
+ * 링 버퍼는 점유량(가장 느린 소비자 기준)과 소비자별 지연 건수(lag), 건너뛴 건수(overruns)를 등록한다.
+ * 거래소별로 만든 연결 수와 열려 있는 연결 수를 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestMetrics {
+
+    public static final String LATENCY = "market.data.latency";
+    public static final String STALENESS = "market.data.staleness";
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+        EXCHANGE_TO_RECEIVE("exchange_to_receive"),
+        RECEIVE_TO_PARSE("receive_to_parse"),
+        PARSE_TO_STORE("parse_to_store"),
+        STORE_TO_READ("store_to_read");
+
+        private final String tag;
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final MeterRegistry registry;
+    private final SymbolTable symbolTable;
+    private final AtomicReferenceArray<Timer[]> timers = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    private final Map<String, List<Meter>> symbolMeters = new ConcurrentHashMap<>();
+
+    /**
+     * 실시간 수신 체결 한 건의 단계별 지연 기록 (수신 스레드)
+     */
+    public void recordIngest(TradeEvent event, long storedNanos) {
+        if (event.getReceivedNanos() == 0) {
+            return;
+        }
+        Timer[] symbolTimers = timers(event.getSymbolId());
+        if (event.getEventTime() > 0) {
+            symbolTimers[Stage.EXCHANGE_TO_RECEIVE.ordinal()].record(event.getReceivedAt() - event.getEventTime(), TimeUnit.MILLISECONDS);
+        }
+        symbolTimers[Stage.RECEIVE_TO_PARSE.ordinal()].record(event.getDecodedNanos() - event.getReceivedNanos(), TimeUnit.NANOSECONDS);
+        symbolTimers[Stage.PARSE_TO_STORE.ordinal()].record(storedNanos - event.getDecodedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * API 조회 시점의 데이터 나이 기록
+     * @param updatedAt 최신가가 저장된 시각 (epoch ms)
+     */
+    public void recordRead(String symbol, long updatedAt) {
+        int symbolId = symbolTable.lookup(symbol);
+        if (symbolId == SymbolTable.NOT_FOUND) {
+            return;
+        }
+        timers(symbolId)[Stage.STORE_TO_READ.ordinal()].record(System.currentTimeMillis() - updatedAt, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독 시작 시 심볼별 gauge/counter 등록
+     */
+    public void registerSymbol(SymbolState state) {
+        String symbol = state.getSymbol();
+        List<Meter> meters = List.of(
+                Gauge.builder(STALENESS, state, s -> s.getLastReceivedAt() == 0 ? Double.NaN : System.currentTimeMillis() - s.getLastReceivedAt())
+                        .tag("symbol", symbol)
+                        .baseUnit("milliseconds")
+                        .description("마지막 실시간 수신 이후 경과 시간")
+                        .register(registry),
+                FunctionCounter.builder("market.data.received", state, s -> s.getReceivedCount().get())
+                        .tag("symbol", symbol)
+                        .register(registry),
+                FunctionCounter.builder("market.data.gaps", state, s -> s.getGapCount().get())
+                        .tag("symbol", symbol)
+                        .description("체결 id 끊김 횟수")
+                        .register(registry),
+                FunctionCounter.builder("market.data.backfilled", state, s -> s.getBackfilledCount().get())
+                        .tag("symbol", symbol)
+                        .description("REST로 보충한 aggTrade 수")
+                        .register(registry),
+                FunctionCounter.builder("market.data.shed", state, s -> s.getShedCount().get())
+                        .tag("symbol", symbol)
+                        .tag("policy", state.getPolicy().getCode())
+                        .description("링 과부하 시 수신 정책으로 버린 체결 수")
+                        .register(registry),
+                FunctionTimer.builder("market.data.backpressure", state,
+                                s -> s.getBackpressureCount().get(), s -> s.getBackpressureNanos().get(), TimeUnit.NANOSECONDS)
+                        .tag("symbol", symbol)
+                        .description("block 정책으로 수신을 멈춘 횟수와 시간")
+                        .register(registry)
+        );
+        List<Meter> previous = symbolMeters.put(symbol, meters);
+        if (previous != null) {
+            previous.forEach(registry::remove);
+        }
+    }
+
+    public void removeSymbol(SymbolState state) {
+        List<Meter> meters = symbolMeters.remove(state.getSymbol());
+        if (meters != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    /**
+     * 링 버퍼 생성 시 등록 (링은 연결과 수명이 같아서 제거하지 않는다)
+     */
+    public void registerRing(TradeRingBuffer ring) {
+        Gauge.builder("market.data.ring.occupancy", ring, TradeRingBuffer::occupancy)
+                .tag("ring", ring.getName())
+                .description("가장 느린 소비자 기준 처리되지 않은 이벤트 수")
+                .register(registry);
+        Gauge.builder("market.data.ring.capacity", ring, TradeRingBuffer::getCapacity)
+                .tag("ring", ring.getName())
+                .register(registry);
+        for (RingConsumer consumer : ring.getConsumers()) {
+            Gauge.builder("market.data.ring.lag", consumer, RingConsumer::lag)
+                    .tag("ring", ring.getName())
+                    .tag("consumer", consumer.getName())
+                    .description("생산자보다 뒤처진 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder("market.data.ring.overruns", consumer, RingConsumer::getOverruns)
+                    .tag("ring", ring.getName())
+                    .tag("consumer", consumer.getName())
+                    .description("한 바퀴 뒤처져 건너뛴 이벤트 수")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 거래소 어댑터 등록 (시작 시 한 번)
+     */
+    public void registerExchange(ExchangeAdapter adapter) {
+        Gauge.builder("market.data.exchange.connections", adapter, ExchangeAdapter::getActiveConnections)
+                .tag("exchange", adapter.getName())
+                .tag("state", "active")
+                .register(registry);
+        Gauge.builder("market.data.exchange.connections", adapter, ExchangeAdapter::getOpenConnections)
+                .tag("exchange", adapter.getName())
+                .tag("state", "open")
+                .description("열려 있는 웹소켓 연결 수")
+                .register(registry);
+    }
+
+    private Timer[] timers(int symbolId) {
+        Timer[] symbolTimers = timers.get(symbolId);
+        if (symbolTimers == null) {
+            String symbol = symbolTable.name(symbolId);
+            symbolTimers = new Timer[STAGES.length];
+            for (Stage stage : STAGES) {
+                symbolTimers[stage.ordinal()] = Timer.builder(LATENCY)
+                        .tag("stage", stage.getTag())
+                        .tag("symbol", symbol)
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .percentilePrecision(2)
+                        .minimumExpectedValue(Duration.ofNanos(100))
+                        .maximumExpectedValue(Duration.ofMinutes(1))
+                        .register(registry);
+            }
+            if (!timers.compareAndSet(symbolId, null, symbolTimers)) {
+                symbolTimers = timers.get(symbolId);
+            }
+        }
+        return symbolTimers;
+    }
+}
@@ -0,0 +1,90 @@
+package digital.asset.manager.application.chart.metrics;
+
+import digital.asset.manager.application.chart.candle.CandleAggregator;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.history.TickHistoryWriter;
+import digital.asset.manager.application.chart.price.PriceWriteBehind;
+import digital.asset.manager.application.chart.push.PriceBroadcaster;
+import digital.asset.manager.application.chart.service.ExternalPriceService;
+import digital.asset.manager.application.chart.window.TradeWindowAggregator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 저장 경로(최신가 write-behind, 체결 이력), 봉/체결 통계 집계, 브라우저 시세 전송, REST 현재가 조회 지표를 Micrometer에 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MarketDataMeterBinder implements MeterBinder {
+
+    private final PriceWriteBehind priceWriteBehind;
+    private final TickHistoryWriter tickHistoryWriter;
+    private final PriceBroadcaster priceBroadcaster;
+    private final ExternalPriceService externalPriceService;
+    private final CandleAggregator candleAggregator;
+    private final TradeWindowAggregator tradeWindowAggregator;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("market.data.write.behind.received", priceWriteBehind, w -> w.stats().received())
+                .register(registry);
+        FunctionCounter.builder("market.data.write.behind.conflated", priceWriteBehind, w -> w.stats().conflated())
+                .description("저장 전에 새 값으로 덮어써진 갱신 수")
+                .register(registry);
+        FunctionCounter.builder("market.data.write.behind.flushes", priceWriteBehind, w -> w.stats().flushes())
+                .register(registry);
+        FunctionCounter.builder("market.data.write.behind.flushed.keys", priceWriteBehind, w -> w.stats().flushedKeys())
+                .register(registry);
+        FunctionCounter.builder("market.data.write.behind.failed", priceWriteBehind, w -> w.stats().failedFlushes())
+                .register(registry);
+        Gauge.builder("market.data.write.behind.last.flush", priceWriteBehind, w -> w.stats().lastFlushMicros())
+                .baseUnit("microseconds")
+                .register(registry);
+        Gauge.builder("market.data.write.behind.max.flush", priceWriteBehind, w -> w.stats().maxFlushMicros())
+                .baseUnit("microseconds")
+                .register(registry);
+
+        FunctionCounter.builder("market.data.tick.history.appended", tickHistoryWriter, TickHistoryWriter::getAppended)
+                .register(registry);
+        FunctionCounter.builder("market.data.tick.history.dropped", tickHistoryWriter, TickHistoryWriter::getDropped)
+                .description("버퍼가 가득 차서 버린 체결 수")
+                .register(registry);
+        FunctionCounter.builder("market.data.tick.history.failed", tickHistoryWriter, TickHistoryWriter::getFailedFlushes)
+                .register(registry);
+
+        for (CandleInterval interval : CandleInterval.values()) {
+            FunctionCounter.builder("market.data.candle.late.trades", candleAggregator, c -> c.getLateTrades(interval))
+                    .description("이미 마감된 봉에 속해서 버린 늦은 체결 수")
+                    .tag("interval", interval.getCode())
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("market.data.window.late.trades", tradeWindowAggregator, TradeWindowAggregator::getLateTrades)
+                .description("이미 마감된 통계 구간에 속해서 버린 늦은 체결 수")
+                .register(registry);
+        FunctionCounter.builder("market.data.window.dropped", tradeWindowAggregator, TradeWindowAggregator::getDroppedSummaries)
+                .description("저장 대기열이 넘쳐 버린 구간 요약 수")
+                .register(registry);
+
+        Gauge.builder("market.data.push.sessions", priceBroadcaster, PriceBroadcaster::getSessionCount)
+                .register(registry);
+        FunctionCounter.builder("market.data.push.frames", priceBroadcaster, PriceBroadcaster::getFramesQueued)
+                .register(registry);
+        FunctionCounter.builder("market.data.push.dropped", priceBroadcaster, PriceBroadcaster::getDroppedSessions)
+                .description("전송 대기열이 넘쳐 끊은 세션 수")
+                .register(registry);
+
+        FunctionCounter.builder("market.data.rest.fallback.calls", externalPriceService, ExternalPriceService::getUpstreamCalls)
+                .description("거래소 REST 현재가 호출 수")
+                .register(registry);
+        FunctionCounter.builder("market.data.rest.fallback.coalesced", externalPriceService, ExternalPriceService::getCoalesced)
+                .description("진행 중인 호출에 합쳐진 요청 수")
+                .register(registry);
+        FunctionCounter.builder("market.data.rest.fallback.stale", externalPriceService, ExternalPriceService::getStaleServed)
+                .register(registry);
+    }
+}
@@ -0,0 +1,29 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * 호가 변경 이벤트 사본
+ * 평소에는 디코더 버퍼를 바로 적용하고, 스냅샷을 기다리는 동안 쌓아 둘 때만 복사본을 만든다.
+ */
+record DepthDiff(
+        long firstUpdateId,
+        long finalUpdateId,
+        long eventTime,
+        long[] bidPrices,
+        long[] bidQuantities,
+        long[] askPrices,
+        long[] askQuantities
+) {
+    static DepthDiff copyOf(DepthFrameDecoder decoder) {
+        return new DepthDiff(
+                decoder.firstUpdateId(),
+                decoder.finalUpdateId(),
+                decoder.eventTime(),
+                Arrays.copyOf(decoder.bidPrices(), decoder.bidCount()),
+                Arrays.copyOf(decoder.bidQuantities(), decoder.bidCount()),
+                Arrays.copyOf(decoder.askPrices(), decoder.askCount()),
+                Arrays.copyOf(decoder.askQuantities(), decoder.askCount())
+        );
+    }
+}
@@ -0,0 +1,216 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import digital.asset.manager.application.chart.ingest.JsonFrameDecoder;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.util.Arrays;
+
+/**
+ * 바이낸스 호가 변경(depthUpdate) 프레임 디코더
+ * {"e":"depthUpdate","E":..,"s":"BTCUSDT","U":157,"u":160,"b":[["0.0024","10"]],"a":[["0.0026","100"]]}
+ * 프레임 버퍼와 스캔 도구는 {@link JsonFrameDecoder}를 쓰고, 호가 배열을 재사용하며 가격/잔량은 고정소수점으로 바로 읽는다.
+ * 연결 하나에 하나씩 두고 한 스레드에서만 사용한다. (combined stream의 "data" 안쪽도 읽는다)
+ */
+class DepthFrameDecoder extends JsonFrameDecoder {
+
+    private static final int INITIAL_LEVELS = 64;
+
+    private final SymbolTable symbolTable;
+
+    private int typeOffset, typeLength;
+    private int symbolOffset, symbolLength;
+    private int symbolId;
+    private long firstUpdateId, finalUpdateId, eventTime;
+    private long[] bidPrices = new long[INITIAL_LEVELS];
+    private long[] bidQuantities = new long[INITIAL_LEVELS];
+    private long[] askPrices = new long[INITIAL_LEVELS];
+    private long[] askQuantities = new long[INITIAL_LEVELS];
+    private int bidCount, askCount;
+
+    DepthFrameDecoder(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * 호가 프레임에는 체결이 없다. 호가 변경은 {@link #decode()}로 읽는다.
+     */
+    @Override
+    public int decode(TradeEvent event, TradeHandler sink) {
+        return 0;
+    }
+
+    /**
+     * @return depthUpdate 메시지이고 등록된 심볼이면 true
+     */
+    boolean decode() {
+        typeLength = symbolLength = 0;
+        firstUpdateId = finalUpdateId = eventTime = 0;
+        bidCount = askCount = 0;
+
+        int pos = skipWhitespace(0);
+        if (pos >= length || buf[pos] != '{') {
+            return false;
+        }
+        parseObject(pos);
+        if (!regionEquals(typeOffset, typeLength, "depthUpdate") || symbolLength == 0) {
+            return false;
+        }
+        symbolId = symbolTable.lookup(buf, symbolOffset, symbolLength);
+        return symbolId != SymbolTable.NOT_FOUND;
+    }
+
+    int symbolId() {
+        return symbolId;
+    }
+
+    long firstUpdateId() {
+        return firstUpdateId;
+    }
+
+    long finalUpdateId() {
+        return finalUpdateId;
+    }
+
+    long eventTime() {
+        return eventTime;
+    }
+
+    long[] bidPrices() {
+        return bidPrices;
+    }
+
+    long[] bidQuantities() {
+        return bidQuantities;
+    }
+
+    int bidCount() {
+        return bidCount;
+    }
+
+    long[] askPrices() {
+        return askPrices;
+    }
+
+    long[] askQuantities() {
+        return askQuantities;
+    }
+
+    int askCount() {
+        return askCount;
+    }
+
+    private int parseObject(int pos) {
+        pos++;  // '{'
+        while (true) {
+            pos = skipWhitespace(pos);
+            if (pos >= length || buf[pos] == '}') {
+                return pos + 1;
+            }
+            if (buf[pos] == ',') {
+                pos++;
+                continue;
+            }
+            int keyOffset = pos + 1;
+            pos = skipString(pos);
+            int keyLength = pos - keyOffset - 1;
+            pos = skipWhitespace(pos);
+            pos = skipWhitespace(pos + 1);  // ':'
+            if (pos >= length) {
+                return pos;
+            }
+            pos = parseValue(keyOffset, keyLength, pos);
+        }
+    }
+
+    private int parseValue(int keyOffset, int keyLength, int pos) {
+        char c = buf[pos];
+        char key = keyLength == 1 ? buf[keyOffset] : 0;
+        if (c == '{') {
+            if (keyLength == 4 && regionEquals(keyOffset, keyLength, "data")) {
+                return parseObject(pos);
+            }
+            return skipNested(pos);
+        }
+        if (c == '[') {
+            if (key == 'b') {
+                return parseLevels(pos, true);
+            }
+            if (key == 'a') {
+                return parseLevels(pos, false);
+            }
+            return skipNested(pos);
+        }
+        if (c == '"') {
+            int valueOffset = pos + 1;
+            int end = skipString(pos);
+            if (key == 'e') {
+                typeOffset = valueOffset;
+                typeLength = end - valueOffset - 1;
+            } else if (key == 's') {
+                symbolOffset = valueOffset;
+                symbolLength = end - valueOffset - 1;
+            }
+            return end;
+        }
+        int valueOffset = pos;
+        pos = skipLiteral(pos);
+        switch (key) {
+            case 'U' -> firstUpdateId = parseLong(valueOffset, pos - valueOffset);
+            case 'u' -> finalUpdateId = parseLong(valueOffset, pos - valueOffset);
+            case 'E' -> eventTime = parseLong(valueOffset, pos - valueOffset);
+            default -> { }
+        }
+        return pos;
+    }
+
+    /**
+     * [["가격","잔량"], ...] 배열을 읽어 호가 배열에 채운다.
+     */
+    private int parseLevels(int pos, boolean bid) {
+        pos++;  // '['
+        while (true) {
+            pos = skipWhitespace(pos);
+            if (pos >= length || buf[pos] == ']') {
+                return pos + 1;
+            }
+            if (buf[pos] == ',') {
+                pos++;
+                continue;
+            }
+            // ["가격","잔량"]
+            pos = skipWhitespace(pos + 1);
+            int priceOffset = pos + 1;
+            pos = skipString(pos);
+            long price = FixedPoint.parse(buf, priceOffset, pos - priceOffset - 1);
+            pos = skipWhitespace(pos);
+            pos = skipWhitespace(pos + 1);  // ','
+            int quantityOffset = pos + 1;
+            pos = skipString(pos);
+            long quantity = FixedPoint.parse(buf, quantityOffset, pos - quantityOffset - 1);
+            pos = skipWhitespace(pos);
+            pos++;  // ']'
+            addLevel(bid, price, quantity);
+        }
+    }
+
+    private void addLevel(boolean bid, long price, long quantity) {
+        if (bid) {
+            if (bidCount == bidPrices.length) {
+                bidPrices = Arrays.copyOf(bidPrices, bidCount * 2);
+                bidQuantities = Arrays.copyOf(bidQuantities, bidCount * 2);
+            }
+            bidPrices[bidCount] = price;
+            bidQuantities[bidCount++] = quantity;
+        } else {
+            if (askCount == askPrices.length) {
+                askPrices = Arrays.copyOf(askPrices, askCount * 2);
+                askQuantities = Arrays.copyOf(askQuantities, askCount * 2);
+            }
+            askPrices[askCount] = price;
+            askQuantities[askCount++] = quantity;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import digital.asset.manager.application.chart.ingest.StreamFrameHandler;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+
+import java.util.function.Consumer;
+
+/**
+ * 호가 변경 스트림 프레임 처리기 (연결당 하나)
+ */
+class DepthFrameHandler implements StreamFrameHandler {
+
+    private final DepthFrameDecoder decoder;
+    private final Consumer<DepthFrameDecoder> consumer;
+
+    DepthFrameHandler(SymbolTable symbolTable, Consumer<DepthFrameDecoder> consumer) {
+        this.decoder = new DepthFrameDecoder(symbolTable);
+        this.consumer = consumer;
+    }
+
+    @Override
+    public boolean append(CharSequence data, boolean last) {
+        return decoder.append(data, last);
+    }
+
+    @Override
+    public void handleFrame() {
+        if (decoder.decode()) {
+            consumer.accept(decoder);
+        }
+    }
+
+    @Override
+    public void reset() {
+        decoder.reset();
+    }
+}
@@ -0,0 +1,13 @@
+package digital.asset.manager.application.chart.orderbook;
+
+/**
+ * REST 호가 스냅샷 (/api/v3/depth)
+ */
+record DepthSnapshot(
+        long lastUpdateId,
+        long[] bidPrices,
+        long[] bidQuantities,
+        long[] askPrices,
+        long[] askQuantities
+) {
+}
@@ -0,0 +1,58 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 바이낸스 REST 호가 스냅샷 조회 (/api/v3/depth)
+ * 동기화 시작/재동기화 때만 호출되므로 Jackson 트리로 읽는다.
+ */
+class DepthSnapshotClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final String restUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    DepthSnapshotClient(String restUrl, HttpClient client) {
+        this.restUrl = restUrl;
+        this.client = client;
+    }
+
+    DepthSnapshot fetch(String symbol, int limit) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(restUrl + "/api/v3/depth?symbol=" + symbol + "&limit=" + limit))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("depth 응답 " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode root = objectMapper.readTree(response.body());
+        JsonNode bids = root.get("bids");
+        JsonNode asks = root.get("asks");
+        long[] bidPrices = new long[bids.size()];
+        long[] bidQuantities = new long[bids.size()];
+        long[] askPrices = new long[asks.size()];
+        long[] askQuantities = new long[asks.size()];
+        for (int i = 0; i < bids.size(); i++) {
+            bidPrices[i] = FixedPoint.parse(bids.get(i).get(0).asText());
+            bidQuantities[i] = FixedPoint.parse(bids.get(i).get(1).asText());
+        }
+        for (int i = 0; i < asks.size(); i++) {
+            askPrices[i] = FixedPoint.parse(asks.get(i).get(0).asText());
+            askQuantities[i] = FixedPoint.parse(asks.get(i).get(1).asText());
+        }
+        return new DepthSnapshot(root.get("lastUpdateId").asLong(), bidPrices, bidQuantities, askPrices, askQuantities);
+    }
+}
@@ -0,0 +1,203 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 심볼 하나의 로컬 호가창
+ * 바이낸스 문서의 동기화 절차를 따른다.
+ * 1. 스트림의 변경 이벤트를 쌓아 두면서 REST 스냅샷을 받는다.
+ * 2. 스냅샷의 lastUpdateId 이하(u <= lastUpdateId)인 이벤트는 버린다.
+ * 3. 남은 첫 이벤트가 U <= lastUpdateId + 1 이어야 하고, 아니면 스냅샷을 다시 받는다.
+ * 4. 이후 이벤트는 U == 직전 u + 1 이어야 하며, 끊기면 1번부터 다시 한다.
+ *
+ * 쓰기는 수신 스레드(변경 이벤트)와 스냅샷 스레드, 읽기는 API 스레드이므로 StampedLock으로 보호한다.
+ */
+public class OrderBook {
+
+    // 스냅샷을 기다리는 동안 쌓아 둘 최대 이벤트 수 (100ms 주기 기준 약 100초)
+    private static final int MAX_PENDING = 1000;
+
+    @Getter
+    private final int symbolId;
+    @Getter
+    private final String symbol;
+    private final OrderBookSide bids;
+    private final OrderBookSide asks;
+    private final StampedLock lock = new StampedLock();
+    private final Deque<DepthDiff> pending = new ArrayDeque<>();
+
+    private boolean synced;
+    private boolean snapshotRequested;
+    private long lastUpdateId;
+    private long eventTime;
+    @Getter
+    private volatile long resyncCount;
+
+    OrderBook(int symbolId, String symbol, int maxLevels) {
+        this.symbolId = symbolId;
+        this.symbol = symbol;
+        this.bids = new OrderBookSide(true, maxLevels);
+        this.asks = new OrderBookSide(false, maxLevels);
+    }
+
+    /**
+     * 변경 이벤트 반영 (수신 스레드)
+     * @return 스냅샷을 새로 요청해야 하면 true
+     */
+    boolean onDiff(DepthFrameDecoder diff) {
+        long stamp = lock.writeLock();
+        try {
+            if (!synced) {
+                buffer(DepthDiff.copyOf(diff));
+                return requestSnapshot();
+            }
+            if (diff.finalUpdateId() <= lastUpdateId) {
+                return false;
+            }
+            if (diff.firstUpdateId() > lastUpdateId + 1) {
+                // 이벤트가 빠졌으므로 처음부터 다시 맞춘다
+                resync();
+                buffer(DepthDiff.copyOf(diff));
+                return requestSnapshot();
+            }
+            apply(diff.bidPrices(), diff.bidQuantities(), diff.bidCount(), diff.askPrices(), diff.askQuantities(), diff.askCount());
+            lastUpdateId = diff.finalUpdateId();
+            eventTime = diff.eventTime();
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 스냅샷 반영 (스냅샷 스레드)
+     * @return 스냅샷이 쌓인 이벤트보다 오래되어 다시 받아야 하면 true
+     */
+    boolean onSnapshot(DepthSnapshot snapshot) {
+        long stamp = lock.writeLock();
+        try {
+            while (!pending.isEmpty() && pending.peekFirst().finalUpdateId() <= snapshot.lastUpdateId()) {
+                pending.pollFirst();
+            }
+            if (!pending.isEmpty() && pending.peekFirst().firstUpdateId() > snapshot.lastUpdateId() + 1) {
+                return true;
+            }
+            bids.clear();
+            asks.clear();
+            apply(snapshot.bidPrices(), snapshot.bidQuantities(), snapshot.bidPrices().length,
+                    snapshot.askPrices(), snapshot.askQuantities(), snapshot.askPrices().length);
+            lastUpdateId = snapshot.lastUpdateId();
+            for (DepthDiff diff : pending) {
+                if (diff.firstUpdateId() > lastUpdateId + 1) {
+                    // 쌓인 이벤트 사이가 끊겼다 (버퍼가 넘친 경우)
+                    resync();
+                    return true;
+                }
+                apply(diff.bidPrices(), diff.bidQuantities(), diff.bidPrices().length,
+                        diff.askPrices(), diff.askQuantities(), diff.askPrices().length);
+                lastUpdateId = diff.finalUpdateId();
+                eventTime = diff.eventTime();
+            }
+            pending.clear();
+            snapshotRequested = false;
+            synced = true;
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public long bestBid() {
+        long stamp = lock.tryOptimisticRead();
+        long price = bids.bestPrice();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                price = bids.bestPrice();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return price;
+    }
+
+    public long bestAsk() {
+        long stamp = lock.tryOptimisticRead();
+        long price = asks.bestPrice();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                price = asks.bestPrice();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return price;
+    }
+
+    /**
+     * 최우선부터 depth 단계까지의 사본
+     */
+    public OrderBookView view(int depth) {
+        long stamp = lock.tryOptimisticRead();
+        OrderBookView view = copy(depth);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                view = copy(depth);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return view;
+    }
+
+    private OrderBookView copy(int depth) {
+        // 낙관적 읽기 중에는 배열이 바뀌고 있을 수 있으므로 범위 밖 접근은 validate 실패로 다시 읽는다
+        try {
+            List<PriceLevel> bidLevels = bids.top(depth);
+            List<PriceLevel> askLevels = asks.top(depth);
+            return new OrderBookView(symbol, synced, lastUpdateId, eventTime, bidLevels, askLevels);
+        } catch (RuntimeException e) {
+            return new OrderBookView(symbol, false, 0, 0, List.of(), List.of());
+        }
+    }
+
+    private void apply(long[] bidPrices, long[] bidQuantities, int bidCount,
+                       long[] askPrices, long[] askQuantities, int askCount) {
+        for (int i = 0; i < bidCount; i++) {
+            bids.set(bidPrices[i], bidQuantities[i]);
+        }
+        for (int i = 0; i < askCount; i++) {
+            asks.set(askPrices[i], askQuantities[i]);
+        }
+    }
+
+    private void buffer(DepthDiff diff) {
+        if (pending.size() == MAX_PENDING) {
+            pending.pollFirst();
+        }
+        pending.addLast(diff);
+    }
+
+    private boolean requestSnapshot() {
+        if (snapshotRequested) {
+            return false;
+        }
+        snapshotRequested = true;
+        return true;
+    }
+
+    private void resync() {
+        synced = false;
+        bids.clear();
+        asks.clear();
+        pending.clear();
+        resyncCount++;
+    }
+}
@@ -0,0 +1,146 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import digital.asset.manager.application.chart.ingest.FeedSupervisor;
+import digital.asset.manager.application.chart.ingest.StreamShard;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.http.HttpClient;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 로컬 호가창 엔진
+ * 설정된 심볼의 호가 변경 스트림(@depth@100ms)을 체결 스트림과 별도 연결로 받고,
+ * REST 스냅샷과 맞춰 심볼별 {@link OrderBook}을 유지한다.
+ * 연결 유지/재연결은 체결 수집과 같은 {@link FeedSupervisor}를 쓰며, 재연결 후 이벤트가 끊기면 호가창이 스스로 재동기화한다.
+ */
+@Slf4j
+@Service
+public class OrderBookEngine {
+
+    // 스냅샷 실패/재요청 간격 (REST 요청 가중치가 커서 바로 다시 부르지 않는다)
+    private static final long SNAPSHOT_RETRY_MS = 1_000;
+
+    private final MarketDataProperties properties;
+    private final MarketDataProperties.OrderBook config;
+    private final SymbolTable symbolTable;
+    private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<OrderBook> booksById = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    private final List<StreamShard> shards = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor;
+    private final FeedSupervisor supervisor;
+    private final DepthSnapshotClient snapshotClient;
+    private final ScheduledExecutorService snapshotExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    public OrderBookEngine(MarketDataProperties properties, SymbolTable symbolTable) {
+        this.properties = properties;
+        this.config = properties.getOrderBook();
+        this.symbolTable = symbolTable;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, config.getConnections()));
+        this.supervisor = new FeedSupervisor(properties.getSupervisor(), HttpClient.newBuilder().executor(executor).build());
+        this.snapshotClient = new DepthSnapshotClient(properties.getRestUrl(), HttpClient.newHttpClient());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        String suffix = "@depth@" + config.getUpdateSpeed();
+        for (int i = 0; i < Math.max(1, config.getConnections()); i++) {
+            shards.add(new StreamShard(i, properties.getStreamUrl(), symbol -> symbol.toLowerCase() + suffix,
+                    new DepthFrameHandler(symbolTable, this::onDiff), supervisor, properties.getFlowControl().getRequestBatch()));
+        }
+        config.getSymbols().forEach(this::subscribe);
+        shards.forEach(supervisor::connect);
+        supervisor.start(shards);
+    }
+
+    @PreDestroy
+    public void stop() {
+        supervisor.stop();
+        shards.forEach(StreamShard::close);
+        snapshotExecutor.shutdownNow();
+        executor.shutdown();
+    }
+
+    /**
+     * 호가창 추가. 가장 여유 있는 연결에 SUBSCRIBE 하고, 첫 이벤트가 오면 스냅샷으로 동기화한다.
+     */
+    public synchronized boolean subscribe(String symbol) {
+        String normalized = symbol.trim().toUpperCase();
+        if (shards.isEmpty() || books.containsKey(normalized)) {
+            return false;
+        }
+        OrderBook book = new OrderBook(symbolTable.register(normalized), normalized, config.getMaxLevels());
+        books.put(normalized, book);
+        booksById.set(book.getSymbolId(), book);
+        shards.stream()
+                .min(Comparator.comparingInt(StreamShard::size))
+                .ifPresent(shard -> shard.subscribe(normalized));
+        return true;
+    }
+
+    public synchronized boolean unsubscribe(String symbol) {
+        String normalized = symbol.trim().toUpperCase();
+        OrderBook book = books.remove(normalized);
+        if (book == null) {
+            return false;
+        }
+        booksById.set(book.getSymbolId(), null);
+        shards.forEach(shard -> shard.unsubscribe(normalized));
+        return true;
+    }
+
+    public Optional<OrderBook> getBook(String symbol) {
+        return Optional.ofNullable(books.get(symbol.toUpperCase()));
+    }
+
+    public List<OrderBook> getBooks() {
+        return books.values().stream()
+                .sorted(Comparator.comparing(OrderBook::getSymbol))
+                .toList();
+    }
+
+    private void onDiff(DepthFrameDecoder diff) {
+        OrderBook book = booksById.get(diff.symbolId());
+        if (book != null && book.onDiff(diff)) {
+            requestSnapshot(book, 0);
+        }
+    }
+
+    private void requestSnapshot(OrderBook book, long delayMs) {
+        snapshotExecutor.schedule(() -> {
+            if (booksById.get(book.getSymbolId()) != book) {
+                return;     // 그 사이 구독 해제됨
+            }
+            try {
+                if (book.onSnapshot(snapshotClient.fetch(book.getSymbol(), config.getSnapshotLimit()))) {
+                    log.info("[{}] 호가 스냅샷이 스트림보다 오래되어 다시 받습니다.", book.getSymbol());
+                    requestSnapshot(book, SNAPSHOT_RETRY_MS);
+                } else {
+                    log.info("[{}] 호가창 동기화 완료", book.getSymbol());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("[{}] 호가 스냅샷 조회 실패: {}", book.getSymbol(), e.getMessage());
+                requestSnapshot(book, SNAPSHOT_RETRY_MS);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,113 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 호가창 한쪽(매수 또는 매도)
+ * 가격/잔량을 정렬된 primitive 배열에 담는다. 최우선 호가가 배열 끝에 오도록 정렬하므로,
+ * 변경이 몰리는 최우선 호가 근처의 삽입/삭제는 뒤쪽 몇 칸만 옮기면 된다.
+ * 매도 호가는 가격의 부호를 바꿔 저장해서 양쪽 모두 오름차순(끝이 최우선)으로 다룬다.
+ */
+class OrderBookSide {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final boolean bid;
+    private final int maxLevels;
+    private long[] keys;
+    private long[] quantities;
+    private int size;
+
+    OrderBookSide(boolean bid, int maxLevels) {
+        this.bid = bid;
+        this.maxLevels = maxLevels;
+        int capacity = Math.min(INITIAL_CAPACITY, maxLevels);
+        this.keys = new long[capacity];
+        this.quantities = new long[capacity];
+    }
+
+    /**
+     * 호가 단계 갱신. 잔량이 0이면 단계를 지운다.
+     */
+    void set(long price, long quantity) {
+        long key = bid ? price : -price;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            if (quantity == 0) {
+                remove(index);
+            } else {
+                quantities[index] = quantity;
+            }
+            return;
+        }
+        if (quantity == 0) {
+            return;
+        }
+        int insert = -index - 1;
+        if (size == maxLevels) {
+            if (insert == 0) {
+                return;     // 보관 중인 가장 먼 호가보다도 먼 호가
+            }
+            // 가장 먼 호가(배열 앞)를 버리고 자리를 만든다
+            remove(0);
+            insert--;
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, insert, keys, insert + 1, size - insert);
+        System.arraycopy(quantities, insert, quantities, insert + 1, size - insert);
+        keys[insert] = key;
+        quantities[insert] = quantity;
+        size++;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 최우선 호가 (없으면 0)
+     */
+    long bestPrice() {
+        return size == 0 ? 0 : price(size - 1);
+    }
+
+    long bestQuantity() {
+        return size == 0 ? 0 : quantities[size - 1];
+    }
+
+    /**
+     * 최우선부터 depth개 호가
+     */
+    List<PriceLevel> top(int depth) {
+        int n = Math.min(depth, size);
+        List<PriceLevel> levels = new ArrayList<>(n);
+        for (int i = size - 1; i >= size - n; i--) {
+            levels.add(new PriceLevel(price(i), quantities[i]));
+        }
+        return levels;
+    }
+
+    private long price(int index) {
+        return bid ? keys[index] : -keys[index];
+    }
+
+    private void remove(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(quantities, index + 1, quantities, index, size - index - 1);
+        size--;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > keys.length) {
+            int capacity = Math.min(Math.max(required, keys.length * 2), maxLevels);
+            keys = Arrays.copyOf(keys, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package digital.asset.manager.application.chart.orderbook;
+
+import java.util.List;
+
+/**
+ * 호가창 상위 N단계 사본 (bids는 높은 가격부터, asks는 낮은 가격부터)
+ */
+public record OrderBookView(
+        String symbol,
+        boolean synced,
+        long lastUpdateId,
+        long eventTime,
+        List<PriceLevel> bids,
+        List<PriceLevel> asks
+) {
+    public long bestBid() {
+        return bids.isEmpty() ? 0 : bids.get(0).price();
+    }
+
+    public long bestAsk() {
+        return asks.isEmpty() ? 0 : asks.get(0).price();
+    }
+
+    /**
+     * 최우선 매도 - 최우선 매수 (한쪽이라도 비어 있으면 0)
+     */
+    public long spread() {
+        return bids.isEmpty() || asks.isEmpty() ? 0 : bestAsk() - bestBid();
+    }
+}
@@ -0,0 +1,10 @@
+package digital.asset.manager.application.chart.orderbook;
+
+/**
+ * 호가 단계 하나 (가격/잔량은 고정소수점)
+ */
+public record PriceLevel(
+        long price,
+        long quantity
+) {
+}
@@ -0,0 +1,113 @@
+package digital.asset.manager.application.chart.price;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 노드 로컬 최신가 저장소
+ * 수집 경로에서 체결마다 바로 갱신되고, API/알림은 Redis 대신 여기서 읽는다.
+ *
+ * 심볼 하나당 캐시 라인 하나(long 8개)를 쓰는 슬롯에 seqlock 방식으로 기록한다.
+ * - 쓰기: version을 홀수로 CAS → 값 기록 → version을 짝수로 release
+ * - 읽기: version(짝수) → 값 → version 재확인, 그 사이 바뀌었으면 다시 읽음
+ * 락이 없어서 읽기 코어 수만큼 그대로 확장된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceRegistry implements TradeHandler {
+
+    private static final int SLOT_SIZE = 8;     // 64 byte
+    private static final int VERSION = 0, PRICE = 1, SEQUENCE = 2, EVENT_TIME = 3, UPDATED_AT = 4;
+    private static final int SEGMENT_SHIFT = 8; // 세그먼트당 심볼 256개
+    private static final int SEGMENT_SYMBOLS = 1 << SEGMENT_SHIFT;
+    private static final int MAX_SEGMENTS = SymbolTable.MAX_SYMBOLS >>> SEGMENT_SHIFT;
+
+    private final SymbolTable symbolTable;
+    // 세그먼트는 한 번 만들면 교체하지 않는다 (확장 중 쓰기 유실 방지)
+    private final AtomicReferenceArray<AtomicLongArray> segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        update(event.getSymbolId(), event.getPrice(), event.getEventTime());
+    }
+
+    public void update(String symbol, long price, long eventTime) {
+        update(symbolTable.register(symbol), price, eventTime);
+    }
+
+    public void update(int symbolId, long price, long eventTime) {
+        AtomicLongArray segment = segment(symbolId, true);
+        int base = (symbolId & (SEGMENT_SYMBOLS - 1)) * SLOT_SIZE;
+        long version;
+        do {
+            version = segment.get(base + VERSION);
+        } while ((version & 1) != 0 || !segment.compareAndSet(base + VERSION, version, version + 1));
+
+        segment.setOpaque(base + PRICE, price);
+        segment.setOpaque(base + SEQUENCE, segment.getOpaque(base + SEQUENCE) + 1);
+        segment.setOpaque(base + EVENT_TIME, eventTime);
+        segment.setOpaque(base + UPDATED_AT, System.currentTimeMillis());
+
+        segment.setRelease(base + VERSION, version + 2);
+    }
+
+    /**
+     * 최신가만 필요한 경우의 빠른 경로 (객체 생성 없음). 값이 없으면 0
+     */
+    public long price(int symbolId) {
+        AtomicLongArray segment = segment(symbolId, false);
+        if (segment == null) {
+            return 0;
+        }
+        return segment.getAcquire((symbolId & (SEGMENT_SYMBOLS - 1)) * SLOT_SIZE + PRICE);
+    }
+
+    public Optional<PriceSnapshot> get(String symbol) {
+        int symbolId = symbolTable.lookup(symbol);
+        return symbolId == SymbolTable.NOT_FOUND ? Optional.empty() : get(symbolId);
+    }
+
+    public Optional<PriceSnapshot> get(int symbolId) {
+        AtomicLongArray segment = segment(symbolId, false);
+        if (segment == null) {
+            return Optional.empty();
+        }
+        int base = (symbolId & (SEGMENT_SYMBOLS - 1)) * SLOT_SIZE;
+        while (true) {
+            long before = segment.getAcquire(base + VERSION);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long price = segment.getOpaque(base + PRICE);
+            long sequence = segment.getOpaque(base + SEQUENCE);
+            long eventTime = segment.getOpaque(base + EVENT_TIME);
+            long updatedAt = segment.getOpaque(base + UPDATED_AT);
+            VarHandle.loadLoadFence();
+            if (segment.getAcquire(base + VERSION) == before) {
+                if (sequence == 0) {
+                    return Optional.empty();
+                }
+                return Optional.of(new PriceSnapshot(symbolTable.name(symbolId), price, sequence, eventTime, updatedAt));
+            }
+        }
+    }
+
+    private AtomicLongArray segment(int symbolId, boolean create) {
+        int index = symbolId >>> SEGMENT_SHIFT;
+        AtomicLongArray segment = segments.get(index);
+        if (segment == null && create) {
+            segments.compareAndSet(index, null, new AtomicLongArray(SEGMENT_SYMBOLS * SLOT_SIZE));
+            segment = segments.get(index);
+        }
+        return segment;
+    }
+}
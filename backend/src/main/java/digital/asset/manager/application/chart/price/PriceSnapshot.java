@@ -0,0 +1,30 @@
+package digital.asset.manager.application.chart.price;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+/**
+ * 최신가 스냅샷
+ * @param price 고정소수점 가격
+ * @param sequence 심볼별 갱신 횟수 (갱신될 때마다 1씩 증가)
+ * @param eventTime 거래소 이벤트 시각(ms)
+ * @param updatedAt 이 노드에서 갱신한 시각(ms)
+ */
+public record PriceSnapshot(
+        String symbol,
+        long price,
+        long sequence,
+        long eventTime,
+        long updatedAt
+) {
+    public String plainPrice() {
+        return FixedPoint.toPlainString(price);
+    }
+
+    /**
+     * 실시간 전송(웹소켓/SSE)용 JSON. 심볼 키는 영문 대문자/숫자/콜론뿐이라 이스케이프 없이 그대로 쓴다.
+     */
+    public String toJson() {
+        return "{\"symbol\":\"" + symbol + "\",\"price\":\"" + plainPrice()
+                + "\",\"sequence\":" + sequence + ",\"eventTime\":" + eventTime + "}";
+    }
+}
@@ -0,0 +1,139 @@
+package digital.asset.manager.application.chart.price;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.chart.service.PriceService;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.cache.NearCache;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최신가 Redis write-behind
+ * 수신 스레드는 심볼별 최신값과 변경 표시만 메모리에 남기고 바로 돌아간다.
+ * 별도 스레드가 일정 주기로 변경된 심볼만 모아 MSET 한 번으로 저장한다. (주기 안의 중간 값은 합쳐진다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceWriteBehind implements TradeHandler {
+
+    private static final long STOP_TIMEOUT_MS = 5_000;
+
+    private final RedisTemplate<String, String> priceRedisTemplate;
+    private final SymbolTable symbolTable;
+    private final MarketDataProperties properties;
+    private final NearCache<String> priceNearCache;
+
+    private final AtomicLongArray latest = new AtomicLongArray(SymbolTable.MAX_SYMBOLS);
+    private final AtomicIntegerArray dirty = new AtomicIntegerArray(SymbolTable.MAX_SYMBOLS);
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    // 지표
+    private final LongAdder received = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedKeys = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final AtomicLong lastFlushSize = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getWriteBehind().getFlushIntervalMs();
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            // 진행 중인 주기 저장이 끝난 뒤에 마지막 저장을 해야 같은 버퍼를 두 스레드가 동시에 비우지 않는다
+            if (!executor.awaitTermination(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                log.warn("최신가 저장 스레드가 {}ms 안에 끝나지 않아 마지막 저장을 건너뜁니다.", STOP_TIMEOUT_MS);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flush();    // 남은 변경분 저장
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        int symbolId = event.getSymbolId();
+        latest.set(symbolId, event.getPrice());
+        received.increment();
+        if (dirty.getAndSet(symbolId, 1) == 1) {
+            // 아직 저장되지 않은 이전 값을 덮어씀
+            conflated.increment();
+        }
+    }
+
+    void flush() {
+        int size = symbolTable.size();
+        List<Integer> ids = new ArrayList<>();
+        Map<String, String> batch = new HashMap<>();
+        for (int id = 0; id < size; id++) {
+            // 표시를 먼저 지우고 값을 읽는다. 그 사이 들어온 값은 다음 주기에 다시 저장된다.
+            if (dirty.getAndSet(id, 0) == 1) {
+                ids.add(id);
+                batch.put(PriceService.latestPriceKey(symbolTable.name(id)), FixedPoint.toPlainString(latest.get(id)));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            priceRedisTemplate.opsForValue().multiSet(batch);
+            // 다른 노드의 로컬 캐시는 무효화 메시지 한 번으로 지운다
+            priceNearCache.putAll(batch);
+            long elapsed = System.nanoTime() - start;
+            flushes.increment();
+            flushedKeys.add(batch.size());
+            lastFlushSize.set(batch.size());
+            lastFlushNanos.set(elapsed);
+            maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        } catch (Exception e) {
+            failedFlushes.increment();
+            // 실패한 심볼은 다시 표시해서 다음 주기에 재시도 (그 사이 새 값이 왔으면 그 값이 저장된다)
+            ids.forEach(id -> dirty.set(id, 1));
+            log.error("최신가 Redis 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    public WriteBehindStats stats() {
+        return new WriteBehindStats(
+                received.sum(),
+                conflated.sum(),
+                flushes.sum(),
+                flushedKeys.sum(),
+                failedFlushes.sum(),
+                lastFlushSize.get(),
+                TimeUnit.NANOSECONDS.toMicros(lastFlushNanos.get()),
+                TimeUnit.NANOSECONDS.toMicros(maxFlushNanos.get())
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package digital.asset.manager.application.chart.price;
+
+/**
+ * write-behind 지표
+ * @param received 수신한 갱신 수
+ * @param conflated 저장 전에 새 값으로 덮어써진 갱신 수
+ * @param flushes 성공한 MSET 횟수
+ * @param flushedKeys 저장한 키 수 합계
+ * @param failedFlushes 실패한 MSET 횟수
+ * @param lastFlushSize 마지막 MSET의 키 수
+ * @param lastFlushMicros 마지막 MSET 소요 시간(us)
+ * @param maxFlushMicros 최대 MSET 소요 시간(us)
+ */
+public record WriteBehindStats(
+        long received,
+        long conflated,
+        long flushes,
+        long flushedKeys,
+        long failedFlushes,
+        long lastFlushSize,
+        long lastFlushMicros,
+        long maxFlushMicros
+) {
+}
@@ -0,0 +1,284 @@
+package digital.asset.manager.application.chart.push;
+
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.price.PriceSnapshot;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 브라우저 실시간 시세 전송(fan-out)
+ * 일정 주기(기본 100ms)마다 구독자가 있는 심볼 중 최신가 저장소의 sequence가 바뀐 것만 골라 심볼당 한 번만 직렬화하고,
+ * 세션마다 바뀐 구독 심볼을 프레임 하나로 묶어 보낸다. 주기 안의 중간 값은 합쳐지므로 체결 수와 상관없이 세션당 초당 최대 10프레임이다.
+ * 구독 심볼 중 하나만 바뀐 세션은 같은 프레임 객체를 그대로 공유한다.
+ *
+ * 실제 전송은 세션별 대기열({@link PushSession})에서 비동기로 나가므로 느린 세션이 주기 스레드나 다른 세션을 막지 않고,
+ * 대기열이 넘치는 세션은 끊는다.
+ */
+@Slf4j
+@Component
+public class PriceBroadcaster {
+
+    private final PriceRegistry priceRegistry;
+    private final SymbolTable symbolTable;
+    private final ExchangeRegistry exchanges;
+    private final MarketDataProperties.Push config;
+    private final Map<String, PushSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    // 심볼별 구독 세션 수 (0인 심볼은 주기마다 확인하지 않는다)
+    private final AtomicIntegerArray subscribers = new AtomicIntegerArray(SymbolTable.MAX_SYMBOLS);
+    // 아래는 주기 스레드에서만 쓴다
+    private final long[] sentSequence = new long[SymbolTable.MAX_SYMBOLS];
+    private final long[] changedTick = new long[SymbolTable.MAX_SYMBOLS];
+    private final String[] fragments = new String[SymbolTable.MAX_SYMBOLS];
+    private final TextMessage[] frames = new TextMessage[SymbolTable.MAX_SYMBOLS];
+    private final StringBuilder frameBuilder = new StringBuilder();
+    private long tick;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    // 비동기 전송을 못 하는 세션의 블로킹 전송, 세션 종료용
+    private final ExecutorService sender;
+    private final LongAdder framesQueued = new LongAdder();
+    private final LongAdder droppedSessions = new LongAdder();
+
+    public PriceBroadcaster(PriceRegistry priceRegistry, SymbolTable symbolTable, ExchangeRegistry exchanges,
+                            MarketDataProperties properties) {
+        this.priceRegistry = priceRegistry;
+        this.symbolTable = symbolTable;
+        this.exchanges = exchanges;
+        this.config = properties.getPush();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, config.getSenderThreads()));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (config.isEnabled()) {
+            executor.scheduleWithFixedDelay(this::flushSafely, config.getFlushIntervalMs(), config.getFlushIntervalMs(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        sender.shutdown();
+        sessions.values().forEach(session -> session.close(CloseStatus.GOING_AWAY));
+    }
+
+    /**
+     * @return 최대 세션 수를 넘으면 false
+     */
+    public boolean register(WebSocketSession session) {
+        if (!config.isEnabled() || sessionCount.incrementAndGet() > config.getMaxSessions()) {
+            sessionCount.decrementAndGet();
+            return false;
+        }
+        sessions.put(session.getId(), new PushSession(session, this::execute, config.getMaxQueuedFrames()));
+        return true;
+    }
+
+    public void unregister(String sessionId) {
+        PushSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        sessionCount.decrementAndGet();
+        for (int symbolId : session.symbolIds()) {
+            if (session.unsubscribe(symbolId)) {
+                subscribers.decrementAndGet(symbolId);
+            }
+        }
+    }
+
+    /**
+     * 구독을 추가하고 현재가를 바로 한 번 보낸다. (다음 변경까지 기다리지 않도록)
+     * @return 새로 구독한 심볼 키
+     */
+    public List<String> subscribe(String sessionId, List<String> symbols) {
+        PushSession session = session(sessionId);
+        List<String> added = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        for (String symbol : symbols) {
+            int symbolId = lookup(symbol);
+            if (!session.subscribe(symbolId, config.getMaxSymbolsPerSession())) {
+                continue;
+            }
+            subscribers.incrementAndGet(symbolId);
+            added.add(symbolTable.name(symbolId));
+            priceRegistry.get(symbolId).ifPresent(snapshot -> current.add(snapshot.toJson()));
+        }
+        if (!current.isEmpty()) {
+            send(session, new TextMessage("[" + String.join(",", current) + "]"));
+        }
+        return added;
+    }
+
+    public List<String> unsubscribe(String sessionId, List<String> symbols) {
+        PushSession session = session(sessionId);
+        List<String> removed = new ArrayList<>();
+        for (String symbol : symbols) {
+            int symbolId = lookup(symbol);
+            if (session.unsubscribe(symbolId)) {
+                subscribers.decrementAndGet(symbolId);
+                removed.add(symbolTable.name(symbolId));
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 구독 응답 등 시세 외 메시지도 같은 대기열로 보낸다. (세션당 동시 전송 금지)
+     */
+    public void send(String sessionId, TextMessage message) {
+        PushSession session = sessions.get(sessionId);
+        if (session != null) {
+            send(session, message);
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getFramesQueued() {
+        return framesQueued.sum();
+    }
+
+    public long getDroppedSessions() {
+        return droppedSessions.sum();
+    }
+
+    void flush() {
+        long tick = ++this.tick;
+        int size = symbolTable.size();
+        boolean changed = false;
+        for (int symbolId = 0; symbolId < size; symbolId++) {
+            if (subscribers.get(symbolId) == 0) {
+                continue;
+            }
+            PriceSnapshot snapshot = priceRegistry.get(symbolId).orElse(null);
+            if (snapshot == null || snapshot.sequence() == sentSequence[symbolId]) {
+                continue;
+            }
+            sentSequence[symbolId] = snapshot.sequence();
+            fragments[symbolId] = snapshot.toJson();
+            frames[symbolId] = new TextMessage("[" + fragments[symbolId] + "]");
+            changedTick[symbolId] = tick;
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+        for (PushSession session : sessions.values()) {
+            TextMessage frame = frame(session.symbolIds(), tick);
+            if (frame != null) {
+                send(session, frame);
+            }
+        }
+    }
+
+    /**
+     * 세션의 구독 심볼 중 이번 주기에 바뀐 것을 프레임 하나로 (하나뿐이면 공유 프레임)
+     */
+    private TextMessage frame(int[] symbolIds, long tick) {
+        int first = -1;
+        int count = 0;
+        for (int symbolId : symbolIds) {
+            if (changedTick[symbolId] == tick) {
+                if (count++ == 0) {
+                    first = symbolId;
+                }
+            }
+        }
+        if (count <= 1) {
+            return count == 0 ? null : frames[first];
+        }
+        StringBuilder builder = frameBuilder;
+        builder.setLength(0);
+        builder.append('[');
+        for (int symbolId : symbolIds) {
+            if (changedTick[symbolId] == tick) {
+                if (builder.length() > 1) {
+                    builder.append(',');
+                }
+                builder.append(fragments[symbolId]);
+            }
+        }
+        return new TextMessage(builder.append(']').toString());
+    }
+
+    private void send(PushSession session, TextMessage frame) {
+        switch (session.offer(frame)) {
+            case SCHEDULE -> {
+                framesQueued.increment();
+                session.drain();
+            }
+            case QUEUED -> framesQueued.increment();
+            case OVERFLOW -> drop(session);
+            case CLOSED -> {
+            }
+        }
+    }
+
+    private void drop(PushSession session) {
+        droppedSessions.increment();
+        log.warn("[{}] 시세 전송이 밀려 연결을 끊음", session.getId());
+        unregister(session.getId());
+        execute(() -> session.close(CloseStatus.SESSION_NOT_RELIABLE));
+    }
+
+    private void execute(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("전송 스레드 종료됨: {}", e.getMessage());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("시세 전송 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private PushSession session(String sessionId) {
+        PushSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "연결이 종료된 세션: " + sessionId);
+        }
+        return session;
+    }
+
+    private int lookup(String symbol) {
+        String key = exchanges.key(symbol);
+        int symbolId = symbolTable.lookup(key);
+        if (symbolId == SymbolTable.NOT_FOUND) {
+            throw new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, key);
+        }
+        return symbolId;
+    }
+}
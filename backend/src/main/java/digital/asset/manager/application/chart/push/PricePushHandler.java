@@ -0,0 +1,78 @@
+package digital.asset.manager.application.chart.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 시세 웹소켓(/price/ws)
+ * 클라이언트 메시지: {"type":"subscribe","symbols":["BTCUSDT","UPBIT:BTCKRW"]}, {"type":"unsubscribe","symbols":[...]}
+ * 서버 메시지: 시세 프레임 [{"symbol":..,"price":..,"sequence":..,"eventTime":..}, ...],
+ * 구독 응답 {"type":"subscribed"|"unsubscribed","symbols":[...]}, 오류 {"type":"error","message":..}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PricePushHandler extends TextWebSocketHandler {
+
+    private final PriceBroadcaster broadcaster;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (!broadcaster.register(session)) {
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        String sessionId = session.getId();
+        try {
+            JsonNode request = objectMapper.readTree(message.getPayload());
+            List<String> symbols = new ArrayList<>();
+            request.path("symbols").forEach(symbol -> symbols.add(symbol.asText()));
+            switch (request.path("type").asText()) {
+                case "subscribe" -> reply(sessionId, Map.of("type", "subscribed",
+                        "symbols", broadcaster.subscribe(sessionId, symbols)));
+                case "unsubscribe" -> reply(sessionId, Map.of("type", "unsubscribed",
+                        "symbols", broadcaster.unsubscribe(sessionId, symbols)));
+                default -> reply(sessionId, Map.of("type", "error", "message", "지원하지 않는 요청: " + request.path("type").asText()));
+            }
+        } catch (ApplicationException e) {
+            reply(sessionId, Map.of("type", "error", "message", e.getMessage()));
+        } catch (JsonProcessingException e) {
+            reply(sessionId, Map.of("type", "error", "message", "JSON 형식이 아님"));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("[{}] 시세 웹소켓 오류: {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        broadcaster.unregister(session.getId());
+    }
+
+    private void reply(String sessionId, Map<String, Object> body) {
+        try {
+            broadcaster.send(sessionId, new TextMessage(objectMapper.writeValueAsString(body)));
+        } catch (JsonProcessingException e) {
+            log.error("[{}] 응답 직렬화 실패: {}", sessionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package digital.asset.manager.application.chart.push;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * 시세 웹소켓 세션 하나의 구독 목록과 전송 대기열
+ * 세션당 동시에 하나만 보낼 수 있으므로 모든 전송(시세/응답)은 대기열을 거쳐 순서대로 나간다.
+ * 서블릿 컨테이너 세션이면 비동기 전송(완료 콜백에서 다음 프레임)을 써서 느린 클라이언트가 스레드를 잡지 않게 하고,
+ * 그 외에는 전송 스레드에서 블로킹으로 보낸다.
+ * 대기열은 프레임 수로 제한하고, 넘치면 따라오지 못하는 클라이언트로 보고 끊는다.
+ */
+@Slf4j
+class PushSession {
+
+    enum Offer {
+        // 대기열이 비어 있던 경우. 호출한 쪽이 drain을 부른다
+        SCHEDULE,
+        QUEUED,
+        OVERFLOW,
+        CLOSED
+    }
+
+    private final WebSocketSession session;
+    private final RemoteEndpoint.Async async;
+    private final Executor sender;
+    private final int maxQueuedFrames;
+    private final ArrayDeque<TextMessage> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+    // 구독 심볼 id. 바뀔 때마다 새 배열로 바꾸므로 주기 스레드는 락 없이 읽는다
+    private volatile int[] symbolIds = new int[0];
+
+    /**
+     * @param sender 비동기 전송을 못 하는 세션의 블로킹 전송용
+     */
+    PushSession(WebSocketSession session, Executor sender, int maxQueuedFrames) {
+        this.session = session;
+        this.async = session instanceof NativeWebSocketSession nativeSession
+                && nativeSession.getNativeSession() instanceof Session standard ? standard.getAsyncRemote() : null;
+        this.sender = sender;
+        this.maxQueuedFrames = maxQueuedFrames;
+    }
+
+    String getId() {
+        return session.getId();
+    }
+
+    int[] symbolIds() {
+        return symbolIds;
+    }
+
+    /**
+     * @return 새로 추가되었으면 true (이미 구독 중이거나 최대 개수를 넘으면 false)
+     */
+    synchronized boolean subscribe(int symbolId, int maxSymbols) {
+        int[] current = symbolIds;
+        if (indexOf(current, symbolId) >= 0 || current.length >= maxSymbols) {
+            return false;
+        }
+        int[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = symbolId;
+        symbolIds = next;
+        return true;
+    }
+
+    synchronized boolean unsubscribe(int symbolId) {
+        int[] current = symbolIds;
+        int index = indexOf(current, symbolId);
+        if (index < 0) {
+            return false;
+        }
+        int[] next = new int[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        symbolIds = next;
+        return true;
+    }
+
+    synchronized Offer offer(TextMessage frame) {
+        if (closed) {
+            return Offer.CLOSED;
+        }
+        if (queue.size() >= maxQueuedFrames) {
+            return Offer.OVERFLOW;
+        }
+        queue.add(frame);
+        if (draining) {
+            return Offer.QUEUED;
+        }
+        draining = true;
+        return Offer.SCHEDULE;
+    }
+
+    /**
+     * 대기열의 다음 프레임부터 보낸다. 세션당 하나만 진행된다.
+     * 비동기 전송은 바로 돌아오고 완료 콜백에서 이어 보내며, 블로킹 전송은 전송 스레드에서 대기열이 빌 때까지 보낸다.
+     */
+    void drain() {
+        if (async == null) {
+            sender.execute(this::drainBlocking);
+            return;
+        }
+        TextMessage frame = next();
+        if (frame == null) {
+            return;
+        }
+        try {
+            async.sendText(frame.getPayload(), result -> {
+                if (result.isOK()) {
+                    drain();
+                } else {
+                    log.debug("[{}] 시세 전송 실패: {}", session.getId(), result.getException().getMessage());
+                    close(CloseStatus.SESSION_NOT_RELIABLE);
+                }
+            });
+        } catch (IllegalStateException e) {
+            log.debug("[{}] 시세 전송 실패: {}", session.getId(), e.getMessage());
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    void close(CloseStatus status) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("[{}] 세션 종료 실패: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private void drainBlocking() {
+        TextMessage frame;
+        while ((frame = next()) != null) {
+            try {
+                session.sendMessage(frame);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[{}] 시세 전송 실패: {}", session.getId(), e.getMessage());
+                close(CloseStatus.SESSION_NOT_RELIABLE);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보낼 프레임. 없으면 전송 중 표시를 내리고 null
+     */
+    private synchronized TextMessage next() {
+        TextMessage frame = closed ? null : queue.poll();
+        if (frame == null) {
+            draining = false;
+        }
+        return frame;
+    }
+
+    private static int indexOf(int[] ids, int symbolId) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == symbolId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
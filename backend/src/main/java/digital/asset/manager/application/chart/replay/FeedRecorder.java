@@ -0,0 +1,153 @@
+package digital.asset.manager.application.chart.replay;
+
+import digital.asset.manager.application.chart.ingest.StreamFrameHandler;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 체결 스트림 녹화기
+ * 켜져 있으면 수집 엔진의 연결별 프레임 처리기를 감싸서, 완성된 원본 프레임을 수신 시각과 함께
+ * {directory}/feed-{yyyyMMdd-HHmmss}.mdr 파일에 남긴다. 녹화 파일은 {@link FeedReplayer}나 {@link MockFeedServer}로 재생한다.
+ * 쓰기에 실패하면 수집을 막지 않도록 녹화만 멈춘다.
+ */
+@Slf4j
+@Component
+public class FeedRecorder {
+
+    private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    // 비정상 종료 시 잃는 프레임을 줄이도록 주기적으로 디스크에 내린다
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+
+    private final MarketDataProperties.Recorder config;
+    private volatile FeedRecordingWriter writer;
+    @Getter
+    private Path file;
+    private final AtomicLong recorded = new AtomicLong();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public FeedRecorder(MarketDataProperties properties) {
+        this.config = properties.getRecorder();
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Path directory = Path.of(config.getDirectory());
+            Files.createDirectories(directory);
+            file = directory.resolve("feed-" + LocalDateTime.now().format(FILE_NAME) + FeedRecording.EXTENSION);
+            writer = FeedRecordingWriter.create(file);
+            executor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            log.info("시세 녹화 시작: {}", file);
+        } catch (IOException e) {
+            log.error("시세 녹화 파일 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+        FeedRecordingWriter current = writer;
+        writer = null;
+        if (current != null) {
+            try {
+                current.close();
+                log.info("시세 녹화 종료: {} (프레임 {}개)", file, recorded.get());
+            } catch (IOException e) {
+                log.error("시세 녹화 파일 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 녹화가 꺼져 있으면 처리기를 그대로 돌려준다.
+     */
+    public StreamFrameHandler wrap(int shardId, StreamFrameHandler frames) {
+        return writer == null ? frames : new RecordingFrameHandler(shardId, frames);
+    }
+
+    public long getRecorded() {
+        return recorded.get();
+    }
+
+    private void flush() {
+        FeedRecordingWriter current = writer;
+        if (current != null) {
+            try {
+                current.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    private void record(int shardId, long receivedNanos, CharSequence frame) {
+        FeedRecordingWriter current = writer;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.write(shardId, receivedNanos, frame);
+            recorded.incrementAndGet();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void fail(IOException e) {
+        log.error("시세 녹화 실패, 녹화를 중단합니다: {}", e.getMessage());
+        close();
+    }
+
+    /**
+     * 조각난 프레임을 모아 두었다가 완성되면 기록하고 원래 처리기에 넘긴다.
+     */
+    private class RecordingFrameHandler implements StreamFrameHandler {
+
+        private final int shardId;
+        private final StreamFrameHandler delegate;
+        private final StringBuilder frame = new StringBuilder(1024);
+
+        RecordingFrameHandler(int shardId, StreamFrameHandler delegate) {
+            this.shardId = shardId;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean append(CharSequence data, boolean last) {
+            frame.append(data);
+            boolean complete = delegate.append(data, last);
+            if (complete) {
+                record(shardId, System.nanoTime(), frame);
+            }
+            return complete;
+        }
+
+        @Override
+        public void handleFrame() {
+            delegate.handleFrame();
+        }
+
+        @Override
+        public void reset() {
+            frame.setLength(0);
+            delegate.reset();
+        }
+    }
+}
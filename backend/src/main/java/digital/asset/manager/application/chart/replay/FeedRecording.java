@@ -0,0 +1,51 @@
+package digital.asset.manager.application.chart.replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 시세 녹화 파일 형식 (*.mdr)
+ * 헤더: magic(int) "MDFR", version(short), 녹화 시작 시각(epoch ms, long)
+ * 레코드: 직전 프레임과의 수신 간격(ns, varint), shard id(varint), UTF-8 길이(varint), UTF-8 바이트
+ * 간격과 길이를 varint로 적어서 체결 한 건(약 200바이트)당 부가 정보는 보통 5바이트 안쪽이다.
+ */
+final class FeedRecording {
+
+    static final int MAGIC = 0x4D444652;
+    static final short VERSION = 1;
+    static final String EXTENSION = ".mdr";
+
+    private FeedRecording() {
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * @return 파일 끝이면 -1
+     */
+    static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new EOFException("녹화 파일이 레코드 중간에서 끝났습니다.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
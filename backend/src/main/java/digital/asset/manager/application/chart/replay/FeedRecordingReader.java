@@ -0,0 +1,102 @@
+package digital.asset.manager.application.chart.replay;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 녹화 파일 읽기 (형식은 {@link FeedRecording} 참고)
+ * next()로 한 프레임씩 읽으며, frame()이 돌려주는 버퍼는 다음 next() 호출 때 재사용된다.
+ */
+class FeedRecordingReader implements Closeable {
+
+    private final DataInputStream in;
+    @Getter
+    private final long startEpochMillis;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+    private byte[] bytes = new byte[4096];
+    private CharBuffer chars = CharBuffer.allocate(4096);
+
+    // 녹화 시작부터 현재 프레임까지의 경과 시간(ns)
+    @Getter
+    private long offsetNanos;
+    @Getter
+    private int shardId;
+
+    private FeedRecordingReader(DataInputStream in, long startEpochMillis) {
+        this.in = in;
+        this.startEpochMillis = startEpochMillis;
+    }
+
+    static FeedRecordingReader open(Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        try {
+            if (in.readInt() != FeedRecording.MAGIC) {
+                throw new IOException("녹화 파일이 아닙니다: " + file);
+            }
+            short version = in.readShort();
+            if (version != FeedRecording.VERSION) {
+                throw new IOException("지원하지 않는 녹화 파일 버전: " + version);
+            }
+            return new FeedRecordingReader(in, in.readLong());
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return 더 읽을 프레임이 없으면 false
+     */
+    boolean next() throws IOException {
+        long delta = FeedRecording.readVarLong(in);
+        if (delta < 0) {
+            return false;
+        }
+        offsetNanos += delta;
+        shardId = (int) FeedRecording.readVarLong(in);
+        int length = (int) FeedRecording.readVarLong(in);
+        if (length > bytes.length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        in.readFully(bytes, 0, length);
+        decode(length);
+        return true;
+    }
+
+    CharSequence frame() {
+        return chars;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void decode(int length) throws IOException {
+        if (chars.capacity() < length) {
+            chars = CharBuffer.allocate(Math.max(length, chars.capacity() * 2));
+        }
+        chars.clear();
+        decoder.reset();
+        ByteBuffer input = ByteBuffer.wrap(bytes, 0, length);
+        CoderResult result = decoder.decode(input, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+        chars.flip();
+    }
+}
@@ -0,0 +1,89 @@
+package digital.asset.manager.application.chart.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 녹화 파일 쓰기 (형식은 {@link FeedRecording} 참고)
+ * 여러 연결의 수신 스레드가 함께 쓰므로 write는 동기화한다.
+ */
+class FeedRecordingWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataOutputStream out;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private long lastNanos;
+
+    private FeedRecordingWriter(DataOutputStream out, long startNanos) {
+        this.out = out;
+        this.lastNanos = startNanos;
+    }
+
+    static FeedRecordingWriter create(Path file) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), BUFFER_SIZE));
+        out.writeInt(FeedRecording.MAGIC);
+        out.writeShort(FeedRecording.VERSION);
+        out.writeLong(System.currentTimeMillis());
+        return new FeedRecordingWriter(out, System.nanoTime());
+    }
+
+    /**
+     * @param receivedNanos 프레임 수신 시각 (System.nanoTime)
+     */
+    synchronized void write(int shardId, long receivedNanos, CharSequence frame) throws IOException {
+        encode(frame);
+        // 연결마다 수신 스레드가 달라 순서가 살짝 뒤바뀔 수 있으므로 간격은 0 이상으로 맞춘다
+        FeedRecording.writeVarLong(out, Math.max(0, receivedNanos - lastNanos));
+        lastNanos = Math.max(lastNanos, receivedNanos);
+        FeedRecording.writeVarLong(out, shardId);
+        FeedRecording.writeVarLong(out, bytes.remaining());
+        out.write(bytes.array(), 0, bytes.remaining());
+    }
+
+    synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    private void encode(CharSequence frame) throws CharacterCodingException {
+        CharBuffer chars = CharBuffer.wrap(frame);
+        encoder.reset();
+        bytes.clear();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(bytes);
+            }
+            if (result.isUnderflow()) {
+                break;
+            }
+            if (result.isOverflow()) {
+                ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+                bytes.flip();
+                larger.put(bytes);
+                bytes = larger;
+            } else {
+                result.throwException();
+            }
+        }
+        bytes.flip();
+    }
+}
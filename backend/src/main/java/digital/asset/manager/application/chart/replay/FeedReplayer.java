@@ -0,0 +1,186 @@
+package digital.asset.manager.application.chart.replay;
+
+import digital.asset.manager.application.chart.ingest.MarketDataIngestEngine;
+import digital.asset.manager.application.chart.ingest.StreamShard;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 녹화 파일 재생기
+ * 녹화된 프레임을 실시간 연결과 같은 {@link StreamShard#onText} 경로로 수집 엔진에 밀어 넣는다.
+ * 1배속은 녹화 당시 간격 그대로, N배속은 간격을 1/N로 줄여서, 0(최대 속도)은 기다리지 않고 재생하므로
+ * 네트워크 없이 수집 지연(stall)을 재현하거나 처리량을 잴 수 있다.
+ * 구독 중인 심볼만 반영되며, 이미 받은 체결 id는 엔진이 중복으로 버린다.
+ */
+@Slf4j
+@Component
+public class FeedReplayer {
+
+    // 진행 상황을 이 프레임 수마다 갱신한다
+    private static final int PROGRESS_INTERVAL = 4096;
+
+    private final MarketDataIngestEngine engine;
+    private final Path directory;
+    private final int requestBatch;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ReplayStatus status = ReplayStatus.IDLE;
+
+    public FeedReplayer(MarketDataIngestEngine engine, MarketDataProperties properties) {
+        this.engine = engine;
+        this.directory = Path.of(properties.getRecorder().getDirectory()).toAbsolutePath().normalize();
+        this.requestBatch = properties.getFlowControl().getRequestBatch();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 녹화 디렉터리의 파일을 백그라운드에서 재생한다.
+     * @return 이미 재생 중이면 false
+     */
+    public boolean start(String fileName, double speed) {
+        Path file = resolve(fileName);
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                ReplayStatus result = replay(file, speed);
+                log.info("녹화 재생 완료: {} (프레임 {}개, {}ms, 초당 {}개)",
+                        result.file(), result.frames(), result.elapsedMs(), result.framesPerSecond());
+            } catch (IOException e) {
+                log.error("녹화 재생 실패: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public ReplayStatus status() {
+        return status;
+    }
+
+    /**
+     * 호출한 스레드에서 끝까지 재생한다. (재생용 링의 생산자가 하나이도록 한 번에 하나씩)
+     * @param speed 재생 배속 (0 이하면 최대 속도)
+     */
+    public synchronized ReplayStatus replay(Path file, double speed) throws IOException {
+        String name = file.getFileName().toString();
+        // 재생용 shard는 연결하지 않으므로 supervisor가 필요 없다
+        StreamShard shard = new StreamShard(-1, "", symbol -> symbol, engine.newFrameHandler(), null, requestBatch);
+        long frames = 0;
+        long startNanos = System.nanoTime();
+        status = ReplayStatus.of(name, speed, true, 0, 0);
+        try (FeedRecordingReader reader = FeedRecordingReader.open(file)) {
+            long firstOffset = -1;
+            while (reader.next() && !Thread.currentThread().isInterrupted()) {
+                if (firstOffset < 0) {
+                    firstOffset = reader.getOffsetNanos();
+                }
+                if (speed > 0) {
+                    awaitUntil(startNanos + (long) ((reader.getOffsetNanos() - firstOffset) / speed));
+                }
+                shard.onText(ReplaySocket.INSTANCE, reader.frame(), true);
+                if (++frames % PROGRESS_INTERVAL == 0) {
+                    status = ReplayStatus.of(name, speed, true, frames, System.nanoTime() - startNanos);
+                }
+            }
+        } finally {
+            status = ReplayStatus.of(name, speed, false, frames, System.nanoTime() - startNanos);
+        }
+        return status;
+    }
+
+    private Path resolve(String fileName) {
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "녹화 파일을 찾을 수 없습니다: " + fileName);
+        }
+        return file;
+    }
+
+    private static void awaitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 재생용 웹소켓. onText가 부르는 request(n) 등은 아무 일도 하지 않는다.
+     */
+    private static final class ReplaySocket implements WebSocket {
+
+        static final ReplaySocket INSTANCE = new ReplaySocket();
+
+        @Override
+        public CompletableFuture<WebSocket> sendText(CharSequence data, boolean last) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendBinary(ByteBuffer data, boolean last) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPing(ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPong(ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendClose(int statusCode, String reason) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public String getSubprotocol() {
+            return "";
+        }
+
+        @Override
+        public boolean isOutputClosed() {
+            return false;
+        }
+
+        @Override
+        public boolean isInputClosed() {
+            return false;
+        }
+
+        @Override
+        public void abort() {
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package digital.asset.manager.application.chart.replay;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 녹화 파일을 내보내는 로컬 웹소켓 서버 (바이낸스 combined stream 대역)
+ * 수집 엔진의 실제 HttpClient 웹소켓 클라이언트가 그대로 붙을 수 있도록 RFC 6455의 최소 기능
+ * (핸드셰이크, 텍스트 프레임 전송, ping/pong, close)만 구현한다.
+ * 요청한 스트림과 상관없이 접속한 연결마다 녹화를 처음부터 재생하고, SUBSCRIBE/UNSUBSCRIBE 메시지는 기록만 한다.
+ * 테스트에서는 녹화 대신 프레임 목록을 넘겨 다른 거래소(업비트는 바이너리 프레임) 대역으로도 쓴다.
+ *
+ * 실행: ./gradlew mockFeedServer --args="data/recordings/feed-xxx.mdr --port 9443 --speed 10 --loop"
+ * 수집 서버는 market-data.stream-url=ws://localhost:9443/stream 으로 띄운다.
+ */
+@Slf4j
+public class MockFeedServer implements Closeable {
+
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_BINARY = 0x2;
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    private final Path recording;
+    private final List<String> frames;
+    private final boolean binary;
+    private final double speed;
+    private final boolean loop;
+    private final ServerSocket serverSocket;
+    // 클라이언트가 보낸 텍스트 메시지 (구독 요청 등)
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * @param port 0이면 빈 포트를 쓴다 ({@link #getPort()})
+     * @param speed 재생 배속 (0 이하면 최대 속도)
+     * @param loop 녹화 끝에서 처음부터 다시 보낼지 여부 (체결 id가 반복되므로 엔진은 중복으로 버린다)
+     */
+    public MockFeedServer(Path recording, int port, double speed, boolean loop) throws IOException {
+        this(recording, null, false, port, speed, loop);
+    }
+
+    /**
+     * 접속한 연결마다 frames를 최대 속도로 한 번 보낸다.
+     * @param binary 바이너리 프레임으로 보낼지 여부 (업비트)
+     */
+    public MockFeedServer(List<String> frames, boolean binary, int port) throws IOException {
+        this(null, List.copyOf(frames), binary, port, 0, false);
+    }
+
+    private MockFeedServer(Path recording, List<String> frames, boolean binary, int port, double speed, boolean loop)
+            throws IOException {
+        this.recording = recording;
+        this.frames = frames;
+        this.binary = binary;
+        this.speed = speed;
+        this.loop = loop;
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: MockFeedServer <recording.mdr> [--port 9443] [--speed 1|N|max] [--loop]");
+            System.exit(1);
+        }
+        int port = 9443;
+        double speed = 1;
+        boolean loop = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--speed" -> speed = "max".equalsIgnoreCase(args[++i]) ? 0 : Double.parseDouble(args[i]);
+                case "--loop" -> loop = true;
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        MockFeedServer server = new MockFeedServer(Path.of(args[0]), port, speed, loop);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        log.info("mock 시세 서버 시작: ws://localhost:{}/stream ({}, {})", server.getPort(), args[0],
+                speed > 0 ? speed + "x" : "max");
+    }
+
+    public MockFeedServer start() {
+        Thread.ofPlatform().name("mock-feed-accept").daemon(false).start(this::acceptLoop);
+        return this;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<String> getReceivedMessages() {
+        return List.copyOf(received);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Thread.ofPlatform().name("mock-feed-" + socket.getPort()).daemon(true).start(() -> serve(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    log.error("mock 시세 서버 accept 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 64 * 1024);
+            handshake(in, out);
+            Connection connection = new Connection(socket, in, out);
+            Thread.ofPlatform().name("mock-feed-read-" + socket.getPort()).daemon(true).start(connection::readLoop);
+            connection.stream();
+            // 녹화를 다 보낸 뒤에도 연결은 유지한다 (끊으면 클라이언트가 재연결해 처음부터 다시 받는다)
+            connection.awaitClose();
+        } catch (SocketException e) {
+            log.info("mock 시세 서버 연결 종료: {}", e.getMessage());
+        } catch (IOException e) {
+            log.error("mock 시세 서버 연결 오류: {}", e.getMessage());
+        }
+    }
+
+    private static void handshake(InputStream in, OutputStream out) throws IOException {
+        String key = null;
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().toLowerCase(Locale.ROOT).equals("sec-websocket-key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+        if (key == null) {
+            out.write("HTTP/1.1 400 Bad Request\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            throw new IOException("웹소켓 요청이 아닙니다.");
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n";
+        out.write(response.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new IOException("핸드셰이크 중 연결이 끊겼습니다.");
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * 접속 하나. 전송은 재생 스레드와 읽기 스레드(pong, close 응답)가 함께 하므로 out을 잠그고 쓴다.
+     */
+    private class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(Socket socket, InputStream in, OutputStream out) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+
+        void stream() throws IOException {
+            if (frames != null) {
+                for (String frame : frames) {
+                    send(binary ? OPCODE_BINARY : OPCODE_TEXT, frame.getBytes(StandardCharsets.UTF_8), false);
+                }
+                flush();
+                return;
+            }
+            do {
+                long frames = 0;
+                try (FeedRecordingReader reader = FeedRecordingReader.open(recording)) {
+                    long startNanos = System.nanoTime();
+                    long firstOffset = -1;
+                    while (reader.next() && !socket.isClosed()) {
+                        if (firstOffset < 0) {
+                            firstOffset = reader.getOffsetNanos();
+                        }
+                        long due = speed > 0 ? startNanos + (long) ((reader.getOffsetNanos() - firstOffset) / speed) : 0;
+                        boolean waiting = speed > 0 && due - System.nanoTime() > 0;
+                        if (waiting) {
+                            // 기다리기 전에 쌓인 프레임을 내보낸다
+                            flush();
+                            while (due - System.nanoTime() > 0) {
+                                LockSupport.parkNanos(due - System.nanoTime());
+                            }
+                        }
+                        send(OPCODE_TEXT, reader.frame().toString().getBytes(StandardCharsets.UTF_8), false);
+                        frames++;
+                    }
+                    flush();
+                }
+                log.info("mock 시세 서버 재생 완료 (port {}, 프레임 {}개)", socket.getPort(), frames);
+            } while (loop && !socket.isClosed() && !closed);
+        }
+
+        void readLoop() {
+            try {
+                while (true) {
+                    int first = in.read();
+                    int second = in.read();
+                    if (first < 0 || second < 0) {
+                        break;
+                    }
+                    int opcode = first & 0x0F;
+                    long length = second & 0x7F;
+                    if (length == 126) {
+                        length = (in.read() << 8) | in.read();
+                    } else if (length == 127) {
+                        length = 0;
+                        for (int i = 0; i < 8; i++) {
+                            length = (length << 8) | in.read();
+                        }
+                    }
+                    // 클라이언트 프레임은 항상 마스킹되어 있다
+                    byte[] mask = (second & 0x80) != 0 ? in.readNBytes(4) : null;
+                    byte[] payload = in.readNBytes((int) length);
+                    if (mask != null) {
+                        for (int i = 0; i < payload.length; i++) {
+                            payload[i] ^= mask[i & 3];
+                        }
+                    }
+                    if (opcode == OPCODE_TEXT) {
+                        received.add(new String(payload, StandardCharsets.UTF_8));
+                    } else if (opcode == OPCODE_PING) {
+                        send(OPCODE_PONG, payload, true);
+                    } else if (opcode == OPCODE_CLOSE) {
+                        send(OPCODE_CLOSE, payload, true);
+                        break;
+                    }
+                }
+            } catch (IOException ignored) {
+                // 소켓이 닫힌 경우
+            }
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+
+        synchronized void awaitClose() {
+            while (!socket.isClosed() && !closed) {
+                try {
+                    wait(1_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void send(int opcode, byte[] payload, boolean flush) throws IOException {
+            synchronized (out) {
+                out.write(0x80 | opcode);
+                if (payload.length < 126) {
+                    out.write(payload.length);
+                } else if (payload.length <= 0xFFFF) {
+                    out.write(126);
+                    out.write(payload.length >>> 8);
+                    out.write(payload.length);
+                } else {
+                    out.write(127);
+                    for (int shift = 56; shift >= 0; shift -= 8) {
+                        out.write((int) ((long) payload.length >>> shift));
+                    }
+                }
+                out.write(payload);
+                if (flush) {
+                    out.flush();
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
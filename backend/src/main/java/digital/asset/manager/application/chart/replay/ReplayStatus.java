@@ -0,0 +1,27 @@
+package digital.asset.manager.application.chart.replay;
+
+/**
+ * 녹화 재생 진행 상황
+ * @param file 재생 중(또는 마지막으로 재생한) 녹화 파일
+ * @param speed 재생 배속 (0이면 대기 없이 최대 속도)
+ * @param running 재생 중 여부
+ * @param frames 처리한 프레임 수
+ * @param elapsedMs 재생 시작부터 경과 시간
+ * @param framesPerSecond 초당 처리 프레임 수
+ */
+public record ReplayStatus(
+        String file,
+        double speed,
+        boolean running,
+        long frames,
+        long elapsedMs,
+        long framesPerSecond
+) {
+    static final ReplayStatus IDLE = new ReplayStatus(null, 0, false, 0, 0, 0);
+
+    static ReplayStatus of(String file, double speed, boolean running, long frames, long elapsedNanos) {
+        long elapsedMs = elapsedNanos / 1_000_000;
+        long framesPerSecond = elapsedNanos == 0 ? 0 : frames * 1_000_000_000L / elapsedNanos;
+        return new ReplayStatus(file, speed, running, frames, elapsedMs, framesPerSecond);
+    }
+}
@@ -0,0 +1,114 @@
+package digital.asset.manager.application.chart.service;
+
+import digital.asset.manager.application.chart.candle.CandleAggregator;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.downsample.CandleDownsampler;
+import digital.asset.manager.application.chart.downsample.DownsampleMethod;
+import digital.asset.manager.application.chart.dto.CandleResponse;
+import digital.asset.manager.application.chart.dto.IndicatorResponse;
+import digital.asset.manager.application.chart.dto.OrderBookResponse;
+import digital.asset.manager.application.chart.indicator.IndicatorEngine;
+import digital.asset.manager.application.chart.indicator.IndicatorSpec;
+import digital.asset.manager.application.chart.orderbook.OrderBookEngine;
+import digital.asset.manager.application.chart.store.CandleStore;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ChartService {
+
+    private static final int MAX_HISTORY_LIMIT = 5000;
+    private static final int MAX_ORDER_BOOK_DEPTH = 1000;
+    private static final int MAX_INDICATORS = 10;
+
+    private final CandleAggregator candleAggregator;
+    private final CandleStore candleStore;
+    private final OrderBookEngine orderBookEngine;
+    private final IndicatorEngine indicatorEngine;
+    private final CandleDownsampler candleDownsampler;
+
+    public List<CandleResponse> getCandles(String symbol, String interval, int limit) {
+        CandleInterval candleInterval = CandleInterval.of(interval);
+        int size = Math.min(Math.max(limit, 1), candleAggregator.getCapacity());
+        return candleAggregator.candles(symbol.toUpperCase(), candleInterval, size)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, symbol))
+                .stream()
+                .map(CandleResponse::fromCandle)
+                .toList();
+    }
+
+    public List<CandleResponse> getHistory(String symbol, String interval, Long from, Long to, int limit) {
+        CandleInterval candleInterval = storedInterval(interval);
+        int size = Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+        return candleStore.range(symbol.toUpperCase(), candleInterval,
+                        from == null ? Long.MIN_VALUE : from,
+                        to == null ? Long.MAX_VALUE : to,
+                        size)
+                .stream()
+                .map(CandleResponse::fromCandle)
+                .toList();
+    }
+
+    /**
+     * [from, to] 구간 전체를 maxPoints개 이하로 줄인 봉 이력
+     */
+    public List<CandleResponse> getDownsampledHistory(String symbol, String interval, Long from, Long to, int maxPoints,
+                                                      String method) {
+        CandleInterval candleInterval = storedInterval(interval);
+        return candleDownsampler.downsample(symbol.toUpperCase(), candleInterval,
+                        from == null ? Long.MIN_VALUE : from,
+                        to == null ? Long.MAX_VALUE : to,
+                        maxPoints,
+                        DownsampleMethod.of(method))
+                .stream()
+                .map(CandleResponse::fromCandle)
+                .toList();
+    }
+
+    /**
+     * 지표별 최근 limit개 값 (마감 봉 기준). 같은 지표를 여러 번 요청하면 한 번만 돌려준다.
+     */
+    public List<IndicatorResponse> getIndicators(String symbol, String interval, List<String> indicators, int limit) {
+        CandleInterval candleInterval = CandleInterval.of(interval);
+        Set<IndicatorSpec> specs = new LinkedHashSet<>();
+        for (String indicator : indicators) {
+            if (!indicator.isBlank()) {
+                specs.add(indicatorEngine.parse(indicator));
+            }
+        }
+        if (specs.isEmpty() || specs.size() > MAX_INDICATORS) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "지표는 1개 이상 " + MAX_INDICATORS + "개 이하");
+        }
+        String key = symbol.toUpperCase();
+        List<IndicatorResponse> result = new ArrayList<>();
+        for (IndicatorSpec spec : specs) {
+            result.add(indicatorEngine.latest(key, candleInterval, spec, limit)
+                    .map(values -> IndicatorResponse.of(key, candleInterval, spec, values))
+                    .orElseThrow(() -> new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, symbol)));
+        }
+        return result;
+    }
+
+    public OrderBookResponse getOrderBook(String symbol, int depth) {
+        int size = Math.min(Math.max(depth, 1), MAX_ORDER_BOOK_DEPTH);
+        return orderBookEngine.getBook(symbol)
+                .map(book -> OrderBookResponse.fromView(book.view(size)))
+                .orElseThrow(() -> new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, symbol));
+    }
+
+    private CandleInterval storedInterval(String interval) {
+        CandleInterval candleInterval = CandleInterval.of(interval);
+        if (!candleStore.isStored(candleInterval)) {
+            throw new ApplicationException(ErrorCode.INVALID_INTERVAL, interval + " 주기는 저장하지 않습니다.");
+        }
+        return candleInterval;
+    }
+}
@@ -1,39 +1,180 @@
 package digital.asset.manager.application.chart.service;
 
-import java.util.Map;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.exchange.Instrument;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.cache.NearCache;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
-// 캐시 미스가 발생하면 외부 REST API를 호출해 데이터를 가져오고 Redis에 저장
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+// 캐시 미스가 발생하면 거래소 REST API를 호출해 데이터를 가져오고 Redis에 저장
+// 같은 심볼을 동시에 요청하면 진행 중인 호출 하나의 결과를 함께 기다린다. (Redis가 비었을 때 거래소 호출이 몰리지 않도록)
+// 최근에 가져온 값은 최대 허용 시간까지 바로 돌려주고, 신선 기간이 지났으면 뒤에서 다시 가져온다. (stale-while-revalidate)
+// 거래소 호출은 WebClient라 응답을 기다리는 동안 스레드를 잡지 않는다.
 @Service
 @Slf4j
 public class ExternalPriceService {
 
-    private static final String BINANCE_REST_URL = "https://api.binance.com/api/v3/ticker/price?symbol=BTCUSDT";
-
     @Autowired
     private StringRedisTemplate redisTemplate;
 
+    @Autowired
+    private PriceRegistry priceRegistry;
+
+    @Autowired
+    private ExchangeRegistry exchangeRegistry;
+
+    @Autowired
+    private MarketDataProperties properties;
+
+    @Autowired
+    private NearCache<String> priceNearCache;
+
+    @Autowired
+    private WebClient webClient;
+
+    // 심볼 키별 진행 중인 호출
+    private final ConcurrentHashMap<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    // 심볼 키별 마지막으로 가져온 값
+    private final ConcurrentHashMap<String, FetchedPrice> fetched = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    // 지표
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    private record FetchedPrice(long price, long fetchedAt) {
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newFixedThreadPool(Math.max(1, properties.getRestFallback().getStoreThreads()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
     public String fetchPriceFromApi() {
-        RestTemplate restTemplate = new RestTemplate();
+        return fetchPriceFromApi(PriceService.DEFAULT_SYMBOL);
+    }
+
+    /**
+     * @param symbol BTCUSDT(바이낸스), UPBIT:BTCKRW 등
+     * @return 현재가. 가져오지 못했고 허용 시간 안의 값도 없으면 null
+     */
+    public String fetchPriceFromApi(String symbol) {
         try {
-            // 외부 API 호출
-            Map response = restTemplate.getForObject(BINANCE_REST_URL, Map.class);
-            if(response == null) {
-                throw new NullPointerException("바이낸스 응답 없음");
+            return fetchPriceAsync(symbol).get(properties.getRestFallback().getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException e) {
+            log.warn("현재가 조회 대기 시간 초과: {}", symbol);
+            return null;
+        } catch (Exception e) {
+            log.error("에러 발생: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 기다리지 않는 조회. 가져오지 못했고 허용 시간 안의 값도 없으면 null로 완료된다. (예외로 끝나지 않는다)
+     */
+    public CompletableFuture<String> fetchPriceAsync(String symbol) {
+        MarketDataProperties.RestFallback config = properties.getRestFallback();
+        Instrument instrument = exchangeRegistry.resolve(symbol);
+        FetchedPrice cached = fetched.get(instrument.key());
+        if (cached != null) {
+            long age = System.currentTimeMillis() - cached.fetchedAt();
+            if (age <= config.getFreshMs()) {
+                return CompletableFuture.completedFuture(FixedPoint.toPlainString(cached.price()));
+            }
+            if (age <= config.getMaxStaleMs()) {
+                // 기다리지 않고 이전 값을 돌려주고, 갱신은 뒤에서 한 번만
+                staleServed.increment();
+                fetch(instrument);
+                return CompletableFuture.completedFuture(FixedPoint.toPlainString(cached.price()));
             }
+        }
+        // 실패 로그는 거래소를 호출한 쪽에서 한 번만 남긴다
+        return fetch(instrument).thenApply(FixedPoint::toPlainString).exceptionally(e -> null);
+    }
 
-            String price = (String) response.get("price");
-            // Redis에 저장
-            redisTemplate.opsForValue().set("BTCUSDT_LATEST_PRICE", price);
+    public long getUpstreamCalls() {
+        return upstreamCalls.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
 
-            return price;
+    public long getStaleServed() {
+        return staleServed.sum();
+    }
+
+    /**
+     * 심볼 키당 하나만 거래소를 호출한다. 이미 진행 중이면 그 결과를 같이 쓴다.
+     * 응답은 WebClient로 기다리지 않고 받으며, 저장(Redis 등 블로킹 호출)만 저장 스레드에서 한다.
+     */
+    private CompletableFuture<Long> fetch(Instrument instrument) {
+        String key = instrument.key();
+        CompletableFuture<Long> created = new CompletableFuture<>();
+        CompletableFuture<Long> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            coalesced.increment();
+            return running;
+        }
+        upstreamCalls.increment();
+        // 외부 API 호출 (거래소별 주소/응답 형식은 어댑터가 처리)
+        instrument.exchange().fetchPrice(instrument.symbol(), webClient)
+                .toFuture()
+                .thenAcceptAsync(price -> {
+                    store(key, price);
+                    created.complete(price);
+                }, executor)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        log.error("현재가 조회 실패 {}: {}", key, cause.getMessage());
+                        created.completeExceptionally(cause);
+                    }
+                    // 값을 저장한 뒤에 빼야 다음 요청이 새 값을 보고 다시 호출하지 않는다
+                    inFlight.remove(key, created);
+                });
+        return created;
+    }
+
+    /**
+     * 로컬 최신가 저장소와 Redis에 저장 (Redis 저장이 실패해도 가져온 값은 돌려준다)
+     */
+    private void store(String key, long price) {
+        priceRegistry.update(key, price, System.currentTimeMillis());
+        fetched.put(key, new FetchedPrice(price, System.currentTimeMillis()));
+        try {
+            String priceKey = PriceService.latestPriceKey(key);
+            redisTemplate.opsForValue().set(priceKey, FixedPoint.toPlainString(price));
+            priceNearCache.put(priceKey, FixedPoint.toPlainString(price));
         } catch (Exception e) {
-            log.error("에러 발생: {}", e.getMessage(), e);
-            return null;
+            log.error("현재가 Redis 저장 실패 {}: {}", key, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,260 @@
 package digital.asset.manager.application.chart.service;
 
+import digital.asset.manager.application.chart.consolidated.ConsolidatedPriceCalculator;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.dto.ConsolidatedPriceResponse;
+import digital.asset.manager.application.chart.dto.PriceResponse;
+import digital.asset.manager.application.chart.dto.RollingTickerResponse;
+import digital.asset.manager.application.chart.dto.TradeWindowResponse;
+import digital.asset.manager.application.chart.history.Tick;
+import digital.asset.manager.application.chart.metrics.IngestMetrics;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.price.PriceSnapshot;
+import digital.asset.manager.application.chart.window.RollingTickerAggregator;
+import digital.asset.manager.application.chart.window.TradeWindowAggregator;
+import digital.asset.manager.application.common.cache.NearCache;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 @Service
 public class PriceService {
 
+    public static final String DEFAULT_SYMBOL = "BTCUSDT";
+    public static final int MAX_BATCH_SYMBOLS = 100;
+
     private final RedisTemplate<String, String> priceRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PriceRegistry priceRegistry;
+    private final IngestMetrics ingestMetrics;
+    private final TradeWindowAggregator tradeWindowAggregator;
+    private final ConsolidatedPriceCalculator consolidatedPriceCalculator;
+    private final ExchangeRegistry exchanges;
+    private final NearCache<String> priceNearCache;
+    private final RollingTickerAggregator rollingTickerAggregator;
 
     @Autowired
-    public PriceService(RedisTemplate<String, String> priceRedisTemplate) {
+    public PriceService(RedisTemplate<String, String> priceRedisTemplate, StringRedisTemplate stringRedisTemplate,
+                        PriceRegistry priceRegistry, IngestMetrics ingestMetrics, TradeWindowAggregator tradeWindowAggregator,
+                        ConsolidatedPriceCalculator consolidatedPriceCalculator, ExchangeRegistry exchanges,
+                        NearCache<String> priceNearCache, RollingTickerAggregator rollingTickerAggregator) {
         this.priceRedisTemplate = priceRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.priceRegistry = priceRegistry;
+        this.ingestMetrics = ingestMetrics;
+        this.tradeWindowAggregator = tradeWindowAggregator;
+        this.consolidatedPriceCalculator = consolidatedPriceCalculator;
+        this.exchanges = exchanges;
+        this.priceNearCache = priceNearCache;
+        this.rollingTickerAggregator = rollingTickerAggregator;
     }
 
     public String getPrice() {
-        // Redis에서 최신 시세 가져오기
-        return priceRedisTemplate.opsForValue().get("BTCUSDT_LATEST_PRICE");
+        return getPrice(DEFAULT_SYMBOL);
+    }
+
+    /**
+     * 노드 로컬 최신가 저장소를 먼저 보고, 아직 수신한 적 없는 심볼만 Redis에서 가져온다. (Redis 값은 로컬 캐시를 거친다)
+     */
+    public String getPrice(String symbol) {
+        String key = exchanges.key(symbol);
+        return priceRegistry.get(key)
+                .map(snapshot -> {
+                    ingestMetrics.recordRead(snapshot.symbol(), snapshot.updatedAt());
+                    return snapshot.plainPrice();
+                })
+                // Redis에서 최신 시세 가져오기
+                .orElseGet(() -> priceNearCache.get(latestPriceKey(key), priceRedisTemplate.opsForValue()::get));
+    }
+
+    /**
+     * 여러 심볼의 최신가. 노드 로컬 최신가 저장소에 없는 심볼은 로컬 캐시에서 찾고, 거기에도 없는 것만 모아 Redis MGET 한 번으로 가져온다.
+     * 요청 순서를 유지하며(중복 제거), 어디에도 없는 심볼은 빠진다.
+     */
+    public List<PriceResponse> getPrices(Collection<String> symbols) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (!symbol.isBlank()) {
+                keys.add(exchanges.key(symbol));
+            }
+        }
+        Map<String, PriceResponse> prices = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            prices.put(key, null);
+            priceRegistry.get(key).ifPresentOrElse(snapshot -> {
+                ingestMetrics.recordRead(snapshot.symbol(), snapshot.updatedAt());
+                prices.put(key, PriceResponse.fromSnapshot(snapshot));
+            }, () -> missing.add(key));
+        }
+        if (!missing.isEmpty()) {
+            Map<String, String> stored = priceNearCache.getAll(missing.stream().map(PriceService::latestPriceKey).toList(),
+                    this::multiGetPrices);
+            for (String key : missing) {
+                String price = stored.get(latestPriceKey(key));
+                if (price != null) {
+                    prices.put(key, PriceResponse.fromStored(key, price));
+                }
+            }
+        }
+        return prices.values().stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 체결 이력 구간 조회 (XRANGE). from, to는 스트림 ID의 시각(ms)이며 오래된 순으로 최대 limit건
+     */
+    public List<Tick> getTicks(String symbol, long from, long to, int limit) {
+        String key = exchanges.key(symbol);
+        return getTicks(List.of(key), from, to, limit).get(key);
+    }
+
+    /**
+     * 최근 체결 count건 (XREVRANGE). 오래된 순으로 돌려준다.
+     */
+    public List<Tick> getRecentTicks(String symbol, int count) {
+        String key = exchanges.key(symbol);
+        return getRecentTicks(List.of(key), count).get(key);
+    }
+
+    /**
+     * from(ms) 이후 체결을 before(스트림 ID, 제외) 바로 앞에서부터 거꾸로 최대 count건 (XREVRANGE). 오래된 순으로 돌려준다.
+     * before가 null이면 스트림 끝부터 읽는다. (최근 구간을 끝에서부터 나눠 읽을 때 쓴다)
+     */
+    public List<Tick> getTicksBefore(String symbol, long from, String before, int count) {
+        Range<String> range = Range.of(Range.Bound.inclusive(String.valueOf(from)),
+                before == null ? Range.Bound.unbounded() : Range.Bound.exclusive(before));
+        String key = exchanges.key(symbol);
+        return readStreams(List.of(key), true, range, count).get(key);
+    }
+
+    /**
+     * 여러 심볼의 체결 이력을 파이프라인 한 번으로 조회한다. (결과 키는 저장소 키: BTCUSDT, UPBIT:BTCKRW)
+     */
+    public Map<String, List<Tick>> getTicks(Collection<String> symbols, long from, long to, int limitPerSymbol) {
+        return readStreams(symbols, false, Range.closed(String.valueOf(from), String.valueOf(to)), limitPerSymbol);
+    }
+
+    public Map<String, List<Tick>> getRecentTicks(Collection<String> symbols, int count) {
+        return readStreams(symbols, true, Range.unbounded(), count);
+    }
+
+    /**
+     * 체결 통계 구간 요약 (노드 메모리에서 읽음)
+     * @param current true면 진행 중 구간, false면 가장 최근에 끝난 구간
+     */
+    public TradeWindowResponse getTradeWindow(String symbol, boolean current) {
+        return (current ? tradeWindowAggregator.current(symbol) : tradeWindowAggregator.latest(symbol))
+                .map(TradeWindowResponse::fromSummary)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, symbol));
+    }
+
+    /**
+     * 심볼별 24시간 이동 구간 통계. symbols가 비어 있으면 구간 안에 체결이 있었던 모든 심볼
+     */
+    public List<RollingTickerResponse> getTickers(Collection<String> symbols) {
+        if (symbols == null || symbols.isEmpty()) {
+            return rollingTickerAggregator.getAll().stream().map(RollingTickerResponse::fromSummary).toList();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (!symbol.isBlank()) {
+                keys.add(exchanges.key(symbol));
+            }
+        }
+        List<RollingTickerResponse> tickers = new ArrayList<>();
+        for (String key : keys) {
+            rollingTickerAggregator.get(key).map(RollingTickerResponse::fromSummary).ifPresent(tickers::add);
+        }
+        return tickers;
+    }
+
+    /**
+     * 거래소 통합 시세 (수신 시점에 계산해 둔 값을 그대로 돌려준다)
+     */
+    public ConsolidatedPriceResponse getConsolidated(String asset) {
+        return consolidatedPriceCalculator.get(asset)
+                .map(ConsolidatedPriceResponse::fromQuote)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, asset));
+    }
+
+    public List<ConsolidatedPriceResponse> getConsolidated() {
+        return consolidatedPriceCalculator.getAll().stream().map(ConsolidatedPriceResponse::fromQuote).toList();
+    }
+
+    /**
+     * Redis 최신가 키 MGET. 없는 키는 결과에서 뺀다. (로컬 캐시에 담지 않도록)
+     */
+    private Map<String, String> multiGetPrices(Set<? extends String> keys) {
+        List<String> ordered = List.copyOf(keys);
+        List<String> values = priceRedisTemplate.opsForValue().multiGet(ordered);
+        Map<String, String> found = new HashMap<>();
+        for (int i = 0; values != null && i < ordered.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(ordered.get(i), values.get(i));
+            }
+        }
+        return found;
+    }
+
+    public static String latestPriceKey(String symbol) {
+        return symbol.toUpperCase() + "_LATEST_PRICE";
+    }
+
+    public static String tradeWindowKey(String symbol) {
+        return symbol.toUpperCase() + "_WINDOW";
+    }
+
+    public static String tickStreamKey(String symbol) {
+        return symbol.toUpperCase() + "_TICKS";
+    }
+
+    private Map<String, List<Tick>> readStreams(Collection<String> symbols, boolean reverse, Range<String> range, int count) {
+        List<String> normalized = symbols.stream().map(exchanges::key).distinct().toList();
+        Limit limit = Limit.limit().count(count);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String symbol : normalized) {
+                byte[] key = tickStreamKey(symbol).getBytes(StandardCharsets.UTF_8);
+                if (reverse) {
+                    connection.streamCommands().xRevRange(key, range, limit);
+                } else {
+                    connection.streamCommands().xRange(key, range, limit);
+                }
+            }
+            return null;
+        });
+
+        Map<String, List<Tick>> ticks = new LinkedHashMap<>();
+        for (int i = 0; i < normalized.size(); i++) {
+            List<Tick> list = new ArrayList<>();
+            if (results.get(i) instanceof List<?> records) {
+                for (Object record : records) {
+                    list.add(Tick.decode((ByteRecord) record));
+                }
+            }
+            if (reverse) {
+                Collections.reverse(list);
+            }
+            ticks.put(normalized.get(i), list);
+        }
+        return ticks;
     }
 }
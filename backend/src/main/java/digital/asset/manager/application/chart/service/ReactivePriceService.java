@@ -0,0 +1,119 @@
+package digital.asset.manager.application.chart.service;
+
+import digital.asset.manager.application.chart.dto.PriceResponse;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.metrics.IngestMetrics;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.price.PriceSnapshot;
+import digital.asset.manager.application.common.cache.NearCache;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 최신가 조회의 논블로킹 버전 ({@link PriceService#getPrice}, {@link PriceService#getPrices}와 같은 결과)
+ * 노드 로컬 최신가 저장소와 로컬 캐시는 메모리라 바로 읽고, Redis와 거래소 REST는 응답을 기다리는 동안 스레드를 잡지 않는다.
+ */
+@Service
+public class ReactivePriceService {
+
+    private final ReactiveRedisTemplate<String, String> reactivePriceRedisTemplate;
+    private final PriceRegistry priceRegistry;
+    private final IngestMetrics ingestMetrics;
+    private final ExchangeRegistry exchanges;
+    private final NearCache<String> priceNearCache;
+    private final ExternalPriceService externalPriceService;
+    private final Duration fallbackTimeout;
+
+    public ReactivePriceService(ReactiveRedisTemplate<String, String> reactivePriceRedisTemplate, PriceRegistry priceRegistry,
+                                IngestMetrics ingestMetrics, ExchangeRegistry exchanges, NearCache<String> priceNearCache,
+                                ExternalPriceService externalPriceService, MarketDataProperties properties) {
+        this.reactivePriceRedisTemplate = reactivePriceRedisTemplate;
+        this.priceRegistry = priceRegistry;
+        this.ingestMetrics = ingestMetrics;
+        this.exchanges = exchanges;
+        this.priceNearCache = priceNearCache;
+        this.externalPriceService = externalPriceService;
+        this.fallbackTimeout = Duration.ofMillis(properties.getRestFallback().getTimeoutMs());
+    }
+
+    /**
+     * 최신가 저장소 -> 로컬 캐시 -> Redis -> 거래소 REST 순으로 찾는다. 모두 없으면 빈 Mono
+     */
+    public Mono<String> getPrice(String symbol) {
+        String key = exchanges.key(symbol);
+        Optional<PriceSnapshot> snapshot = priceRegistry.get(key);
+        if (snapshot.isPresent()) {
+            ingestMetrics.recordRead(snapshot.get().symbol(), snapshot.get().updatedAt());
+            return Mono.just(snapshot.get().plainPrice());
+        }
+        String priceKey = PriceService.latestPriceKey(key);
+        return priceNearCache.get(priceKey)
+                .map(Mono::just)
+                .orElseGet(() -> reactivePriceRedisTemplate.opsForValue().get(priceKey)
+                        .doOnNext(price -> priceNearCache.putLocal(priceKey, price)))
+                .switchIfEmpty(Mono.defer(() -> Mono.fromFuture(externalPriceService.fetchPriceAsync(symbol))
+                        .timeout(fallbackTimeout, Mono.empty())));
+    }
+
+    /**
+     * 여러 심볼의 최신가. 최신가 저장소와 로컬 캐시에 없는 것만 모아 Redis MGET 한 번으로 가져온다.
+     * 요청 순서를 유지하며(중복 제거), 어디에도 없는 심볼은 빠진다.
+     */
+    public Mono<List<PriceResponse>> getPrices(Collection<String> symbols) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (!symbol.isBlank()) {
+                keys.add(exchanges.key(symbol));
+            }
+        }
+        Map<String, PriceResponse> prices = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            prices.put(key, null);
+            Optional<PriceSnapshot> snapshot = priceRegistry.get(key);
+            if (snapshot.isPresent()) {
+                ingestMetrics.recordRead(snapshot.get().symbol(), snapshot.get().updatedAt());
+                prices.put(key, PriceResponse.fromSnapshot(snapshot.get()));
+                continue;
+            }
+            Optional<String> cached = priceNearCache.get(PriceService.latestPriceKey(key));
+            if (cached.isPresent()) {
+                prices.put(key, PriceResponse.fromStored(key, cached.get()));
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Mono.just(collect(prices));
+        }
+        List<String> priceKeys = missing.stream().map(PriceService::latestPriceKey).toList();
+        return reactivePriceRedisTemplate.opsForValue().multiGet(priceKeys)
+                .map(stored -> {
+                    for (int i = 0; i < missing.size(); i++) {
+                        String price = stored.get(i);
+                        if (price != null) {
+                            priceNearCache.putLocal(priceKeys.get(i), price);
+                            prices.put(missing.get(i), PriceResponse.fromStored(missing.get(i), price));
+                        }
+                    }
+                    return collect(prices);
+                });
+    }
+
+    private static List<PriceResponse> collect(Map<String, PriceResponse> prices) {
+        return prices.values().stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,170 @@
+package digital.asset.manager.application.chart.store;
+
+import digital.asset.manager.application.chart.candle.Candle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 봉 세그먼트 파일 하나
+ * 고정 길이(56 byte) 레코드를 openTime 오름차순으로 덧붙이기만 하며, 파일 전체를 mmap 해서 읽고 쓴다.
+ *
+ * [header 64 byte] magic(int) version(int) count(long) ...
+ * [record 56 byte] openTime open high low close volume (long) trades(int) reserved(int)
+ *
+ * INDEX_STRIDE 개마다 openTime을 메모리(sparse index)에 두고, 시간 범위 조회 시 인덱스 → 블록 내 이진 탐색 순으로 찾는다.
+ */
+class CandleSegment {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 56;
+    private static final int MAGIC = 0x43414E44;  // "CAND"
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 8;
+    private static final int INDEX_STRIDE = 64;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long[] sparseIndex;
+    private volatile int count;
+
+    private CandleSegment(Path path, MappedByteBuffer buffer, int capacity, int count) {
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.count = count;
+        this.sparseIndex = new long[(capacity + INDEX_STRIDE - 1) / INDEX_STRIDE];
+        for (int i = 0; i < count; i += INDEX_STRIDE) {
+            sparseIndex[i / INDEX_STRIDE] = openTime(i);
+        }
+    }
+
+    // 매핑은 채널을 닫아도 유지되므로 map() 직후 채널을 닫는다 (세그먼트 수만큼 파일 디스크립터를 잡고 있지 않도록)
+    static CandleSegment create(Path path, int capacity) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(COUNT_OFFSET, 0);
+        return new CandleSegment(path, buffer, capacity, 0);
+    }
+
+    static CandleSegment open(Path path) throws IOException {
+        long size;
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            size = channel.size();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("봉 세그먼트 파일 형식이 아님: " + path);
+        }
+        int capacity = (int) ((size - HEADER_SIZE) / RECORD_SIZE);
+        int count = (int) Math.min(buffer.getLong(COUNT_OFFSET), capacity);
+        return new CandleSegment(path, buffer, capacity, count);
+    }
+
+    /**
+     * 레코드 추가 (쓰기 스레드 하나에서만 호출)
+     * @return 세그먼트가 가득 차서 쓰지 못했으면 false
+     */
+    boolean append(Candle candle) {
+        int index = count;
+        if (index >= capacity) {
+            return false;
+        }
+        int offset = HEADER_SIZE + index * RECORD_SIZE;
+        buffer.putLong(offset, candle.openTime());
+        buffer.putLong(offset + 8, candle.open());
+        buffer.putLong(offset + 16, candle.high());
+        buffer.putLong(offset + 24, candle.low());
+        buffer.putLong(offset + 32, candle.close());
+        buffer.putLong(offset + 40, candle.volume());
+        buffer.putInt(offset + 48, candle.trades());
+        if (index % INDEX_STRIDE == 0) {
+            sparseIndex[index / INDEX_STRIDE] = candle.openTime();
+        }
+        buffer.putLong(COUNT_OFFSET, index + 1);
+        count = index + 1;  // volatile 쓰기로 읽기 스레드에 공개
+        return true;
+    }
+
+    /**
+     * openTime >= from 인 첫 레코드 위치 (없으면 count)
+     */
+    int lowerBound(long from) {
+        int n = count;
+        if (n == 0 || openTime(n - 1) < from) {
+            return n;
+        }
+        // sparse index에서 from 이하인 마지막 블록을 찾는다
+        int blocks = (n + INDEX_STRIDE - 1) / INDEX_STRIDE;
+        int lo = 0, hi = blocks - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (sparseIndex[mid] <= from) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        // 블록 안에서 이진 탐색
+        int left = lo * INDEX_STRIDE;
+        int right = Math.min(left + INDEX_STRIDE, n);
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (openTime(mid) < from) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * [fromIndex, toIndex) 레코드 구간을 복사 없이 읽기 전용 슬라이스로 돌려준다.
+     */
+    ByteBuffer slice(int fromIndex, int toIndex) {
+        return buffer.slice(HEADER_SIZE + fromIndex * RECORD_SIZE, (toIndex - fromIndex) * RECORD_SIZE).asReadOnlyBuffer();
+    }
+
+    long openTime(int index) {
+        return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE);
+    }
+
+    long firstOpenTime() {
+        return count == 0 ? Long.MAX_VALUE : openTime(0);
+    }
+
+    long lastOpenTime() {
+        int n = count;
+        return n == 0 ? Long.MIN_VALUE : openTime(n - 1);
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 내려 쓴다 (채널은 열 때 이미 닫았고, 매핑은 GC 시 해제된다)
+     */
+    void close() {
+        buffer.force();
+    }
+}
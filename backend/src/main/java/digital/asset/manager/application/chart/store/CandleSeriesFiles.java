@@ -0,0 +1,145 @@
+package digital.asset.manager.application.chart.store;
+
+import digital.asset.manager.application.chart.candle.Candle;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * 심볼 하나, 주기 하나의 세그먼트 파일 묶음
+ * 파일 이름은 첫 봉의 openTime이며, 마지막 세그먼트에만 덧붙이고 가득 차면 새 세그먼트로 넘어간다.
+ */
+@Slf4j
+class CandleSeriesFiles {
+
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final List<CandleSegment> segments = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param create 디렉터리가 없으면 만든다 (쓰기 경로에서만 true)
+     */
+    CandleSeriesFiles(Path directory, int segmentRecords, boolean create) throws IOException {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        if (create) {
+            Files.createDirectories(directory);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+            for (Path path : paths) {
+                segments.add(CandleSegment.open(path));
+            }
+        }
+    }
+
+    /**
+     * 봉 추가. 이미 저장된 마지막 봉보다 이전/같은 시각이면 (재시작 등으로 인한 중복) 무시한다.
+     */
+    synchronized boolean append(Candle candle) throws IOException {
+        CandleSegment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (active != null && candle.openTime() <= active.lastOpenTime()) {
+            return false;
+        }
+        if (active == null || active.isFull()) {
+            // 세그먼트 롤오버
+            Path path = directory.resolve(String.format("%020d%s", candle.openTime(), SUFFIX));
+            active = CandleSegment.create(path, segmentRecords);
+            segments.add(active);
+            log.info("봉 세그먼트 생성: {}", path);
+        }
+        return active.append(candle);
+    }
+
+    /**
+     * [from, to] 구간 봉 중 최근 limit개를 오래된 순으로 순회한다.
+     */
+    void scan(long from, long to, int limit, CandleVisitor visitor) {
+        List<ByteBuffer> slices = slices(from, to);
+        long total = slices.stream().mapToLong(slice -> slice.limit() / CandleSegment.RECORD_SIZE).sum();
+        long skip = Math.max(0, total - limit);
+        for (ByteBuffer slice : slices) {
+            int records = slice.limit() / CandleSegment.RECORD_SIZE;
+            if (skip >= records) {
+                skip -= records;
+                continue;
+            }
+            for (int offset = (int) skip * CandleSegment.RECORD_SIZE; offset < slice.limit(); offset += CandleSegment.RECORD_SIZE) {
+                boolean next = visitor.visit(
+                        slice.getLong(offset),
+                        slice.getLong(offset + 8),
+                        slice.getLong(offset + 16),
+                        slice.getLong(offset + 24),
+                        slice.getLong(offset + 32),
+                        slice.getLong(offset + 40),
+                        slice.getInt(offset + 48)
+                );
+                if (!next) {
+                    return;
+                }
+            }
+            skip = 0;
+        }
+    }
+
+    /**
+     * [from, to] 구간의 봉 개수와 첫/마지막 봉 시각 (슬라이스 크기와 양 끝 레코드만 읽는다)
+     */
+    StoredRange describe(long from, long to) {
+        List<ByteBuffer> slices = slices(from, to);
+        if (slices.isEmpty()) {
+            return StoredRange.EMPTY;
+        }
+        long count = slices.stream().mapToLong(slice -> slice.limit() / CandleSegment.RECORD_SIZE).sum();
+        ByteBuffer last = slices.get(slices.size() - 1);
+        return new StoredRange(count, slices.get(0).getLong(0), last.getLong(last.limit() - CandleSegment.RECORD_SIZE));
+    }
+
+    /**
+     * [from, to] 구간을 세그먼트별 mmap 슬라이스로 돌려준다. (page cache를 그대로 읽으며 복사하지 않는다)
+     */
+    List<ByteBuffer> slices(long from, long to) {
+        List<ByteBuffer> result = new ArrayList<>();
+        for (CandleSegment segment : segments) {
+            if (segment.count() == 0 || segment.lastOpenTime() < from || segment.firstOpenTime() > to) {
+                continue;
+            }
+            int start = segment.lowerBound(from);
+            int end = segment.lowerBound(to == Long.MAX_VALUE ? to : to + 1);
+            if (start < end) {
+                result.add(segment.slice(start, end));
+            }
+        }
+        return result;
+    }
+
+    long count() {
+        return segments.stream().mapToLong(CandleSegment::count).sum();
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    synchronized void close() {
+        for (CandleSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (UncheckedIOException e) {
+                log.error("봉 세그먼트 닫기 실패: {} {}", segment.path(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package digital.asset.manager.application.chart.store;
+
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.candle.CandleCloseListener;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 봉 이력 저장소
+ * 마감된 봉을 심볼/주기별 append-only 세그먼트 파일({directory}/{SYMBOL}/{interval}/{openTime}.seg)에 기록한다.
+ * 심볼 디렉터리 이름은 URL 인코딩한다. (UPBIT:BTCKRW -> UPBIT%3ABTCKRW)
+ * 조회는 mmap 된 파일을 그대로 읽으므로 재시작 후에도 page cache에서 바로 응답한다.
+ *
+ * 조회 심볼은 외부 요청 값이므로, 수신 중인 심볼(SymbolTable)이나 시작 시 디스크에 있던 심볼이 아니면 파일 시스템을 보지 않는다.
+ * 조회 경로에서는 디렉터리를 만들지 않고, 이미 있는 시리즈만 연다.
+ */
+@Slf4j
+@Component
+public class CandleStore implements CandleCloseListener {
+
+    private final SymbolTable symbolTable;
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentRecords;
+    private final Set<CandleInterval> intervals = EnumSet.noneOf(CandleInterval.class);
+    private final Map<String, CandleSeriesFiles> series = new ConcurrentHashMap<>();
+    // 시작 시 디스크에 시리즈가 있던 심볼
+    private final Set<String> storedSymbols = ConcurrentHashMap.newKeySet();
+
+    public CandleStore(SymbolTable symbolTable, MarketDataProperties properties) {
+        MarketDataProperties.Store store = properties.getStore();
+        this.symbolTable = symbolTable;
+        this.enabled = store.isEnabled();
+        this.directory = Path.of(store.getDirectory());
+        this.segmentRecords = store.getSegmentRecords();
+        store.getIntervals().forEach(code -> intervals.add(CandleInterval.of(code)));
+        if (enabled) {
+            loadStoredSymbols();
+        }
+    }
+
+    @Override
+    public void onCandleClosed(int symbolId, CandleInterval interval, Candle candle) {
+        if (!enabled || !intervals.contains(interval)) {
+            return;
+        }
+        try {
+            writable(symbolTable.name(symbolId), interval).append(candle);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("봉 저장 실패 {} {}: {}", symbolTable.name(symbolId), interval.getCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * [from, to] 구간의 최근 limit개 봉을 객체 생성 없이 순회한다.
+     */
+    public void scan(String symbol, CandleInterval interval, long from, long to, int limit, CandleVisitor visitor) {
+        CandleSeriesFiles files = readable(symbol, interval);
+        if (files != null) {
+            files.scan(from, to, limit, visitor);
+        }
+    }
+
+    public List<Candle> range(String symbol, CandleInterval interval, long from, long to, int limit) {
+        List<Candle> result = new ArrayList<>();
+        scan(symbol, interval, from, to, limit, (openTime, open, high, low, close, volume, trades) ->
+                result.add(new Candle(openTime, open, high, low, close, volume, trades)));
+        return result;
+    }
+
+    public StoredRange describe(String symbol, CandleInterval interval, long from, long to) {
+        CandleSeriesFiles files = readable(symbol, interval);
+        return files == null ? StoredRange.EMPTY : files.describe(from, to);
+    }
+
+    /**
+     * [from, to] 구간의 mmap 슬라이스 (레코드 형식은 {@link CandleSegment} 참고)
+     */
+    public List<ByteBuffer> slices(String symbol, CandleInterval interval, long from, long to) {
+        CandleSeriesFiles files = readable(symbol, interval);
+        return files == null ? List.of() : files.slices(from, to);
+    }
+
+    public boolean isStored(CandleInterval interval) {
+        return enabled && intervals.contains(interval);
+    }
+
+    @PreDestroy
+    public void close() {
+        series.values().forEach(CandleSeriesFiles::close);
+    }
+
+    private CandleSeriesFiles writable(String symbol, CandleInterval interval) {
+        return series.computeIfAbsent(symbol + "/" + interval.getCode(), key -> open(symbol, interval, true));
+    }
+
+    /**
+     * 이미 있는 시리즈만 연다. 모르는 심볼이거나 디렉터리가 없으면 null
+     */
+    private CandleSeriesFiles readable(String symbol, CandleInterval interval) {
+        if (!isStored(interval)) {
+            return null;
+        }
+        CandleSeriesFiles files = series.get(symbol + "/" + interval.getCode());
+        if (files != null) {
+            return files;
+        }
+        if (symbolTable.lookup(symbol) == SymbolTable.NOT_FOUND && !storedSymbols.contains(symbol)) {
+            return null;
+        }
+        Path path = seriesDirectory(symbol, interval);
+        if (path == null || !Files.isDirectory(path)) {
+            return null;
+        }
+        return series.computeIfAbsent(symbol + "/" + interval.getCode(), key -> open(symbol, interval, false));
+    }
+
+    private CandleSeriesFiles open(String symbol, CandleInterval interval, boolean create) {
+        Path path = seriesDirectory(symbol, interval);
+        if (path == null) {
+            throw new UncheckedIOException(new IOException("저장소 밖 경로: " + symbol));
+        }
+        try {
+            return new CandleSeriesFiles(path, segmentRecords, create);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 저장소 디렉터리 밖을 가리키면 null
+     */
+    private Path seriesDirectory(String symbol, CandleInterval interval) {
+        Path path = directory.resolve(URLEncoder.encode(symbol, StandardCharsets.UTF_8)).resolve(interval.getCode()).normalize();
+        return path.startsWith(directory.normalize()) && !path.getParent().equals(directory.normalize()) ? path : null;
+    }
+
+    private void loadStoredSymbols() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.filter(Files::isDirectory).forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.indexOf(':') >= 0) {
+                    // 인코딩 전에 만든 디렉터리 (UPBIT:BTCKRW)
+                    name = migrate(path, name);
+                }
+                try {
+                    storedSymbols.add(URLDecoder.decode(name, StandardCharsets.UTF_8));
+                } catch (IllegalArgumentException e) {
+                    log.warn("봉 저장소가 아닌 디렉터리 무시: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.error("봉 저장소 목록 읽기 실패 {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private String migrate(Path path, String symbol) {
+        String encoded = URLEncoder.encode(symbol, StandardCharsets.UTF_8);
+        try {
+            Files.move(path, path.resolveSibling(encoded));
+            log.info("봉 디렉터리 이름 변경: {} -> {}", symbol, encoded);
+            return encoded;
+        } catch (IOException e) {
+            log.error("봉 디렉터리 이름 변경 실패 {}: {}", path, e.getMessage());
+            return symbol;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package digital.asset.manager.application.chart.store;
+
+/**
+ * 저장소의 봉을 객체 생성 없이 하나씩 받는 콜백 (가격/거래량은 고정소수점)
+ */
+@FunctionalInterface
+public interface CandleVisitor {
+
+    /**
+     * @return false를 돌려주면 순회를 멈춘다
+     */
+    boolean visit(long openTime, long open, long high, long low, long close, long volume, int trades);
+}
@@ -0,0 +1,9 @@
+package digital.asset.manager.application.chart.store;
+
+/**
+ * 저장소의 한 구간에 든 봉 개수와 첫/마지막 봉 시각 (봉이 없으면 count 0)
+ */
+public record StoredRange(long count, long firstOpenTime, long lastOpenTime) {
+
+    public static final StoredRange EMPTY = new StoredRange(0, 0, 0);
+}
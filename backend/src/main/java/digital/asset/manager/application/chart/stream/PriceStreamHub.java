@@ -0,0 +1,208 @@
+package digital.asset.manager.application.chart.stream;
+
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.price.PriceSnapshot;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * SSE 시세 스트림
+ * 심볼마다 multicast Sink를 하나 두고, 일정 주기(기본 100ms)마다 최신가 저장소의 sequence가 바뀐 심볼만 이벤트로 만들어 내보낸다.
+ * 구독자는 원하는 심볼의 Sink만 합쳐서 받으며, 이벤트는 심볼당 한 번만 만들어 모든 구독자가 공유한다.
+ *
+ * Sink는 directBestEffort라 느린 구독자 하나가 다른 구독자를 막지 않고, 구독자마다 고른 {@link StreamBackpressure}로 밀린 이벤트를 처리한다.
+ * 한 번이라도 요청된 심볼은 구독자가 없어도 최근 기록을 남겨서, 끊겼던 클라이언트가 Last-Event-ID로 빠진 이벤트를 이어 받을 수 있다.
+ * 소켓 쓰기는 {@link SseStreamWriter}가 전용 스레드에서 한다.
+ */
+@Slf4j
+@Component
+public class PriceStreamHub {
+
+    private static final String EVENT_NAME = "price";
+
+    private final PriceRegistry priceRegistry;
+    private final SymbolTable symbolTable;
+    private final ExchangeRegistry exchanges;
+    private final MarketDataProperties.Stream config;
+    private final StreamHistory history;
+    private final ServerSentEvent<String> heartbeat = ServerSentEvent.<String>builder().comment("heartbeat").build();
+    private final AtomicReferenceArray<Sinks.Many<StreamEvent>> sinks = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    // 아래는 주기 스레드에서만 쓴다
+    private final long[] sentSequence = new long[SymbolTable.MAX_SYMBOLS];
+    private long nextId;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public PriceStreamHub(PriceRegistry priceRegistry, SymbolTable symbolTable, ExchangeRegistry exchanges,
+                          MarketDataProperties properties) {
+        this.priceRegistry = priceRegistry;
+        this.symbolTable = symbolTable;
+        this.exchanges = exchanges;
+        this.config = properties.getStream();
+        this.history = new StreamHistory(config.getHistorySize());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (config.isEnabled()) {
+            executor.scheduleWithFixedDelay(this::flushSafely, config.getFlushIntervalMs(), config.getFlushIntervalMs(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        for (int symbolId = 0; symbolId < symbolTable.size(); symbolId++) {
+            Sinks.Many<StreamEvent> sink = sinks.get(symbolId);
+            if (sink != null) {
+                sink.tryEmitComplete();
+            }
+        }
+    }
+
+    /**
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id. 최근 기록에 남아 있으면 그 이후 이벤트부터, 아니면 현재가부터 보낸다
+     */
+    public Flux<ServerSentEvent<String>> stream(List<String> symbols, StreamBackpressure backpressure, Long lastEventId) {
+        if (!config.isEnabled()) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST, "시세 스트림이 꺼져 있음");
+        }
+        int[] symbolIds = resolve(symbols);
+        List<Flux<StreamEvent>> sources = new ArrayList<>(symbolIds.length);
+        for (int symbolId : symbolIds) {
+            sources.add(sink(symbolId).asFlux());
+        }
+        Flux<StreamEvent> live = Flux.merge(sources);
+
+        Flux<ServerSentEvent<String>> events = Flux.defer(() -> {
+            // 실시간 이벤트를 먼저 받아 두고 기록 위치를 잡아야, 그 사이에 나간 이벤트가 빠지지 않는다
+            ConnectableFlux<StreamEvent> connectable = live.publish();
+            Disposable connection = connectable.connect();
+            long mark = history.lastId();
+            Flux<ServerSentEvent<String>> head = lastEventId != null && history.covers(lastEventId)
+                    ? Flux.fromIterable(history.between(lastEventId, mark, filter(symbolIds))).map(StreamEvent::event)
+                    : Flux.fromIterable(current(symbolIds));
+            return head.concatWith(connectable.filter(event -> event.id() > mark).map(StreamEvent::event))
+                    .doFinally(signal -> connection.dispose());
+        });
+        Flux<ServerSentEvent<String>> heartbeats = Flux.interval(Duration.ofMillis(config.getHeartbeatIntervalMs()))
+                .map(tick -> heartbeat)
+                .onBackpressureDrop();
+        // prefetch 1: 구독자 쪽 전송이 밀리면 바로 backpressure 처리로 넘어가도록
+        return Flux.merge(1, applyBackpressure(events, backpressure), heartbeats);
+    }
+
+    void flush() {
+        int size = symbolTable.size();
+        for (int symbolId = 0; symbolId < size; symbolId++) {
+            Sinks.Many<StreamEvent> sink = sinks.get(symbolId);
+            if (sink == null) {
+                continue;
+            }
+            PriceSnapshot snapshot = priceRegistry.get(symbolId).orElse(null);
+            if (snapshot == null || snapshot.sequence() == sentSequence[symbolId]) {
+                continue;
+            }
+            sentSequence[symbolId] = snapshot.sequence();
+            long id = ++nextId;
+            StreamEvent event = new StreamEvent(id, symbolId, ServerSentEvent.builder(snapshot.toJson())
+                    .id(Long.toString(id))
+                    .event(EVENT_NAME)
+                    .build());
+            history.append(event);
+            // 구독자가 없으면 FAIL_ZERO_SUBSCRIBER (기록만 남긴다)
+            sink.tryEmitNext(event);
+        }
+    }
+
+    private Flux<ServerSentEvent<String>> applyBackpressure(Flux<ServerSentEvent<String>> events, StreamBackpressure backpressure) {
+        return switch (backpressure) {
+            case LATEST -> events.onBackpressureLatest();
+            case DROP -> events.onBackpressureDrop();
+            case BUFFER -> events.onBackpressureBuffer(config.getBufferSize());
+        };
+    }
+
+    /**
+     * 현재가 (id 없이 보내므로 클라이언트의 Last-Event-ID는 바뀌지 않는다)
+     */
+    private List<ServerSentEvent<String>> current(int[] symbolIds) {
+        List<ServerSentEvent<String>> events = new ArrayList<>(symbolIds.length);
+        for (int symbolId : symbolIds) {
+            priceRegistry.get(symbolId).ifPresent(snapshot ->
+                    events.add(ServerSentEvent.builder(snapshot.toJson()).event(EVENT_NAME).build()));
+        }
+        return events;
+    }
+
+    private Sinks.Many<StreamEvent> sink(int symbolId) {
+        Sinks.Many<StreamEvent> sink = sinks.get(symbolId);
+        if (sink == null) {
+            sinks.compareAndSet(symbolId, null, Sinks.many().multicast().directBestEffort());
+            sink = sinks.get(symbolId);
+        }
+        return sink;
+    }
+
+    private int[] resolve(List<String> symbols) {
+        Set<Integer> symbolIds = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (symbol.isBlank()) {
+                continue;
+            }
+            String key = exchanges.key(symbol);
+            int symbolId = symbolTable.lookup(key);
+            if (symbolId == SymbolTable.NOT_FOUND) {
+                throw new ApplicationException(ErrorCode.SYMBOL_NOT_FOUND, key);
+            }
+            symbolIds.add(symbolId);
+        }
+        if (symbolIds.isEmpty() || symbolIds.size() > config.getMaxSymbolsPerStream()) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST,
+                    "심볼은 1개 이상 " + config.getMaxSymbolsPerStream() + "개 이하");
+        }
+        return symbolIds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean[] filter(int[] symbolIds) {
+        int max = 0;
+        for (int symbolId : symbolIds) {
+            max = Math.max(max, symbolId);
+        }
+        boolean[] filter = new boolean[max + 1];
+        for (int symbolId : symbolIds) {
+            filter[symbolId] = true;
+        }
+        return filter;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("시세 스트림 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+}
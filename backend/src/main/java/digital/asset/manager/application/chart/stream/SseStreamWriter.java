@@ -0,0 +1,85 @@
+package digital.asset.manager.application.chart.stream;
+
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+
+/**
+ * SSE 전송기
+ * 시세 스트림(Flux)을 구독해 SseEmitter로 내보낸다. 서블릿 스택에서 SSE 쓰기는 소켓 버퍼가 찰 때 멈추는(blocking) 쓰기이므로
+ * MVC 공용 task executor 대신 전용 스레드(writer-threads)에서 쓴다. 느린 클라이언트는 전송 스레드 하나를 잡을 뿐이고,
+ * 밀린 이벤트는 구독자가 고른 {@link StreamBackpressure}로 처리되므로 다른 비동기 요청과 주기 스레드는 영향을 받지 않는다.
+ * 연결 시간 제한(timeout-ms)도 이 엔드포인트에만 적용한다.
+ */
+@Slf4j
+@Component
+public class SseStreamWriter {
+
+    private final MarketDataProperties.Stream config;
+    private final Scheduler scheduler;
+
+    public SseStreamWriter(MarketDataProperties properties) {
+        this.config = properties.getStream();
+        this.scheduler = Schedulers.fromExecutorService(
+                Executors.newFixedThreadPool(Math.max(1, config.getWriterThreads())), "price-stream");
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.dispose();
+    }
+
+    /**
+     * events를 구독해서 보낼 SseEmitter. 클라이언트가 끊거나 시간 제한에 걸리면 구독을 해지한다.
+     */
+    public SseEmitter open(Flux<ServerSentEvent<String>> events) {
+        // 0이면 클라이언트가 끊을 때까지 유지 (서블릿 비동기 요청의 시간 제한 없음)
+        SseEmitter emitter = new SseEmitter(config.getTimeoutMs());
+        Disposable.Swap subscription = Disposables.swap();
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscription.dispose());
+        // prefetch 1: 쓰기가 밀리면 바로 스트림의 backpressure 처리로 넘어가도록
+        subscription.update(events.publishOn(scheduler, 1)
+                .subscribe(event -> send(emitter, subscription, event), emitter::completeWithError, emitter::complete));
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, Disposable subscription, ServerSentEvent<String> event) {
+        try {
+            emitter.send(toEmitterEvent(event));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊은 경우 (컨테이너가 에러를 알리므로 구독만 정리한다)
+            log.debug("시세 스트림 전송 실패: {}", e.getMessage());
+            subscription.dispose();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEmitterEvent(ServerSentEvent<String> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        if (event.event() != null) {
+            builder.name(event.event());
+        }
+        if (event.comment() != null) {
+            builder.comment(event.comment());
+        }
+        if (event.data() != null) {
+            builder.data(event.data());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,31 @@
+package digital.asset.manager.application.chart.stream;
+
+import digital.asset.manager.application.common.exception.ApplicationException;
+import digital.asset.manager.application.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SSE 구독자가 이벤트를 따라오지 못할 때의 처리 방식 (구독자마다 고른다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StreamBackpressure {
+    // 밀린 동안은 마지막 이벤트 하나만 남긴다 (시세 표시용 기본값)
+    LATEST("latest"),
+    // 밀린 동안 온 이벤트는 버린다
+    DROP("drop"),
+    // 정해진 개수까지 쌓아 두고, 넘치면 연결을 끊는다 (이벤트를 빠짐없이 받아야 하는 경우. 끊긴 뒤 Last-Event-ID로 이어 받는다)
+    BUFFER("buffer");
+
+    private final String code;
+
+    public static StreamBackpressure of(String code) {
+        for (StreamBackpressure backpressure : values()) {
+            if (backpressure.code.equalsIgnoreCase(code.trim())) {
+                return backpressure;
+            }
+        }
+        throw new ApplicationException(ErrorCode.INVALID_REQUEST, "알 수 없는 backpressure: " + code);
+    }
+}
@@ -0,0 +1,10 @@
+package digital.asset.manager.application.chart.stream;
+
+import org.springframework.http.codec.ServerSentEvent;
+
+/**
+ * SSE 시세 이벤트 하나. 구독자 모두가 같은 객체를 공유한다. (심볼당 한 번만 직렬화)
+ * @param id 전체 심볼 공통으로 1씩 증가하는 이벤트 id (Last-Event-ID)
+ */
+record StreamEvent(long id, int symbolId, ServerSentEvent<String> event) {
+}
@@ -0,0 +1,50 @@
+package digital.asset.manager.application.chart.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Last-Event-ID 재개용 최근 이벤트 기록
+ * 이벤트 id가 빈틈없이 1씩 증가하므로 id로 바로 자리를 찾는 고정 크기 원형 배열에 둔다.
+ * 쓰기는 스트림 주기 스레드 하나, 읽기는 재연결한 요청 스레드다.
+ */
+class StreamHistory {
+
+    private final StreamEvent[] events;
+    private long lastId;
+
+    StreamHistory(int capacity) {
+        this.events = new StreamEvent[Math.max(1, capacity)];
+    }
+
+    synchronized void append(StreamEvent event) {
+        events[(int) (event.id() % events.length)] = event;
+        lastId = event.id();
+    }
+
+    synchronized long lastId() {
+        return lastId;
+    }
+
+    /**
+     * afterId 이후 이벤트가 모두 남아 있는지. (너무 오래 끊겼거나 서버가 다시 시작되어 id가 맞지 않으면 false)
+     */
+    synchronized boolean covers(long afterId) {
+        return afterId <= lastId && afterId >= lastId - events.length;
+    }
+
+    /**
+     * (afterId, untilId] 구간에서 구독 심볼의 이벤트
+     */
+    synchronized List<StreamEvent> between(long afterId, long untilId, boolean[] symbols) {
+        List<StreamEvent> result = new ArrayList<>();
+        long from = Math.max(afterId + 1, lastId - events.length + 1);
+        for (long id = Math.max(from, 1); id <= Math.min(untilId, lastId); id++) {
+            StreamEvent event = events[(int) (id % events.length)];
+            if (event != null && event.id() == id && event.symbolId() < symbols.length && symbols[event.symbolId()]) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+}
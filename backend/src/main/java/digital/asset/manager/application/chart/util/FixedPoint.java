@@ -0,0 +1,75 @@
+package digital.asset.manager.application.chart.util;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격/수량을 소수점 8자리 고정소수점 long으로 다루는 유틸
+ * 바이낸스 시세 문자열("97123.45000000")을 객체 생성 없이 long으로 바꾼다.
+ */
+public final class FixedPoint {
+
+    public static final int SCALE = 8;
+    public static final long ONE = 100_000_000L;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * buf[offset, offset + length) 구간의 10진수 문자열을 고정소수점으로 변환. 8자리를 넘는 소수부는 버린다.
+     */
+    public static long parse(char[] buf, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && buf[i] == '-') {
+            negative = true;
+            i++;
+        }
+        long integer = 0;
+        while (i < end && buf[i] != '.') {
+            char c = buf[i++];
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("숫자가 아님: " + new String(buf, offset, length));
+            }
+            integer = integer * 10 + (c - '0');
+        }
+        long fraction = 0;
+        int digits = 0;
+        if (i < end) {
+            i++;    // '.'
+            while (i < end && digits < SCALE) {
+                char c = buf[i++];
+                if (c < '0' || c > '9') {
+                    throw new NumberFormatException("숫자가 아님: " + new String(buf, offset, length));
+                }
+                fraction = fraction * 10 + (c - '0');
+                digits++;
+            }
+        }
+        while (digits++ < SCALE) {
+            fraction *= 10;
+        }
+        long value = integer * ONE + fraction;
+        return negative ? -value : value;
+    }
+
+    public static long parse(String value) {
+        return parse(value.toCharArray(), 0, value.length());
+    }
+
+    public static long fromDouble(double value) {
+        return Math.round(value * ONE);
+    }
+
+    public static double toDouble(long value) {
+        return (double) value / ONE;
+    }
+
+    public static BigDecimal toBigDecimal(long value) {
+        return BigDecimal.valueOf(value, SCALE);
+    }
+
+    public static String toPlainString(long value) {
+        return toBigDecimal(value).toPlainString();
+    }
+}
@@ -0,0 +1,194 @@
+package digital.asset.manager.application.chart.window;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+/**
+ * 심볼 하나의 이동 구간(기본 24시간) 통계
+ * 구간을 분 단위 버킷으로 나눠 원형 배열에 두고, 거래량/거래대금/체결 수는 합계에 더하고 만료된 버킷만큼 빼서 유지한다.
+ * 고가/저가는 버킷 번호를 담은 단조 덱(고가는 내림차순, 저가는 오름차순)의 맨 앞이며,
+ * 시가는 체결이 있었던 버킷을 순서대로 담은 큐의 맨 앞 버킷의 첫 체결가다. 갱신과 조회 모두 (분할 상환) O(1)이다.
+ *
+ * 쓰기는 수신(소비자) 스레드, 읽기는 API 스레드이며 심볼당 경합이 거의 없으므로 synchronized로 처리한다.
+ * 가장 최근 버킷보다 이른 체결(거래소 간 시각 차이 등)은 최근 버킷에 넣는다.
+ */
+class RollingTicker {
+
+    private final String symbol;
+    private final long bucketMs;
+    private final int buckets;
+
+    // 버킷별 값 (인덱스 = 버킷 번호 % buckets)
+    private final long[] open, high, low, count;
+    // 거래량과 거래대금은 24시간 합계가 long 고정소수점 범위를 넘을 수 있어 double로 둔다
+    private final double[] volume, quoteVolume;
+
+    private final BucketDeque maxBuckets;
+    private final BucketDeque minBuckets;
+    private final BucketDeque filledBuckets;
+
+    private long latest = Long.MIN_VALUE;
+    private long lastPrice, lastTime;
+    private long countSum;
+    private double volumeSum, quoteVolumeSum;
+
+    RollingTicker(String symbol, long bucketMs, int buckets) {
+        this.symbol = symbol;
+        this.bucketMs = bucketMs;
+        this.buckets = buckets;
+        this.open = new long[buckets];
+        this.high = new long[buckets];
+        this.low = new long[buckets];
+        this.count = new long[buckets];
+        this.volume = new double[buckets];
+        this.quoteVolume = new double[buckets];
+        this.maxBuckets = new BucketDeque(buckets + 1);
+        this.minBuckets = new BucketDeque(buckets + 1);
+        this.filledBuckets = new BucketDeque(buckets + 1);
+    }
+
+    synchronized void onTrade(long time, long price, long quantity) {
+        long bucket = Math.floorDiv(time, bucketMs);
+        if (bucket > latest) {
+            expire(bucket);
+            begin(bucket, price);
+        }
+        int slot = slot(latest);
+        double qty = FixedPoint.toDouble(quantity);
+        double quote = FixedPoint.toDouble(price) * qty;
+        count[slot]++;
+        volume[slot] += qty;
+        quoteVolume[slot] += quote;
+        countSum++;
+        volumeSum += qty;
+        quoteVolumeSum += quote;
+        if (price > high[slot]) {
+            high[slot] = price;
+            pushMax(latest);
+        }
+        if (price < low[slot]) {
+            low[slot] = price;
+            pushMin(latest);
+        }
+        lastPrice = price;
+        lastTime = Math.max(lastTime, time);
+    }
+
+    /**
+     * @return now 기준 구간 안에 체결이 없으면 null
+     */
+    synchronized RollingTickerSummary summary(long now) {
+        expire(Math.floorDiv(now, bucketMs));
+        if (filledBuckets.isEmpty()) {
+            return null;
+        }
+        long first = filledBuckets.peekFirst();
+        return new RollingTickerSummary(
+                symbol,
+                lastPrice,
+                open[slot(first)],
+                high[slot(maxBuckets.peekFirst())],
+                low[slot(minBuckets.peekFirst())],
+                Math.max(0, volumeSum),
+                Math.max(0, quoteVolumeSum),
+                countSum,
+                first * bucketMs,
+                lastTime
+        );
+    }
+
+    private void begin(long bucket, long price) {
+        int slot = slot(bucket);
+        open[slot] = high[slot] = low[slot] = price;
+        count[slot] = 0;
+        volume[slot] = quoteVolume[slot] = 0;
+        latest = bucket;
+        filledBuckets.addLast(bucket);
+        pushMax(bucket);
+        pushMin(bucket);
+    }
+
+    /**
+     * now 버킷 기준으로 구간을 벗어난 버킷을 합계와 덱에서 뺀다.
+     */
+    private void expire(long now) {
+        long cutoff = now - buckets;
+        while (!filledBuckets.isEmpty() && filledBuckets.peekFirst() <= cutoff) {
+            int slot = slot(filledBuckets.removeFirst());
+            countSum -= count[slot];
+            volumeSum -= volume[slot];
+            quoteVolumeSum -= quoteVolume[slot];
+        }
+        if (filledBuckets.isEmpty()) {
+            // 소수점 오차가 남지 않도록
+            countSum = 0;
+            volumeSum = quoteVolumeSum = 0;
+        }
+        while (!maxBuckets.isEmpty() && maxBuckets.peekFirst() <= cutoff) {
+            maxBuckets.removeFirst();
+        }
+        while (!minBuckets.isEmpty() && minBuckets.peekFirst() <= cutoff) {
+            minBuckets.removeFirst();
+        }
+    }
+
+    private void pushMax(long bucket) {
+        long value = high[slot(bucket)];
+        while (!maxBuckets.isEmpty() && high[slot(maxBuckets.peekLast())] <= value) {
+            maxBuckets.removeLast();
+        }
+        maxBuckets.addLast(bucket);
+    }
+
+    private void pushMin(long bucket) {
+        long value = low[slot(bucket)];
+        while (!minBuckets.isEmpty() && low[slot(minBuckets.peekLast())] >= value) {
+            minBuckets.removeLast();
+        }
+        minBuckets.addLast(bucket);
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets);
+    }
+
+    /**
+     * 버킷 번호를 담는 고정 크기 원형 덱
+     */
+    private static class BucketDeque {
+
+        private final long[] items;
+        private int head, size;
+
+        BucketDeque(int capacity) {
+            this.items = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long peekFirst() {
+            return items[head];
+        }
+
+        long peekLast() {
+            return items[(head + size - 1) % items.length];
+        }
+
+        void addLast(long bucket) {
+            items[(head + size) % items.length] = bucket;
+            size++;
+        }
+
+        long removeFirst() {
+            long bucket = items[head];
+            head = (head + 1) % items.length;
+            size--;
+            return bucket;
+        }
+
+        void removeLast() {
+            size--;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package digital.asset.manager.application.chart.window;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 심볼별 이동 구간(기본 24시간) 통계 집계기
+ * 체결마다 심볼의 분 단위 버킷을 갱신하고, 조회는 버킷을 다시 훑지 않고 유지 중인 합계와 단조 덱에서 바로 꺼낸다.
+ * 체결 수신을 시작한 뒤의 체결만 담으므로 서버가 뜬 직후에는 openTime 이후 구간만 반영된다.
+ */
+@Component
+public class RollingTickerAggregator implements TradeHandler {
+
+    private final SymbolTable symbolTable;
+    private final long bucketMs;
+    private final int buckets;
+    private final AtomicReferenceArray<RollingTicker> tickers = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+
+    public RollingTickerAggregator(SymbolTable symbolTable, MarketDataProperties properties) {
+        this.symbolTable = symbolTable;
+        this.bucketMs = properties.getWindow().getRollingBucketMs();
+        this.buckets = (int) Math.max(1, properties.getWindow().getRollingMs() / bucketMs);
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        // 티커는 체결이 아니므로 통계에 넣지 않는다
+        if (event.getType() == TradeEvent.Type.TICKER) {
+            return;
+        }
+        long time = event.getTradeTime() > 0 ? event.getTradeTime() : event.getEventTime();
+        ticker(event.getSymbolId()).onTrade(time, event.getPrice(), event.getQuantity());
+    }
+
+    public Optional<RollingTickerSummary> get(String symbol) {
+        int symbolId = symbolTable.lookup(symbol);
+        if (symbolId == SymbolTable.NOT_FOUND) {
+            return Optional.empty();
+        }
+        RollingTicker ticker = tickers.get(symbolId);
+        return ticker == null ? Optional.empty() : Optional.ofNullable(ticker.summary(System.currentTimeMillis()));
+    }
+
+    /**
+     * 구간 안에 체결이 있었던 모든 심볼 (심볼 등록 순)
+     */
+    public List<RollingTickerSummary> getAll() {
+        long now = System.currentTimeMillis();
+        List<RollingTickerSummary> result = new ArrayList<>();
+        int size = symbolTable.size();
+        for (int id = 0; id < size; id++) {
+            RollingTicker ticker = tickers.get(id);
+            RollingTickerSummary summary = ticker == null ? null : ticker.summary(now);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    private RollingTicker ticker(int symbolId) {
+        RollingTicker ticker = tickers.get(symbolId);
+        if (ticker == null) {
+            tickers.compareAndSet(symbolId, null, new RollingTicker(symbolTable.name(symbolId), bucketMs, buckets));
+            ticker = tickers.get(symbolId);
+        }
+        return ticker;
+    }
+}
@@ -0,0 +1,41 @@
+package digital.asset.manager.application.chart.window;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+/**
+ * 이동 구간(기본 24시간) 통계 (가격은 고정소수점)
+ * @param last 마지막 체결가
+ * @param open 구간 안 첫 체결가
+ * @param volume 거래량
+ * @param quoteVolume 거래대금 (가격 x 수량)
+ * @param count 체결 수
+ * @param openTime 구간 안 첫 체결이 속한 버킷의 시작 시각(ms). 서버가 뜬 지 구간 길이가 안 됐으면 그 이후만 담긴다
+ * @param closeTime 마지막 체결 시각(ms)
+ */
+public record RollingTickerSummary(
+        String symbol,
+        long last,
+        long open,
+        long high,
+        long low,
+        double volume,
+        double quoteVolume,
+        long count,
+        long openTime,
+        long closeTime
+) {
+    public long change() {
+        return last - open;
+    }
+
+    /**
+     * 시가 대비 변동률(%)
+     */
+    public double changePercent() {
+        return open == 0 ? 0 : (double) change() * 100 / open;
+    }
+
+    public long vwap() {
+        return volume == 0 ? 0 : FixedPoint.fromDouble(quoteVolume / volume);
+    }
+}
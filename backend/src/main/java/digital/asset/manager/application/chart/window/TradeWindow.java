@@ -0,0 +1,152 @@
+package digital.asset.manager.application.chart.window;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * 심볼 하나의 체결 통계 구간
+ * 진행 중 구간과 직전에 마감된 구간만 필드로 들고 있으므로 체결마다 O(1)이고 객체를 만들지 않는다.
+ * 구간은 체결 시각 기준으로 나누며, 새 구간의 체결이 오면 진행 중 구간이 마감되고 그 요약을 onClosed로 넘긴다. (쓰기 락 밖에서)
+ * 쓰기는 수신(소비자) 스레드, 읽기는 API/저장 스레드이므로 StampedLock 낙관적 읽기로 처리한다.
+ */
+class TradeWindow {
+
+    private final String symbol;
+    private final long sizeMs;
+    private final StampedLock lock = new StampedLock();
+
+    // 진행 중 구간
+    private long start = -1;
+    private long count, last, high, low, volume, buyVolume;
+    // 가격 x 수량 합계. 고정소수점끼리 곱하면 long 범위를 넘으므로 double로 누적한다 (VWAP 계산용)
+    private double notional;
+
+    // 직전 마감 구간
+    private long closedStart = -1;
+    private long closedCount, closedLast, closedHigh, closedLow, closedVolume, closedBuyVolume;
+    private double closedNotional;
+
+    // 수신 스레드만 늘리고 지표 스레드가 읽는다
+    private volatile long lateTrades;
+    private final Consumer<TradeWindowSummary> onClosed;
+
+    /**
+     * @param onClosed 마감된 구간 요약을 받는 콜백 (null이면 넘기지 않는다)
+     */
+    TradeWindow(String symbol, long sizeMs, Consumer<TradeWindowSummary> onClosed) {
+        this.symbol = symbol;
+        this.sizeMs = sizeMs;
+        this.onClosed = onClosed;
+    }
+
+    void onTrade(long time, long price, long quantity, boolean buyerMaker) {
+        long bucket = time - Math.floorMod(time, sizeMs);
+        TradeWindowSummary closed = null;
+        long stamp = lock.writeLock();
+        try {
+            if (bucket < start) {
+                // 이미 마감된 구간의 늦은 체결은 버린다
+                lateTrades++;
+                return;
+            }
+            if (bucket > start) {
+                if (start >= 0) {
+                    closeCurrent();
+                    if (onClosed != null) {
+                        closed = copyCurrent();
+                    }
+                }
+                start = bucket;
+                count = volume = buyVolume = 0;
+                notional = 0;
+                high = low = price;
+            }
+            count++;
+            last = price;
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+            volume += quantity;
+            if (!buyerMaker) {   // 매수자가 taker = 매수 체결
+                buyVolume += quantity;
+            }
+            notional += (double) price * quantity;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (closed != null) {
+            onClosed.accept(closed);
+        }
+    }
+
+    /**
+     * now 기준으로 끝난 가장 최근 구간. 체결이 끊긴 심볼은 진행 중 구간도 시간이 지나면 마감된 것으로 본다.
+     */
+    TradeWindowSummary latestClosed(long now) {
+        long stamp = lock.tryOptimisticRead();
+        TradeWindowSummary summary = copyLatestClosed(now);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                summary = copyLatestClosed(now);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * 진행 중 구간 (아직 체결이 없으면 null)
+     */
+    TradeWindowSummary current() {
+        long stamp = lock.tryOptimisticRead();
+        TradeWindowSummary summary = copyCurrent();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                summary = copyCurrent();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return summary;
+    }
+
+    long lateTrades() {
+        return lateTrades;
+    }
+
+    private void closeCurrent() {
+        closedStart = start;
+        closedCount = count;
+        closedLast = last;
+        closedHigh = high;
+        closedLow = low;
+        closedVolume = volume;
+        closedBuyVolume = buyVolume;
+        closedNotional = notional;
+    }
+
+    private TradeWindowSummary copyLatestClosed(long now) {
+        if (start >= 0 && start + sizeMs <= now) {
+            return copyCurrent();
+        }
+        if (closedStart < 0) {
+            return null;
+        }
+        return summary(closedStart, closedLast, closedNotional, closedCount, closedVolume, closedBuyVolume, closedHigh, closedLow);
+    }
+
+    private TradeWindowSummary copyCurrent() {
+        if (start < 0) {
+            return null;
+        }
+        return summary(start, last, notional, count, volume, buyVolume, high, low);
+    }
+
+    private TradeWindowSummary summary(long windowStart, long last, double notional, long count, long volume,
+                                       long buyVolume, long high, long low) {
+        long vwap = volume == 0 ? last : Math.round(notional / volume);
+        return new TradeWindowSummary(symbol, windowStart, sizeMs, last, vwap, count, buyVolume, volume - buyVolume, high, low);
+    }
+}
@@ -0,0 +1,184 @@
+package digital.asset.manager.application.chart.window;
+
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.ingest.TradeEvent;
+import digital.asset.manager.application.chart.ingest.TradeHandler;
+import digital.asset.manager.application.chart.service.PriceService;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 심볼별 체결 통계 집계기
+ * 모든 체결을 고정 길이 구간(기본 1초)으로 묶어 마지막 체결가, VWAP, 체결 수, 매수/매도 거래량, 고가/저가를 낸다.
+ * 구간이 끝날 때마다 요약 한 줄을 Redis({SYMBOL}_WINDOW)에 저장한다.
+ * 마감된 요약은 마감 시점에 대기열로 넘기고 저장 스레드가 주기마다 모두 꺼내 심볼별 가장 최신 요약을 MSET 한 번으로 저장하므로,
+ * 저장 주기가 밀려도 중간 구간을 건너뛰지 않는다. (체결이 끊겨 시간으로만 끝난 구간은 저장 시점에 찾아서 넣는다)
+ */
+@Slf4j
+@Component
+public class TradeWindowAggregator implements TradeHandler {
+
+    // 저장 주기 사이에 쌓아 둘 수 있는 마감 요약 수 (넘치면 버리고 센다)
+    private static final int HANDOFF_CAPACITY = SymbolTable.MAX_SYMBOLS;
+
+    private final RedisTemplate<String, String> priceRedisTemplate;
+    private final SymbolTable symbolTable;
+    private final long sizeMs;
+    private final boolean publish;
+    private final AtomicReferenceArray<TradeWindow> windows = new AtomicReferenceArray<>(SymbolTable.MAX_SYMBOLS);
+    // 심볼별 마지막으로 저장한 구간 시작 시각 (저장 스레드에서만 쓴다)
+    private final long[] publishedStart = new long[SymbolTable.MAX_SYMBOLS];
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<Closed> handoff = new ArrayBlockingQueue<>(HANDOFF_CAPACITY);
+    private final LongAdder droppedSummaries = new LongAdder();
+
+    public TradeWindowAggregator(RedisTemplate<String, String> priceRedisTemplate, SymbolTable symbolTable,
+                                 MarketDataProperties properties) {
+        this.priceRedisTemplate = priceRedisTemplate;
+        this.symbolTable = symbolTable;
+        this.sizeMs = properties.getWindow().getSizeMs();
+        this.publish = properties.getWindow().isPublish();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (publish) {
+            executor.scheduleWithFixedDelay(this::flush, sizeMs, sizeMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        // 티커는 체결이 아니므로 통계에 넣지 않는다
+        if (event.getType() == TradeEvent.Type.TICKER) {
+            return;
+        }
+        long time = event.getTradeTime() > 0 ? event.getTradeTime() : event.getEventTime();
+        window(event.getSymbolId()).onTrade(time, event.getPrice(), event.getQuantity(), event.isBuyerMaker());
+    }
+
+    /**
+     * 가장 최근에 끝난 구간
+     */
+    public Optional<TradeWindowSummary> latest(String symbol) {
+        return find(symbol).map(window -> window.latestClosed(System.currentTimeMillis()));
+    }
+
+    /**
+     * 진행 중인 구간
+     */
+    public Optional<TradeWindowSummary> current(String symbol) {
+        return find(symbol).map(TradeWindow::current);
+    }
+
+    public long getSizeMs() {
+        return sizeMs;
+    }
+
+    /**
+     * 이미 마감된 구간에 속해서 버린 늦은 체결 수 (전체 심볼 합계)
+     */
+    public long getLateTrades() {
+        long total = 0;
+        int size = symbolTable.size();
+        for (int id = 0; id < size; id++) {
+            TradeWindow window = windows.get(id);
+            if (window != null) {
+                total += window.lateTrades();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 대기열이 가득 차서 저장하지 못한 마감 요약 수
+     */
+    public long getDroppedSummaries() {
+        return droppedSummaries.sum();
+    }
+
+    void flush() {
+        List<Closed> closed = new ArrayList<>();
+        handoff.drainTo(closed);
+        List<TradeWindowSummary> batch = new ArrayList<>(closed.size());
+        for (Closed entry : closed) {
+            // 같은 구간을 시간으로 끝난 것으로 먼저 저장했어도, 그 뒤 체결까지 담긴 마감 요약으로 다시 쓴다
+            if (entry.summary().windowStart() >= publishedStart[entry.symbolId()]) {
+                publishedStart[entry.symbolId()] = entry.summary().windowStart();
+                batch.add(entry.summary());
+            }
+        }
+        long now = System.currentTimeMillis();
+        int size = symbolTable.size();
+        for (int id = 0; id < size; id++) {
+            TradeWindow window = windows.get(id);
+            if (window == null) {
+                continue;
+            }
+            TradeWindowSummary summary = window.latestClosed(now);
+            if (summary != null && summary.windowStart() > publishedStart[id]) {
+                publishedStart[id] = summary.windowStart();
+                batch.add(summary);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 한 심볼이 여러 번 담겼으면 뒤에 담긴(더 최신) 요약이 남는다
+        Map<String, String> values = new LinkedHashMap<>();
+        for (TradeWindowSummary summary : batch) {
+            values.put(PriceService.tradeWindowKey(summary.symbol()), summary.toCompactString());
+        }
+        try {
+            priceRedisTemplate.opsForValue().multiSet(values);
+        } catch (Exception e) {
+            log.error("체결 통계 Redis 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private Optional<TradeWindow> find(String symbol) {
+        int symbolId = symbolTable.lookup(symbol);
+        return symbolId == SymbolTable.NOT_FOUND ? Optional.empty() : Optional.ofNullable(windows.get(symbolId));
+    }
+
+    private TradeWindow window(int symbolId) {
+        TradeWindow window = windows.get(symbolId);
+        if (window == null) {
+            windows.compareAndSet(symbolId, null, new TradeWindow(symbolTable.name(symbolId), sizeMs,
+                    publish ? summary -> handOff(symbolId, summary) : null));
+            window = windows.get(symbolId);
+        }
+        return window;
+    }
+
+    private void handOff(int symbolId, TradeWindowSummary summary) {
+        if (!handoff.offer(new Closed(symbolId, summary))) {
+            droppedSummaries.increment();
+        }
+    }
+
+    private record Closed(int symbolId, TradeWindowSummary summary) {
+    }
+}
@@ -0,0 +1,35 @@
+package digital.asset.manager.application.chart.window;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+
+/**
+ * 체결 통계 구간 하나의 요약 (가격/수량은 고정소수점)
+ * @param windowStart 구간 시작 시각(ms, 체결 시각 기준)
+ * @param windowMs 구간 길이(ms)
+ * @param last 구간 마지막 체결가
+ * @param vwap 거래량 가중 평균가
+ * @param count 체결 수
+ * @param buyVolume 매수 체결(taker 매수) 거래량
+ * @param sellVolume 매도 체결(taker 매도) 거래량
+ */
+public record TradeWindowSummary(
+        String symbol,
+        long windowStart,
+        long windowMs,
+        long last,
+        long vwap,
+        long count,
+        long buyVolume,
+        long sellVolume,
+        long high,
+        long low
+) {
+    /**
+     * Redis 저장용 한 줄 표현 (windowStart,last,vwap,count,buyVolume,sellVolume,high,low)
+     */
+    public String toCompactString() {
+        return windowStart + "," + FixedPoint.toPlainString(last) + "," + FixedPoint.toPlainString(vwap) + ","
+                + count + "," + FixedPoint.toPlainString(buyVolume) + "," + FixedPoint.toPlainString(sellVolume) + ","
+                + FixedPoint.toPlainString(high) + "," + FixedPoint.toPlainString(low);
+    }
+}
@@ -0,0 +1,96 @@
+package digital.asset.manager.application.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Redis 앞단의 노드 로컬 캐시 (크기/시간 제한, Caffeine)
+ * 값을 쓰거나 지우면 이 노드의 캐시는 바로 바꾸고, 다른 노드에는 Redis 채널로 무효화 메시지를 보낸다.
+ * 다른 노드는 메시지를 받으면 해당 키를 지우고 다음 조회에서 Redis를 다시 읽는다.
+ * 메시지가 유실되거나 무효화 직전에 읽은 값이 남는 경우는 쓰기 후 만료 시간이 상한이다.
+ *
+ * 생성은 {@link NearCacheManager#create(String)}로 한다.
+ */
+public class NearCache<V> {
+
+    private final String name;
+    private final Cache<String, V> cache;
+    private final NearCacheManager manager;
+    private final LongAdder invalidations = new LongAdder();
+
+    NearCache(String name, Cache<String, V> cache, NearCacheManager manager) {
+        this.name = name;
+        this.cache = cache;
+        this.manager = manager;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<V> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * 없으면 loader로 읽어서 담는다. 같은 키를 동시에 읽으면 loader는 한 번만 불린다. (null은 담지 않는다)
+     */
+    public V get(String key, Function<String, V> loader) {
+        return cache.get(key, loader);
+    }
+
+    /**
+     * 없는 키만 모아 loader를 한 번 부른다. loader가 돌려주지 않은 키(원본에도 없음)는 결과에서 빠진다.
+     */
+    public Map<String, V> getAll(Collection<String> keys, Function<Set<? extends String>, Map<String, V>> loader) {
+        return cache.getAll(keys, loader);
+    }
+
+    /**
+     * 원본(Redis)에서 읽은 값을 담는다. 원본이 바뀐 게 아니므로 다른 노드에 알리지 않는다.
+     */
+    public void putLocal(String key, V value) {
+        cache.put(key, value);
+    }
+
+    public void put(String key, V value) {
+        cache.put(key, value);
+        manager.publish(name, List.of(key));
+    }
+
+    public void putAll(Map<String, V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        cache.putAll(values);
+        manager.publish(name, values.keySet());
+    }
+
+    public void evict(String key) {
+        cache.invalidate(key);
+        manager.publish(name, List.of(key));
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    Cache<String, V> nativeCache() {
+        return cache;
+    }
+
+    /**
+     * 다른 노드가 보낸 무효화 메시지 반영
+     */
+    void invalidateLocal(Collection<String> keys) {
+        cache.invalidateAll(keys);
+        invalidations.add(keys.size());
+    }
+}
@@ -0,0 +1,108 @@
+package digital.asset.manager.application.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import digital.asset.manager.application.common.config.properties.NearCacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 캐시 생성과 노드 간 무효화
+ * 무효화 메시지: "캐시 이름\n보낸 노드 id\n키1\n키2..." (키 여러 개를 메시지 하나로 보낸다)
+ * 자기가 보낸 메시지는 이미 반영했으므로 무시한다.
+ *
+ * 캐시마다 Micrometer 캐시 지표(cache.gets hit/miss, cache.evictions 등, 태그 cache=이름)와
+ * 다른 노드에서 받은 무효화 수(near.cache.invalidations)를 등록한다.
+ */
+@Slf4j
+@Component
+public class NearCacheManager implements MessageListener {
+
+    private static final char SEPARATOR = '\n';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final NearCacheProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, NearCache<?>> caches = new ConcurrentHashMap<>();
+    private final LongAdder publishFailures = new LongAdder();
+
+    public NearCacheManager(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry, NearCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+        FunctionCounter.builder("near.cache.publish.failed", publishFailures, LongAdder::sum)
+                .description("무효화 메시지 발행 실패 수 (다른 노드는 만료 시간까지 이전 값을 볼 수 있다)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이름별 설정(near-cache.caches.이름)으로 캐시를 만든다. 이름은 노드 간 무효화 메시지의 대상이므로 겹치면 안 된다.
+     */
+    public <V> NearCache<V> create(String name) {
+        NearCacheProperties.Spec spec = properties.cache(name);
+        NearCache<V> cache = new NearCache<>(name, Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(spec.getExpireAfterWriteMs()))
+                .recordStats()
+                .<String, V>build(), this);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 있는 로컬 캐시 이름: " + name);
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.nativeCache(), name);
+        FunctionCounter.builder("near.cache.invalidations", cache, NearCache::getInvalidations)
+                .description("다른 노드에서 받은 무효화 키 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<String> parts = Arrays.asList(new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR)));
+        if (parts.size() < 3 || parts.get(1).equals(nodeId)) {
+            return;
+        }
+        NearCache<?> cache = caches.get(parts.get(0));
+        if (cache != null) {
+            cache.invalidateLocal(parts.subList(2, parts.size()));
+        }
+    }
+
+    void publish(String name, Collection<String> keys) {
+        StringBuilder message = new StringBuilder(name).append(SEPARATOR).append(nodeId);
+        keys.forEach(key -> message.append(SEPARATOR).append(key));
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), message.toString());
+        } catch (Exception e) {
+            publishFailures.increment();
+            log.warn("로컬 캐시 무효화 메시지 발행 실패 ({}, {}건): {}", name, keys.size(), e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package digital.asset.manager.application.common.config;
 
 import digital.asset.manager.application.chart.dto.PriceAlertRequest;
+import digital.asset.manager.application.common.cache.NearCache;
+import digital.asset.manager.application.common.cache.NearCacheManager;
 import digital.asset.manager.application.user.dto.User;
 import io.lettuce.core.RedisURI;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +11,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -22,7 +27,7 @@ public class RedisConfig {
     private final RedisProperties redisProperties;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         RedisURI redisURI = RedisURI.create(redisProperties.getUrl());
         org.springframework.data.redis.connection.RedisConfiguration configuration = LettuceConnectionFactory.createRedisConfiguration(redisURI);
         LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration);
@@ -42,6 +47,18 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * 실시간 가격 조회 (논블로킹). 직렬화는 priceRedisTemplate과 같다
+     */
+    @Bean(name = "reactivePriceRedisTemplate")
+    public ReactiveRedisTemplate<String, String> reactivePriceRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+        RedisSerializationContext<String, String> context = RedisSerializationContext
+                .<String, String>newSerializationContext(new StringRedisSerializer())
+                .value(new Jackson2JsonRedisSerializer<>(String.class))
+                .build();
+        return new ReactiveRedisTemplate<>(redisConnectionFactory, context);
+    }
+
     /**
      * 알림
      */
@@ -75,4 +92,30 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * pub/sub 구독 (로컬 캐시 무효화)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * Redis 최신가 키 앞단 로컬 캐시
+     */
+    @Bean
+    public NearCache<String> priceNearCache(NearCacheManager nearCacheManager) {
+        return nearCacheManager.create("price");
+    }
+
+    /**
+     * 유저 조회 캐시 앞단 로컬 캐시
+     */
+    @Bean
+    public NearCache<User> userNearCache(NearCacheManager nearCacheManager) {
+        return nearCacheManager.create("user");
+    }
+
 }
@@ -0,0 +1,25 @@
+package digital.asset.manager.application.common.config;
+
+import digital.asset.manager.application.chart.push.PricePushHandler;
+import digital.asset.manager.application.common.config.properties.CorsProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final PricePushHandler pricePushHandler;
+    private final CorsProperties corsProperties;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 시세 웹소켓. 보안 설정의 /price/** 공개 경로에 포함된다
+        registry.addHandler(pricePushHandler, "/price/ws")
+                .setAllowedOrigins(corsProperties.getAllowedOrigins().split(","));
+    }
+}
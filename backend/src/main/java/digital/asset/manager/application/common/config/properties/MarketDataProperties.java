@@ -0,0 +1,271 @@
+package digital.asset.manager.application.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * application.yml에서 설정한 시세 수집(market-data) 관련 설정 정보
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "market-data")
+public class MarketDataProperties {
+
+    // 바이낸스 combined stream 엔드포인트 (?streams= 는 연결 시 붙인다)
+    private String streamUrl = "wss://stream.binance.com:9443/stream";
+    // 끊긴 구간 체결 보충(aggTrades)에 쓰는 REST 엔드포인트
+    private String restUrl = "https://api.binance.com";
+    // 시작 시 구독할 심볼 목록. 바이낸스 외 거래소는 접두어를 붙인다 (ex. UPBIT:BTCKRW, BITHUMB:BTCKRW)
+    private List<String> symbols = new ArrayList<>(List.of("BTCUSDT"));
+    // 심볼을 나눠 담을 웹소켓 연결 수
+    private int connections = 2;
+    // 연결 하나에 담을 최대 스트림 수 (바이낸스 제한 1024)
+    private int maxStreamsPerConnection = 200;
+    // 바이낸스 외 거래소 연결 설정 (키: upbit, bithumb). 없으면 거래소 기본값을 쓴다
+    private Map<String, Venue> exchanges = new HashMap<>();
+    // true면 GET /price(단건/여러 심볼)를 논블로킹 경로(ReactivePriceRouter)로 처리한다
+    private boolean reactiveRead = false;
+
+    private final Supervisor supervisor = new Supervisor();
+    private final Ring ring = new Ring();
+    private final FlowControl flowControl = new FlowControl();
+    private final WriteBehind writeBehind = new WriteBehind();
+    private final Candle candle = new Candle();
+    private final Indicator indicator = new Indicator();
+    private final Window window = new Window();
+    private final Store store = new Store();
+    private final TickHistory tickHistory = new TickHistory();
+    private final OrderBook orderBook = new OrderBook();
+    private final Recorder recorder = new Recorder();
+    private final Consolidated consolidated = new Consolidated();
+    private final Push push = new Push();
+    private final Stream stream = new Stream();
+    private final RestFallback restFallback = new RestFallback();
+
+    public Venue exchange(String name) {
+        return exchanges.getOrDefault(name, new Venue());
+    }
+
+    @Getter
+    @Setter
+    public static class Venue {
+        // 비워 두면 거래소 기본 엔드포인트
+        private String streamUrl;
+        private String restUrl;
+        private int connections = 1;
+        private int maxStreamsPerConnection = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Supervisor {
+        // 재연결 대기 시간 (실패할 때마다 두 배, 최대값까지)
+        private long reconnectInitialDelayMs = 500;
+        private long reconnectMaxDelayMs = 30_000;
+        // 이 시간 동안 수신이 없으면 ping을 보낸다
+        private long heartbeatIntervalMs = 10_000;
+        // 이 시간 동안 아무것도(pong 포함) 받지 못하면 죽은 연결로 보고 다시 연결한다
+        private long staleTimeoutMs = 30_000;
+        // 체결 id가 건너뛰면 REST aggTrades로 빠진 구간을 채운다
+        private boolean backfillEnabled = true;
+        // 한 번에 보충할 최대 aggTrade 수 (오래 끊겼던 경우 나머지는 포기)
+        private int backfillMaxTrades = 10_000;
+        private long backfillTimeoutMs = 3_000;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        // 변경된 심볼을 Redis에 모아서 저장하는 주기
+        private long flushIntervalMs = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Candle {
+        // 심볼/주기별로 메모리에 보관할 봉 개수
+        private int capacity = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Indicator {
+        // 유지할 (심볼, 주기, 지표, 파라미터) 상태 수 상한 (넘으면 오래 조회되지 않은 것부터 버린다)
+        private int maxSeries = 10_000;
+        // 지표 기간(봉 개수) 상한
+        private int maxPeriod = 500;
+        // 이 시간 동안 조회되지 않은 상태는 버린다
+        private long expireAfterAccessMs = 3_600_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Window {
+        // 체결 통계(VWAP, 매수/매도 거래량 등) 구간 길이
+        private long sizeMs = 1_000;
+        // 마감된 구간 요약을 Redis({SYMBOL}_WINDOW)에 저장
+        private boolean publish = true;
+        // 이동 구간 통계(24시간 시가/고가/저가/거래량) 길이와 버킷 크기
+        private long rollingMs = 86_400_000;
+        private long rollingBucketMs = 60_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Store {
+        private boolean enabled = true;
+        // 봉 파일을 저장할 디렉터리
+        private String directory = "./data/candles";
+        // 세그먼트 파일 하나에 담을 봉 개수 (가득 차면 새 파일로 넘어간다)
+        private int segmentRecords = 100_000;
+        // 디스크에 남길 주기 (1s 봉은 양이 많아 기본 제외)
+        private List<String> intervals = new ArrayList<>(List.of("1m", "5m", "15m", "1h", "1d"));
+        // 이력 다운샘플링 결과 점 개수 상한
+        private int downsampleMaxPoints = 5_000;
+        // 다운샘플링 결과 캐시 크기 (담긴 봉 개수 합)
+        private long downsampleCacheCandles = 1_000_000;
+        private long downsampleCacheTtlMs = 600_000;
+    }
+
+    @Getter
+    @Setter
+    public static class TickHistory {
+        private boolean enabled = false;
+        // trade: 모든 체결을 기록, conflated: 저장 주기마다 심볼별 마지막 체결만 기록
+        private String mode = "trade";
+        // 심볼별 스트림 최대 길이 (XADD MAXLEN ~ 로 대략 유지)
+        private long maxLength = 100_000;
+        // 모아둔 체결을 Redis에 보내는 주기
+        private long flushIntervalMs = 100;
+        // 저장 주기 사이에 모아둘 수 있는 최대 체결 수 (넘치면 버린다)
+        private int bufferSize = 65_536;
+        // 시작 시 Redis에서 읽어 봉/최신가를 복구할 구간 (0이면 복구하지 않음)
+        private long replayMinutes = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Ring {
+        // 수신 스레드와 TradeHandler 사이에 링 버퍼를 둔다 (false면 수신 스레드에서 바로 호출)
+        private boolean enabled = true;
+        // 연결당 슬롯 수 (2의 거듭제곱)
+        private int bufferSize = 65_536;
+        // 소비자 대기 방식: busy-spin, yielding, sleeping, blocking
+        private String waitStrategy = "sleeping";
+        // 소비자별 대기 방식 (키: price-registry, candle-aggregator, tick-history-writer, price-write-behind, ingest-metrics)
+        private Map<String, String> waitStrategies = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class FlowControl {
+        // 웹소켓 수신 요청(request(n)) 단위. 절반을 받으면 다시 채운다 (1이면 메시지마다 요청)
+        private int requestBatch = 64;
+        // 링 점유율이 이 비율을 넘으면 심볼별 정책을 적용하고, low 아래로 내려오면 푼다
+        private double highWatermark = 0.75;
+        private double lowWatermark = 0.5;
+        // 정책: conflate(심볼별 최신 체결만 남김), sample(N건 중 1건만 넘김), block(링이 비워질 때까지 수신을 멈춤)
+        private String defaultPolicy = "conflate";
+        private int sampleEvery = 10;
+        // 심볼별 정책 (키: 심볼). block은 같은 연결의 수신 스레드를 멈추므로 필요한 심볼에만 명시적으로 켠다
+        private Map<String, String> policies = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class OrderBook {
+        private boolean enabled = true;
+        // 호가창을 유지할 심볼 (호가 스트림은 체결보다 훨씬 많으므로 따로 고른다)
+        private List<String> symbols = new ArrayList<>(List.of("BTCUSDT"));
+        private int connections = 1;
+        // 호가 변경 스트림 주기 (100ms 또는 1000ms)
+        private String updateSpeed = "100ms";
+        // REST 스냅샷으로 받을 호가 단계 수 (바이낸스 최대 5000)
+        private int snapshotLimit = 1000;
+        // 한쪽(매수/매도)에 보관할 최대 호가 단계 수 (넘치면 가장 먼 호가부터 버린다)
+        private int maxLevels = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Recorder {
+        // 체결 스트림 원본 프레임을 수신 시각과 함께 파일로 남긴다 (재생/성능 측정용)
+        private boolean enabled = false;
+        private String directory = "./data/recordings";
+    }
+
+    @Getter
+    @Setter
+    public static class Consolidated {
+        // 거래소 통합 시세(최우선 매수/매도, 김치 프리미엄, 거래량 가중 가격) 계산
+        private boolean enabled = true;
+        // 프리미엄 기준 거래소 (이 거래소의 달러 계열 마켓 가격 대비)
+        private String referenceExchange = "binance";
+        // 달러로 보는 호가 자산
+        private List<String> usdQuotes = new ArrayList<>(List.of("USDT", "USDC", "FDUSD"));
+        // 달러로 환산할 원화 계열 호가 자산
+        private String localCurrency = "KRW";
+        // 환율(USD/KRW)로 쓸 심볼. 구독 중이어야 한다 (비우면 fx-rate 고정값만 쓴다)
+        private String fxSymbol = "UPBIT:USDTKRW";
+        // 환율 심볼 체결이 오기 전까지 쓸 고정 환율 (0이면 환산하지 않는다)
+        private double fxRate = 0;
+        // 거래량 가중치 반감기 (오래된 거래량일수록 가중치가 줄어든다)
+        private long volumeHalfLifeMs = 60_000;
+        // 이 시간 동안 체결이 없는 거래소는 통합 값 계산에서 뺀다
+        private long staleAfterMs = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Push {
+        // 브라우저 실시간 시세 웹소켓(/price/ws)
+        private boolean enabled = true;
+        // 변경된 심볼을 모아 세션마다 프레임 하나로 보내는 주기
+        private long flushIntervalMs = 100;
+        private int maxSessions = 20_000;
+        private int maxSymbolsPerSession = 50;
+        // 세션별로 쌓아 둘 수 있는 미전송 프레임 수. 넘치면 느린 클라이언트로 보고 연결을 끊는다
+        private int maxQueuedFrames = 16;
+        // 비동기 전송을 지원하지 않는 세션의 블로킹 전송 스레드 수
+        private int senderThreads = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+        // SSE 시세 스트림(/price/stream)
+        private boolean enabled = true;
+        // 변경된 심볼을 모아 내보내는 주기
+        private long flushIntervalMs = 100;
+        // Last-Event-ID 재개용으로 메모리에 남길 최근 이벤트 수 (전체 심볼 합계)
+        private int historySize = 4096;
+        // backpressure=buffer 구독자의 최대 대기 이벤트 수 (넘치면 연결을 끊는다)
+        private int bufferSize = 256;
+        // 이벤트가 없어도 프록시가 연결을 끊지 않도록 보내는 주석 이벤트 주기
+        private long heartbeatIntervalMs = 15_000;
+        private int maxSymbolsPerStream = 50;
+        // 연결 하나의 최대 유지 시간 (0이면 클라이언트가 끊을 때까지, 이 엔드포인트에만 적용)
+        private long timeoutMs = 0;
+        // SSE 쓰기 전용 스레드 수 (소켓 쓰기가 막히는 느린 클라이언트는 이 중 하나를 잡는다)
+        private int writerThreads = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class RestFallback {
+        // Redis에 최신가가 없을 때 거래소 REST로 가져온 값. 이 시간 안이면 다시 호출하지 않는다
+        private long freshMs = 1_000;
+        // 신선 기간이 지났어도 이 시간까지는 이전 값을 바로 돌려주고 뒤에서 갱신한다
+        private long maxStaleMs = 30_000;
+        // 이전 값이 없거나 너무 오래됐을 때 호출 결과를 기다리는 최대 시간
+        private long timeoutMs = 3_000;
+        // 가져온 값을 저장(Redis 등)하는 스레드 수. 거래소 응답 대기에는 스레드를 쓰지 않는다
+        private int storeThreads = 2;
+    }
+}
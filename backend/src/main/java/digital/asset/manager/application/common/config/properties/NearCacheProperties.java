@@ -0,0 +1,34 @@
+package digital.asset.manager.application.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * application.yml에서 설정한 Redis 앞단 로컬 캐시(near-cache) 설정 정보
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "near-cache")
+public class NearCacheProperties {
+
+    // 노드 간 무효화 메시지를 주고받는 Redis 채널
+    private String channel = "near-cache:invalidate";
+    // 캐시 이름별 설정 (ex. price, user). 없으면 기본값을 쓴다
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec cache(String name) {
+        return caches.getOrDefault(name, new Spec());
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long maximumSize = 10_000;
+        // 무효화 메시지를 놓쳐도 이 시간이 지나면 Redis에서 다시 읽는다
+        private long expireAfterWriteMs = 60_000;
+    }
+}
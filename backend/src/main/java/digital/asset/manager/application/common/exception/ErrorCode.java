@@ -26,7 +26,10 @@ public enum ErrorCode {
     INVALID_EMAIL_CODE(HttpStatus.BAD_REQUEST, "인증코드가 일치하지 않음"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server error"),
     IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "Image Not Founded"),
-    ALREADY_DEFAULT_IMAGE(HttpStatus.CONFLICT, "Profile already Default");
+    ALREADY_DEFAULT_IMAGE(HttpStatus.CONFLICT, "Profile already Default"),
+    SYMBOL_NOT_FOUND(HttpStatus.NOT_FOUND, "Symbol not founded"),
+    INVALID_INTERVAL(HttpStatus.BAD_REQUEST, "Interval is invalid"),
+    EXCHANGE_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "Exchange is not supported");
 
     final private HttpStatus status;
     final private String message;
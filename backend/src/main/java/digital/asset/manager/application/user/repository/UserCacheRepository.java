@@ -1,5 +1,6 @@
 package digital.asset.manager.application.user.repository;
 
+import digital.asset.manager.application.common.cache.NearCache;
 import digital.asset.manager.application.user.dto.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import java.util.concurrent.TimeUnit;
  * Redis 기반의 유저 캐시 저장소
  * Redis를 사용하여 User 정보를 key-value 형태로 저장
  * TTL(30분) 설정으로 캐시 만료 기능 제공
+ * 앞단에 노드 로컬 캐시를 두고, 쓰기/삭제는 다른 노드의 로컬 캐시에도 무효화 메시지로 알린다
  */
 @Slf4j
 @Repository
@@ -22,17 +24,19 @@ import java.util.concurrent.TimeUnit;
 public class UserCacheRepository {
 
     private final RedisTemplate<String, User> userRedisTemplate;
+    private final NearCache<User> userNearCache;
     private final static Duration USER_CACHE_TTL = Duration.ofMillis(1800000); //30분
 
     public void setUser(User user) {
         String key = getKey(user.email());
         userRedisTemplate.opsForValue().set(key, user, USER_CACHE_TTL); // 캐시 만료 시간 set
+        userNearCache.put(key, user);
         log.info("set user : {}, {}", key, user);
     }
 
     public Optional<User> getUser(String email) {
         String key = getKey(email);
-        User user = userRedisTemplate.opsForValue().get(key);
+        User user = userNearCache.get(key, userRedisTemplate.opsForValue()::get);
         log.info("get User : {}, {}", key, user);
         return Optional.ofNullable(user);
     }
@@ -41,11 +45,13 @@ public class UserCacheRepository {
         String key = getKey(user.email());
         ValueOperations<String, User> valueOps = userRedisTemplate.opsForValue();
         valueOps.set(key, user);
+        userNearCache.put(key, user);
     }
 
     public void deleteUser(String email) {
         String key = getKey(email);
         userRedisTemplate.delete(key);
+        userNearCache.evict(key);
     }
 
     private String getKey(String email) {
@@ -0,0 +1,162 @@
+package digital.asset.manager.application.chart.downsample;
+
+import digital.asset.manager.application.chart.candle.Candle;
+import digital.asset.manager.application.chart.candle.CandleInterval;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.store.CandleStore;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다운샘플링 결과 개수, 첫/마지막 봉 보존, LTTB 선택 결과와 MinMax 구간 집계, 봉이 적을 때 그대로 돌려주는지 확인한다.
+ * LTTB 기대값은 작은 시리즈에서 구간별 삼각형 넓이를 손으로 계산한 값이다.
+ */
+class CandleDownsamplerTest {
+
+    private static final String SYMBOL = "BTCUSDT";
+    private static final long MINUTE = 60_000L;
+
+    @TempDir
+    Path directory;
+
+    private CandleStore candleStore;
+
+    @AfterEach
+    void tearDown() {
+        if (candleStore != null) {
+            candleStore.close();
+        }
+    }
+
+    @Test
+    @DisplayName("LTTB는 봉이 maxPoints보다 많으면 정확히 maxPoints개를 고르고, 첫 봉과 마지막 봉을 남긴다")
+    void lttbKeepsEndpointsAndCount() {
+        int[][] cases = {{4, 3}, {10, 3}, {101, 5}, {1_000, 50}, {1_001, 1_000}};
+        for (int[] c : cases) {
+            List<Candle> candles = wave(c[0]);
+            List<Candle> sampled = sample(new LttbSampler(c[0], c[1]), candles);
+
+            assertThat(sampled).as("N=%d, maxPoints=%d", c[0], c[1]).hasSize(c[1]);
+            assertThat(sampled.get(0)).isEqualTo(candles.get(0));
+            assertThat(sampled.get(sampled.size() - 1)).isEqualTo(candles.get(candles.size() - 1));
+            assertThat(sampled).isSubsetOf(candles);
+            assertThat(sampled).isSortedAccordingTo((a, b) -> Long.compare(a.openTime(), b.openTime()));
+        }
+    }
+
+    @Test
+    @DisplayName("LTTB는 구간마다 직전 선택점, 후보, 다음 구간 평균이 만드는 삼각형이 가장 큰 봉을 고른다")
+    void lttbMatchesReference() {
+        // 8개 -> 4개: 첫 봉(0), 구간 {1,2,3}, 구간 {4,5,6}, 마지막 봉(7)
+        // 구간 {1,2,3}: 기준 (0,0), 다음 구간 평균 (5,5) -> 넓이*2 = 20, 5, 5 -> 1번
+        // 구간 {4,5,6}: 기준 (1,5), 마지막 봉 (7,1) -> 넓이*2 = 30, 4, 14 -> 4번
+        long[] closes = {0, 5, 1, 2, 8, 3, 4, 1};
+        List<Candle> candles = new ArrayList<>();
+        for (int i = 0; i < closes.length; i++) {
+            candles.add(new Candle(i, closes[i], closes[i], closes[i], closes[i], 1, 1));
+        }
+
+        List<Candle> sampled = sample(new LttbSampler(candles.size(), 4), candles);
+
+        assertThat(sampled).extracting(Candle::openTime).containsExactly(0L, 1L, 4L, 7L);
+    }
+
+    @Test
+    @DisplayName("MinMax는 구간마다 시가/고가/저가/종가/거래량/체결 수를 다시 집계한다")
+    void minMaxAggregatesBuckets() {
+        // 10개 -> 3개: index * 3 / 10 으로 구간 {0..3}, {4..6}, {7..9}
+        List<Candle> candles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            long base = 100 + (i % 3) * 10;
+            candles.add(new Candle(i * MINUTE, base + i, base + 20 + i, base - 20 - i, base + 5, 1_000 + i, i + 1));
+        }
+
+        List<Candle> sampled = sample(new MinMaxSampler(candles.size(), 3), candles);
+
+        assertThat(sampled).hasSize(3);
+        assertThat(sampled.get(0)).isEqualTo(aggregate(candles.subList(0, 4)));
+        assertThat(sampled.get(1)).isEqualTo(aggregate(candles.subList(4, 7)));
+        assertThat(sampled.get(2)).isEqualTo(aggregate(candles.subList(7, 10)));
+        assertThat(sampled.get(0)).isEqualTo(new Candle(0, 100, 142, 77, 105, 4_006, 10));
+    }
+
+    @Test
+    @DisplayName("MinMax도 봉이 maxPoints보다 많으면 정확히 maxPoints개를 내고, 첫 봉 시각부터 마지막 봉 종가까지 덮는다")
+    void minMaxKeepsEndpointsAndCount() {
+        int[][] cases = {{4, 3}, {10, 3}, {101, 5}, {1_000, 50}, {1_001, 1_000}};
+        for (int[] c : cases) {
+            List<Candle> candles = wave(c[0]);
+            List<Candle> sampled = sample(new MinMaxSampler(c[0], c[1]), candles);
+
+            assertThat(sampled).as("N=%d, maxPoints=%d", c[0], c[1]).hasSize(c[1]);
+            assertThat(sampled.get(0).openTime()).isEqualTo(candles.get(0).openTime());
+            assertThat(sampled.get(sampled.size() - 1).close()).isEqualTo(candles.get(candles.size() - 1).close());
+            assertThat(sampled.stream().mapToLong(Candle::volume).sum())
+                    .isEqualTo(candles.stream().mapToLong(Candle::volume).sum());
+        }
+    }
+
+    @Test
+    @DisplayName("구간 봉이 points개 이하면 저장된 봉을 그대로 돌려주고, 많으면 points개로 줄인다")
+    void passThroughWhenFewCandles() {
+        MarketDataProperties properties = new MarketDataProperties();
+        properties.getStore().setDirectory(directory.toString());
+        SymbolTable symbolTable = new SymbolTable();
+        int symbolId = symbolTable.register(SYMBOL);
+        candleStore = new CandleStore(symbolTable, properties);
+        CandleDownsampler downsampler = new CandleDownsampler(candleStore, properties, new SimpleMeterRegistry());
+
+        List<Candle> candles = wave(5);
+        candles.forEach(candle -> candleStore.onCandleClosed(symbolId, CandleInterval.MINUTE_1, candle));
+        long from = candles.get(0).openTime();
+        long to = candles.get(candles.size() - 1).openTime();
+
+        for (DownsampleMethod method : DownsampleMethod.values()) {
+            assertThat(downsampler.downsample(SYMBOL, CandleInterval.MINUTE_1, from, to, 5, method))
+                    .as(method.name()).containsExactlyElementsOf(candles);
+            assertThat(downsampler.downsample(SYMBOL, CandleInterval.MINUTE_1, from, to, 100, method))
+                    .as(method.name()).containsExactlyElementsOf(candles);
+            assertThat(downsampler.downsample(SYMBOL, CandleInterval.MINUTE_1, from, to, 3, method))
+                    .as(method.name()).hasSize(3);
+        }
+    }
+
+    private static List<Candle> sample(CandleSampler sampler, List<Candle> candles) {
+        for (Candle c : candles) {
+            sampler.visit(c.openTime(), c.open(), c.high(), c.low(), c.close(), c.volume(), c.trades());
+        }
+        return sampler.result();
+    }
+
+    /**
+     * 종가가 출렁이는 1분봉 count개
+     */
+    private static List<Candle> wave(int count) {
+        List<Candle> candles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long close = 1_000 + Math.round(300 * Math.sin(i / 7.0)) + (i % 5) * 11;
+            candles.add(new Candle(i * MINUTE, close - 3, close + 10, close - 10, close, 100 + i, 1 + i % 4));
+        }
+        return candles;
+    }
+
+    private static Candle aggregate(List<Candle> bucket) {
+        Candle first = bucket.get(0);
+        return new Candle(first.openTime(), first.open(),
+                bucket.stream().mapToLong(Candle::high).max().orElseThrow(),
+                bucket.stream().mapToLong(Candle::low).min().orElseThrow(),
+                bucket.get(bucket.size() - 1).close(),
+                bucket.stream().mapToLong(Candle::volume).sum(),
+                bucket.stream().mapToInt(Candle::trades).sum());
+    }
+}
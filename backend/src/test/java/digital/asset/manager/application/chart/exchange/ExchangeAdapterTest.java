@@ -0,0 +1,204 @@
+package digital.asset.manager.application.chart.exchange;
+
+import com.sun.net.httpserver.HttpServer;
+import digital.asset.manager.application.chart.ingest.MarketDataIngestEngine;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.metrics.IngestMetrics;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.price.PriceSnapshot;
+import digital.asset.manager.application.chart.replay.FeedRecorder;
+import digital.asset.manager.application.chart.replay.MockFeedServer;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.exception.ApplicationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래소 어댑터 테스트
+ * 실제 거래소 대신 로컬 mock 웹소켓 서버({@link MockFeedServer})와 JDK HttpServer에 붙여서
+ * 세 거래소가 같은 수집 경로를 타고 (거래소, 심볼) 키로 최신가 저장소에 들어가는지 확인한다.
+ */
+class ExchangeAdapterTest {
+
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("거래소 표기와 공통 표기를 서로 바꾼다")
+    void normalizeSymbols() {
+        ExchangeRegistry registry = registry(new MarketDataProperties());
+
+        assertThat(registry.resolve("btcusdt").key()).isEqualTo("BTCUSDT");
+        assertThat(registry.resolve("BINANCE:BTC/USDT").key()).isEqualTo("BTCUSDT");
+        assertThat(registry.resolve("upbit:KRW-BTC").key()).isEqualTo("UPBIT:BTCKRW");
+        assertThat(registry.resolve("UPBIT:BTCKRW").symbol()).isEqualTo("BTCKRW");
+        assertThat(registry.resolve("bithumb:eth_krw").key()).isEqualTo("BITHUMB:ETHKRW");
+
+        assertThat(registry.get("upbit").toExchangeSymbol("BTCKRW")).isEqualTo("KRW-BTC");
+        assertThat(registry.get("upbit").toExchangeSymbol("ETHBTC")).isEqualTo("BTC-ETH");
+        assertThat(registry.get("bithumb").toExchangeSymbol("ETHKRW")).isEqualTo("ETH_KRW");
+
+        assertThatThrownBy(() -> registry.resolve("KRAKEN:XBTUSD")).isInstanceOf(ApplicationException.class);
+        assertThatThrownBy(() -> registry.get("upbit").toExchangeSymbol("BTCJPY")).isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    @DisplayName("바이낸스, 업비트, 빗썸 체결이 하나의 수집 경로로 (거래소, 심볼) 키에 저장된다")
+    void ingestFromMockServers() throws Exception {
+        MockFeedServer binance = server(List.of(
+                "{\"stream\":\"btcusdt@trade\",\"data\":{\"e\":\"trade\",\"E\":1700000000000,\"s\":\"BTCUSDT\",\"t\":100,"
+                        + "\"p\":\"97000.10\",\"q\":\"0.5\",\"T\":1700000000000,\"m\":false}}"
+        ), false);
+        // 업비트는 바이너리 프레임으로 보내고, 구독하지 않은 마켓(KRW-ETH)도 섞어 보낸다
+        MockFeedServer upbit = server(List.of(
+                "{\"type\":\"trade\",\"code\":\"KRW-ETH\",\"timestamp\":1700000000000,\"trade_price\":5000000,"
+                        + "\"trade_volume\":1,\"ask_bid\":\"BID\",\"trade_timestamp\":1700000000000,\"sequential_id\":1}",
+                "{\"type\":\"trade\",\"code\":\"KRW-BTC\",\"timestamp\":1700000000100,\"trade_price\":135000000.0,"
+                        + "\"trade_volume\":1.2E-4,\"ask_bid\":\"ASK\",\"trade_timestamp\":1700000000050,"
+                        + "\"sequential_id\":17000000000500000,\"stream_type\":\"REALTIME\"}"
+        ), true);
+        MockFeedServer bithumb = server(List.of(
+                "{\"status\":\"0000\",\"resmsg\":\"Connected Successfully\"}",
+                "{\"type\":\"transaction\",\"content\":{\"list\":["
+                        + "{\"symbol\":\"ETH_KRW\",\"buySellGb\":\"2\",\"contPrice\":\"5000000\",\"contQty\":\"1.5\","
+                        + "\"contAmt\":\"7500000\",\"contDtm\":\"2023-11-15 07:13:19.500000\",\"updn\":\"up\"},"
+                        + "{\"symbol\":\"ETH_KRW\",\"buySellGb\":\"1\",\"contPrice\":\"5001000\",\"contQty\":\"0.1\","
+                        + "\"contAmt\":\"500100\",\"contDtm\":\"2023-11-15 07:13:20.000000\",\"updn\":\"up\"}]}}"
+        ), false);
+
+        MarketDataProperties properties = new MarketDataProperties();
+        properties.setSymbols(List.of("BTCUSDT", "UPBIT:BTCKRW", "BITHUMB:ETHKRW"));
+        properties.setStreamUrl("ws://localhost:" + binance.getPort() + "/stream");
+        properties.getExchanges().put("upbit", venue("ws://localhost:" + upbit.getPort() + "/websocket/v1"));
+        properties.getExchanges().put("bithumb", venue("ws://localhost:" + bithumb.getPort() + "/pub/ws"));
+        properties.getSupervisor().setBackfillEnabled(false);
+
+        SymbolTable symbolTable = new SymbolTable();
+        PriceRegistry priceRegistry = new PriceRegistry(symbolTable);
+        ExchangeRegistry exchanges = registry(properties);
+        MarketDataIngestEngine engine = new MarketDataIngestEngine(properties, symbolTable, List.of(priceRegistry),
+                new IngestMetrics(new SimpleMeterRegistry(), symbolTable), new FeedRecorder(properties), exchanges);
+        engine.start();
+        resources.add(engine::stop);
+
+        PriceSnapshot btcUsdt = await(() -> priceRegistry.get("BTCUSDT"));
+        PriceSnapshot upbitBtc = await(() -> priceRegistry.get("UPBIT:BTCKRW"));
+        PriceSnapshot bithumbEth = await(() -> priceRegistry.get("BITHUMB:ETHKRW")
+                .filter(snapshot -> snapshot.sequence() == 2));
+
+        assertThat(btcUsdt.price()).isEqualTo(FixedPoint.parse("97000.1"));
+        assertThat(upbitBtc.price()).isEqualTo(FixedPoint.parse("135000000"));
+        assertThat(upbitBtc.eventTime()).isEqualTo(1700000000100L);
+        // 빗썸 체결 시각은 KST
+        assertThat(bithumbEth.price()).isEqualTo(FixedPoint.parse("5001000"));
+        assertThat(bithumbEth.eventTime()).isEqualTo(1700000000000L);
+        assertThat(priceRegistry.get("UPBIT:ETHKRW")).isEmpty();
+
+        assertThat(upbit.getReceivedMessages()).anyMatch(message -> message.contains("\"codes\":[\"KRW-BTC\"]"));
+        assertThat(bithumb.getReceivedMessages()).contains("{\"type\":\"transaction\",\"symbols\":[\"ETH_KRW\"]}");
+        assertThat(engine.getState("upbit:KRW-BTC")).get()
+                .satisfies(state -> assertThat(state.getExchange()).isEqualTo("upbit"));
+        for (ExchangeAdapter adapter : exchanges.getAdapters()) {
+            assertThat(adapter.getHealth()).as(adapter.getName()).isEqualTo(ExchangeHealth.UP);
+        }
+    }
+
+    @Test
+    @DisplayName("거래소별 REST 현재가 응답을 해석한다")
+    void fetchPriceFromMockRest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        respond(server, "/api/v3/ticker/price", 200, "{\"symbol\":\"BTCUSDT\",\"price\":\"97000.01000000\"}");
+        respond(server, "/v1/ticker", 200, "[{\"market\":\"KRW-BTC\",\"trade_price\":135000000.0}]");
+        respond(server, "/public/ticker/BTC_KRW", 200, "{\"status\":\"0000\",\"data\":{\"closing_price\":\"134900000\"}}");
+        respond(server, "/public/ticker/ETH_KRW", 200, "{\"status\":\"5500\",\"message\":\"Invalid Parameter\"}");
+        server.start();
+        resources.add(() -> server.stop(0));
+
+        String restUrl = "http://localhost:" + server.getAddress().getPort();
+        MarketDataProperties properties = new MarketDataProperties();
+        properties.setRestUrl(restUrl);
+        MarketDataProperties.Venue upbit = new MarketDataProperties.Venue();
+        upbit.setRestUrl(restUrl);
+        MarketDataProperties.Venue bithumb = new MarketDataProperties.Venue();
+        bithumb.setRestUrl(restUrl);
+        properties.getExchanges().put("upbit", upbit);
+        properties.getExchanges().put("bithumb", bithumb);
+        ExchangeRegistry registry = registry(properties);
+
+        assertThat(registry.get("binance").fetchPrice("BTCUSDT")).isEqualTo(FixedPoint.parse("97000.01"));
+        assertThat(registry.get("upbit").fetchPrice("BTCKRW")).isEqualTo(FixedPoint.parse("135000000"));
+        assertThat(registry.get("bithumb").fetchPrice("BTCKRW")).isEqualTo(FixedPoint.parse("134900000"));
+        assertThatThrownBy(() -> registry.get("bithumb").fetchPrice("ETHKRW")).isInstanceOf(IOException.class);
+
+        // 비동기 조회도 같은 값
+        WebClient webClient = WebClient.create();
+        assertThat(registry.get("binance").fetchPrice("BTCUSDT", webClient).block()).isEqualTo(FixedPoint.parse("97000.01"));
+        assertThat(registry.get("upbit").fetchPrice("BTCKRW", webClient).block()).isEqualTo(FixedPoint.parse("135000000"));
+        assertThat(registry.get("bithumb").fetchPrice("BTCKRW", webClient).block()).isEqualTo(FixedPoint.parse("134900000"));
+        assertThatThrownBy(() -> registry.get("bithumb").fetchPrice("ETHKRW", webClient).block()).hasCauseInstanceOf(IOException.class);
+    }
+
+    private MockFeedServer server(List<String> frames, boolean binary) throws IOException {
+        MockFeedServer server = new MockFeedServer(frames, binary, 0).start();
+        resources.add(server);
+        return server;
+    }
+
+    private static MarketDataProperties.Venue venue(String streamUrl) {
+        MarketDataProperties.Venue venue = new MarketDataProperties.Venue();
+        venue.setStreamUrl(streamUrl);
+        return venue;
+    }
+
+    private static ExchangeRegistry registry(MarketDataProperties properties) {
+        return new ExchangeRegistry(List.of(
+                new BinanceAdapter(properties), new UpbitAdapter(properties), new BithumbAdapter(properties)));
+    }
+
+    private static void respond(HttpServer server, String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+
+    private static <T> T await(Supplier<Optional<T>> supplier) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<T> value = supplier.get();
+            if (value.isPresent()) {
+                return value.get();
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("시간 안에 값이 들어오지 않았습니다.");
+    }
+}
@@ -0,0 +1,124 @@
+package digital.asset.manager.application.chart.indicator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 고정 종가 시리즈로 지표 값을 기준값과 비교한다.
+ * 앞 33개는 StockCharts RSI 설명에 실린 Wilder 예제 종가이고, 나머지는 MACD 워밍업(26 + 9 - 1)을 넘기려고 덧붙인 값이다.
+ * 기준값은 지표 정의대로 매번 처음부터 다시 계산한 값이며, RSI는 게시된 값과도 비교한다.
+ * (게시된 표는 중간 평균을 소수 둘째 자리로 반올림해서 0.1 이내로 비교한다)
+ */
+class IndicatorTest {
+
+    private static final double[] CLOSES = {
+            44.34, 44.09, 44.15, 43.61, 44.33, 44.83, 45.10, 45.42, 45.84, 46.08,
+            45.89, 46.03, 45.61, 46.28, 46.28, 46.00, 46.03, 46.41, 46.22, 45.64,
+            46.21, 46.25, 45.71, 46.45, 45.78, 45.35, 44.03, 44.18, 44.22, 44.57,
+            43.42, 42.66, 43.13, 43.58, 44.12, 44.87, 45.21, 45.02, 44.66, 45.39,
+            46.05, 46.52, 46.17, 45.80, 46.34, 46.91, 47.25, 46.88, 46.43, 46.02,
+            45.57, 45.96, 46.48, 47.02, 47.55, 47.31, 46.90, 47.44, 48.01, 47.76
+    };
+
+    // StockCharts 예제 RSI(14), 15번째 종가부터
+    private static final double[] PUBLISHED_RSI = {
+            70.53, 66.32, 66.55, 69.41, 66.36, 57.97, 62.93, 63.26, 56.06, 62.38,
+            54.71, 50.42, 39.99, 41.46, 41.87, 45.46, 37.30, 33.08, 37.77
+    };
+
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    @DisplayName("SMA(10)은 최근 10개 종가의 평균이다")
+    void sma() {
+        Supplier<Indicator> sma = () -> IndicatorType.SMA.create(List.of(10.0));
+        assertWarmup(sma.get(), 9);
+        assertValues(sma, 9, 44.779);
+        assertValues(sma, 19, 46.039);
+        assertValues(sma, 32, 44.379);
+        assertValues(sma, 59, 47.0);
+    }
+
+    @Test
+    @DisplayName("EMA(10)은 처음 10개 평균에서 시작해 2 / 11 계수로 갱신한다")
+    void ema() {
+        Supplier<Indicator> ema = () -> IndicatorType.EMA.create(List.of(10.0));
+        assertWarmup(ema.get(), 9);
+        assertValues(ema, 9, 44.779);
+        assertValues(ema, 19, 45.87036561912815);
+        assertValues(ema, 32, 44.11929901522182);
+        assertValues(ema, 59, 47.18841227660675);
+    }
+
+    @Test
+    @DisplayName("RSI(14)는 Wilder 평활 값이며 게시된 예제 값과 맞는다")
+    void rsi() {
+        Supplier<Indicator> rsi = () -> IndicatorType.RSI.create(List.of(14.0));
+        assertWarmup(rsi.get(), 14);
+        assertValues(rsi, 14, 70.46413502109705);
+        assertValues(rsi, 20, 62.880718309962404);
+        assertValues(rsi, 32, 37.788771982057824);
+        assertValues(rsi, 45, 62.977673244916645);
+        assertValues(rsi, 59, 61.51872386778139);
+
+        Indicator published = rsi.get();
+        double[] out = new double[1];
+        for (int i = 0; i < 33; i++) {
+            published.update(CLOSES[i]);
+            if (i >= 14) {
+                published.values(out);
+                assertThat(out[0]).as("index %d", i).isCloseTo(PUBLISHED_RSI[i - 14], within(0.1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("MACD(12,26,9)는 EMA 차이, 그 EMA(9) 시그널, 둘의 차이 히스토그램이다")
+    void macd() {
+        Supplier<Indicator> macd = () -> IndicatorType.MACD.create(List.of(12.0, 26.0, 9.0));
+        assertWarmup(macd.get(), 33);
+        assertValues(macd, 33, -0.4957012323713599, -0.14773147528985614, -0.34796975708150374);
+        assertValues(macd, 45, 0.3948974296108716, 0.14399769743300816, 0.25089973217786343);
+        assertValues(macd, 59, 0.6096111025684863, 0.5034384281659938, 0.10617267440249245);
+    }
+
+    @Test
+    @DisplayName("볼린저(20,2)는 SMA(20) ± 2 x 모표준편차다")
+    void bollinger() {
+        Supplier<Indicator> bollinger = () -> IndicatorType.BOLLINGER.create(List.of(20.0, 2.0));
+        assertWarmup(bollinger.get(), 19);
+        assertValues(bollinger, 19, 45.409, 47.115328221650216, 43.70267177834978);
+        assertValues(bollinger, 32, 45.241, 47.62015026847822, 42.86184973152178);
+        assertValues(bollinger, 59, 46.71849999999999, 48.06609452358637, 45.37090547641361);
+    }
+
+    /**
+     * readyIndex번째 종가에서 처음 값이 나온다.
+     */
+    private static void assertWarmup(Indicator indicator, int readyIndex) {
+        for (int i = 0; i <= readyIndex; i++) {
+            assertThat(indicator.update(CLOSES[i])).as("index %d", i).isEqualTo(i == readyIndex);
+        }
+    }
+
+    /**
+     * 새 지표에 0..index번째 종가를 넣은 뒤 값을 비교한다.
+     */
+    private static void assertValues(Supplier<Indicator> factory, int index, double... expected) {
+        Indicator indicator = factory.get();
+        for (int i = 0; i <= index; i++) {
+            indicator.update(CLOSES[i]);
+        }
+        double[] out = new double[expected.length];
+        indicator.values(out);
+        for (int k = 0; k < expected.length; k++) {
+            assertThat(out[k]).as("index %d, field %d", index, k).isCloseTo(expected[k], within(TOLERANCE));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package digital.asset.manager.application.chart.ingest;
+
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 링 버퍼 발행 순서, 한 바퀴 뒤처진 소비자 처리, 수신 정책이 소비자를 따라잡지 않는지 확인한다.
+ * 체결 id를 발행 순번으로 써서 소비자가 받은 순서를 비교한다.
+ */
+class TradeRingBufferTest {
+
+    private static final long TIMEOUT_MS = 5_000;
+
+    private final List<TradeRingBuffer> rings = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        rings.forEach(TradeRingBuffer::halt);
+    }
+
+    @Test
+    @DisplayName("모든 소비자는 발행 순서대로 빠짐없이 받고, 마지막 단계 소비자는 앞 소비자들이 처리한 뒤에 받는다")
+    void publishOrdering() {
+        TradeRingBuffer ring = ring(1024);
+        List<Long> first = new ArrayList<>();
+        List<Long> second = new ArrayList<>();
+        List<Long> last = new ArrayList<>();
+        AtomicBoolean finalBeforeUpstream = new AtomicBoolean();
+        ring.addConsumer("first", event -> first.add(event.getTradeId()), WaitStrategy.of("sleeping"));
+        ring.addConsumer("second", event -> second.add(event.getTradeId()), WaitStrategy.of("blocking"));
+        List<RingConsumer> upstream = ring.getConsumers();
+        ring.addFinalConsumer("final", event -> {
+            for (RingConsumer consumer : upstream) {
+                if (consumer.getSequence() < event.getTradeId()) {
+                    finalBeforeUpstream.set(true);
+                }
+            }
+            last.add(event.getTradeId());
+        }, WaitStrategy.of("sleeping"));
+        ring.start();
+
+        int total = 100_000;
+        for (int i = 0; i < total; i++) {
+            TradeEvent event = trade(i);
+            while (!ring.tryPublish(event)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        await(() -> ring.getConsumers().stream().allMatch(consumer -> consumer.getSequence() == total - 1));
+        assertThat(first).hasSize(total).isSorted().first().isEqualTo(0L);
+        assertThat(second).isEqualTo(first);
+        assertThat(last).isEqualTo(first);
+        assertThat(finalBeforeUpstream).isFalse();
+        assertThat(ring.getConsumers()).allMatch(consumer -> consumer.getOverruns() == 0);
+    }
+
+    @Test
+    @DisplayName("tryPublish는 가장 느린 소비자가 읽지 않은 슬롯을 덮어쓰지 않는다")
+    void tryPublishStopsBeforeLapping() {
+        TradeRingBuffer ring = ring(16);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> seen = new CopyOnWriteArrayList<>();
+        ring.addConsumer("slow", event -> {
+            seen.add(event.getTradeId());
+            awaitLatch(release);
+        }, WaitStrategy.of("sleeping"));
+        ring.start();
+
+        int published = 0;
+        while (ring.tryPublish(trade(published))) {
+            published++;
+        }
+        release.countDown();
+
+        assertThat(published).isEqualTo(ring.getCapacity());
+        await(() -> seen.size() == ring.getCapacity());
+        assertThat(seen).isSorted().doesNotHaveDuplicates();
+        assertThat(ring.getConsumers().get(0).getOverruns()).isZero();
+        assertThat(ring.tryPublish(trade(published))).isTrue();
+    }
+
+    @Test
+    @DisplayName("publish로 한 바퀴 이상 앞서가면 소비자는 덮어써진 구간을 건너뛰고 overruns로 센다")
+    void overrunSkipsOverwrittenEvents() {
+        TradeRingBuffer ring = ring(16);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> seen = new CopyOnWriteArrayList<>();
+        ring.addConsumer("slow", event -> {
+            seen.add(event.getTradeId());
+            awaitLatch(release);
+        }, WaitStrategy.of("sleeping"));
+        ring.start();
+
+        int total = ring.getCapacity() * 3;
+        ring.publish(trade(0));
+        await(() -> !seen.isEmpty());
+        for (int i = 1; i < total; i++) {
+            ring.publish(trade(i));
+        }
+        release.countDown();
+
+        RingConsumer consumer = ring.getConsumers().get(0);
+        await(() -> consumer.getSequence() == total - 1);
+        assertThat(consumer.getOverruns()).isPositive();
+        assertThat(seen).isSorted().doesNotHaveDuplicates().endsWith((long) total - 1);
+        assertThat(seen.size() + consumer.getOverruns()).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("과부하 중에도 수신 정책은 소비자를 따라잡지 않고, 못 넣은 체결은 shed로 세고 최신 체결은 나중에 넘긴다")
+    void gateNeverLapsConsumers() {
+        TradeRingBuffer ring = ring(16);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> seen = new CopyOnWriteArrayList<>();
+        ring.addConsumer("slow", event -> {
+            seen.add(event.getTradeId());
+            awaitLatch(release);
+        }, WaitStrategy.of("sleeping"));
+        ring.start();
+        MarketDataProperties.FlowControl config = new MarketDataProperties.FlowControl();
+        config.setSampleEvery(1);   // 과부하 중에도 모두 넣으려 해서 링이 가득 차게 한다
+        IntakeGate gate = new IntakeGate(ring, config);
+        SymbolState state = new SymbolState(0, "BTCUSDT", "binance", "BTCUSDT", 0, IntakePolicy.SAMPLE, true);
+
+        int total = 1_000;
+        for (int i = 0; i < total; i++) {
+            gate.offer(state, trade(i));
+        }
+        release.countDown();
+        RingConsumer consumer = ring.getConsumers().get(0);
+        await(() -> ring.occupancy() == 0);
+        gate.offer(state, trade(total));
+        await(() -> consumer.getSequence() == ring.cursor());
+
+        assertThat(consumer.getOverruns()).isZero();
+        assertThat(state.getShedCount().get()).isPositive();
+        assertThat(seen).isSorted().doesNotHaveDuplicates().endsWith((long) total - 1, (long) total);
+    }
+
+    private TradeRingBuffer ring(int capacity) {
+        TradeRingBuffer ring = new TradeRingBuffer("test", capacity);
+        rings.add(ring);
+        return ring;
+    }
+
+    private static TradeEvent trade(long sequence) {
+        TradeEvent event = new TradeEvent();
+        event.set(TradeEvent.Type.TRADE, 0, 100, 1, sequence, sequence, sequence, false);
+        return event;
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package digital.asset.manager.application.chart.push;
+
+import digital.asset.manager.application.chart.exchange.BinanceAdapter;
+import digital.asset.manager.application.chart.exchange.BithumbAdapter;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.exchange.UpbitAdapter;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.chart.util.FixedPoint;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시세 전송 부하 테스트
+ * 로컬 세션 1만 개를 붙여 두고 주기마다 체결을 대량으로 갱신한 뒤, 세션마다 주기당 프레임이 하나만 가는지,
+ * 심볼당 직렬화가 한 번인지(프레임 공유), 느린 세션만 끊기고 나머지는 계속 받는지 확인한다.
+ * 네트워크 대신 메모리 세션을 쓰므로 fan-out 동작만 확인한다. (처리 시간은 실행 환경에 따라 달라 확인하지 않는다)
+ */
+class PriceBroadcasterLoadTest {
+
+    private static final int CLIENTS = 10_000;
+    private static final int SLOW_CLIENTS = 100;
+    private static final int TICKS = 20;
+    // 느린 세션은 첫 프레임이 끝나지 않은 채 이만큼 더 쌓이면 끊긴다 (TICKS 안에 끊기도록)
+    private static final int MAX_QUEUED_FRAMES = 8;
+    private static final int TRADES_PER_TICK = 1_000;
+    private static final long TIMEOUT_MS = 10_000;
+    private static final List<String> SYMBOLS = List.of("BTCUSDT", "ETHUSDT", "XRPUSDT", "SOLUSDT", "DOGEUSDT");
+
+    private PriceBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("1만 세션에 주기마다 프레임 하나씩 보내고 느린 세션만 끊는다")
+    void fanOutToTenThousandClients() {
+        MarketDataProperties properties = new MarketDataProperties();
+        properties.getPush().setMaxQueuedFrames(MAX_QUEUED_FRAMES);
+        SymbolTable symbolTable = new SymbolTable();
+        PriceRegistry priceRegistry = new PriceRegistry(symbolTable);
+        SYMBOLS.forEach(symbolTable::register);
+        broadcaster = new PriceBroadcaster(priceRegistry, symbolTable, registry(properties), properties);
+
+        List<StubSession> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            StubSession client = new StubSession("client-" + i, i < SLOW_CLIENTS);
+            clients.add(client);
+            assertThat(broadcaster.register(client)).isTrue();
+            // 절반은 심볼 하나, 나머지는 두 개를 구독한다
+            List<String> symbols = i % 2 == 0
+                    ? List.of(SYMBOLS.get(i % SYMBOLS.size()))
+                    : List.of(SYMBOLS.get(i % SYMBOLS.size()), SYMBOLS.get((i + 1) % SYMBOLS.size()));
+            assertThat(broadcaster.subscribe(client.getId(), symbols)).hasSize(symbols.size());
+        }
+
+        long price = FixedPoint.parse("100000");
+        for (int tick = 1; tick <= TICKS; tick++) {
+            for (int trade = 0; trade < TRADES_PER_TICK; trade++) {
+                priceRegistry.update(SYMBOLS.get(trade % SYMBOLS.size()), price + trade, tick);
+            }
+            broadcaster.flush();
+            int expected = tick;
+            await(() -> clients.stream().skip(SLOW_CLIENTS).allMatch(client -> client.received.get() >= expected));
+        }
+
+        List<StubSession> healthy = clients.subList(SLOW_CLIENTS, CLIENTS);
+        // 주기마다 정확히 한 프레임 (체결 1천 건이 주기 안에서 합쳐진다)
+        assertThat(healthy).allMatch(client -> client.received.get() == TICKS);
+        assertThat(healthy).allMatch(client -> client.lastPayload.startsWith("[{\"symbol\":"));
+        // 느린 세션은 대기열이 넘쳐 끊긴다
+        await(() -> clients.stream().limit(SLOW_CLIENTS).allMatch(client -> client.closeStatus != null));
+        assertThat(clients.subList(0, SLOW_CLIENTS)).allMatch(client -> client.closeStatus == CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(broadcaster.getDroppedSessions()).isEqualTo(SLOW_CLIENTS);
+        assertThat(broadcaster.getSessionCount()).isEqualTo(CLIENTS - SLOW_CLIENTS);
+    }
+
+    @Test
+    @DisplayName("심볼 하나만 바뀐 세션들은 같은 프레임 객체를 받는다")
+    void shareSerializedFramePerSymbol() {
+        MarketDataProperties properties = new MarketDataProperties();
+        SymbolTable symbolTable = new SymbolTable();
+        PriceRegistry priceRegistry = new PriceRegistry(symbolTable);
+        symbolTable.register("BTCUSDT");
+        broadcaster = new PriceBroadcaster(priceRegistry, symbolTable, registry(properties), properties);
+
+        StubSession first = new StubSession("a", false);
+        StubSession second = new StubSession("b", false);
+        for (StubSession client : List.of(first, second)) {
+            broadcaster.register(client);
+            broadcaster.subscribe(client.getId(), List.of("btcusdt"));
+        }
+        priceRegistry.update("BTCUSDT", FixedPoint.parse("97000.5"), 1);
+        broadcaster.flush();
+        await(() -> first.received.get() == 1 && second.received.get() == 1);
+
+        assertThat(first.lastPayload).isSameAs(second.lastPayload);
+        assertThat(first.lastPayload).contains("\"symbol\":\"BTCUSDT\"", "\"price\":\"97000.50000000\"");
+
+        // 바뀐 게 없으면 보내지 않는다
+        broadcaster.flush();
+        assertThat(first.received.get()).isEqualTo(1);
+    }
+
+    private static ExchangeRegistry registry(MarketDataProperties properties) {
+        return new ExchangeRegistry(List.of(
+                new BinanceAdapter(properties), new UpbitAdapter(properties), new BithumbAdapter(properties)));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("시간 안에 조건을 만족하지 못함");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 메모리 세션. 컨테이너 세션처럼 비동기 전송을 지원하며, slow면 전송 완료를 알리지 않는 느린 클라이언트가 된다. (소켓 버퍼가 가득 찬 상태)
+     */
+    private static class StubSession implements NativeWebSocketSession {
+
+        private final String id;
+        private final Session nativeSession;
+        private final AtomicInteger received = new AtomicInteger();
+        private final Map<String, Object> attributes = new HashMap<>();
+        private volatile String lastPayload = "";
+        private volatile CloseStatus closeStatus;
+
+        StubSession(String id, boolean slow) {
+            this.id = id;
+            RemoteEndpoint.Async async = proxy(RemoteEndpoint.Async.class, (method, args) -> {
+                if (method.getName().equals("sendText") && args.length == 2 && args[1] instanceof SendHandler handler) {
+                    if (!slow) {
+                        lastPayload = (String) args[0];
+                        received.incrementAndGet();
+                        handler.onResult(new SendResult());
+                    }
+                }
+                return null;
+            });
+            this.nativeSession = proxy(Session.class, (method, args) -> method.getName().equals("getAsyncRemote") ? async : null);
+        }
+
+        @Override
+        public Object getNativeSession() {
+            return nativeSession;
+        }
+
+        @Override
+        public <T> T getNativeSession(Class<T> requiredType) {
+            return requiredType.isInstance(nativeSession) ? requiredType.cast(nativeSession) : null;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            throw new IllegalStateException("비동기 전송만 사용해야 함");
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closeStatus == null;
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closeStatus = status;
+        }
+
+        private static <T> T proxy(Class<T> type, BiFunction<Method, Object[], Object> handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> type.getSimpleName();
+                        default -> handler.apply(method, args == null ? new Object[0] : args);
+                    }));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package digital.asset.manager.application.chart.service;
+
+import digital.asset.manager.application.chart.dto.PriceResponse;
+import digital.asset.manager.application.chart.exchange.BinanceAdapter;
+import digital.asset.manager.application.chart.exchange.ExchangeRegistry;
+import digital.asset.manager.application.chart.ingest.SymbolTable;
+import digital.asset.manager.application.chart.price.PriceRegistry;
+import digital.asset.manager.application.common.cache.NearCache;
+import digital.asset.manager.application.common.cache.NearCacheManager;
+import digital.asset.manager.application.common.config.properties.MarketDataProperties;
+import digital.asset.manager.application.common.config.properties.NearCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최신가 조회 경로 부하 비교 (블로킹 PriceService vs 논블로킹 ReactivePriceService)
+ * Redis 대신 응답마다 일정 지연을 주는 메모리 템플릿을 쓰고, 요청마다 다른 심볼을 읽어 로컬 캐시를 거치지 않게 한다.
+ * 블로킹 경로는 톰캣 기본 요청 스레드 수(200)만큼의 풀에서, 논블로킹 경로는 스레드 하나에서 요청을 모두 시작한다.
+ * 두 경로를 먼저 한 번씩 돌려 JIT/클래스 로딩 비용을 빼고, 동시에 Redis 응답을 기다린 요청 수(최대 동시 대기)를 비교한다.
+ * 실행 환경에 따라 달라지는 처리 시간과 스레드 수는 확인하지 않는다.
+ */
+class PriceReadPathLoadTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int SERVLET_THREADS = 200;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final Duration REDIS_LATENCY = Duration.ofMillis(50);
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger peakWaiting = new AtomicInteger();
+    private PriceService priceService;
+    private ReactivePriceService reactivePriceService;
+
+    @BeforeEach
+    void setUp() {
+        MarketDataProperties properties = new MarketDataProperties();
+        SymbolTable symbolTable = new SymbolTable();
+        PriceRegistry priceRegistry = new PriceRegistry(symbolTable);
+        ExchangeRegistry exchanges = new ExchangeRegistry(List.of(new BinanceAdapter(properties)));
+        StringRedisTemplate publisher = new StringRedisTemplate() {
+            @Override
+            public Long convertAndSend(String channel, Object message) {
+                return 0L;
+            }
+        };
+        NearCacheManager nearCacheManager = new NearCacheManager(publisher, new RedisMessageListenerContainer(),
+                new SimpleMeterRegistry(), new NearCacheProperties());
+        NearCache<String> priceNearCache = nearCacheManager.create("price");
+
+        // 심볼 키마다 값이 있는 Redis. 블로킹 템플릿은 지연 동안 호출 스레드를 잡고, 논블로킹 템플릿은 타이머로 응답한다
+        Function<List<?>, List<String>> values = keys -> keys.stream().map(key -> "1" + key.toString().length()).toList();
+        ValueOperations<?, ?> blockingOps = proxy(ValueOperations.class, (method, args) -> {
+            if (!method.equals("multiGet")) {
+                throw new UnsupportedOperationException(method);
+            }
+            enterWait();
+            try {
+                Thread.sleep(REDIS_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiting.decrementAndGet();
+            }
+            return values.apply(new ArrayList<>((Collection<?>) args[0]));
+        });
+        ReactiveValueOperations<?, ?> reactiveOps = proxy(ReactiveValueOperations.class, (method, args) -> {
+            if (!method.equals("multiGet")) {
+                throw new UnsupportedOperationException(method);
+            }
+            List<String> result = values.apply(new ArrayList<>((Collection<?>) args[0]));
+            return Mono.delay(REDIS_LATENCY)
+                    .doOnSubscribe(subscription -> enterWait())
+                    .doOnTerminate(waiting::decrementAndGet)
+                    .map(tick -> result);
+        });
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public ValueOperations<String, String> opsForValue() {
+                return (ValueOperations<String, String>) blockingOps;
+            }
+        };
+        ReactiveRedisTemplate<String, String> reactiveRedisTemplate = new ReactiveRedisTemplate<>(
+                proxy(ReactiveRedisConnectionFactory.class, (method, args) -> null), RedisSerializationContext.string()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            public ReactiveValueOperations<String, String> opsForValue() {
+                return (ReactiveValueOperations<String, String>) reactiveOps;
+            }
+        };
+
+        // 조회에 쓰지 않는 의존성(체결 이력, 통계, 지표, 거래소 REST)은 비워 둔다
+        priceService = new PriceService(redisTemplate, null, priceRegistry, null, null, null, exchanges, priceNearCache, null);
+        reactivePriceService = new ReactivePriceService(reactiveRedisTemplate, priceRegistry, null, exchanges, priceNearCache,
+                null, properties);
+    }
+
+    @Test
+    @DisplayName("두 경로는 같은 결과를 돌려준다")
+    void sameResult() {
+        List<String> symbols = List.of("btcusdt", "ETH-USDT", "BTCUSDT", "SOLUSDT");
+
+        List<PriceResponse> blocking = priceService.getPrices(symbols);
+        List<PriceResponse> reactive = reactivePriceService.getPrices(List.of("NEW1USDT", "NEW2USDT")).block();
+
+        assertThat(blocking).extracting(PriceResponse::symbol).containsExactly("BTCUSDT", "ETHUSDT", "SOLUSDT");
+        assertThat(reactive).extracting(PriceResponse::symbol).containsExactly("NEW1USDT", "NEW2USDT");
+        // 먼저 읽은 값은 로컬 캐시에 남아 두 경로가 같은 값을 본다
+        assertThat(reactivePriceService.getPrices(symbols).block()).isEqualTo(blocking);
+    }
+
+    @Test
+    @DisplayName("논블로킹 경로는 요청 스레드 없이 모든 요청이 동시에 Redis 응답을 기다린다")
+    void compareBlockingAndReactive() throws Exception {
+        ExecutorService servletThreads = Executors.newFixedThreadPool(SERVLET_THREADS);
+        AtomicInteger answered = new AtomicInteger();
+        runBlocking(servletThreads, "WB", WARMUP_REQUESTS);
+        runReactive("WR", WARMUP_REQUESTS, answered);
+        answered.set(0);
+        peakWaiting.set(0);
+
+        // 블로킹: 요청 스레드가 Redis 응답을 기다리는 동안 묶이므로 동시 대기는 스레드 수까지
+        runBlocking(servletThreads, "B", REQUESTS);
+        int blockingPeak = peakWaiting.getAndSet(0);
+        servletThreads.shutdown();
+
+        // 논블로킹: 스레드 하나에서 요청을 모두 시작하고, 응답은 타이머 스레드에서 이어진다
+        runReactive("R", REQUESTS, answered);
+        int reactivePeak = peakWaiting.get();
+
+        assertThat(answered.get()).isEqualTo(REQUESTS);
+        assertThat(blockingPeak).isLessThanOrEqualTo(SERVLET_THREADS);
+        // 요청 스레드 수와 상관없이 요청들이 동시에 대기한다
+        assertThat(reactivePeak).isGreaterThan(SERVLET_THREADS);
+    }
+
+    private void runBlocking(ExecutorService servletThreads, String prefix, int requests) throws Exception {
+        List<Future<List<PriceResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            String symbol = prefix + i + "USDT";
+            results.add(servletThreads.submit(() -> priceService.getPrices(List.of(symbol))));
+        }
+        for (Future<List<PriceResponse>> result : results) {
+            assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).hasSize(1);
+        }
+    }
+
+    private void runReactive(String prefix, int requests, AtomicInteger answered) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            reactivePriceService.getPrices(List.of(prefix + i + "USDT")).subscribe(prices -> {
+                if (prices.size() == 1) {
+                    answered.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void enterWait() {
+        peakWaiting.accumulateAndGet(waiting.incrementAndGet(), Math::max);
+    }
+
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName();
+                    default -> handler.apply(method.getName(), args == null ? new Object[0] : args);
+                }));
+    }
+}
@@ -0,0 +1,162 @@
+package digital.asset.manager.application.chart.window;
+
+import digital.asset.manager.application.chart.util.FixedPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 24시간 이동 구간 통계가 버킷 만료에 맞게 고가/저가/시가/합계를 유지하는지 확인한다.
+ * 1분 버킷 1440개(24시간)를 쓰고, 버킷 b는 now 버킷이 b + 1440이 되는 순간 빠진다.
+ */
+class RollingTickerTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final int BUCKETS = 1440;
+    // 분(버킷) 경계에 맞춘 기준 시각
+    private static final long T0 = 1_700_000_000_000L / MINUTE * MINUTE;
+
+    @Test
+    @DisplayName("24시간보다 긴 구간에 걸친 체결은 now 기준 구간 안의 체결만 모은 값과 같다")
+    void matchesBruteForceOverMoreThanOneDay() {
+        RollingTicker ticker = ticker();
+        List<long[]> trades = new ArrayList<>();
+        Random random = new Random(42);
+        long time = T0;
+        for (int i = 0; i < 5_000; i++) {
+            time += random.nextInt((int) (2 * MINUTE));    // 평균 1분 간격, 약 3.5일
+            long price = FixedPoint.fromDouble(100 + random.nextInt(10_000) / 100.0);
+            long quantity = FixedPoint.fromDouble(1 + random.nextInt(1_000) / 1_000.0);
+            ticker.onTrade(time, price, quantity);
+            trades.add(new long[]{time, price, quantity});
+
+            if (i % 97 == 0) {
+                assertMatches(ticker.summary(time), trades, time);
+            }
+        }
+        // 마지막 체결 뒤로 시간이 흐르며 구간 앞쪽부터 만료되어 결국 비는 경우
+        for (long now = time; now <= time + 25 * HOUR; now += 17 * MINUTE) {
+            assertMatches(ticker.summary(now), trades, now);
+        }
+    }
+
+    @Test
+    @DisplayName("최고가/최저가 버킷이 만료되면 남은 버킷 중 최고가/최저가로 바뀐다")
+    void highLowAfterExtremeBucketExpires() {
+        RollingTicker ticker = ticker();
+        ticker.onTrade(T0, price(200), quantity(1));                 // 최고가 버킷 0
+        ticker.onTrade(T0 + HOUR, price(50), quantity(1));           // 최저가 버킷 60
+        ticker.onTrade(T0 + 2 * HOUR, price(120), quantity(1));
+        ticker.onTrade(T0 + 3 * HOUR, price(80), quantity(1));
+
+        RollingTickerSummary beforeExpiry = ticker.summary(T0 + 24 * HOUR - 1);
+        assertThat(beforeExpiry.high()).isEqualTo(price(200));
+        assertThat(beforeExpiry.low()).isEqualTo(price(50));
+        assertThat(beforeExpiry.open()).isEqualTo(price(200));
+
+        RollingTickerSummary maxExpired = ticker.summary(T0 + 24 * HOUR);
+        assertThat(maxExpired.high()).isEqualTo(price(120));
+        assertThat(maxExpired.low()).isEqualTo(price(50));
+        assertThat(maxExpired.open()).isEqualTo(price(50));
+        assertThat(maxExpired.openTime()).isEqualTo(T0 + HOUR);
+        assertThat(maxExpired.count()).isEqualTo(3);
+
+        RollingTickerSummary minExpired = ticker.summary(T0 + 25 * HOUR);
+        assertThat(minExpired.high()).isEqualTo(price(120));
+        assertThat(minExpired.low()).isEqualTo(price(80));
+        assertThat(minExpired.open()).isEqualTo(price(120));
+        assertThat(minExpired.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구간 전체 동안 체결이 없으면 비고, 다음 체결부터 합계가 0에서 다시 쌓인다")
+    void sumsResetAfterIdleWindow() {
+        RollingTicker ticker = ticker();
+        Random random = new Random(7);
+        for (int i = 0; i < 1_000; i++) {
+            ticker.onTrade(T0 + i * 1_000L, FixedPoint.fromDouble(100 + random.nextDouble()),
+                    FixedPoint.fromDouble(random.nextDouble() / 3));
+        }
+        long lastTrade = T0 + 999_000L;
+        assertThat(ticker.summary(lastTrade).count()).isEqualTo(1_000);
+
+        assertThat(ticker.summary(lastTrade + 24 * HOUR)).isNull();
+
+        long next = lastTrade + 30 * HOUR;
+        ticker.onTrade(next, price(100), FixedPoint.fromDouble(0.1));
+        RollingTickerSummary summary = ticker.summary(next);
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.volume()).isEqualTo(0.1);
+        assertThat(summary.quoteVolume()).isEqualTo(100 * 0.1);
+        assertThat(summary.open()).isEqualTo(price(100));
+        assertThat(summary.high()).isEqualTo(price(100));
+        assertThat(summary.low()).isEqualTo(price(100));
+        assertThat(summary.openTime()).isEqualTo(Math.floorDiv(next, MINUTE) * MINUTE);
+    }
+
+    @Test
+    @DisplayName("가장 최근 버킷보다 이른 체결은 최근 버킷에 들어가고, 그 버킷과 함께 만료된다")
+    void lateTradeGoesIntoLatestBucket() {
+        RollingTicker ticker = ticker();
+        ticker.onTrade(T0, price(100), quantity(1));
+        ticker.onTrade(T0 + 10 * MINUTE, price(110), quantity(1));
+        ticker.onTrade(T0 + 5 * MINUTE, price(90), quantity(2));        // 늦게 도착한 체결
+
+        RollingTickerSummary summary = ticker.summary(T0 + 10 * MINUTE);
+        assertThat(summary.count()).isEqualTo(3);
+        assertThat(summary.low()).isEqualTo(price(90));
+        assertThat(summary.last()).isEqualTo(price(90));
+        assertThat(summary.closeTime()).isEqualTo(T0 + 10 * MINUTE);
+
+        // 원래 버킷(5분)이 아니라 최근 버킷(10분)과 함께 빠진다
+        RollingTickerSummary firstExpired = ticker.summary(T0 + 24 * HOUR + 5 * MINUTE);
+        assertThat(firstExpired.count()).isEqualTo(2);
+        assertThat(firstExpired.low()).isEqualTo(price(90));
+        assertThat(firstExpired.volume()).isCloseTo(3.0, within(1e-9));
+        assertThat(firstExpired.open()).isEqualTo(price(110));
+
+        assertThat(ticker.summary(T0 + 24 * HOUR + 10 * MINUTE)).isNull();
+    }
+
+    private static RollingTicker ticker() {
+        return new RollingTicker("BTCUSDT", MINUTE, BUCKETS);
+    }
+
+    /**
+     * now 버킷에서 구간 안에 남는(버킷 > now 버킷 - 1440) 체결만 직접 모아 비교한다.
+     */
+    private static void assertMatches(RollingTickerSummary summary, List<long[]> trades, long now) {
+        long cutoff = Math.floorDiv(now, MINUTE) - BUCKETS;
+        List<long[]> window = trades.stream().filter(trade -> Math.floorDiv(trade[0], MINUTE) > cutoff).toList();
+        if (window.isEmpty()) {
+            assertThat(summary).isNull();
+            return;
+        }
+        double volume = window.stream().mapToDouble(trade -> FixedPoint.toDouble(trade[2])).sum();
+        double quoteVolume = window.stream()
+                .mapToDouble(trade -> FixedPoint.toDouble(trade[1]) * FixedPoint.toDouble(trade[2])).sum();
+        assertThat(summary.count()).as("now=%d", now).isEqualTo(window.size());
+        assertThat(summary.open()).isEqualTo(window.get(0)[1]);
+        assertThat(summary.last()).isEqualTo(trades.get(trades.size() - 1)[1]);
+        assertThat(summary.high()).isEqualTo(window.stream().mapToLong(trade -> trade[1]).max().orElseThrow());
+        assertThat(summary.low()).isEqualTo(window.stream().mapToLong(trade -> trade[1]).min().orElseThrow());
+        assertThat(summary.openTime()).isEqualTo(Math.floorDiv(window.get(0)[0], MINUTE) * MINUTE);
+        assertThat(summary.volume()).isCloseTo(volume, within(1e-6));
+        assertThat(summary.quoteVolume()).isCloseTo(quoteVolume, within(1e-4));
+    }
+
+    private static long price(double value) {
+        return FixedPoint.fromDouble(value);
+    }
+
+    private static long quantity(double value) {
+        return FixedPoint.fromDouble(value);
+    }
+}